@@ -1,9 +1,12 @@
 package com.swiss_stage;
 
+import com.swiss_stage.infrastructure.config.NativeImageHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @SpringBootApplication
+@ImportRuntimeHints(NativeImageHints.class)
 public class SwissStageApplication {
 
     public static void main(String[] args) {
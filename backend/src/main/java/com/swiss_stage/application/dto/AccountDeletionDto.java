@@ -0,0 +1,39 @@
+package com.swiss_stage.application.dto;
+
+import com.swiss_stage.domain.model.AccountDeletion;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * アカウント削除の進捗DTO
+ *
+ * フィールド:
+ * - userId: 削除するユーザーID
+ * - status: 処理状態（RUNNING / COMPLETED / FAILED）
+ * - tournamentCount: 削除対象のトーナメント数
+ * - deletedTournamentCount: 削除済みのトーナメント数
+ * - deletedItemCount: 削除済みのアイテム数
+ * - startedAt: 開始日時
+ * - updatedAt: 最終更新日時
+ */
+public record AccountDeletionDto(
+        UUID userId,
+        AccountDeletion.Status status,
+        int tournamentCount,
+        int deletedTournamentCount,
+        long deletedItemCount,
+        Instant startedAt,
+        Instant updatedAt
+) {
+    public static AccountDeletionDto from(AccountDeletion deletion) {
+        return new AccountDeletionDto(
+                deletion.userId(),
+                deletion.status(),
+                deletion.tournamentCount(),
+                deletion.deletedTournamentCount(),
+                deletion.deletedItemCount(),
+                deletion.startedAt(),
+                deletion.updatedAt());
+    }
+}
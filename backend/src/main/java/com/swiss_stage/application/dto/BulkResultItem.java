@@ -0,0 +1,17 @@
+package com.swiss_stage.application.dto;
+
+/**
+ * 一括結果入力の1件分DTO
+ *
+ * フィールド:
+ * - groupNumber / tableNumber: グループ番号・対局番号
+ * - result: 対戦結果（BLACK_WIN / WHITE_WIN / DRAW / BYE）
+ * - version: 画面表示時に取得した対局のバージョン（新規入力時は省略可、修正時は必須）
+ */
+public record BulkResultItem(
+        int groupNumber,
+        int tableNumber,
+        String result,
+        Long version
+) {
+}
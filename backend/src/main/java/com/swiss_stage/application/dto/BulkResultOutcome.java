@@ -0,0 +1,35 @@
+package com.swiss_stage.application.dto;
+
+/**
+ * 一括結果入力の1件分の処理結果DTO
+ *
+ * フィールド:
+ * - groupNumber / tableNumber: グループ番号・対局番号
+ * - status: 処理結果
+ * - message: 保存できなかった理由（保存できた場合はnull）
+ * - match: 保存後の対局（保存できなかった場合は現在の対局、対局が存在しない場合はnull）
+ */
+public record BulkResultOutcome(
+        int groupNumber,
+        int tableNumber,
+        Status status,
+        String message,
+        MatchDto match
+) {
+
+    /**
+     * 処理結果
+     */
+    public enum Status {
+        /** 保存した */
+        SAVED,
+        /** 同じ結果が入力済みのため変更なし */
+        UNCHANGED,
+        /** 他の操作者が別の結果を入力済み */
+        CONFLICT,
+        /** 入力値が不正 */
+        INVALID,
+        /** 対局が存在しない */
+        NOT_FOUND
+    }
+}
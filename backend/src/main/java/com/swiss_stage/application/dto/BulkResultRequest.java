@@ -0,0 +1,14 @@
+package com.swiss_stage.application.dto;
+
+import java.util.List;
+
+/**
+ * 一括結果入力リクエストDTO
+ *
+ * フィールド:
+ * - results: 同じ回戦の結果入力（1リクエスト最大300件）
+ */
+public record BulkResultRequest(
+        List<BulkResultItem> results
+) {
+}
@@ -0,0 +1,21 @@
+package com.swiss_stage.application.dto;
+
+import java.util.List;
+
+/**
+ * 一括結果入力レスポンスDTO
+ *
+ * フィールド:
+ * - savedCount: 保存した件数（変更なしを含む）
+ * - failedCount: 保存できなかった件数
+ * - outcomes: リクエストと同じ順序の処理結果
+ */
+public record BulkResultResponse(
+        int savedCount,
+        int failedCount,
+        List<BulkResultOutcome> outcomes
+) {
+    public BulkResultResponse {
+        outcomes = List.copyOf(outcomes);
+    }
+}
@@ -0,0 +1,14 @@
+package com.swiss_stage.application.dto;
+
+/**
+ * CSVインポートの行エラー
+ *
+ * フィールド:
+ * - lineNumber: エラーが発生したレコードの開始行番号（1始まり、ヘッダー行を含む）
+ * - message: エラー内容
+ */
+public record ImportRowError(
+        long lineNumber,
+        String message
+) {
+}
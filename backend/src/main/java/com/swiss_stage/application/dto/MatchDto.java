@@ -0,0 +1,40 @@
+package com.swiss_stage.application.dto;
+
+import com.swiss_stage.domain.model.Match;
+
+import java.util.UUID;
+
+/**
+ * 対局（組合せと結果）を表すDTO
+ *
+ * フィールド:
+ * - roundNumber / groupNumber / tableNumber: 回戦・グループ番号・対局番号
+ * - blackParticipantId / whiteParticipantId: 先手（黒）・後手（白）の参加者ID（不戦の場合white側はnull）
+ * - result: 対戦結果（未入力の場合はnull）
+ * - version: 楽観ロック用バージョン（結果の修正時にそのまま送り返す）
+ */
+public record MatchDto(
+        int roundNumber,
+        int groupNumber,
+        int tableNumber,
+        UUID blackParticipantId,
+        UUID whiteParticipantId,
+        String result,
+        long version
+) {
+    /**
+     * MatchからMatchDtoを作成
+     * @param match 対局
+     * @return MatchDto
+     */
+    public static MatchDto fromMatch(Match match) {
+        return new MatchDto(
+                match.roundNumber(),
+                match.groupNumber(),
+                match.tableNumber(),
+                match.blackParticipantId(),
+                match.whiteParticipantId(),
+                match.result() == null ? null : match.result().name(),
+                match.version());
+    }
+}
@@ -0,0 +1,14 @@
+package com.swiss_stage.application.dto;
+
+/**
+ * 対局結果入力リクエストDTO
+ *
+ * フィールド:
+ * - result: 対戦結果（BLACK_WIN / WHITE_WIN / DRAW / BYE）
+ * - version: 画面表示時に取得した対局のバージョン（新規入力時は省略可、修正時は必須）
+ */
+public record MatchResultRequest(
+        String result,
+        Long version
+) {
+}
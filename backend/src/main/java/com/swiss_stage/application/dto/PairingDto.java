@@ -0,0 +1,25 @@
+package com.swiss_stage.application.dto;
+
+import java.util.UUID;
+
+/**
+ * 対戦表の1行を表すDTO
+ *
+ * フィールド:
+ * - roundNumber: 回戦
+ * - groupNumber: グループ番号
+ * - tableNumber: 対局番号（盤番号）
+ * - black / white: 先手（黒）・後手（白）の参加者IDと名前（不戦の場合white側はnull）
+ * - result: 対戦結果（未入力の場合はnull）
+ */
+public record PairingDto(
+        int roundNumber,
+        int groupNumber,
+        int tableNumber,
+        UUID blackParticipantId,
+        String blackName,
+        UUID whiteParticipantId,
+        String whiteName,
+        String result
+) {
+}
@@ -0,0 +1,21 @@
+package com.swiss_stage.application.dto;
+
+import java.util.List;
+
+/**
+ * 参加者CSVインポート結果DTO
+ *
+ * フィールド:
+ * - importedCount: 登録した参加者数
+ * - errorCount: エラーとなった行数
+ * - errors: 行エラーの詳細（先頭から最大件数まで）
+ */
+public record ParticipantImportResult(
+        int importedCount,
+        int errorCount,
+        List<ImportRowError> errors
+) {
+    public ParticipantImportResult {
+        errors = List.copyOf(errors);
+    }
+}
@@ -0,0 +1,26 @@
+package com.swiss_stage.application.dto;
+
+import java.util.UUID;
+
+/**
+ * 参照URL向けの事前生成済みスナップショット
+ * シリアライズ済みJSONと圧縮済みボディを保持し、リクエストごとの変換を不要にする
+ * 生成後は変更しない（配列は共有されるため呼び出し側で書き換えてはならない）
+ *
+ * フィールド:
+ * - tournamentId: トーナメントID
+ * - version: 元になったトーナメント状態のバージョン
+ * - etag: 強いETagのベース値（ダブルクォートなし、エンコーディングごとに接尾辞を付けて使用）
+ * - json: 非圧縮JSON（UTF-8）
+ * - gzip: gzip圧縮済みJSON
+ * - brotli: brotli圧縮済みJSON（brotliが利用できない環境ではnull）
+ */
+public record PublicSnapshot(
+        UUID tournamentId,
+        long version,
+        String etag,
+        byte[] json,
+        byte[] gzip,
+        byte[] brotli
+) {
+}
@@ -0,0 +1,28 @@
+package com.swiss_stage.application.dto;
+
+import java.util.UUID;
+
+/**
+ * 順位表の1行を表すDTO
+ *
+ * フィールド:
+ * - groupNumber: グループ番号（1-8）
+ * - rank: グループ内順位
+ * - participantId: 参加者ID
+ * - name: 参加者名
+ * - points: 勝ち点（勝ち=1、引き分け=0.5）
+ * - wins / losses / draws: 勝敗数
+ * - opponentScore: 対戦相手の勝ち点合計（SOS、同点時の順位決定に使用）
+ */
+public record StandingDto(
+        int groupNumber,
+        int rank,
+        UUID participantId,
+        String name,
+        double points,
+        int wins,
+        int losses,
+        int draws,
+        double opponentScore
+) {
+}
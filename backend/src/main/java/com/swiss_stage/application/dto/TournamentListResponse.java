@@ -0,0 +1,19 @@
+package com.swiss_stage.application.dto;
+
+import java.util.List;
+
+/**
+ * 主催者のトーナメント一覧レスポンスDTO
+ *
+ * フィールド:
+ * - items: 一覧（開催日の新しい順）
+ * - nextCursor: 次のページを取得するカーソル（最後のページの場合はnull）
+ */
+public record TournamentListResponse(
+        List<TournamentSummaryDto> items,
+        String nextCursor
+) {
+    public TournamentListResponse {
+        items = List.copyOf(items);
+    }
+}
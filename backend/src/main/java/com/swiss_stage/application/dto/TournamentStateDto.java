@@ -0,0 +1,28 @@
+package com.swiss_stage.application.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 参加者向けに配信するトーナメント状態DTO
+ * 順位表と最新回戦の対戦表をまとめて保持する
+ *
+ * フィールド:
+ * - tournamentId: トーナメントID
+ * - version: 状態のバージョン（更新のたびに単調増加）
+ * - currentRound: 現在の回戦
+ * - standings: 順位表
+ * - pairings: 現在の回戦の対戦表
+ */
+public record TournamentStateDto(
+        UUID tournamentId,
+        long version,
+        int currentRound,
+        List<StandingDto> standings,
+        List<PairingDto> pairings
+) {
+    public TournamentStateDto {
+        standings = List.copyOf(standings);
+        pairings = List.copyOf(pairings);
+    }
+}
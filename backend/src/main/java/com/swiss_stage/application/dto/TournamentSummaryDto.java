@@ -0,0 +1,34 @@
+package com.swiss_stage.application.dto;
+
+import com.swiss_stage.domain.model.TournamentStatus;
+import com.swiss_stage.domain.model.TournamentSummary;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * 主催者のトーナメント一覧の1件分DTO
+ *
+ * フィールド:
+ * - tournamentId: トーナメントID
+ * - title: 大会名
+ * - status: 進行状態
+ * - eventDate: 開催日
+ * - participantCount: 参加者数
+ */
+public record TournamentSummaryDto(
+        UUID tournamentId,
+        String title,
+        TournamentStatus status,
+        LocalDate eventDate,
+        int participantCount
+) {
+    public static TournamentSummaryDto from(TournamentSummary summary) {
+        return new TournamentSummaryDto(
+                summary.tournamentId(),
+                summary.title(),
+                summary.status(),
+                summary.eventDate(),
+                summary.participantCount());
+    }
+}
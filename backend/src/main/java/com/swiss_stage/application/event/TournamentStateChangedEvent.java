@@ -0,0 +1,13 @@
+package com.swiss_stage.application.event;
+
+import com.swiss_stage.application.dto.TournamentStateDto;
+
+/**
+ * トーナメント状態変更イベント
+ * 対戦結果入力・組合せ確定などでトーナメント状態が変わった際に発行する
+ * 購読側（SSE配信など）はSpringの@EventListenerで受け取る
+ *
+ * @param state 変更後のトーナメント状態
+ */
+public record TournamentStateChangedEvent(TournamentStateDto state) {
+}
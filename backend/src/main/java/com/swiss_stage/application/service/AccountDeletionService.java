@@ -0,0 +1,192 @@
+package com.swiss_stage.application.service;
+
+import com.swiss_stage.application.dto.AccountDeletionDto;
+import com.swiss_stage.domain.model.AccountDeletion;
+import com.swiss_stage.domain.repository.AccountDeletionRepository;
+import com.swiss_stage.domain.repository.TournamentRepository;
+import com.swiss_stage.domain.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * アカウント削除ジョブサービス（Application層）
+ *
+ * 処理フロー:
+ * 1. 削除要求時に主催者のトーナメント一覧を取得し、進捗（AccountDeletion）を保存して即座に返す
+ * 2. バックグラウンドでトーナメントのパーティションを1つずつ削除する
+ *    （パーティション内はBatchWriteItemのチャンクをwrite-parallelismの並列で削除）
+ * 3. トーナメント1件の削除ごとに進捗を保存する
+ * 4. 主催者のトーナメントを一覧し直し、開始後に追加されたトーナメントがあれば続けて削除する
+ *    （見つからなくなってから最後にユーザーを削除して完了とする）
+ *
+ * 削除の進行中は、主催者によるトーナメントへの書き込みを受け付けない（TournamentAccessService）
+ *
+ * 削除は何度実行しても同じ結果になるため、失敗したジョブ・実行ノードが停止したジョブは再度の要求でやり直す
+ */
+@Service
+public class AccountDeletionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AccountDeletionService.class);
+
+    /** 一覧し直しても新しいトーナメントが見つかり続ける場合に打ち切る回数 */
+    static final int MAX_ENUMERATION_PASSES = 5;
+
+    private final UserRepository userRepository;
+    private final TournamentRepository tournamentRepository;
+    private final AccountDeletionRepository accountDeletionRepository;
+    private final int writeParallelism;
+    private final Duration staleTimeout;
+    private final Map<UUID, AccountDeletion> running = new ConcurrentHashMap<>();
+    private final ExecutorService jobExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public AccountDeletionService(
+            UserRepository userRepository,
+            TournamentRepository tournamentRepository,
+            AccountDeletionRepository accountDeletionRepository,
+            @Value("${app.account.deletion.write-parallelism:4}") int writeParallelism,
+            @Value("${app.account.deletion.stale-timeout-seconds:300}") long staleTimeoutSeconds) {
+        this.userRepository = userRepository;
+        this.tournamentRepository = tournamentRepository;
+        this.accountDeletionRepository = accountDeletionRepository;
+        this.writeParallelism = writeParallelism;
+        this.staleTimeout = Duration.ofSeconds(staleTimeoutSeconds);
+    }
+
+    /**
+     * 削除ジョブを開始（実行中のジョブがある場合はその進捗を返す）
+     * 呼び出し元で本人確認・未終了トーナメントの確認を済ませておく
+     *
+     * @param userId 削除するユーザーID
+     * @return 開始した（または実行中の）ジョブの進捗
+     */
+    public AccountDeletionDto start(UUID userId) {
+        Instant now = Instant.now();
+        AccountDeletion current = running.get(userId);
+        if (current == null) {
+            current = accountDeletionRepository.findByUserId(userId)
+                    .filter(existing -> !existing.isRestartable(now, staleTimeout))
+                    .orElse(null);
+        }
+        if (current != null) {
+            return AccountDeletionDto.from(current);
+        }
+
+        List<UUID> tournamentIds = tournamentRepository.findTournamentIdsByOrganizer(userId);
+        AccountDeletion deletion = AccountDeletion.start(userId, tournamentIds.size(), now);
+        AccountDeletion existing = running.putIfAbsent(userId, deletion);
+        if (existing != null) {
+            return AccountDeletionDto.from(existing);
+        }
+        try {
+            accountDeletionRepository.save(deletion);
+            jobExecutor.execute(() -> run(deletion, tournamentIds));
+        } catch (RuntimeException e) {
+            running.remove(userId);
+            throw e;
+        }
+
+        logger.info("Account deletion started. userId={}, tournaments={}", userId, tournamentIds.size());
+        return AccountDeletionDto.from(deletion);
+    }
+
+    /**
+     * 削除ジョブの進捗を取得
+     *
+     * @param userId ユーザーID
+     * @return 進捗（削除を要求していない、または保持期間を過ぎた場合はOptional.empty()）
+     */
+    public Optional<AccountDeletionDto> findStatus(UUID userId) {
+        AccountDeletion current = running.get(userId);
+        if (current != null) {
+            return Optional.of(AccountDeletionDto.from(current));
+        }
+        return accountDeletionRepository.findByUserId(userId).map(AccountDeletionDto::from);
+    }
+
+    /**
+     * 削除が進行中か（このノードで実行中、または他のノードで実行中の進捗がある）
+     *
+     * @param userId ユーザーID
+     * @return 進行中の場合true
+     */
+    public boolean isInProgress(UUID userId) {
+        if (running.containsKey(userId)) {
+            return true;
+        }
+        return accountDeletionRepository.findByUserId(userId)
+                .map(deletion -> deletion.isInProgress(Instant.now(), staleTimeout))
+                .orElse(false);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 実行中のジョブは進捗の更新が途絶え、staleTimeoutの経過後に再度の要求でやり直せる
+        jobExecutor.shutdownNow();
+    }
+
+    private void run(AccountDeletion deletion, List<UUID> tournamentIds) {
+        UUID userId = deletion.userId();
+        AtomicLong deletedItems = new AtomicLong();
+        long start = System.nanoTime();
+        try {
+            Set<UUID> deleted = new HashSet<>();
+            List<UUID> remaining = tournamentIds;
+            for (int pass = 1; !remaining.isEmpty(); pass++) {
+                if (pass > MAX_ENUMERATION_PASSES) {
+                    throw new IllegalStateException("Tournaments were still being added after "
+                            + MAX_ENUMERATION_PASSES + " passes");
+                }
+                for (UUID tournamentId : remaining) {
+                    tournamentRepository.deleteTournament(tournamentId, writeParallelism, deletedItems::addAndGet);
+                    deleted.add(tournamentId);
+                    deletion = deletion.tournamentDeleted(deletedItems.get(), Instant.now());
+                    running.put(userId, deletion);
+                    accountDeletionRepository.save(deletion);
+                }
+                // 一覧の取得後に作成されたトーナメントを残さないよう、ユーザーの削除前に一覧し直す
+                remaining = tournamentRepository.findTournamentIdsByOrganizer(userId).stream()
+                        .filter(tournamentId -> !deleted.contains(tournamentId))
+                        .toList();
+                if (!remaining.isEmpty()) {
+                    logger.info("Tournaments added during account deletion. userId={}, count={}",
+                            userId, remaining.size());
+                    deletion = deletion.tournamentsFound(remaining.size(), Instant.now());
+                    running.put(userId, deletion);
+                    accountDeletionRepository.save(deletion);
+                }
+            }
+            userRepository.deleteById(userId);
+            deletion = deletion.complete(deletedItems.incrementAndGet(), Instant.now());
+            accountDeletionRepository.save(deletion);
+
+            logger.info("User account deleted. userId={}, tournaments={}, items={}, elapsedMs={}",
+                    userId, deletion.deletedTournamentCount(), deletedItems.get(), (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            logger.error("Account deletion failed. userId={}, deletedTournaments={}/{}",
+                    userId, deletion.deletedTournamentCount(), deletion.tournamentCount(), e);
+            try {
+                accountDeletionRepository.save(deletion.fail(Instant.now()));
+            } catch (RuntimeException saveFailure) {
+                logger.warn("Failed to record account deletion failure. userId={}", userId, saveFailure);
+            }
+        } finally {
+            running.remove(userId);
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.swiss_stage.application.service;
+
+import com.swiss_stage.domain.model.IdempotencyRecord;
+import com.swiss_stage.domain.repository.IdempotencyRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 冪等キー（Idempotency-Key）サービス（Application層）
+ *
+ * 処理フロー:
+ * 1. begin: ノード内のメモリ上の記録 → DynamoDBへの条件付き書き込み（予約）の順に確認
+ * 2. 予約できた場合のみ処理を実行し、complete でレスポンスを保存（失敗時は abandon で予約を取り消す）
+ * 3. 同じキーの再送には、保存済みのレスポンスを処理をやり直さずに返す
+ *
+ * 完了済みの記録はノード内にも保持し、同じノードへの再送はDynamoDBにアクセスせずに応答する
+ * （他ノードへの再送はDynamoDBの記録で判定する）
+ */
+@Service
+public class IdempotencyService {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyService.class);
+
+    /** DynamoDBのアイテムサイズ上限（400KB）に余裕を持たせた、保存するレスポンスボディの上限 */
+    static final int MAX_RESPONSE_BYTES = 300 * 1024;
+
+    private final IdempotencyRepository idempotencyRepository;
+    private final Duration ttl;
+    private final Duration inProgressTimeout;
+    private final int maxCachedRecords;
+    private final Map<String, IdempotencyRecord> completed = new ConcurrentHashMap<>();
+
+    public IdempotencyService(
+            IdempotencyRepository idempotencyRepository,
+            @Value("${app.idempotency.ttl-seconds:86400}") long ttlSeconds,
+            @Value("${app.idempotency.in-progress-timeout-seconds:60}") long inProgressTimeoutSeconds,
+            @Value("${app.idempotency.max-cached-records:10000}") int maxCachedRecords) {
+        this.idempotencyRepository = idempotencyRepository;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.inProgressTimeout = Duration.ofSeconds(inProgressTimeoutSeconds);
+        this.maxCachedRecords = maxCachedRecords;
+    }
+
+    /**
+     * 処理を開始してよいか判定し、よい場合はキーを予約する
+     *
+     * @param scope キーの有効範囲（認証済みユーザーID）
+     * @param key 冪等キー
+     * @param fingerprint リクエスト内容のハッシュ
+     * @return 判定結果
+     */
+    public Decision begin(String scope, String key, String fingerprint) {
+        Instant now = Instant.now();
+        IdempotencyRecord cached = completed.get(cacheKey(scope, key));
+        if (cached != null && !cached.isExpired(now)) {
+            return decide(cached, fingerprint);
+        }
+
+        Optional<IdempotencyRecord> existing = idempotencyRepository.reserve(
+                IdempotencyRecord.inProgress(scope, key, fingerprint, now.plus(inProgressTimeout)));
+        if (existing.isEmpty()) {
+            return new Decision.Proceed();
+        }
+        if (existing.get().status() == IdempotencyRecord.Status.COMPLETED) {
+            remember(existing.get());
+        }
+        return decide(existing.get(), fingerprint);
+    }
+
+    /**
+     * 処理完了。レスポンスを保存し、以降の再送に返す
+     *
+     * @param scope キーの有効範囲
+     * @param key 冪等キー
+     * @param fingerprint リクエスト内容のハッシュ
+     * @param status HTTPステータス
+     * @param contentType Content-Type（ボディなしの場合null）
+     * @param body レスポンスボディ
+     */
+    public void complete(String scope, String key, String fingerprint, int status, String contentType, byte[] body) {
+        if (body.length > MAX_RESPONSE_BYTES) {
+            // 保存できないレスポンスは再送時に再実行させる
+            logger.warn("Response is too large to store for idempotency key. scope={}, bytes={}", scope, body.length);
+            abandon(scope, key);
+            return;
+        }
+        IdempotencyRecord record = IdempotencyRecord.completed(scope, key, fingerprint, status, contentType, body,
+                Instant.now().plus(ttl));
+        idempotencyRepository.save(record);
+        remember(record);
+    }
+
+    /**
+     * 予約を取り消す（処理が失敗し、再送で処理をやり直せるようにする）
+     *
+     * @param scope キーの有効範囲
+     * @param key 冪等キー
+     */
+    public void abandon(String scope, String key) {
+        completed.remove(cacheKey(scope, key));
+        try {
+            idempotencyRepository.delete(scope, key);
+        } catch (RuntimeException e) {
+            // 取り消せなかった予約は in-progress-timeout-seconds で期限切れになる
+            logger.warn("Failed to release idempotency key. scope={}", scope, e);
+        }
+    }
+
+    private static Decision decide(IdempotencyRecord record, String fingerprint) {
+        if (!record.fingerprint().equals(fingerprint)) {
+            return new Decision.Mismatch();
+        }
+        if (record.status() == IdempotencyRecord.Status.IN_PROGRESS) {
+            return new Decision.InProgress();
+        }
+        return new Decision.Replay(record);
+    }
+
+    /**
+     * 完了済みの記録をノード内に保持（上限を超える場合は期限切れから削除）
+     */
+    private void remember(IdempotencyRecord record) {
+        if (completed.size() >= maxCachedRecords) {
+            Instant now = Instant.now();
+            completed.values().removeIf(existing -> existing.isExpired(now));
+            Iterator<String> keys = completed.keySet().iterator();
+            while (completed.size() >= maxCachedRecords && keys.hasNext()) {
+                keys.next();
+                keys.remove();
+            }
+        }
+        completed.put(cacheKey(record.scope(), record.key()), record);
+    }
+
+    private static String cacheKey(String scope, String key) {
+        return scope + "#" + key;
+    }
+
+    /**
+     * beginの判定結果
+     */
+    public sealed interface Decision {
+
+        /** 予約済み。処理を実行してcomplete/abandonを呼ぶ */
+        record Proceed() implements Decision {
+        }
+
+        /** 完了済み。保存済みのレスポンスを返す */
+        record Replay(IdempotencyRecord record) implements Decision {
+        }
+
+        /** 同じキーが異なる内容のリクエストで使用済み */
+        record Mismatch() implements Decision {
+        }
+
+        /** 同じキーのリクエストを処理中 */
+        record InProgress() implements Decision {
+        }
+    }
+}
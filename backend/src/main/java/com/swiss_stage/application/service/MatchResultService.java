@@ -0,0 +1,418 @@
+package com.swiss_stage.application.service;
+
+import com.swiss_stage.application.dto.BulkResultItem;
+import com.swiss_stage.application.dto.BulkResultOutcome;
+import com.swiss_stage.application.dto.BulkResultResponse;
+import com.swiss_stage.application.dto.MatchDto;
+import com.swiss_stage.application.service.TournamentStateService.ResultChange;
+import com.swiss_stage.common.exception.BusinessException;
+import com.swiss_stage.common.exception.ConflictException;
+import com.swiss_stage.common.exception.OptimisticLockException;
+import com.swiss_stage.domain.model.Match;
+import com.swiss_stage.domain.model.MatchResult;
+import com.swiss_stage.domain.model.OpponentMatrix;
+import com.swiss_stage.domain.model.RecordedEvent;
+import com.swiss_stage.domain.model.Round;
+import com.swiss_stage.domain.model.RoundStatus;
+import com.swiss_stage.domain.model.Tournament;
+import com.swiss_stage.domain.model.TournamentAggregate;
+import com.swiss_stage.domain.model.TournamentEvent;
+import com.swiss_stage.domain.repository.TournamentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 対局結果入力サービス（Application層）
+ *
+ * 複数の運営スタッフが同時に結果を入力しても更新が失われないよう、楽観ロックで保存する
+ * - 別の対局の入力で回戦の入力済み件数が変わっただけの競合は、再読み込みして自動で再試行（マージ）
+ * - 同じ対局に同じ結果が既に入力されていれば、そのまま成功とする（冪等）
+ * - 同じ対局に別の結果が入力されていた場合は、上書きせず409 Conflictとする
+ *
+ * 結果の保存と同じトランザクションでイベントログ（結果入力・結果修正）にも追記するため、
+ * 監査ログの欠落や二重記録は発生しない。新規入力ではグループの対戦済み行列（組合せ作成で使用）も
+ * 同じトランザクションで差分更新する
+ *
+ * 一括入力では、対局の一覧をQuery 1本で読み込んで全件を検証し、TransactWriteItemsの上限（100件）に
+ * 収まる単位でまとめて書き込む。回戦の件数更新はトランザクションごと、順位表の更新は一括入力ごとに1回だけ行う
+ */
+@Service
+public class MatchResultService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MatchResultService.class);
+
+    /** 一括入力の最大件数（300名・8グループの1回戦分を上回る） */
+    static final int MAX_BULK_RESULTS = 300;
+
+    /**
+     * 1トランザクションあたりの対局数
+     * 対局＋イベントで2件ずつ、回戦と集約バイナリの無効化で1件ずつ、対戦済み行列で最大グループ数分
+     */
+    static final int RESULTS_PER_TRANSACTION =
+            (TournamentRepository.MAX_TRANSACTION_ITEMS - 2 - Tournament.MAX_GROUP_COUNT) / 2;
+
+    private static final long BASE_BACKOFF_MS = 5;
+    private static final long MAX_BACKOFF_MS = 100;
+
+    private final TournamentRepository tournamentRepository;
+    private final TournamentJournalService journalService;
+    private final TournamentStateService stateService;
+    private final int maxAttempts;
+
+    public MatchResultService(
+            TournamentRepository tournamentRepository,
+            TournamentJournalService journalService,
+            TournamentStateService stateService,
+            @Value("${app.match.result.max-attempts:10}") int maxAttempts) {
+        this.tournamentRepository = tournamentRepository;
+        this.journalService = journalService;
+        this.stateService = stateService;
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * 対局結果を入力（修正を含む）
+     *
+     * @param tournamentId トーナメントID
+     * @param roundNumber 回戦
+     * @param groupNumber グループ番号
+     * @param tableNumber 対局番号
+     * @param result 対戦結果
+     * @param expectedVersion 画面表示時の対局バージョン（新規入力時はnull可）
+     * @return 保存後の対局
+     * @throws ConflictException 他の操作者が別の結果を先に入力していた場合
+     */
+    public MatchDto recordResult(UUID tournamentId, int roundNumber, int groupNumber, int tableNumber,
+                                 MatchResult result, Long expectedVersion) {
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            Match current = tournamentRepository.findMatch(tournamentId, roundNumber, groupNumber, tableNumber)
+                    .orElseThrow(() -> new BusinessException("Match not found", "NOT_FOUND"));
+
+            if (current.result() == result) {
+                // 同じ結果が入力済み（二重送信・別スタッフによる同一内容の入力）
+                return toDto(current);
+            }
+            if (isConflicting(current, expectedVersion)) {
+                throw new ConflictException("Match result was updated by another operator");
+            }
+            validateResult(current, result);
+
+            Round round = tournamentRepository.findRound(tournamentId, roundNumber)
+                    .filter(found -> found.status() != RoundStatus.PAIRING)
+                    .orElseThrow(() -> new BusinessException("Round not found", "NOT_FOUND"));
+            int completed = round.completedMatchCount() + (current.hasResult() ? 0 : 1);
+            Match updated = current.withResult(result);
+            List<OpponentMatrix> opponentMatrices = List.of();
+            if (!current.hasResult()) {
+                // 対戦済みになるのは新規入力時のみ（結果の修正では対戦相手は変わらない）
+                OpponentMatrix matrix = loadOpponentMatrix(tournamentId, groupNumber);
+                matrix.record(updated);
+                opponentMatrices = List.of(matrix);
+            }
+            RecordedEvent event = new RecordedEvent(journalService.nextSequence(tournamentId),
+                    toEvent(current, result));
+
+            try {
+                Match saved = tournamentRepository.saveMatchResult(
+                        updated, round.withCompletedMatchCount(completed), opponentMatrices, event);
+                journalService.onAppended(tournamentId, event);
+                stateService.applyResults(tournamentId,
+                        List.of(new ResultChange(saved, current.result(), event.sequence())));
+                logger.info("Match result recorded. tournamentId={}, round={}, group={}, table={}, attempts={}",
+                        tournamentId, roundNumber, groupNumber, tableNumber, attempt);
+                return toDto(saved);
+            } catch (OptimisticLockException e) {
+                // 他の対局の入力で回戦アイテム・イベント連番が進んだ可能性が高いため、読み直して再試行する
+                journalService.invalidate(tournamentId);
+                logger.debug("Optimistic lock conflict, retrying. tournamentId={}, round={}, attempt={}",
+                        tournamentId, roundNumber, attempt);
+                backoff(attempt);
+            }
+        }
+
+        logger.warn("Match result retries exhausted. tournamentId={}, round={}, group={}, table={}",
+                tournamentId, roundNumber, groupNumber, tableNumber);
+        throw new ConflictException("Too many concurrent updates. Please retry");
+    }
+
+    /**
+     * 同じ回戦の対局結果を一括入力
+     * 1件ずつ検証し、保存できなかった入力があっても他の入力は保存する
+     *
+     * @param tournamentId トーナメントID
+     * @param roundNumber 回戦
+     * @param items 結果入力（最大MAX_BULK_RESULTS件）
+     * @return リクエストと同じ順序の処理結果
+     */
+    public BulkResultResponse recordResults(UUID tournamentId, int roundNumber, List<BulkResultItem> items) {
+        if (items == null || items.isEmpty()) {
+            throw new BusinessException("Results are required");
+        }
+        if (items.size() > MAX_BULK_RESULTS) {
+            throw new BusinessException("Too many results in one request. Maximum is " + MAX_BULK_RESULTS);
+        }
+
+        BulkResultOutcome[] outcomes = new BulkResultOutcome[items.size()];
+        List<PendingResult> pending = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < items.size(); i++) {
+            BulkResultItem item = items.get(i);
+            MatchResult result = parseResult(item.result());
+            if (result == null) {
+                outcomes[i] = failure(item, BulkResultOutcome.Status.INVALID, "Invalid match result", null);
+            } else if (!seen.add(tableKey(item.groupNumber(), item.tableNumber()))) {
+                outcomes[i] = failure(item, BulkResultOutcome.Status.INVALID, "Duplicate match in request", null);
+            } else {
+                pending.add(new PendingResult(i, item, result));
+            }
+        }
+
+        // 対局は1回のQueryでまとめて読み込み、競合時のみ読み直す
+        Map<String, Match> matches = loadMatches(tournamentId, roundNumber);
+        List<ResultChange> changes = new ArrayList<>();
+        for (int from = 0; from < pending.size(); from += RESULTS_PER_TRANSACTION) {
+            List<PendingResult> chunk = pending.subList(from, Math.min(from + RESULTS_PER_TRANSACTION, pending.size()));
+            matches = writeChunk(tournamentId, roundNumber, chunk, matches, outcomes, changes);
+        }
+
+        // 順位表の更新とイベント発行は一括入力ごとに1回だけ
+        stateService.applyResults(tournamentId, changes);
+
+        int failed = (int) Arrays.stream(outcomes)
+                .filter(outcome -> outcome.status() != BulkResultOutcome.Status.SAVED
+                        && outcome.status() != BulkResultOutcome.Status.UNCHANGED)
+                .count();
+        logger.info("Bulk match results recorded. tournamentId={}, round={}, requested={}, saved={}, failed={}",
+                tournamentId, roundNumber, items.size(), changes.size(), failed);
+        return new BulkResultResponse(items.size() - failed, failed, Arrays.asList(outcomes));
+    }
+
+    /**
+     * 1トランザクション分の結果を保存
+     * 楽観ロックの競合時は対局・回戦を読み直し、競合していない入力だけで再試行する
+     *
+     * @return 最新の対局（競合で読み直した場合は読み直した対局）
+     */
+    private Map<String, Match> writeChunk(UUID tournamentId, int roundNumber, List<PendingResult> chunk,
+                                          Map<String, Match> matches, BulkResultOutcome[] outcomes,
+                                          List<ResultChange> changes) {
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            List<PendingResult> writes = new ArrayList<>();
+            List<Match> currents = new ArrayList<>();
+            for (PendingResult pending : chunk) {
+                BulkResultItem item = pending.item();
+                Match current = matches.get(tableKey(item.groupNumber(), item.tableNumber()));
+                if (current == null) {
+                    outcomes[pending.index()] = failure(item, BulkResultOutcome.Status.NOT_FOUND, "Match not found", null);
+                } else if (current.result() == pending.result()) {
+                    outcomes[pending.index()] = new BulkResultOutcome(item.groupNumber(), item.tableNumber(),
+                            BulkResultOutcome.Status.UNCHANGED, null, toDto(current));
+                } else if (isConflicting(current, item.version())) {
+                    outcomes[pending.index()] = failure(item, BulkResultOutcome.Status.CONFLICT,
+                            "Match result was updated by another operator", toDto(current));
+                } else if (current.isBye() != (pending.result() == MatchResult.BYE)) {
+                    outcomes[pending.index()] = failure(item, BulkResultOutcome.Status.INVALID,
+                            "BYE can only be recorded for a match without opponent", toDto(current));
+                } else {
+                    writes.add(pending);
+                    currents.add(current);
+                }
+            }
+            if (writes.isEmpty()) {
+                return matches;
+            }
+
+            Round round = tournamentRepository.findRound(tournamentId, roundNumber)
+                    .filter(found -> found.status() != RoundStatus.PAIRING)
+                    .orElseThrow(() -> new BusinessException("Round not found", "NOT_FOUND"));
+            int newlyCompleted = (int) currents.stream().filter(match -> !match.hasResult()).count();
+            long firstSequence = journalService.nextSequence(tournamentId);
+            List<Match> updated = new ArrayList<>(writes.size());
+            List<RecordedEvent> events = new ArrayList<>(writes.size());
+            for (int i = 0; i < writes.size(); i++) {
+                Match current = currents.get(i);
+                MatchResult result = writes.get(i).result();
+                updated.add(current.withResult(result));
+                events.add(new RecordedEvent(firstSequence + i, toEvent(current, result)));
+            }
+
+            List<OpponentMatrix> opponentMatrices = recordOpponents(tournamentId, currents, updated);
+
+            try {
+                List<Match> saved = tournamentRepository.saveMatchResults(updated,
+                        round.withCompletedMatchCount(round.completedMatchCount() + newlyCompleted),
+                        opponentMatrices, events);
+                journalService.onAppended(tournamentId, events.get(events.size() - 1));
+                for (int i = 0; i < writes.size(); i++) {
+                    Match match = saved.get(i);
+                    BulkResultItem item = writes.get(i).item();
+                    outcomes[writes.get(i).index()] = new BulkResultOutcome(item.groupNumber(), item.tableNumber(),
+                            BulkResultOutcome.Status.SAVED, null, toDto(match));
+                    changes.add(new ResultChange(match, currents.get(i).result(), events.get(i).sequence()));
+                    matches.put(tableKey(match.groupNumber(), match.tableNumber()), match);
+                }
+                return matches;
+            } catch (OptimisticLockException e) {
+                journalService.invalidate(tournamentId);
+                logger.debug("Optimistic lock conflict in bulk results, retrying. tournamentId={}, round={}, attempt={}",
+                        tournamentId, roundNumber, attempt);
+                backoff(attempt);
+                matches = loadMatches(tournamentId, roundNumber);
+            }
+        }
+
+        logger.warn("Bulk match result retries exhausted. tournamentId={}, round={}", tournamentId, roundNumber);
+        for (PendingResult pending : chunk) {
+            if (outcomes[pending.index()] == null) {
+                outcomes[pending.index()] = failure(pending.item(), BulkResultOutcome.Status.CONFLICT,
+                        "Too many concurrent updates. Please retry", null);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * 新規入力の対局をグループごとの対戦済み行列に反映
+     * 対戦済み行列は全グループ分をQuery 1本で読み込む
+     *
+     * @return 更新した対戦済み行列（グループ番号順）
+     */
+    private List<OpponentMatrix> recordOpponents(UUID tournamentId, List<Match> currents, List<Match> updated) {
+        Map<Integer, OpponentMatrix> stored = null;
+        List<Match> allMatches = null;
+        Map<Integer, OpponentMatrix> touched = new TreeMap<>();
+        for (int i = 0; i < updated.size(); i++) {
+            if (currents.get(i).hasResult()) {
+                continue;
+            }
+            Match match = updated.get(i);
+            OpponentMatrix matrix = touched.get(match.groupNumber());
+            if (matrix == null) {
+                if (stored == null) {
+                    stored = new HashMap<>();
+                    for (OpponentMatrix found : tournamentRepository.findOpponentMatrices(tournamentId)) {
+                        stored.put(found.getGroupNumber(), found);
+                    }
+                }
+                matrix = stored.get(match.groupNumber());
+                if (matrix == null) {
+                    if (allMatches == null) {
+                        allMatches = loadAllMatches(tournamentId);
+                    }
+                    matrix = OpponentMatrix.of(match.groupNumber(), allMatches);
+                }
+                touched.put(match.groupNumber(), matrix);
+            }
+            matrix.record(match);
+        }
+        return new ArrayList<>(touched.values());
+    }
+
+    /**
+     * グループの対戦済み行列を読み込む
+     * 未保存の場合（対戦済み行列の導入前に始まった大会）は、結果入力済みの対局から作り直す
+     */
+    private OpponentMatrix loadOpponentMatrix(UUID tournamentId, int groupNumber) {
+        return tournamentRepository.findOpponentMatrix(tournamentId, groupNumber)
+                .orElseGet(() -> OpponentMatrix.of(groupNumber, loadAllMatches(tournamentId)));
+    }
+
+    private List<Match> loadAllMatches(UUID tournamentId) {
+        return tournamentRepository.loadAggregate(tournamentId)
+                .map(TournamentAggregate::matches)
+                .orElse(List.of());
+    }
+
+    private Map<String, Match> loadMatches(UUID tournamentId, int roundNumber) {
+        Map<String, Match> matches = new HashMap<>();
+        for (Match match : tournamentRepository.findMatchesByRound(tournamentId, roundNumber)) {
+            matches.put(tableKey(match.groupNumber(), match.tableNumber()), match);
+        }
+        return matches;
+    }
+
+    private static BulkResultOutcome failure(BulkResultItem item, BulkResultOutcome.Status status, String message,
+                                             MatchDto match) {
+        return new BulkResultOutcome(item.groupNumber(), item.tableNumber(), status, message, match);
+    }
+
+    private static MatchResult parseResult(String result) {
+        if (result == null) {
+            return null;
+        }
+        try {
+            return MatchResult.valueOf(result);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static String tableKey(int groupNumber, int tableNumber) {
+        return groupNumber + "#" + tableNumber;
+    }
+
+    /**
+     * 自動でマージできない競合か
+     * - バージョン指定あり: 画面表示後に他の操作者が対局を更新していれば競合
+     * - バージョン指定なし（新規入力）: 既に別の結果が入力されていれば競合
+     */
+    private boolean isConflicting(Match current, Long expectedVersion) {
+        if (expectedVersion != null) {
+            return current.version() != expectedVersion;
+        }
+        return current.hasResult();
+    }
+
+    private TournamentEvent toEvent(Match current, MatchResult result) {
+        if (current.hasResult()) {
+            return new TournamentEvent.ResultCorrected(current.roundNumber(), current.groupNumber(),
+                    current.tableNumber(), current.result(), result, Instant.now());
+        }
+        return new TournamentEvent.ResultEntered(current.roundNumber(), current.groupNumber(),
+                current.tableNumber(), result, Instant.now());
+    }
+
+    private void validateResult(Match match, MatchResult result) {
+        if (match.isBye() != (result == MatchResult.BYE)) {
+            throw new BusinessException("BYE can only be recorded for a match without opponent", "INVALID_RESULT");
+        }
+    }
+
+    private void backoff(int attempt) {
+        long cap = Math.min(MAX_BACKOFF_MS, BASE_BACKOFF_MS << Math.min(attempt, 5));
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(cap + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while retrying match result", e);
+        }
+    }
+
+    /**
+     * 一括入力の検証を通過した入力
+     *
+     * @param index リクエスト内の位置
+     * @param item 入力
+     * @param result 対戦結果
+     */
+    private record PendingResult(int index, BulkResultItem item, MatchResult result) {
+    }
+
+    private MatchDto toDto(Match match) {
+        return MatchDto.fromMatch(match);
+    }
+}
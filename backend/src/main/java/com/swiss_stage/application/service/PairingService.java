@@ -0,0 +1,228 @@
+package com.swiss_stage.application.service;
+
+import com.swiss_stage.application.dto.MatchDto;
+import com.swiss_stage.common.exception.BusinessException;
+import com.swiss_stage.common.exception.ConflictException;
+import com.swiss_stage.common.exception.OptimisticLockException;
+import com.swiss_stage.domain.model.Match;
+import com.swiss_stage.domain.model.OpponentMatrix;
+import com.swiss_stage.domain.model.Participant;
+import com.swiss_stage.domain.model.RecordedEvent;
+import com.swiss_stage.domain.model.Round;
+import com.swiss_stage.domain.model.RoundStatus;
+import com.swiss_stage.domain.model.Standings;
+import com.swiss_stage.domain.model.Tournament;
+import com.swiss_stage.domain.model.TournamentAggregate;
+import com.swiss_stage.domain.model.TournamentEvent;
+import com.swiss_stage.domain.repository.TournamentRepository;
+import com.swiss_stage.domain.service.SwissPairingEngine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 組合せ作成サービス（Application層）
+ *
+ * 処理フロー:
+ * 1. 集約をQuery 1本で読み込み、前の回戦が全対局入力済みであることを確認
+ * 2. 全グループの対戦済み行列をQuery 1本で読み込む（未保存のグループは対局から作り直す）
+ * 3. グループごとに順位順の参加者と対戦済み行列からSwissPairingEngineで組合せを作成
+ * 4. 回戦を組合せ作成中（PAIRING）として条件付きで保存し、作成する操作者を1人に絞る
+ * 5. 対局を一括登録し、大会情報・回戦（PAIRED）・新規の対戦済み行列・組合せ確定イベントを1トランザクションで保存
+ *
+ * 対局の一括登録は条件なしの書き込みのため、予約を取れなかった操作者は何も書き込まずに409を返す
+ * 確定に失敗した場合は登録した対局と予約を削除する（削除できなかった予約はPAIRING_TIMEOUT後に引き継ぐ）
+ */
+@Service
+public class PairingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PairingService.class);
+
+    /** 予約から確定までに掛かる時間の上限（超えた予約は操作者のノードが停止したものとして引き継ぐ） */
+    static final Duration PAIRING_TIMEOUT = Duration.ofMinutes(1);
+
+    private final TournamentRepository tournamentRepository;
+    private final TournamentJournalService journalService;
+    private final TournamentStateService stateService;
+    private final SwissPairingEngine pairingEngine = new SwissPairingEngine();
+
+    public PairingService(TournamentRepository tournamentRepository,
+                          TournamentJournalService journalService,
+                          TournamentStateService stateService) {
+        this.tournamentRepository = tournamentRepository;
+        this.journalService = journalService;
+        this.stateService = stateService;
+    }
+
+    /**
+     * 次の回戦の組合せを作成して確定
+     *
+     * @param tournamentId トーナメントID
+     * @return 作成した対局（グループ・対局番号順）
+     * @throws BusinessException 大会が存在しない、前の回戦が未完了、または全回戦が開始済みの場合
+     * @throws ConflictException 他の操作者が同じ回戦の組合せを先に確定した場合
+     */
+    public List<MatchDto> pairNextRound(UUID tournamentId) {
+        TournamentAggregate aggregate = tournamentRepository.loadAggregate(tournamentId)
+                .orElseThrow(() -> new BusinessException("Tournament not found", "NOT_FOUND"));
+        Tournament tournament = aggregate.tournament();
+        validatePreviousRound(aggregate);
+
+        int roundNumber;
+        try {
+            roundNumber = tournament.startNextRound();
+        } catch (IllegalStateException e) {
+            throw new BusinessException(e.getMessage(), "INVALID_STATE");
+        }
+        Optional<Round> existing = tournamentRepository.findRound(tournamentId, roundNumber);
+        if (existing.isPresent() && !existing.get().isAbandonedPairing(Instant.now(), PAIRING_TIMEOUT)) {
+            throw new ConflictException("Round " + roundNumber + " is already paired");
+        }
+
+        Map<Integer, OpponentMatrix> matrices = loadOpponentMatrices(tournamentId, aggregate.matches());
+        Map<Integer, List<UUID>> rankedByGroup = rankActiveParticipants(aggregate);
+
+        List<Match> matches = new ArrayList<>();
+        List<OpponentMatrix> newMatrices = new ArrayList<>();
+        for (int groupNumber = 1; groupNumber <= tournament.getGroupCount(); groupNumber++) {
+            List<UUID> ranked = rankedByGroup.getOrDefault(groupNumber, List.of());
+            OpponentMatrix matrix = matrices.computeIfAbsent(groupNumber, OpponentMatrix::empty);
+            if (matrix.getVersion() == 0) {
+                // 初回（または導入前の大会）は行列を作成し、以降の結果入力で差分更新する
+                ranked.forEach(matrix::register);
+                newMatrices.add(matrix);
+            }
+            matches.addAll(pairingEngine.pair(tournamentId, roundNumber, ranked, matrix));
+        }
+        if (matches.isEmpty()) {
+            throw new BusinessException("No participants to pair", "NO_PARTICIPANTS");
+        }
+
+        Round claim = claimRound(tournamentId, roundNumber, matches.size(), existing);
+        RecordedEvent event = new RecordedEvent(journalService.nextSequence(tournamentId),
+                new TournamentEvent.RoundPaired(roundNumber, matches, Instant.now()));
+        try {
+            if (existing.isPresent()) {
+                // 引き継いだ予約の対局（今回の組合せにない卓）を残さない
+                tournamentRepository.deleteMatchesByRound(tournamentId, roundNumber);
+            }
+            tournamentRepository.saveMatches(matches);
+            tournamentRepository.savePairing(tournament, claim.confirm(), newMatrices, event);
+        } catch (RuntimeException e) {
+            journalService.invalidate(tournamentId);
+            releaseRound(claim);
+            if (e instanceof OptimisticLockException) {
+                throw new ConflictException("Tournament was updated by another operator. Please reload");
+            }
+            throw e;
+        }
+        journalService.onAppended(tournamentId, event);
+        stateService.refresh(tournamentId, event.sequence());
+
+        logger.info("Round paired. tournamentId={}, round={}, matches={}", tournamentId, roundNumber, matches.size());
+        List<MatchDto> result = new ArrayList<>(matches.size());
+        for (Match match : matches) {
+            // saveMatchesで保存後のバージョン（1）に揃える
+            result.add(MatchDto.fromMatch(new Match(match.tournamentId(), match.roundNumber(), match.groupNumber(),
+                    match.tableNumber(), match.blackParticipantId(), match.whiteParticipantId(), null, 1)));
+        }
+        return result;
+    }
+
+    /**
+     * 組合せ作成中の回戦を予約（対局を書き込む前に、同じ回戦を作成する操作者を1人に絞る）
+     *
+     * @param existing 期限切れの予約（引き継ぐ場合）
+     * @return 保存後の予約
+     * @throws ConflictException 他の操作者が先に予約した場合
+     */
+    private Round claimRound(UUID tournamentId, int roundNumber, int matchCount, Optional<Round> existing) {
+        long previousVersion = existing.map(Round::version).orElse(0L);
+        try {
+            return tournamentRepository.saveRound(Round.pairing(tournamentId, roundNumber, matchCount, previousVersion));
+        } catch (OptimisticLockException e) {
+            throw new ConflictException("Round " + roundNumber + " is being paired by another operator");
+        }
+    }
+
+    /**
+     * 確定できなかった予約を解除（登録した対局を削除してから予約を削除する）
+     * 予約が確定済み・引き継ぎ済みの場合は何もしない（他の操作者の対局を削除しない）
+     * 解除に失敗した予約はPAIRING_TIMEOUT経過後に次の組合せ作成で引き継がれる
+     */
+    private void releaseRound(Round claim) {
+        try {
+            boolean held = tournamentRepository.findRound(claim.tournamentId(), claim.roundNumber())
+                    .filter(round -> round.status() == RoundStatus.PAIRING && round.version() == claim.version())
+                    .isPresent();
+            if (!held) {
+                return;
+            }
+            tournamentRepository.deleteMatchesByRound(claim.tournamentId(), claim.roundNumber());
+            tournamentRepository.deleteRound(claim);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to release round claim. tournamentId={}, round={}",
+                    claim.tournamentId(), claim.roundNumber(), e);
+        }
+    }
+
+    private void validatePreviousRound(TournamentAggregate aggregate) {
+        int currentRound = aggregate.tournament().getCurrentRound();
+        if (currentRound == 0) {
+            return;
+        }
+        boolean completed = aggregate.rounds().stream()
+                .anyMatch(round -> round.roundNumber() == currentRound && round.status() == RoundStatus.COMPLETED);
+        if (!completed) {
+            throw new BusinessException("Round " + currentRound + " is not completed yet", "ROUND_NOT_COMPLETED");
+        }
+    }
+
+    /**
+     * 全グループの対戦済み行列を読み込む（未保存のグループは結果入力済みの対局から作り直す）
+     */
+    private Map<Integer, OpponentMatrix> loadOpponentMatrices(UUID tournamentId, List<Match> matches) {
+        Map<Integer, OpponentMatrix> matrices = new HashMap<>();
+        for (OpponentMatrix matrix : tournamentRepository.findOpponentMatrices(tournamentId)) {
+            matrices.put(matrix.getGroupNumber(), matrix);
+        }
+        Set<Integer> playedGroups = new HashSet<>();
+        for (Match match : matches) {
+            playedGroups.add(match.groupNumber());
+        }
+        for (int groupNumber : playedGroups) {
+            matrices.computeIfAbsent(groupNumber, group -> OpponentMatrix.of(group, matches));
+        }
+        return matrices;
+    }
+
+    /**
+     * 棄権者を除いた参加者をグループごとに順位順で並べる
+     */
+    private static Map<Integer, List<UUID>> rankActiveParticipants(TournamentAggregate aggregate) {
+        Set<UUID> withdrawn = new HashSet<>();
+        for (Participant participant : aggregate.participants()) {
+            if (participant.withdrawn()) {
+                withdrawn.add(participant.participantId());
+            }
+        }
+        Map<Integer, List<UUID>> ranked = new HashMap<>();
+        for (Standings.Entry entry : Standings.of(aggregate.participants(), aggregate.matches()).ranked()) {
+            if (!withdrawn.contains(entry.participantId())) {
+                ranked.computeIfAbsent(entry.groupNumber(), group -> new ArrayList<>()).add(entry.participantId());
+            }
+        }
+        return ranked;
+    }
+}
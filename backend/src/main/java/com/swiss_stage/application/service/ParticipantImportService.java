@@ -0,0 +1,346 @@
+package com.swiss_stage.application.service;
+
+import com.swiss_stage.application.dto.ImportRowError;
+import com.swiss_stage.application.dto.ParticipantImportResult;
+import com.swiss_stage.common.exception.BusinessException;
+import com.swiss_stage.common.util.CsvReader;
+import com.swiss_stage.domain.model.Participant;
+import com.swiss_stage.domain.model.RecordedEvent;
+import com.swiss_stage.domain.model.Tournament;
+import com.swiss_stage.domain.model.TournamentEvent;
+import com.swiss_stage.domain.repository.ParticipantRepository;
+import com.swiss_stage.domain.repository.TournamentRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 参加者CSVインポートサービス（Application層）
+ *
+ * 処理フロー:
+ * 1. アップロードされたCSVを1レコードずつ読み込む（ファイル全体をメモリに載せない）
+ * 2. 各行を検証し（グループ番号は大会のグループ数以内）、エラーは行番号付きで記録して次の行へ進む
+ * 3. 有効な行を25件ずつのチャンクにまとめ、エントリー番号を予約してBatchWriteItemで並列に書き込む
+ *    （同時実行チャンク数はwrite-parallelismで制限し、メモリ使用量を一定に保つ）
+ * 4. 1件以上登録した場合はインポートイベントを追記し、順位表・配信の状態を作り直す
+ *
+ * エントリー番号はチャンクごとに大会情報の採番カウンターから予約する
+ * （並行したインポート・再試行でも重複しない。保存に失敗したチャンクの番号は欠番になる）
+ *
+ * 文字コードはUTF-8とShift_JIS（Excel出力のWindows-31J）に対応
+ */
+@Service
+public class ParticipantImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ParticipantImportService.class);
+
+    static final int MAX_REPORTED_ERRORS = 100;
+
+    private static final List<String> NAME_HEADERS = List.of("名前", "氏名", "name");
+    private static final List<String> AFFILIATION_HEADERS = List.of("所属", "affiliation");
+    private static final List<String> GRADE_HEADERS = List.of("段級位", "棋力", "grade");
+    private static final List<String> GROUP_HEADERS = List.of("グループ", "group");
+
+    private final ParticipantRepository participantRepository;
+    private final TournamentRepository tournamentRepository;
+    private final TournamentJournalService journalService;
+    private final TournamentStateService stateService;
+    private final int maxRows;
+    private final int writeParallelism;
+    private final ExecutorService writeExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public ParticipantImportService(
+            ParticipantRepository participantRepository,
+            TournamentRepository tournamentRepository,
+            TournamentJournalService journalService,
+            TournamentStateService stateService,
+            @Value("${app.participant.import.max-rows:10000}") int maxRows,
+            @Value("${app.participant.import.write-parallelism:4}") int writeParallelism) {
+        this.participantRepository = participantRepository;
+        this.tournamentRepository = tournamentRepository;
+        this.journalService = journalService;
+        this.stateService = stateService;
+        this.maxRows = maxRows;
+        this.writeParallelism = writeParallelism;
+    }
+
+    /**
+     * 文字コード名を解決
+     * Shift_JISはExcelが出力するWindows-31J（機種依存文字を含む）として扱う
+     *
+     * @param name 文字コード名（UTF-8 / Shift_JIS、未指定の場合はUTF-8）
+     * @return Charset
+     */
+    public static Charset resolveCharset(String name) {
+        if (name == null || name.isBlank()) {
+            return StandardCharsets.UTF_8;
+        }
+        String normalized = name.trim().toUpperCase(Locale.ROOT).replace('-', '_');
+        return switch (normalized) {
+            case "UTF_8", "UTF8" -> StandardCharsets.UTF_8;
+            case "SHIFT_JIS", "SJIS", "MS932", "WINDOWS_31J", "CP932" -> Charset.forName("windows-31j");
+            default -> throw new BusinessException("Unsupported charset: " + name);
+        };
+    }
+
+    /**
+     * 参加者CSVをインポート
+     * ヘッダー行（名前/所属/段級位/グループ）がある場合は列名で、ない場合は列順で解釈する
+     *
+     * @param tournamentId トーナメントID
+     * @param input CSV入力ストリーム
+     * @param charset 文字コード
+     * @return インポート結果
+     * @throws BusinessException 大会が存在しない場合
+     * @throws com.swiss_stage.common.exception.ConflictException 他の操作と競合してイベントを追記できなかった場合
+     */
+    public ParticipantImportResult importCsv(UUID tournamentId, InputStream input, Charset charset) {
+        Tournament tournament = tournamentRepository.findById(tournamentId)
+                .orElseThrow(() -> new BusinessException("Tournament not found", "NOT_FOUND"));
+        CharsetDecoder decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT);
+        ErrorCollector errors = new ErrorCollector();
+        ChunkWriter writer = new ChunkWriter(tournamentId, participantRepository.findMaxEntryNumber(tournamentId));
+
+        try (CsvReader csv = new CsvReader(new BufferedReader(new InputStreamReader(input, decoder)))) {
+            try {
+                readRecords(tournament, csv, writer, errors);
+            } catch (CharacterCodingException e) {
+                errors.add(csv.getCurrentLineNumber(), "Invalid character encoding (expected " + charset.name() + ")");
+            } catch (IllegalStateException e) {
+                errors.add(csv.getRecordLineNumber(), e.getMessage());
+            }
+        } catch (IOException e) {
+            throw new BusinessException("Failed to read CSV file", e);
+        } finally {
+            writer.finish();
+        }
+
+        writer.failures.forEach(error -> errors.add(error.lineNumber(), error.message()));
+        ParticipantImportResult result = errors.toResult(writer.imported.get());
+        if (result.importedCount() > 0) {
+            RecordedEvent event = journalService.record(tournamentId,
+                    new TournamentEvent.ParticipantsImported(result.importedCount(), Instant.now()));
+            stateService.refresh(tournamentId, event.sequence());
+        }
+
+        logger.info("Participant CSV imported. tournamentId={}, imported={}, errors={}",
+                tournamentId, result.importedCount(), result.errorCount());
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        writeExecutor.shutdown();
+    }
+
+    private void readRecords(Tournament tournament, CsvReader csv, ChunkWriter writer, ErrorCollector errors)
+            throws IOException {
+        List<String> record = csv.readRecord();
+        ColumnMapping mapping = ColumnMapping.DEFAULT;
+        if (record != null && ColumnMapping.isHeader(record)) {
+            mapping = ColumnMapping.fromHeader(record);
+            record = csv.readRecord();
+        }
+
+        int rows = 0;
+        while (record != null) {
+            if (!isBlank(record)) {
+                long line = csv.getRecordLineNumber();
+                if (++rows > maxRows) {
+                    errors.add(line, "Too many rows (max " + maxRows + ")");
+                    return;
+                }
+                try {
+                    // エントリー番号は書き込み時に予約した番号に付け替える（ここでは行順の仮番号）
+                    Participant participant = mapping.toParticipant(tournament, rows, record);
+                    writer.add(participant, line);
+                } catch (IllegalArgumentException e) {
+                    errors.add(line, e.getMessage());
+                }
+            }
+            record = csv.readRecord();
+        }
+    }
+
+    private static boolean isBlank(List<String> record) {
+        return record.stream().allMatch(String::isBlank);
+    }
+
+    /**
+     * CSV列の割り当て
+     */
+    private record ColumnMapping(int name, int affiliation, int grade, int group) {
+
+        static final ColumnMapping DEFAULT = new ColumnMapping(0, 1, 2, 3);
+
+        static boolean isHeader(List<String> record) {
+            return record.stream().anyMatch(value -> NAME_HEADERS.contains(normalize(value)));
+        }
+
+        static ColumnMapping fromHeader(List<String> header) {
+            return new ColumnMapping(
+                    indexOf(header, NAME_HEADERS),
+                    indexOf(header, AFFILIATION_HEADERS),
+                    indexOf(header, GRADE_HEADERS),
+                    indexOf(header, GROUP_HEADERS));
+        }
+
+        Participant toParticipant(Tournament tournament, int entryNumber, List<String> record) {
+            String groupValue = value(record, group);
+            int groupNumber;
+            try {
+                groupNumber = groupValue == null || groupValue.isBlank() ? 1 : Integer.parseInt(groupValue.strip());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Group number must be a number");
+            }
+            if (groupNumber < 1 || groupNumber > tournament.getGroupCount()) {
+                throw new IllegalArgumentException("Group number must be 1-" + tournament.getGroupCount());
+            }
+            String nameValue = value(record, name);
+            return Participant.create(tournament.getTournamentId(), entryNumber,
+                    nameValue == null ? null : nameValue.strip(),
+                    value(record, affiliation), value(record, grade), groupNumber);
+        }
+
+        private static String value(List<String> record, int index) {
+            return index >= 0 && index < record.size() ? record.get(index) : null;
+        }
+
+        private static int indexOf(List<String> header, List<String> aliases) {
+            for (int i = 0; i < header.size(); i++) {
+                if (aliases.contains(normalize(header.get(i)))) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private static String normalize(String value) {
+            return value.strip().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /**
+     * 行エラーの収集（報告件数はMAX_REPORTED_ERRORSまで）
+     */
+    private static final class ErrorCollector {
+        private final List<ImportRowError> errors = new ArrayList<>();
+        private int count;
+
+        void add(long lineNumber, String message) {
+            count++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ImportRowError(lineNumber, message));
+            }
+        }
+
+        ParticipantImportResult toResult(int importedCount) {
+            errors.sort(Comparator.comparingLong(ImportRowError::lineNumber));
+            return new ParticipantImportResult(importedCount, count, errors);
+        }
+    }
+
+    /**
+     * チャンク単位の並列書き込み
+     * 同時に保持するチャンクはwrite-parallelism + 1個までに制限される
+     * エントリー番号の予約は読み込みスレッドで順に行うため、番号はCSVの行順に並ぶ
+     */
+    private final class ChunkWriter {
+        private final UUID tournamentId;
+        /** このインポートで使用済みのエントリー番号の最大値（採番カウンターがない場合の開始位置） */
+        private int reservedUpTo;
+        private final Semaphore permits = new Semaphore(writeParallelism);
+        private final Phaser inFlight = new Phaser(1);
+        private final AtomicInteger imported = new AtomicInteger();
+        private final Queue<ImportRowError> failures = new ConcurrentLinkedQueue<>();
+        private List<Participant> chunk = new ArrayList<>(ParticipantRepository.MAX_BATCH_SIZE);
+        private List<Long> lines = new ArrayList<>(ParticipantRepository.MAX_BATCH_SIZE);
+
+        ChunkWriter(UUID tournamentId, int maxEntryNumber) {
+            this.tournamentId = tournamentId;
+            this.reservedUpTo = maxEntryNumber;
+        }
+
+        void add(Participant participant, long line) {
+            chunk.add(participant);
+            lines.add(line);
+            if (chunk.size() == ParticipantRepository.MAX_BATCH_SIZE) {
+                submit();
+            }
+        }
+
+        void finish() {
+            submit();
+            inFlight.arriveAndAwaitAdvance();
+        }
+
+        private void submit() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            List<Participant> batch = new ArrayList<>(chunk.size());
+            List<Long> batchLines = lines;
+            try {
+                int first = participantRepository.reserveEntryNumbers(tournamentId, chunk.size(), reservedUpTo);
+                for (int i = 0; i < chunk.size(); i++) {
+                    batch.add(chunk.get(i).withEntryNumber(first + i));
+                }
+                reservedUpTo = Math.max(reservedUpTo, first + chunk.size() - 1);
+            } catch (RuntimeException e) {
+                logger.warn("Failed to reserve entry numbers. size={}, reason={}", chunk.size(), e.getMessage());
+                batchLines.forEach(line -> failures.add(new ImportRowError(line, "Failed to save participant")));
+                return;
+            } finally {
+                chunk = new ArrayList<>(ParticipantRepository.MAX_BATCH_SIZE);
+                lines = new ArrayList<>(ParticipantRepository.MAX_BATCH_SIZE);
+            }
+
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new BusinessException("Participant import was interrupted", e);
+            }
+            inFlight.register();
+            writeExecutor.execute(() -> {
+                try {
+                    participantRepository.saveBatch(batch);
+                    imported.addAndGet(batch.size());
+                } catch (RuntimeException e) {
+                    logger.warn("Failed to save participant batch. size={}, reason={}", batch.size(), e.getMessage());
+                    batchLines.forEach(line -> failures.add(new ImportRowError(line, "Failed to save participant")));
+                } finally {
+                    permits.release();
+                    inFlight.arriveAndDeregister();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package com.swiss_stage.application.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.swiss_stage.application.dto.PublicSnapshot;
+import com.swiss_stage.application.dto.TournamentStateDto;
+import com.swiss_stage.application.event.TournamentStateChangedEvent;
+import com.swiss_stage.common.util.CompressionUtil;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 参照URL向けスナップショット公開サービス（Application層）
+ *
+ * 処理フロー:
+ * 1. TournamentStateChangedEventを受け取り、再構築を予約
+ * 2. トーナメントごとに再構築は同時に1つだけ実行（実行中に届いた変更は最新のみ保持し、完了後に1回だけ再実行）
+ * 3. JSONシリアライズ・gzip/brotli圧縮・ETag計算を行い、メモリ上のスナップショットを差し替える
+ *
+ * 参照リクエストはメモリ上のスナップショットを返すだけで、DynamoDBアクセスやDTO変換は発生しない
+ * （公開中のものが古い場合も、再構築は予約のみで参照リクエストのスレッドでは行わない）
+ *
+ * 保持するトーナメント数はmax-entriesまでとし、上限に達したら最後の参照（参照がなければ作成）から
+ * idle-ms経過したものを破棄し、それでも上限の場合は最後の参照が最も古いものを破棄する
+ * （スナップショットと再構築状態は一緒に破棄し、破棄したトーナメントは次の参照で再構築する）
+ */
+@Service
+@RegisterReflectionForBinding(TournamentStateDto.class)
+public class PublicSnapshotService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PublicSnapshotService.class);
+
+    /** このノードで未公開のトーナメントを参照した場合に、最初の再構築を待つ上限 */
+    static final Duration FIRST_BUILD_TIMEOUT = Duration.ofSeconds(2);
+    private static final int DEFAULT_MAX_ENTRIES = 1_000;
+    private static final long DEFAULT_IDLE_MS = 600_000;
+
+    private final ObjectWriter stateWriter;
+    private final int maxEntries;
+    private final long idleNanos;
+    private final Map<UUID, PublicSnapshot> snapshots = new ConcurrentHashMap<>();
+    private final Map<UUID, RebuildSlot> rebuildSlots = new ConcurrentHashMap<>();
+    private final ExecutorService rebuildExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public PublicSnapshotService(ObjectMapper objectMapper) {
+        this(objectMapper, DEFAULT_MAX_ENTRIES, DEFAULT_IDLE_MS);
+    }
+
+    @Autowired
+    public PublicSnapshotService(
+            ObjectMapper objectMapper,
+            @Value("${app.tournament.public-snapshot.max-entries:1000}") int maxEntries,
+            @Value("${app.tournament.public-snapshot.idle-ms:600000}") long idleMs) {
+        this.stateWriter = objectMapper.writerFor(TournamentStateDto.class);
+        this.maxEntries = maxEntries;
+        this.idleNanos = TimeUnit.MILLISECONDS.toNanos(idleMs);
+    }
+
+    /**
+     * 公開中のスナップショットを取得
+     *
+     * @param tournamentId トーナメントID
+     * @return スナップショット（未公開の場合はOptional.empty()）
+     */
+    public Optional<PublicSnapshot> findSnapshot(UUID tournamentId) {
+        touch(tournamentId);
+        return Optional.ofNullable(snapshots.get(tournamentId));
+    }
+
+    /**
+     * 指定した状態以降のスナップショットを取得
+     * 他ノードで更新された状態など、公開中のスナップショットが古い場合は再構築を予約し、完了までは公開中のものを返す
+     * （再構築はイベントと同じRebuildSlotで行うため、同時に多数の参照が届いても1回にまとまる）
+     * このノードでまだ公開していない場合のみ、予約した再構築の完了をFIRST_BUILD_TIMEOUTまで待つ
+     *
+     * @param state 最新のトーナメント状態
+     * @return スナップショット（未公開のまま再構築が完了しなかった場合はOptional.empty()）
+     */
+    public Optional<PublicSnapshot> findSnapshot(TournamentStateDto state) {
+        touch(state.tournamentId());
+        PublicSnapshot current = snapshots.get(state.tournamentId());
+        if (current != null && current.version() >= state.version()) {
+            return Optional.of(current);
+        }
+        RebuildSlot slot = schedule(state);
+        if (current != null) {
+            return Optional.of(current);
+        }
+        return Optional.ofNullable(awaitFirstSnapshot(state.tournamentId(), slot));
+    }
+
+    /**
+     * トーナメント状態変更イベントを受け取り、スナップショットの再構築を予約
+     *
+     * @param event トーナメント状態変更イベント
+     */
+    @EventListener
+    public void onTournamentStateChanged(TournamentStateChangedEvent event) {
+        schedule(event.state());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    private void touch(UUID tournamentId) {
+        RebuildSlot slot = rebuildSlots.get(tournamentId);
+        if (slot != null) {
+            slot.accessedAt = System.nanoTime();
+        }
+    }
+
+    private RebuildSlot schedule(TournamentStateDto state) {
+        if (rebuildSlots.size() >= maxEntries && !rebuildSlots.containsKey(state.tournamentId())) {
+            evict(System.nanoTime());
+        }
+        RebuildSlot slot = rebuildSlots.computeIfAbsent(state.tournamentId(), id -> new RebuildSlot());
+        slot.pending.accumulateAndGet(state,
+                (current, incoming) -> current == null || incoming.version() >= current.version() ? incoming : current);
+
+        // 再構築の多重実行を防ぐ（スタンピード対策）
+        if (slot.running.compareAndSet(false, true)) {
+            rebuildExecutor.execute(() -> rebuildLoop(slot));
+        }
+        return slot;
+    }
+
+    /**
+     * 最初のスナップショットの公開を待つ
+     * 再構築のたびに通知を受け、公開されるか再構築が止まるか（失敗）、タイムアウトまで待機する
+     */
+    private PublicSnapshot awaitFirstSnapshot(UUID tournamentId, RebuildSlot slot) {
+        long remaining = FIRST_BUILD_TIMEOUT.toNanos();
+        slot.lock.lock();
+        try {
+            PublicSnapshot snapshot;
+            while ((snapshot = snapshots.get(tournamentId)) == null && slot.running.get() && remaining > 0) {
+                remaining = slot.rebuilt.awaitNanos(remaining);
+            }
+            return snapshot;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return snapshots.get(tournamentId);
+        } finally {
+            slot.lock.unlock();
+        }
+    }
+
+    private void rebuildLoop(RebuildSlot slot) {
+        try {
+            TournamentStateDto state;
+            while ((state = slot.pending.getAndSet(null)) != null) {
+                rebuild(slot, state);
+                slot.signalRebuilt();
+            }
+        } finally {
+            slot.running.set(false);
+            slot.signalRebuilt();
+        }
+        // running解除の直前に予約された変更を取りこぼさない
+        if (slot.pending.get() != null && slot.running.compareAndSet(false, true)) {
+            rebuildExecutor.execute(() -> rebuildLoop(slot));
+        }
+    }
+
+    /**
+     * 最後の参照からidle-ms経過したトーナメントを破棄し、それでも上限の場合は最後の参照が最も古いものを破棄する
+     * 再構築中のトーナメントも破棄対象とする（完了した再構築の結果は公開しない）
+     */
+    private void evict(long now) {
+        for (Map.Entry<UUID, RebuildSlot> entry : rebuildSlots.entrySet()) {
+            if (now - entry.getValue().accessedAt >= idleNanos) {
+                discard(entry.getKey(), entry.getValue());
+            }
+        }
+        while (rebuildSlots.size() >= maxEntries) {
+            Map.Entry<UUID, RebuildSlot> oldest = null;
+            for (Map.Entry<UUID, RebuildSlot> entry : rebuildSlots.entrySet()) {
+                if (oldest == null || entry.getValue().accessedAt - oldest.getValue().accessedAt < 0) {
+                    oldest = entry;
+                }
+            }
+            if (oldest == null) {
+                break;
+            }
+            discard(oldest.getKey(), oldest.getValue());
+        }
+    }
+
+    private void discard(UUID tournamentId, RebuildSlot slot) {
+        if (rebuildSlots.remove(tournamentId, slot)) {
+            snapshots.remove(tournamentId);
+            logger.debug("Public snapshot evicted. tournamentId={}", tournamentId);
+        }
+    }
+
+    private void rebuild(RebuildSlot slot, TournamentStateDto state) {
+        PublicSnapshot current = snapshots.get(state.tournamentId());
+        if (current != null && current.version() >= state.version()) {
+            return;
+        }
+        try {
+            byte[] json = stateWriter.writeValueAsBytes(state);
+            PublicSnapshot snapshot = new PublicSnapshot(
+                    state.tournamentId(),
+                    state.version(),
+                    "v" + state.version() + "-" + digest(json),
+                    json,
+                    CompressionUtil.gzip(json),
+                    CompressionUtil.brotli(json));
+            snapshots.merge(state.tournamentId(), snapshot,
+                    (existing, rebuilt) -> rebuilt.version() > existing.version() ? rebuilt : existing);
+            if (rebuildSlots.get(state.tournamentId()) != slot) {
+                // 再構築中に破棄された
+                snapshots.remove(state.tournamentId(), snapshot);
+                return;
+            }
+
+            logger.debug("Public snapshot rebuilt. tournamentId={}, version={}, bytes={}",
+                    state.tournamentId(), state.version(), json.length);
+        } catch (JsonProcessingException | RuntimeException e) {
+            logger.error("Failed to rebuild public snapshot. tournamentId={}, version={}",
+                    state.tournamentId(), state.version(), e);
+        }
+    }
+
+    private static String digest(byte[] json) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(json);
+            return HexFormat.of().formatHex(hash, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * トーナメントごとの再構築状態
+     */
+    private static final class RebuildSlot {
+        private final AtomicReference<TournamentStateDto> pending = new AtomicReference<>();
+        private final AtomicBoolean running = new AtomicBoolean(false);
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition rebuilt = lock.newCondition();
+        private volatile long accessedAt = System.nanoTime();
+
+        private void signalRebuilt() {
+            lock.lock();
+            try {
+                rebuilt.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.swiss_stage.application.service;
+
+import com.swiss_stage.common.exception.ConflictException;
+import com.swiss_stage.common.exception.ForbiddenException;
+import com.swiss_stage.common.exception.NotFoundException;
+import com.swiss_stage.domain.model.Tournament;
+import com.swiss_stage.domain.repository.TournamentRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+
+/**
+ * トーナメントの操作権限の確認サービス（Application層）
+ *
+ * 参加者のインポート・結果入力・組み合わせ作成・エクスポートなど、
+ * トーナメントを変更または全件取得する操作は主催者のみに許可する
+ * 変更は、主催者のアカウント削除の進行中は受け付けない（削除済みのパーティションにデータを残さない）
+ */
+@Service
+public class TournamentAccessService {
+
+    private final TournamentRepository tournamentRepository;
+    private final AccountDeletionService accountDeletionService;
+
+    public TournamentAccessService(TournamentRepository tournamentRepository,
+                                   AccountDeletionService accountDeletionService) {
+        this.tournamentRepository = tournamentRepository;
+        this.accountDeletionService = accountDeletionService;
+    }
+
+    /**
+     * ユーザーがトーナメントの主催者であることを確認
+     *
+     * @param tournamentId トーナメントID
+     * @param userId 操作するユーザーのID
+     * @return トーナメント
+     * @throws NotFoundException トーナメントが存在しない場合
+     * @throws ForbiddenException ユーザーが主催者でない場合
+     */
+    public Tournament requireOrganizer(UUID tournamentId, UUID userId) {
+        Tournament tournament = tournamentRepository.findById(tournamentId)
+                .orElseThrow(() -> new NotFoundException("Tournament not found"));
+        if (!tournament.getOrganizerId().equals(userId)) {
+            throw new ForbiddenException("Access denied: Only the organizer can access this tournament");
+        }
+        return tournament;
+    }
+
+    /**
+     * ユーザーがトーナメントの主催者で、トーナメントを変更できることを確認
+     *
+     * @param tournamentId トーナメントID
+     * @param userId 操作するユーザーのID
+     * @return トーナメント
+     * @throws NotFoundException トーナメントが存在しない場合
+     * @throws ForbiddenException ユーザーが主催者でない場合
+     * @throws ConflictException 主催者のアカウント削除が進行中の場合
+     */
+    public Tournament requireOrganizerForUpdate(UUID tournamentId, UUID userId) {
+        Tournament tournament = requireOrganizer(tournamentId, userId);
+        if (accountDeletionService.isInProgress(userId)) {
+            throw new ConflictException("Account deletion is in progress");
+        }
+        return tournament;
+    }
+}
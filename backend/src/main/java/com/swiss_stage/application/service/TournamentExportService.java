@@ -0,0 +1,194 @@
+package com.swiss_stage.application.service;
+
+import com.swiss_stage.application.dto.StandingDto;
+import com.swiss_stage.application.dto.TournamentStateDto;
+import com.swiss_stage.common.exception.BusinessException;
+import com.swiss_stage.common.exception.ForbiddenException;
+import com.swiss_stage.common.exception.NotFoundException;
+import com.swiss_stage.common.util.CsvWriter;
+import com.swiss_stage.common.util.TabularWriter;
+import com.swiss_stage.common.util.XlsxStreamWriter;
+import com.swiss_stage.domain.model.MatchResult;
+import com.swiss_stage.domain.model.ParticipantSummary;
+import com.swiss_stage.domain.model.Tournament;
+import com.swiss_stage.domain.repository.TournamentRepository;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 対戦表・順位表の出力サービス（Application層）
+ *
+ * 会場に掲示する対戦表と、連盟に提出する最終成績をCSV・XLSXで出力する
+ * - 検証（主催者の確認・大会・回戦の存在確認）と参加者名の読み込みは出力前に行い、エラーは通常のエラーレスポンスにする
+ * - 対戦表は回戦の対局をQueryのページ単位で読みながら1行ずつ書き出し、回戦全体をメモリに保持しない
+ * - 順位表はTournamentStateServiceが保持している状態から書き出す（出力のために集約を読み直さない）
+ */
+@Service
+public class TournamentExportService {
+
+    private static final Object[] PAIRING_HEADER = {"回戦", "グループ", "対局番号", "先手", "後手", "結果"};
+    private static final Object[] STANDING_HEADER = {"グループ", "順位", "参加者", "勝ち点", "勝", "負", "分", "SOS"};
+
+    private final TournamentRepository tournamentRepository;
+    private final TournamentStateService stateService;
+    private final TournamentAccessService tournamentAccessService;
+
+    public TournamentExportService(TournamentRepository tournamentRepository,
+                                   TournamentStateService stateService,
+                                   TournamentAccessService tournamentAccessService) {
+        this.tournamentRepository = tournamentRepository;
+        this.stateService = stateService;
+        this.tournamentAccessService = tournamentAccessService;
+    }
+
+    /**
+     * 指定した回戦の対戦表の出力を準備
+     *
+     * @param tournamentId トーナメントID
+     * @param userId 出力するユーザーのID
+     * @param roundNumber 回戦
+     * @param format 出力形式
+     * @param charset CSVの文字コード（XLSXでは使用しない）
+     * @return 出力処理（レスポンスの書き込み時に実行する）
+     * @throws NotFoundException 大会が存在しない場合
+     * @throws ForbiddenException ユーザーが主催者でない場合
+     * @throws BusinessException 回戦が開始されていない場合
+     */
+    public Export pairingSheet(UUID tournamentId, UUID userId, int roundNumber, Format format, Charset charset) {
+        Tournament tournament = tournamentAccessService.requireOrganizer(tournamentId, userId);
+        if (roundNumber < 1 || roundNumber > tournament.getCurrentRound()) {
+            throw new BusinessException("Round has not been paired: round=" + roundNumber, "INVALID_STATE");
+        }
+        Map<UUID, String> names = new HashMap<>();
+        for (ParticipantSummary summary : tournamentRepository.findParticipantSummaries(tournamentId)) {
+            names.put(summary.participantId(), summary.name());
+        }
+
+        return output -> {
+            try (TabularWriter writer = open(format, charset, output, "対戦表 第" + roundNumber + "回戦")) {
+                writer.writeRow(PAIRING_HEADER);
+                tournamentRepository.forEachMatchInRound(tournamentId, roundNumber, match -> {
+                    try {
+                        writer.writeRow(match.roundNumber(), match.groupNumber(), match.tableNumber(),
+                                names.get(match.blackParticipantId()),
+                                match.whiteParticipantId() == null ? null : names.get(match.whiteParticipantId()),
+                                resultLabel(match.result()));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+    }
+
+    /**
+     * 順位表の出力を準備
+     *
+     * @param tournamentId トーナメントID
+     * @param userId 出力するユーザーのID
+     * @param format 出力形式
+     * @param charset CSVの文字コード（XLSXでは使用しない）
+     * @return 出力処理（レスポンスの書き込み時に実行する）
+     * @throws NotFoundException 大会が存在しない場合
+     * @throws ForbiddenException ユーザーが主催者でない場合
+     */
+    public Export standings(UUID tournamentId, UUID userId, Format format, Charset charset) {
+        tournamentAccessService.requireOrganizer(tournamentId, userId);
+        TournamentStateDto state = stateService.findState(tournamentId)
+                .orElseThrow(() -> new NotFoundException("Tournament not found"));
+        List<StandingDto> standings = state.standings();
+
+        return output -> {
+            try (TabularWriter writer = open(format, charset, output, "順位表")) {
+                writer.writeRow(STANDING_HEADER);
+                for (StandingDto standing : standings) {
+                    writer.writeRow(standing.groupNumber(), standing.rank(), standing.name(), standing.points(),
+                            standing.wins(), standing.losses(), standing.draws(), standing.opponentScore());
+                }
+            }
+        };
+    }
+
+    private static TabularWriter open(Format format, Charset charset, OutputStream output, String sheetName)
+            throws IOException {
+        return switch (format) {
+            case CSV -> new CsvWriter(output, charset);
+            case XLSX -> new XlsxStreamWriter(output, sheetName);
+        };
+    }
+
+    private static String resultLabel(MatchResult result) {
+        if (result == null) {
+            return null;
+        }
+        return switch (result) {
+            case BLACK_WIN -> "先手勝ち";
+            case WHITE_WIN -> "後手勝ち";
+            case DRAW -> "引き分け";
+            case BYE -> "不戦勝";
+        };
+    }
+
+    /**
+     * 出力形式
+     */
+    public enum Format {
+        CSV("text/csv", "csv"),
+        XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        /**
+         * 出力形式名を解決
+         *
+         * @param name 出力形式名（csv または xlsx、省略時csv）
+         * @return 出力形式
+         * @throws BusinessException 未対応の出力形式の場合
+         */
+        public static Format resolve(String name) {
+            if (name == null || name.isBlank()) {
+                return CSV;
+            }
+            return switch (name.trim().toLowerCase(Locale.ROOT)) {
+                case "csv" -> CSV;
+                case "xlsx" -> XLSX;
+                default -> throw new BusinessException("Unsupported export format: " + name);
+            };
+        }
+
+        public String contentType() {
+            return contentType;
+        }
+
+        public String extension() {
+            return extension;
+        }
+    }
+
+    /**
+     * 準備済みの出力処理
+     * レスポンスの本文を書き込むスレッドで実行し、出力先のストリームは閉じない
+     */
+    @FunctionalInterface
+    public interface Export {
+
+        void writeTo(OutputStream output) throws IOException;
+    }
+}
@@ -0,0 +1,155 @@
+package com.swiss_stage.application.service;
+
+import com.swiss_stage.common.exception.ConflictException;
+import com.swiss_stage.common.exception.OptimisticLockException;
+import com.swiss_stage.domain.model.RecordedEvent;
+import com.swiss_stage.domain.model.TournamentEvent;
+import com.swiss_stage.domain.model.TournamentState;
+import com.swiss_stage.domain.repository.TournamentJournalRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * トーナメントのイベントログ（ジャーナル）サービス（Application層）
+ *
+ * 変更操作（組合せ確定・結果入力・結果修正・参加者インポート）を連番付きのイベントとして追記する
+ * - 追記は小さなPutItem 1件（集約アイテムの書き換えは不要）
+ * - snapshot-intervalイベントごとに状態を畳み込んだスナップショットを非同期で保存
+ * - 状態の再構築は「最新スナップショット + それ以降の短いイベント列」の読み込みで済む
+ *
+ * 連番の採番はノードごとに最後の連番をキャッシュし、他ノードとの衝突（条件付き書き込みの失敗）時のみ
+ * DynamoDBから読み直す
+ */
+@Service
+public class TournamentJournalService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TournamentJournalService.class);
+
+    private static final int MAX_APPEND_ATTEMPTS = 10;
+
+    private final TournamentJournalRepository journalRepository;
+    private final int snapshotInterval;
+
+    private final Map<UUID, Long> heads = new ConcurrentHashMap<>();
+    private final Set<UUID> snapshotting = ConcurrentHashMap.newKeySet();
+    private final ExecutorService snapshotExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public TournamentJournalService(
+            TournamentJournalRepository journalRepository,
+            @Value("${app.tournament.journal.snapshot-interval:50}") int snapshotInterval) {
+        this.journalRepository = journalRepository;
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    /**
+     * イベントを追記
+     * 他の操作と連番が衝突した場合は最新の連番を読み直して再試行する
+     *
+     * @param tournamentId トーナメントID
+     * @param event イベント
+     * @return 記録済みイベント
+     */
+    public RecordedEvent record(UUID tournamentId, TournamentEvent event) {
+        for (int attempt = 1; attempt <= MAX_APPEND_ATTEMPTS; attempt++) {
+            long sequence = nextSequence(tournamentId);
+            try {
+                journalRepository.append(tournamentId, sequence, event);
+                RecordedEvent recorded = new RecordedEvent(sequence, event);
+                onAppended(tournamentId, recorded);
+                return recorded;
+            } catch (OptimisticLockException e) {
+                invalidate(tournamentId);
+            }
+        }
+        throw new ConflictException("Too many concurrent updates. Please retry");
+    }
+
+    /**
+     * 次に追記するイベントの連番
+     * 他の書き込みと同じトランザクションでイベントを追記する場合に使用する
+     *
+     * @param tournamentId トーナメントID
+     * @return 連番
+     */
+    public long nextSequence(UUID tournamentId) {
+        Long head = heads.get(tournamentId);
+        if (head == null) {
+            // DynamoDBへの問い合わせはConcurrentHashMapのロック外で行う
+            head = heads.merge(tournamentId, journalRepository.findLatestSequence(tournamentId), Math::max);
+        }
+        return head + 1;
+    }
+
+    /**
+     * イベントの追記完了を通知（連番キャッシュの更新・スナップショットの予約）
+     *
+     * @param tournamentId トーナメントID
+     * @param recorded 追記したイベント
+     */
+    public void onAppended(UUID tournamentId, RecordedEvent recorded) {
+        heads.merge(tournamentId, recorded.sequence(), Math::max);
+        if (recorded.sequence() % snapshotInterval == 0) {
+            scheduleSnapshot(tournamentId);
+        }
+    }
+
+    /**
+     * 連番キャッシュを破棄（追記の衝突時）
+     *
+     * @param tournamentId トーナメントID
+     */
+    public void invalidate(UUID tournamentId) {
+        heads.remove(tournamentId);
+    }
+
+    /**
+     * 最新スナップショットと以降のイベントから現在の状態を再構築
+     *
+     * @param tournamentId トーナメントID
+     * @return 現在の状態
+     */
+    public TournamentState rebuild(UUID tournamentId) {
+        TournamentState base = journalRepository.findLatestSnapshot(tournamentId)
+                .orElseGet(() -> TournamentState.empty(tournamentId));
+        List<RecordedEvent> tail = journalRepository.findEventsAfter(tournamentId, base.sequence());
+        return base.apply(tail);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        snapshotExecutor.shutdown();
+    }
+
+    /**
+     * スナップショットを非同期で保存（トーナメントごとに同時に1つだけ）
+     */
+    private void scheduleSnapshot(UUID tournamentId) {
+        if (!snapshotting.add(tournamentId)) {
+            return;
+        }
+        snapshotExecutor.execute(() -> {
+            try {
+                TournamentState state = rebuild(tournamentId);
+                journalRepository.saveSnapshot(state);
+                logger.debug("Tournament snapshot saved. tournamentId={}, sequence={}",
+                        tournamentId, state.sequence());
+            } catch (RuntimeException e) {
+                // スナップショットは最適化のため、失敗してもイベントログから再構築できる
+                logger.warn("Failed to save tournament snapshot. tournamentId={}", tournamentId, e);
+            } finally {
+                snapshotting.remove(tournamentId);
+            }
+        });
+    }
+}
@@ -0,0 +1,74 @@
+package com.swiss_stage.application.service;
+
+import com.swiss_stage.application.dto.TournamentListResponse;
+import com.swiss_stage.application.dto.TournamentSummaryDto;
+import com.swiss_stage.common.exception.BusinessException;
+import com.swiss_stage.common.util.CursorCipher;
+import com.swiss_stage.domain.model.TournamentSummaryPage;
+import com.swiss_stage.domain.repository.TournamentRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+
+/**
+ * 主催者のトーナメント一覧サービス（Application層）
+ *
+ * ダッシュボードの無限スクロール向けに、一覧をカーソルでページングして返す
+ * - 1ページの件数はDynamoDBのQueryのLimitで制限し、一覧に必要な属性のみを射影して読み込む
+ * - リポジトリの読み込み位置はCursorCipherで暗号化し、主催者ごとに不透明なカーソルとして返す
+ */
+@Service
+public class TournamentListService {
+
+    static final int DEFAULT_LIMIT = 20;
+    static final int MAX_LIMIT = 100;
+
+    private static final String CURSOR_SCOPE_PREFIX = "organizer-tournaments:";
+
+    private final TournamentRepository tournamentRepository;
+    private final CursorCipher cursorCipher;
+
+    public TournamentListService(
+            TournamentRepository tournamentRepository,
+            @Value("${app.pagination.cursor-secret}") String cursorSecret) {
+        this.tournamentRepository = tournamentRepository;
+        this.cursorCipher = new CursorCipher(cursorSecret);
+    }
+
+    /**
+     * 主催者のトーナメント一覧の1ページ分を取得（開催日の新しい順）
+     *
+     * @param organizerId 主催者のユーザーID
+     * @param cursor 前のページのnextCursor（最初のページはnull）
+     * @param limit 1ページの最大件数（null の場合はDEFAULT_LIMIT、最大MAX_LIMIT）
+     * @return 一覧と次のページのカーソル
+     */
+    public TournamentListResponse listOrganizedTournaments(UUID organizerId, String cursor, Integer limit) {
+        int pageSize = limit == null ? DEFAULT_LIMIT : limit;
+        if (pageSize < 1 || pageSize > MAX_LIMIT) {
+            throw new BusinessException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        String scope = CURSOR_SCOPE_PREFIX + organizerId;
+
+        String continuationToken = null;
+        if (cursor != null && !cursor.isBlank()) {
+            continuationToken = cursorCipher.decrypt(cursor, scope)
+                    .orElseThrow(() -> new BusinessException("Invalid cursor"));
+        }
+
+        TournamentSummaryPage page;
+        try {
+            page = tournamentRepository.findSummariesByOrganizer(organizerId, pageSize, continuationToken);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("Invalid cursor", e);
+        }
+
+        String nextCursor = page.continuationToken() == null
+                ? null
+                : cursorCipher.encrypt(page.continuationToken(), scope);
+        return new TournamentListResponse(
+                page.items().stream().map(TournamentSummaryDto::from).toList(),
+                nextCursor);
+    }
+}
@@ -0,0 +1,469 @@
+package com.swiss_stage.application.service;
+
+import com.swiss_stage.application.dto.PairingDto;
+import com.swiss_stage.application.dto.StandingDto;
+import com.swiss_stage.application.dto.TournamentStateDto;
+import com.swiss_stage.application.event.TournamentStateChangedEvent;
+import com.swiss_stage.domain.model.Match;
+import com.swiss_stage.domain.model.MatchResult;
+import com.swiss_stage.domain.model.Participant;
+import com.swiss_stage.domain.model.Standings;
+import com.swiss_stage.domain.model.TournamentAggregate;
+import com.swiss_stage.domain.model.TournamentStatus;
+import com.swiss_stage.domain.repository.TournamentJournalRepository;
+import com.swiss_stage.domain.repository.TournamentRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * トーナメント状態（順位表・対戦表）の更新サービス（Application層）
+ *
+ * 結果の入力・修正を順位表に差分で反映し、TournamentStateChangedEventを発行する
+ * - 一括入力では、まとめて反映してから順位付け・イベント発行を1回だけ行う
+ * - 順位表はトーナメントごとにメモリに保持し、イベント連番が連続している間は差分更新する
+ *   （一括入力では、反映するすべての変更の連番がメモリ上の連番の次から途切れずに続く場合のみ）
+ * - 連番が飛んだ場合（他ノードの更新・再起動直後）は集約をQuery 1本で読み直して再構築する
+ *
+ * 参照（findState）ではメモリ上の状態をノード内のニアキャッシュとして使う
+ * - 検証からlease-ms以内はDynamoDBにアクセスせずに返す
+ * - lease切れの場合は最新のイベント連番（射影したLimit 1のQuery）だけを読み、連番が進んでいた場合のみ集約を読み直す
+ * - 他ノードの更新で読み直した状態はTournamentStateChangedEventとして発行し、このノードの配信にも反映する
+ * - 存在しないトーナメントはnot-found-msの間記録し、公開URLへの繰り返しの参照でDynamoDBにアクセスしない
+ * - 保持するトーナメント数はmax-entriesまでとし、上限に達したら最後の参照からidle-ms経過したもの・終了済みのものを破棄し、
+ *   それでも上限の場合は最後の参照が最も古いものを破棄する（破棄した状態は次の参照で読み直す）
+ *
+ * 更新・読み直しはトーナメントIDのハッシュで選んだ固定数のロック（LOCK_STRIPES）で直列化する
+ * （任意のIDで参照されてもロックが増え続けない）
+ */
+@Service
+public class TournamentStateService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TournamentStateService.class);
+
+    static final int LOCK_STRIPES = 64;
+    static final int MAX_NOT_FOUND_ENTRIES = 10_000;
+    private static final long DEFAULT_NOT_FOUND_MS = 5_000;
+    private static final int DEFAULT_MAX_ENTRIES = 1_000;
+    private static final long DEFAULT_IDLE_MS = 600_000;
+
+    private final TournamentRepository tournamentRepository;
+    private final TournamentJournalRepository journalRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long leaseNanos;
+    private final long notFoundNanos;
+    private final int maxEntries;
+    private final long idleNanos;
+    private final Map<UUID, CachedState> states = new ConcurrentHashMap<>();
+    /** 存在しなかったトーナメントID → 記録の有効期限（System.nanoTime()） */
+    private final Map<UUID, Long> notFound = new ConcurrentHashMap<>();
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+
+    // ニアキャッシュのメトリクス（再検証率 = lease_hit以外の割合）
+    private final Counter leaseHits;
+    private final Counter revalidations;
+    private final Counter staleReloads;
+    private final Counter misses;
+    private final Counter notFoundHits;
+    private final Counter evictions;
+    private final DistributionSummary stalenessEvents;
+    private final Timer stalenessAge;
+
+    public TournamentStateService(
+            TournamentRepository tournamentRepository,
+            TournamentJournalRepository journalRepository,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            long leaseMs) {
+        this(tournamentRepository, journalRepository, eventPublisher, meterRegistry, leaseMs, DEFAULT_NOT_FOUND_MS);
+    }
+
+    public TournamentStateService(
+            TournamentRepository tournamentRepository,
+            TournamentJournalRepository journalRepository,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            long leaseMs,
+            long notFoundMs) {
+        this(tournamentRepository, journalRepository, eventPublisher, meterRegistry, leaseMs, notFoundMs,
+                DEFAULT_MAX_ENTRIES, DEFAULT_IDLE_MS);
+    }
+
+    @Autowired
+    public TournamentStateService(
+            TournamentRepository tournamentRepository,
+            TournamentJournalRepository journalRepository,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${app.tournament.state-cache.lease-ms:1000}") long leaseMs,
+            @Value("${app.tournament.state-cache.not-found-ms:5000}") long notFoundMs,
+            @Value("${app.tournament.state-cache.max-entries:1000}") int maxEntries,
+            @Value("${app.tournament.state-cache.idle-ms:600000}") long idleMs) {
+        this.tournamentRepository = tournamentRepository;
+        this.journalRepository = journalRepository;
+        this.eventPublisher = eventPublisher;
+        this.leaseNanos = TimeUnit.MILLISECONDS.toNanos(leaseMs);
+        this.notFoundNanos = TimeUnit.MILLISECONDS.toNanos(notFoundMs);
+        this.maxEntries = maxEntries;
+        this.idleNanos = TimeUnit.MILLISECONDS.toNanos(idleMs);
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new ReentrantLock();
+        }
+
+        this.leaseHits = requests(meterRegistry, "lease_hit");
+        this.revalidations = requests(meterRegistry, "revalidated");
+        this.staleReloads = requests(meterRegistry, "reloaded");
+        this.misses = requests(meterRegistry, "miss");
+        this.notFoundHits = requests(meterRegistry, "not_found");
+        this.evictions = Counter.builder("tournament.state.cache.evictions")
+                .description("Cached tournament states dropped to keep the near cache within max-entries")
+                .register(meterRegistry);
+        this.stalenessEvents = DistributionSummary.builder("tournament.state.cache.staleness")
+                .description("Events the cached state was behind when a newer version was found")
+                .baseUnit("events")
+                .register(meterRegistry);
+        this.stalenessAge = Timer.builder("tournament.state.cache.stale.age")
+                .description("Time since the last validation of a cached state that turned out to be stale")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 最新のトーナメント状態を取得（ノード内のニアキャッシュ）
+     *
+     * @param tournamentId トーナメントID
+     * @return 状態（トーナメントが存在しない場合はOptional.empty()）
+     */
+    public Optional<TournamentStateDto> findState(UUID tournamentId) {
+        CachedState cached = states.get(tournamentId);
+        if (cached != null && cached.touch() - cached.validatedAt < leaseNanos) {
+            leaseHits.increment();
+            return Optional.of(cached.dto);
+        }
+        if (cached == null && isKnownMissing(tournamentId)) {
+            notFoundHits.increment();
+            return Optional.empty();
+        }
+
+        TournamentStateDto dto;
+        ReentrantLock lock = lockFor(tournamentId);
+        lock.lock();
+        try {
+            // 待機中に他のスレッドが検証・読み直しを済ませていればそれを使う
+            cached = states.get(tournamentId);
+            long now = System.nanoTime();
+            if (cached != null && now - cached.validatedAt < leaseNanos) {
+                leaseHits.increment();
+                return Optional.of(cached.dto);
+            }
+
+            long latestSequence = journalRepository.findLatestSequence(tournamentId);
+            if (cached != null && cached.sequence >= latestSequence) {
+                cached.validatedAt = now;
+                revalidations.increment();
+                return Optional.of(cached.dto);
+            }
+
+            if (cached == null) {
+                misses.increment();
+            } else {
+                staleReloads.increment();
+                stalenessEvents.record(latestSequence - cached.sequence);
+                stalenessAge.record(now - cached.validatedAt, TimeUnit.NANOSECONDS);
+            }
+            Optional<CachedState> reloaded = load(tournamentId, latestSequence);
+            if (reloaded.isEmpty()) {
+                rememberMissing(tournamentId, now);
+                return Optional.empty();
+            }
+            // 連番の読み込み前の時刻を検証時刻とする（leaseの間に見逃す更新を増やさない）
+            reloaded.get().validatedAt = now;
+            cache(tournamentId, reloaded.get());
+            dto = reloaded.get().dto;
+        } finally {
+            lock.unlock();
+        }
+
+        eventPublisher.publishEvent(new TournamentStateChangedEvent(dto));
+        logger.debug("Tournament state reloaded by near cache. tournamentId={}, version={}",
+                tournamentId, dto.version());
+        return Optional.of(dto);
+    }
+
+    /**
+     * 保存済みの結果変更を順位表に反映し、変更後の状態を発行
+     *
+     * @param tournamentId トーナメントID
+     * @param changes 保存済みの結果変更（イベント連番の昇順）
+     */
+    public void applyResults(UUID tournamentId, List<ResultChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        long lastSequence = changes.get(changes.size() - 1).sequence();
+
+        TournamentStateDto dto;
+        ReentrantLock lock = lockFor(tournamentId);
+        lock.lock();
+        try {
+            CachedState cached = states.get(tournamentId);
+            if (cached != null && isContiguous(cached.sequence, changes)) {
+                for (ResultChange change : changes) {
+                    cached.standings.apply(change.match(), change.previousResult());
+                    cached.matches.put(tableKey(change.match()), change.match());
+                }
+                cached.sequence = lastSequence;
+                cached.dto = toDto(tournamentId, cached);
+                cached.validatedAt = System.nanoTime();
+            } else {
+                // 連番が連続していない場合（一括入力のチャンクの間に他ノードが書き込んだ場合を含む）、
+                // 差分では正しく反映できないため保存済みの集約から作り直す
+                long sequence = cached == null ? lastSequence : Math.max(cached.sequence, lastSequence);
+                Optional<CachedState> reloaded = load(tournamentId, sequence);
+                if (reloaded.isEmpty()) {
+                    return;
+                }
+                cached = reloaded.get();
+                cache(tournamentId, cached);
+            }
+            dto = cached.dto;
+        } finally {
+            lock.unlock();
+        }
+
+        eventPublisher.publishEvent(new TournamentStateChangedEvent(dto));
+        logger.debug("Tournament state published. tournamentId={}, version={}, changes={}",
+                tournamentId, dto.version(), changes.size());
+    }
+
+    /**
+     * 保存済みの集約から状態を作り直して発行
+     * 組合せ確定など、結果の入力・修正以外で対戦表が変わった場合に使用する
+     *
+     * @param tournamentId トーナメントID
+     * @param sequence 変更を記録したイベント連番
+     */
+    public void refresh(UUID tournamentId, long sequence) {
+        TournamentStateDto dto;
+        ReentrantLock lock = lockFor(tournamentId);
+        lock.lock();
+        try {
+            Optional<CachedState> reloaded = load(tournamentId, sequence);
+            if (reloaded.isEmpty()) {
+                return;
+            }
+            cache(tournamentId, reloaded.get());
+            dto = reloaded.get().dto;
+        } finally {
+            lock.unlock();
+        }
+
+        eventPublisher.publishEvent(new TournamentStateChangedEvent(dto));
+        logger.debug("Tournament state refreshed. tournamentId={}, version={}", tournamentId, dto.version());
+    }
+
+    /**
+     * 集約を読み込んで順位表を再構築
+     * 連番sequence以前の更新を確実に含めるため、強い整合性の読み込みを使う
+     */
+    private Optional<CachedState> load(UUID tournamentId, long sequence) {
+        return tournamentRepository.loadLatestAggregate(tournamentId).map(aggregate -> {
+            notFound.remove(tournamentId);
+            CachedState state = new CachedState(aggregate, sequence);
+            state.dto = toDto(tournamentId, state);
+            logger.debug("Tournament state rebuilt from aggregate. tournamentId={}, sequence={}",
+                    tournamentId, sequence);
+            return state;
+        });
+    }
+
+    /**
+     * 状態を保持
+     * 新しいトーナメントで保持数がmax-entriesに達している場合は、先に古い状態を破棄する
+     */
+    private void cache(UUID tournamentId, CachedState state) {
+        if (states.size() >= maxEntries && !states.containsKey(tournamentId)) {
+            evict(System.nanoTime());
+        }
+        states.put(tournamentId, state);
+    }
+
+    /**
+     * 最後の参照からidle-ms経過した状態・終了済みのトーナメントの状態を破棄し、
+     * それでも上限の場合は最後の参照が最も古い状態を破棄する
+     */
+    private void evict(long now) {
+        int before = states.size();
+        states.values().removeIf(state -> state.finished || now - state.accessedAt >= idleNanos);
+        while (states.size() >= maxEntries) {
+            UUID oldest = null;
+            long oldestAccess = Long.MAX_VALUE;
+            for (Map.Entry<UUID, CachedState> entry : states.entrySet()) {
+                if (oldest == null || entry.getValue().accessedAt - oldestAccess < 0) {
+                    oldest = entry.getKey();
+                    oldestAccess = entry.getValue().accessedAt;
+                }
+            }
+            if (oldest == null) {
+                break;
+            }
+            states.remove(oldest);
+        }
+        evictions.increment(Math.max(0, before - states.size()));
+    }
+
+    private ReentrantLock lockFor(UUID tournamentId) {
+        return locks[Math.floorMod(tournamentId.hashCode(), locks.length)];
+    }
+
+    private boolean isKnownMissing(UUID tournamentId) {
+        Long expiresAt = notFound.get(tournamentId);
+        if (expiresAt == null) {
+            return false;
+        }
+        if (System.nanoTime() - expiresAt < 0) {
+            return true;
+        }
+        notFound.remove(tournamentId, expiresAt);
+        return false;
+    }
+
+    /**
+     * 存在しなかったトーナメントを記録
+     * 記録数がMAX_NOT_FOUND_ENTRIESに達した場合は期限切れを削除し、それでも上限の場合はすべて破棄する
+     */
+    private void rememberMissing(UUID tournamentId, long now) {
+        if (notFoundNanos <= 0) {
+            return;
+        }
+        if (notFound.size() >= MAX_NOT_FOUND_ENTRIES) {
+            notFound.values().removeIf(expiresAt -> now - expiresAt >= 0);
+            if (notFound.size() >= MAX_NOT_FOUND_ENTRIES) {
+                notFound.clear();
+            }
+        }
+        notFound.put(tournamentId, now + notFoundNanos);
+    }
+
+    private TournamentStateDto toDto(UUID tournamentId, CachedState state) {
+        List<StandingDto> standings = new ArrayList<>();
+        for (Standings.Entry entry : state.standings.ranked()) {
+            Participant participant = state.participants.get(entry.participantId());
+            standings.add(new StandingDto(entry.groupNumber(), entry.rank(), entry.participantId(),
+                    participant == null ? null : participant.name(), entry.points(),
+                    entry.wins(), entry.losses(), entry.draws(), entry.opponentScore()));
+        }
+
+        List<PairingDto> pairings = new ArrayList<>();
+        for (Match match : state.matches.values()) {
+            if (match.roundNumber() != state.currentRound) {
+                continue;
+            }
+            pairings.add(new PairingDto(match.roundNumber(), match.groupNumber(), match.tableNumber(),
+                    match.blackParticipantId(), nameOf(state, match.blackParticipantId()),
+                    match.whiteParticipantId(), nameOf(state, match.whiteParticipantId()),
+                    match.result() == null ? null : match.result().name()));
+        }
+        return new TournamentStateDto(tournamentId, state.sequence, state.currentRound, standings, pairings);
+    }
+
+    /**
+     * 結果変更の連番が、メモリ上の状態の連番の次から1ずつ途切れずに続いているか
+     */
+    private static boolean isContiguous(long cachedSequence, List<ResultChange> changes) {
+        long expected = cachedSequence + 1;
+        for (ResultChange change : changes) {
+            if (change.sequence() != expected++) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("tournament.state.cache.requests")
+                .description("Tournament state lookups by near cache outcome")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static String nameOf(CachedState state, UUID participantId) {
+        if (participantId == null) {
+            return null;
+        }
+        Participant participant = state.participants.get(participantId);
+        return participant == null ? null : participant.name();
+    }
+
+    private static String tableKey(Match match) {
+        // TreeMapで回戦・グループ・対局番号順に並ぶようゼロ埋めする
+        return String.format("%02d#%d#%03d", match.roundNumber(), match.groupNumber(), match.tableNumber());
+    }
+
+    /**
+     * 保存済みの結果変更
+     *
+     * @param match 結果反映後の対局
+     * @param previousResult 修正前の結果（新規入力の場合null）
+     * @param sequence 変更を記録したイベント連番
+     */
+    public record ResultChange(Match match, MatchResult previousResult, long sequence) {
+    }
+
+    /**
+     * トーナメント1件分のメモリ上の状態
+     * 更新はトーナメントごとのロック内で行い、dto・validatedAt・accessedAtはロックなしで参照する
+     */
+    private static final class CachedState {
+        private final Map<UUID, Participant> participants = new HashMap<>();
+        private final Map<String, Match> matches = new TreeMap<>();
+        private final Standings standings;
+        private final int currentRound;
+        private final boolean finished;
+        private long sequence;
+        private volatile TournamentStateDto dto;
+        private volatile long validatedAt = System.nanoTime();
+        private volatile long accessedAt = validatedAt;
+
+        private CachedState(TournamentAggregate aggregate, long sequence) {
+            for (Participant participant : aggregate.participants()) {
+                participants.put(participant.participantId(), participant);
+            }
+            for (Match match : aggregate.matches()) {
+                matches.put(tableKey(match), match);
+            }
+            this.standings = Standings.of(aggregate.participants(), aggregate.matches());
+            this.currentRound = aggregate.tournament().getCurrentRound();
+            this.finished = aggregate.tournament().getStatus() == TournamentStatus.FINISHED;
+            this.sequence = sequence;
+        }
+
+        /**
+         * 参照時刻を記録
+         *
+         * @return 現在時刻（System.nanoTime()）
+         */
+        private long touch() {
+            long now = System.nanoTime();
+            accessedAt = now;
+            return now;
+        }
+    }
+}
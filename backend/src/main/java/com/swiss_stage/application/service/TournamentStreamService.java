@@ -0,0 +1,375 @@
+package com.swiss_stage.application.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.swiss_stage.application.dto.TournamentStateDto;
+import com.swiss_stage.application.event.TournamentStateChangedEvent;
+import com.swiss_stage.common.exception.NotFoundException;
+import com.swiss_stage.common.exception.ServiceUnavailableException;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * トーナメント状態のSSE配信サービス（Application層）
+ *
+ * 処理フロー:
+ * 1. TournamentStateChangedEventを受け取り、トーナメントごとに最新状態だけを保持（合体）
+ * 2. coalesce-interval-msごとに保留中の状態を1回だけJSONシリアライズ
+ * 3. 同じペイロード文字列を全購読者のキューに投入
+ * 4. 購読者ごとの送信キューが溢れた（端末が遅い）接続は切断する
+ *
+ * 300名規模の大会で結果入力が連続しても、1トーナメントあたりの配信は
+ * 1インターバルにつき最大1フレームとなる
+ *
+ * 購読（公開URL・認証なし）の受け付け
+ * - TournamentStateServiceで大会の存在を確認し、現在の状態を接続直後の1フレームとして送信する
+ * - 購読者数はノード全体（max-subscribers）とトーナメントごと（max-subscribers-per-tournament）に上限を設け、
+ *   超えた接続は503で断る（任意のIDや大量の接続でメモリ・仮想スレッドを使い切らない）
+ *
+ * 最新フレームは購読者のいるトーナメントの分だけ保持し、最後の購読者が切断したら破棄する
+ * （購読者のいないトーナメントの変更はシリアライズもしない。保持数は購読者数の上限で抑えられる）
+ */
+@Service
+@RegisterReflectionForBinding(TournamentStateDto.class)
+public class TournamentStreamService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TournamentStreamService.class);
+
+    static final String STATE_EVENT_NAME = "state";
+    private static final long SUBSCRIBER_LIMIT_RETRY_AFTER_SECONDS = 30;
+
+    private final TournamentStateService stateService;
+    private final ObjectWriter stateWriter;
+    private final long emitterTimeoutMs;
+    private final int maxPendingFrames;
+    private final int maxSubscribers;
+    private final int maxSubscribersPerTournament;
+
+    private final Map<UUID, Set<Subscription>> subscriptions = new ConcurrentHashMap<>();
+    private final Map<UUID, TournamentStateDto> pendingStates = new ConcurrentHashMap<>();
+    /** 購読者のいるトーナメントの最新フレーム（接続直後の送信に使う） */
+    private final Map<UUID, Frame> latestFrames = new ConcurrentHashMap<>();
+    private final AtomicInteger totalSubscribers = new AtomicInteger();
+
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService sender;
+
+    public TournamentStreamService(
+            ObjectMapper objectMapper,
+            TournamentStateService stateService,
+            @Value("${app.tournament.stream.coalesce-interval-ms:1000}") long coalesceIntervalMs,
+            @Value("${app.tournament.stream.heartbeat-interval-ms:25000}") long heartbeatIntervalMs,
+            @Value("${app.tournament.stream.timeout-ms:1800000}") long emitterTimeoutMs,
+            @Value("${app.tournament.stream.max-pending-frames:4}") int maxPendingFrames,
+            @Value("${app.tournament.stream.max-subscribers:2000}") int maxSubscribers,
+            @Value("${app.tournament.stream.max-subscribers-per-tournament:500}") int maxSubscribersPerTournament) {
+        this.stateWriter = objectMapper.writerFor(TournamentStateDto.class);
+        this.stateService = stateService;
+        this.emitterTimeoutMs = emitterTimeoutMs;
+        this.maxPendingFrames = maxPendingFrames;
+        this.maxSubscribers = maxSubscribers;
+        this.maxSubscribersPerTournament = maxSubscribersPerTournament;
+
+        // 送信はクライアントの受信速度に依存してブロックし得るため、接続ごとに仮想スレッドで実行
+        this.sender = Executors.newVirtualThreadPerTaskExecutor();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "tournament-stream-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(this::flush,
+                coalesceIntervalMs, coalesceIntervalMs, TimeUnit.MILLISECONDS);
+        this.scheduler.scheduleWithFixedDelay(this::heartbeat,
+                heartbeatIntervalMs, heartbeatIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * トーナメントの更新ストリームを購読
+     *
+     * @param tournamentId トーナメントID
+     * @return SseEmitter
+     * @throws NotFoundException トーナメントが存在しない場合
+     * @throws ServiceUnavailableException 購読者数が上限に達している場合
+     */
+    public SseEmitter subscribe(UUID tournamentId) {
+        return subscribe(tournamentId, new SseEmitter(emitterTimeoutMs));
+    }
+
+    /**
+     * 生成済みのSseEmitterで購読を登録
+     * 現在の状態（配信済みのフレームの方が新しければそのフレーム）を接続直後に1フレーム送信する
+     *
+     * @param tournamentId トーナメントID
+     * @param emitter SseEmitter
+     * @return 登録したSseEmitter
+     * @throws NotFoundException トーナメントが存在しない場合
+     * @throws ServiceUnavailableException 購読者数が上限に達している場合
+     */
+    public SseEmitter subscribe(UUID tournamentId, SseEmitter emitter) {
+        TournamentStateDto state = stateService.findState(tournamentId)
+                .orElseThrow(() -> new NotFoundException("Tournament not found"));
+        Frame initial = initialFrame(tournamentId, state);
+
+        Subscription subscription = new Subscription(tournamentId, emitter);
+        register(subscription);
+
+        emitter.onCompletion(() -> unsubscribe(subscription));
+        emitter.onTimeout(() -> unsubscribe(subscription));
+        emitter.onError(e -> unsubscribe(subscription));
+
+        if (initial != null) {
+            subscription.offer(initial);
+        }
+
+        logger.debug("SSE subscription added. tournamentId={}, subscribers={}",
+                tournamentId, subscriberCount(tournamentId));
+        return emitter;
+    }
+
+    /**
+     * トーナメント状態変更イベントを受け取り、次回のフラッシュまで保留する
+     * 同一トーナメントの連続した変更は最新バージョンのみ残る
+     *
+     * @param event トーナメント状態変更イベント
+     */
+    @EventListener
+    public void onTournamentStateChanged(TournamentStateChangedEvent event) {
+        TournamentStateDto state = event.state();
+        pendingStates.merge(state.tournamentId(), state,
+                (current, incoming) -> incoming.version() >= current.version() ? incoming : current);
+    }
+
+    /**
+     * 保留中の状態をシリアライズして購読者へ配信
+     * スケジューラーから定期的に呼び出される
+     */
+    public void flush() {
+        for (UUID tournamentId : pendingStates.keySet()) {
+            TournamentStateDto state = pendingStates.remove(tournamentId);
+            if (state == null || !subscriptions.containsKey(tournamentId)) {
+                continue;
+            }
+            try {
+                // 全購読者で共有するため、シリアライズはフレームごとに1回だけ
+                Frame frame = new Frame(state.version(), stateWriter.writeValueAsString(state));
+                latestFrames.put(tournamentId, frame);
+                if (!subscriptions.containsKey(tournamentId)) {
+                    // 保持した直後に最後の購読者が切断した
+                    latestFrames.remove(tournamentId, frame);
+                }
+                broadcast(tournamentId, frame);
+            } catch (JsonProcessingException e) {
+                logger.error("Failed to serialize tournament state. tournamentId={}", tournamentId, e);
+            } catch (RuntimeException e) {
+                logger.error("Failed to broadcast tournament state. tournamentId={}", tournamentId, e);
+            }
+        }
+    }
+
+    /**
+     * 購読者数を取得
+     *
+     * @param tournamentId トーナメントID
+     * @return 購読者数
+     */
+    public int subscriberCount(UUID tournamentId) {
+        Set<Subscription> set = subscriptions.get(tournamentId);
+        return set == null ? 0 : set.size();
+    }
+
+    /**
+     * 保持している最新フレームの数を取得
+     *
+     * @return 最新フレームを保持しているトーナメント数
+     */
+    public int retainedFrameCount() {
+        return latestFrames.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        sender.shutdownNow();
+        subscriptions.values().forEach(set -> set.forEach(s -> s.emitter.complete()));
+        subscriptions.clear();
+        latestFrames.clear();
+        totalSubscribers.set(0);
+    }
+
+    /**
+     * 購読者数の上限を確認して登録
+     */
+    private void register(Subscription subscription) {
+        if (totalSubscribers.incrementAndGet() > maxSubscribers) {
+            totalSubscribers.decrementAndGet();
+            throw new ServiceUnavailableException("Too many stream subscribers", SUBSCRIBER_LIMIT_RETRY_AFTER_SECONDS);
+        }
+        boolean[] added = {false};
+        subscriptions.compute(subscription.tournamentId, (id, set) -> {
+            Set<Subscription> current = set == null ? ConcurrentHashMap.newKeySet() : set;
+            if (current.size() < maxSubscribersPerTournament) {
+                added[0] = current.add(subscription);
+            }
+            return current.isEmpty() ? null : current;
+        });
+        if (!added[0]) {
+            totalSubscribers.decrementAndGet();
+            throw new ServiceUnavailableException("Too many stream subscribers for this tournament",
+                    SUBSCRIBER_LIMIT_RETRY_AFTER_SECONDS);
+        }
+    }
+
+    /**
+     * 接続直後に送るフレーム（配信済みのフレームと現在の状態のうち新しい方）
+     */
+    private Frame initialFrame(UUID tournamentId, TournamentStateDto state) {
+        Frame latest = latestFrames.get(tournamentId);
+        if (latest != null && latest.version() >= state.version()) {
+            return latest;
+        }
+        try {
+            return new Frame(state.version(), stateWriter.writeValueAsString(state));
+        } catch (JsonProcessingException e) {
+            logger.error("Failed to serialize tournament state. tournamentId={}", tournamentId, e);
+            return latest;
+        }
+    }
+
+    private void broadcast(UUID tournamentId, Frame frame) {
+        Set<Subscription> set = subscriptions.get(tournamentId);
+        if (set == null) {
+            return;
+        }
+        for (Subscription subscription : set) {
+            subscription.offer(frame);
+        }
+    }
+
+    /**
+     * ALBのアイドルタイムアウトで接続が切れないようにコメント行を送る
+     */
+    private void heartbeat() {
+        subscriptions.values().forEach(set -> set.forEach(s -> s.offer(Frame.HEARTBEAT)));
+    }
+
+    private void unsubscribe(Subscription subscription) {
+        subscriptions.computeIfPresent(subscription.tournamentId, (id, set) -> {
+            if (set.remove(subscription)) {
+                totalSubscribers.decrementAndGet();
+            }
+            if (set.isEmpty()) {
+                latestFrames.remove(id);
+                return null;
+            }
+            return set;
+        });
+    }
+
+    /**
+     * 送信フレーム
+     * payloadは全購読者で共有するシリアライズ済みJSON
+     */
+    private record Frame(long version, String payload) {
+        static final Frame HEARTBEAT = new Frame(-1, null);
+
+        boolean isHeartbeat() {
+            return payload == null;
+        }
+    }
+
+    /**
+     * 購読者1接続分の状態
+     * 未送信フレームはmax-pending-framesまでしか保持せず、溢れた接続は切断する
+     */
+    private final class Subscription {
+        private final UUID tournamentId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Frame> queue = new ArrayBlockingQueue<>(maxPendingFrames);
+        private final AtomicBoolean draining = new AtomicBoolean(false);
+        private final AtomicBoolean closed = new AtomicBoolean(false);
+        private final AtomicLong offeredVersion = new AtomicLong(-1);
+
+        private Subscription(UUID tournamentId, SseEmitter emitter) {
+            this.tournamentId = tournamentId;
+            this.emitter = emitter;
+        }
+
+        void offer(Frame frame) {
+            if (closed.get()) {
+                return;
+            }
+            // 接続直後の状態と並行した配信が前後しても、古いバージョンを後から送らない
+            if (!frame.isHeartbeat() && offeredVersion.getAndAccumulate(frame.version(), Math::max) >= frame.version()) {
+                return;
+            }
+            if (!queue.offer(frame)) {
+                logger.info("SSE subscriber dropped due to backpressure. tournamentId={}", tournamentId);
+                close();
+                return;
+            }
+            if (draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                Frame frame;
+                while (!closed.get() && (frame = queue.poll()) != null) {
+                    send(frame);
+                }
+            } catch (IOException | IllegalStateException e) {
+                logger.debug("SSE send failed. tournamentId={}, reason={}", tournamentId, e.getMessage());
+                close();
+            } finally {
+                draining.set(false);
+            }
+            // drain終了直後に投入されたフレームを取りこぼさない
+            if (!closed.get() && !queue.isEmpty() && draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        private void send(Frame frame) throws IOException {
+            if (frame.isHeartbeat()) {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+                return;
+            }
+            emitter.send(SseEmitter.event()
+                    .id(String.valueOf(frame.version()))
+                    .name(STATE_EVENT_NAME)
+                    .data(frame.payload(), MediaType.APPLICATION_JSON));
+        }
+
+        private void close() {
+            if (closed.compareAndSet(false, true)) {
+                queue.clear();
+                unsubscribe(this);
+                emitter.complete();
+            }
+        }
+    }
+}
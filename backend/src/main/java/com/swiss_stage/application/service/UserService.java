@@ -1,15 +1,20 @@
 package com.swiss_stage.application.service;
 
+import com.swiss_stage.application.dto.AccountDeletionDto;
 import com.swiss_stage.application.dto.UserDto;
 import com.swiss_stage.common.exception.BusinessException;
 import com.swiss_stage.domain.model.User;
+import com.swiss_stage.domain.model.UserField;
+import com.swiss_stage.domain.repository.TournamentRepository;
 import com.swiss_stage.domain.repository.UserRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
+import java.util.EnumSet;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -21,10 +26,18 @@ public class UserService {
 
     private static final Logger logger = LoggerFactory.getLogger(UserService.class);
 
+    private static final Set<UserField> DTO_FIELDS =
+            EnumSet.of(UserField.DISPLAY_NAME, UserField.CREATED_AT, UserField.LAST_LOGIN_AT);
+
     private final UserRepository userRepository;
+    private final TournamentRepository tournamentRepository;
+    private final AccountDeletionService accountDeletionService;
 
-    public UserService(UserRepository userRepository) {
+    public UserService(UserRepository userRepository, TournamentRepository tournamentRepository,
+                       AccountDeletionService accountDeletionService) {
         this.userRepository = userRepository;
+        this.tournamentRepository = tournamentRepository;
+        this.accountDeletionService = accountDeletionService;
     }
 
     /**
@@ -63,8 +76,13 @@ public class UserService {
     public Optional<UserDto> findById(String userId) {
         try {
             UUID uuid = UUID.fromString(userId);
-            return userRepository.findById(uuid)
-                    .map(this::convertToDto);
+            // DTOに含める属性のみを読み込む（メールアドレス・Google IDは読まない）
+            return userRepository.findProjection(uuid, DTO_FIELDS)
+                    .map(projection -> new UserDto(
+                            projection.getUserId(),
+                            projection.getDisplayName(),
+                            projection.getCreatedAt(),
+                            projection.getLastLoginAt()));
         } catch (IllegalArgumentException e) {
             return Optional.empty();
         }
@@ -91,14 +109,15 @@ public class UserService {
 
     /**
      * アカウント削除
-     * 進行中のトーナメントが存在する場合はエラー（今後の実装）
-     * メールアドレス確認と削除を実行
+     * メールアドレス・確認文字列を確認し、未終了のトーナメントが存在する場合はエラー
+     * 主催したトーナメントのデータとユーザーの削除はバックグラウンドのジョブで行い、開始した時点で返す
      * 
      * @param userId ユーザーID（文字列形式）
      * @param email 確認用メールアドレス
      * @param confirmation 削除確認文字列
+     * @return 削除ジョブの進捗
      */
-    public void deleteAccount(String userId, String email, String confirmation) {
+    public AccountDeletionDto deleteAccount(String userId, String email, String confirmation) {
         UUID uuid;
         try {
             uuid = UUID.fromString(userId);
@@ -120,15 +139,29 @@ public class UserService {
             throw new BusinessException("Invalid confirmation string");
         }
 
-        // TODO: 進行中のトーナメント存在チェック（今後の実装）
-        // if (hasPendingTournaments(uuid)) {
-        //     throw new BusinessException("Cannot delete account with pending tournaments");
-        // }
+        // 未終了のトーナメント存在チェック（疎なインデックスへのQuery 1回）
+        if (tournamentRepository.hasActiveTournaments(uuid)) {
+            throw new BusinessException("Cannot delete account with pending tournaments");
+        }
+
+        AccountDeletionDto deletion = accountDeletionService.start(uuid);
 
-        // ユーザー削除
-        userRepository.deleteById(uuid);
+        logger.info("User account deletion accepted. userId={}, status={}", userId, deletion.status());
+        return deletion;
+    }
 
-        logger.info("User account deleted. userId={}", userId);
+    /**
+     * アカウント削除の進捗を取得
+     * 
+     * @param userId ユーザーID（文字列形式）
+     * @return 削除ジョブの進捗（Optional）
+     */
+    public Optional<AccountDeletionDto> findDeletionStatus(String userId) {
+        try {
+            return accountDeletionService.findStatus(UUID.fromString(userId));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
     }
 
     /**
@@ -6,57 +6,20 @@ import java.time.LocalDateTime;
  * エラーレスポンスDTO
  * 全APIエンドポイントで共通のエラーフォーマット
  * 憲章原則VI「コード品質とシンプリシティ」に準拠
- * 
- * Note: RecordではなくJavaBeanを使用（Jacksonのシリアライズで@JsonPropertyが必要な場合があるため）
+ *
+ * フィールド:
+ * - error: エラーコード
+ * - message: エラーメッセージ
+ * - path: リクエストのパス
+ * - timestamp: 発生日時（サーバーのローカル時刻）
  */
-public class ErrorResponse {
-    
-    private String error;
-    private String message;
-    private String path;
-    private LocalDateTime timestamp;
-    
-    public ErrorResponse() {
-        this.timestamp = LocalDateTime.now();
-    }
-    
+public record ErrorResponse(
+        String error,
+        String message,
+        String path,
+        LocalDateTime timestamp
+) {
     public ErrorResponse(String error, String message, String path) {
-        this.error = error;
-        this.message = message;
-        this.path = path;
-        this.timestamp = LocalDateTime.now();
-    }
-    
-    // Getters and Setters
-    public String getError() {
-        return error;
-    }
-    
-    public void setError(String error) {
-        this.error = error;
-    }
-    
-    public String getMessage() {
-        return message;
-    }
-    
-    public void setMessage(String message) {
-        this.message = message;
-    }
-    
-    public String getPath() {
-        return path;
-    }
-    
-    public void setPath(String path) {
-        this.path = path;
-    }
-    
-    public LocalDateTime getTimestamp() {
-        return timestamp;
-    }
-    
-    public void setTimestamp(LocalDateTime timestamp) {
-        this.timestamp = timestamp;
+        this(error, message, path, LocalDateTime.now());
     }
 }
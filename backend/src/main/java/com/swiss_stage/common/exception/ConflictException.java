@@ -0,0 +1,15 @@
+package com.swiss_stage.common.exception;
+
+/**
+ * 更新競合を表す例外クラス
+ * 他の操作者が異なる内容で先に更新していた場合など、自動でマージできない競合
+ * HTTP 409 Conflict を返す
+ */
+public class ConflictException extends BusinessException {
+
+    public static final String ERROR_CODE = "CONFLICT";
+
+    public ConflictException(String message) {
+        super(message, ERROR_CODE);
+    }
+}
@@ -0,0 +1,13 @@
+package com.swiss_stage.common.exception;
+
+/**
+ * 認証済みのユーザーに操作の権限がないことを表す例外クラス
+ * 主催者以外がトーナメントを操作しようとした場合など
+ * HTTP 403 Forbidden を返す
+ */
+public class ForbiddenException extends RuntimeException {
+
+    public ForbiddenException(String message) {
+        super(message);
+    }
+}
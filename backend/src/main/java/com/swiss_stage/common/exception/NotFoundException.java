@@ -0,0 +1,12 @@
+package com.swiss_stage.common.exception;
+
+/**
+ * 対象のリソースが存在しないことを表す例外クラス
+ * HTTP 404 Not Found を返す
+ */
+public class NotFoundException extends RuntimeException {
+
+    public NotFoundException(String message) {
+        super(message);
+    }
+}
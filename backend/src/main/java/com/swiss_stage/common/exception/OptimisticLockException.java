@@ -0,0 +1,17 @@
+package com.swiss_stage.common.exception;
+
+/**
+ * 楽観ロックの競合を表す例外クラス
+ * 読み込み後に他の操作者が同じアイテムを更新した場合にリポジトリから送出される
+ * アプリケーション層で再読み込み・再試行するため、HTTPレスポンスには直接対応しない
+ */
+public class OptimisticLockException extends RuntimeException {
+
+    public OptimisticLockException(String message) {
+        super(message);
+    }
+
+    public OptimisticLockException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
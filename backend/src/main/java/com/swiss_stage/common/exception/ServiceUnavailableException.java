@@ -0,0 +1,21 @@
+package com.swiss_stage.common.exception;
+
+/**
+ * 依存サービス（DynamoDB）が一時的に利用できないことを表す例外クラス
+ * サーキットブレーカーの遮断中や同時実行数の上限到達時に送出される
+ * 更新配信（SSE）の購読者数が上限に達した場合にも使用する
+ * HTTP 503 Service Unavailable（Retry-Afterヘッダー付き）を返す
+ */
+public class ServiceUnavailableException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceUnavailableException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,97 @@
+package com.swiss_stage.common.util;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.Encoder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.InputStream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 圧縮ユーティリティ（レスポンスボディの事前圧縮・スナップショットの保存）
+ * gzipはJDK標準、brotliはネイティブライブラリ（brotli4j）が利用可能な環境でのみ使用する
+ */
+public class CompressionUtil {
+
+    private static final boolean BROTLI_AVAILABLE = loadBrotli();
+
+    private CompressionUtil() {
+        // Utility class - private constructor
+    }
+
+    /**
+     * gzip圧縮（最大圧縮レベル）
+     * 事前圧縮して使い回すため、圧縮速度より圧縮率を優先する
+     *
+     * @param data 圧縮対象
+     * @return gzip圧縮済みバイト列
+     */
+    public static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, data.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to gzip data", e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * gzip展開
+     *
+     * @param data gzip圧縮済みバイト列
+     * @return 展開後のバイト列
+     */
+    public static byte[] gunzip(byte[] data) {
+        try (InputStream gzip = new GZIPInputStream(new ByteArrayInputStream(data))) {
+            return gzip.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to gunzip data", e);
+        }
+    }
+
+    /**
+     * brotli圧縮（最大圧縮レベル）
+     *
+     * @param data 圧縮対象
+     * @return brotli圧縮済みバイト列（brotliが利用できない環境ではnull）
+     */
+    public static byte[] brotli(byte[] data) {
+        if (!BROTLI_AVAILABLE) {
+            return null;
+        }
+        try {
+            return Encoder.compress(data, new Encoder.Parameters().setQuality(11));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to brotli-compress data", e);
+        }
+    }
+
+    /**
+     * brotliが利用可能か
+     *
+     * @return 利用可能な場合true
+     */
+    public static boolean isBrotliAvailable() {
+        return BROTLI_AVAILABLE;
+    }
+
+    private static boolean loadBrotli() {
+        try {
+            Brotli4jLoader.ensureAvailability();
+            return true;
+        } catch (Throwable e) {
+            // ネイティブライブラリが未対応のプラットフォームではgzipのみで配信する
+            return false;
+        }
+    }
+}
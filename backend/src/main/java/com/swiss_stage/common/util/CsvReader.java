@@ -0,0 +1,143 @@
+package com.swiss_stage.common.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ストリーミングCSVリーダー（RFC 4180準拠）
+ * ファイル全体をメモリに読み込まず、1レコードずつ読み出す
+ *
+ * 対応:
+ * - ダブルクォートで囲まれたフィールド（カンマ・改行・""エスケープを含む）
+ * - 改行コード CRLF / LF / CR
+ * - 先頭のUTF-8 BOM
+ */
+public class CsvReader implements Closeable {
+
+    private static final int BOM = 0xFEFF;
+
+    private final Reader reader;
+    private final StringBuilder field = new StringBuilder();
+    private long currentLine = 1;
+    private long recordStartLine = 0;
+    private int pushback = -2;
+    private boolean firstChar = true;
+
+    public CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * 次のレコードを読み込む
+     *
+     * @return フィールドのリスト（ファイル終端の場合はnull）
+     * @throws IOException 読み込みエラー・文字コード不正
+     * @throws IllegalStateException クォートが閉じられていない場合
+     */
+    public List<String> readRecord() throws IOException {
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+        recordStartLine = currentLine;
+
+        List<String> fields = new ArrayList<>();
+        field.setLength(0);
+        boolean quoted = false;
+        boolean fieldStarted = false;
+
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IllegalStateException("Unterminated quoted field");
+                }
+                if (c == '"') {
+                    int next = read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                } else {
+                    if (c == '\n' || (c == '\r' && peek() != '\n')) {
+                        currentLine++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && !fieldStarted) {
+                quoted = true;
+                fieldStarted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                fieldStarted = false;
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r' && peek() == '\n') {
+                    read();
+                }
+                if (c != -1) {
+                    currentLine++;
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+                fieldStarted = true;
+            }
+            c = read();
+        }
+    }
+
+    /**
+     * 直前に読み込んだレコードの開始行番号（1始まり）
+     *
+     * @return 行番号
+     */
+    public long getRecordLineNumber() {
+        return recordStartLine;
+    }
+
+    /**
+     * 現在の読み込み位置の行番号（1始まり）
+     * 文字コードエラーなど、レコードの途中で発生したエラーの報告に使用する
+     *
+     * @return 行番号
+     */
+    public long getCurrentLineNumber() {
+        return currentLine;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private int read() throws IOException {
+        int c;
+        if (pushback != -2) {
+            c = pushback;
+            pushback = -2;
+        } else {
+            c = reader.read();
+        }
+        if (firstChar) {
+            firstChar = false;
+            if (c == BOM) {
+                return read();
+            }
+        }
+        return c;
+    }
+
+    private int peek() throws IOException {
+        if (pushback == -2) {
+            pushback = reader.read();
+        }
+        return pushback;
+    }
+}
@@ -0,0 +1,79 @@
+package com.swiss_stage.common.util;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * ストリーミングCSVライター（RFC 4180準拠）
+ * CsvReaderと対になる出力側で、1レコードずつ出力先に書き込む
+ *
+ * 出力:
+ * - 改行コードはCRLF、カンマ・ダブルクォート・改行を含むフィールドはダブルクォートで囲む
+ * - UTF-8の場合は先頭にBOMを付ける（Excelで文字化けせずに開けるようにする）
+ * - Shift_JIS（windows-31j）で表せない文字は「?」に置き換える
+ * - 「=」「+」「-」「@」で始まる文字列は先頭に「'」を付け、表計算ソフトで数式として解釈されないようにする
+ */
+public class CsvWriter implements TabularWriter {
+
+    private static final char BOM = '\uFEFF';
+
+    private final Writer writer;
+
+    public CsvWriter(OutputStream output, Charset charset) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(output, charset));
+        if (charset.equals(StandardCharsets.UTF_8)) {
+            writer.write(BOM);
+        }
+    }
+
+    @Override
+    public void writeRow(Object... cells) throws IOException {
+        for (int i = 0; i < cells.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeField(cells[i]);
+        }
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.flush();
+    }
+
+    private void writeField(Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value instanceof Number number) {
+            writer.write(formatNumber(number));
+            return;
+        }
+        String text = value.toString();
+        if (!text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\r') < 0 && text.indexOf('\n') < 0) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static String formatNumber(Number number) {
+        if (number instanceof Double || number instanceof Float) {
+            // 勝ち点の「2.0」は「2」、「1.5」はそのまま出力する
+            return BigDecimal.valueOf(number.doubleValue()).stripTrailingZeros().toPlainString();
+        }
+        return number.toString();
+    }
+}
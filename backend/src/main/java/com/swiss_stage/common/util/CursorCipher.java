@@ -0,0 +1,50 @@
+package com.swiss_stage.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+/**
+ * ページングカーソルの暗号化（SealedBox）
+ *
+ * リポジトリが返す読み込み位置（DynamoDBのキー）をクライアントに見せず、改ざんもできない不透明な文字列にする
+ * - 形式: Base64URL(nonce 12バイト || 暗号文 || 認証タグ 16バイト)
+ * - 利用者（scope）を追加認証データにするため、他のユーザーに発行したカーソルは復号できない
+ */
+public final class CursorCipher {
+
+    private final SealedBox sealedBox;
+
+    /**
+     * @param secret 鍵の導出元（十分な長さのランダムな文字列）
+     */
+    public CursorCipher(String secret) {
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalArgumentException("Cursor secret must not be blank");
+        }
+        this.sealedBox = new SealedBox("cursor", secret);
+    }
+
+    /**
+     * 読み込み位置をカーソルに暗号化
+     *
+     * @param plaintext 読み込み位置
+     * @param scope カーソルを利用できる範囲（ユーザーIDと一覧の種類など）
+     * @return カーソル
+     */
+    public String encrypt(String plaintext, String scope) {
+        return sealedBox.sealToString(plaintext.getBytes(StandardCharsets.UTF_8),
+                scope.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * カーソルを読み込み位置に復号
+     *
+     * @param cursor カーソル
+     * @param scope 暗号化時と同じ範囲
+     * @return 読み込み位置（形式が不正・改ざん・範囲が異なる場合はOptional.empty()）
+     */
+    public Optional<String> decrypt(String cursor, String scope) {
+        return sealedBox.openString(cursor, scope.getBytes(StandardCharsets.UTF_8))
+                .map(plaintext -> new String(plaintext, StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,43 @@
+package com.swiss_stage.common.util;
+
+/**
+ * ETag（条件付きGET）のユーティリティ
+ */
+public final class EntityTags {
+
+    private EntityTags() {
+    }
+
+    /**
+     * ETagのベース値をダブルクォートで囲む（強いETag）
+     *
+     * @param value ベース値
+     * @return ETagヘッダーの値
+     */
+    public static String strong(String value) {
+        return "\"" + value + "\"";
+    }
+
+    /**
+     * If-None-Matchの判定（弱い比較）
+     *
+     * @param ifNoneMatch If-None-Matchヘッダー
+     * @param etag 現在のETag
+     * @return 一致する場合true
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if ("*".equals(value) || etag.equals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,142 @@
+package com.swiss_stage.common.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * リクエスト単位のアイデンティティマップ（読み込み済みエンティティのキャッシュ）
+ *
+ * 1つのHTTPリクエストの中で同じエンティティを何度読み込んでも、DynamoDBへの読み込みは1回にする
+ * - IdentityMapFilter がリクエストの開始時に open し、終了時に close する（リクエストのスレッドに紐づく）
+ * - リポジトリは読み込みを load で包み、書き込み後に put / evict で内容を揃える
+ * - リクエスト外（非同期処理・SSE配信のスレッドなど）では何もせずに毎回読み込む
+ *
+ * 楽観ロックの再試行で読み直す集約（TournamentAggregate）は対象にしない
+ */
+public final class RequestIdentityMap {
+
+    private static final ThreadLocal<RequestIdentityMap> CURRENT = new ThreadLocal<>();
+
+    private final Map<Key, Optional<?>> entries = new HashMap<>();
+    private int reads;
+    private int readsSaved;
+
+    private RequestIdentityMap() {
+    }
+
+    /**
+     * 現在のスレッドでアイデンティティマップを開始する
+     *
+     * @return 開始したマップ（close で終了する）
+     */
+    public static RequestIdentityMap open() {
+        RequestIdentityMap map = new RequestIdentityMap();
+        CURRENT.set(map);
+        return map;
+    }
+
+    /**
+     * 現在のスレッドのアイデンティティマップを終了する
+     */
+    public void close() {
+        if (CURRENT.get() == this) {
+            CURRENT.remove();
+        }
+    }
+
+    /**
+     * 読み込み済みであればその結果を、そうでなければ loader で読み込んで記録した結果を返す
+     * 存在しなかった結果（Optional.empty()）も記録する
+     *
+     * @param type エンティティの型
+     * @param id エンティティのID
+     * @param loader リポジトリの読み込み処理
+     * @return エンティティ
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Optional<T> load(Class<T> type, Object id, Supplier<Optional<T>> loader) {
+        RequestIdentityMap map = CURRENT.get();
+        if (map == null) {
+            return loader.get();
+        }
+        map.reads++;
+        Key key = new Key(type, id);
+        Optional<?> cached = map.entries.get(key);
+        if (cached != null) {
+            map.readsSaved++;
+            return (Optional<T>) cached;
+        }
+        Optional<T> loaded = loader.get();
+        map.entries.put(key, loaded);
+        return loaded;
+    }
+
+    /**
+     * 読み込み済みのエンティティを返す（記録がない・存在しなかった場合は読み込まずにOptional.empty()）
+     * 一部の属性のみを読む射影の読み込みで、読み込み済みのエンティティを使い回すために使用する
+     *
+     * @param type エンティティの型
+     * @param id エンティティのID
+     * @return 読み込み済みのエンティティ
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Optional<T> cached(Class<T> type, Object id) {
+        RequestIdentityMap map = CURRENT.get();
+        if (map == null) {
+            return Optional.empty();
+        }
+        Optional<T> cached = (Optional<T>) map.entries.get(new Key(type, id));
+        if (cached == null || cached.isEmpty()) {
+            return Optional.empty();
+        }
+        map.reads++;
+        map.readsSaved++;
+        return cached;
+    }
+
+    /**
+     * 書き込んだ（または別の経路で読み込んだ）エンティティを記録する
+     *
+     * @param type エンティティの型
+     * @param id エンティティのID
+     * @param entity エンティティ
+     */
+    public static <T> void put(Class<T> type, Object id, T entity) {
+        RequestIdentityMap map = CURRENT.get();
+        if (map != null) {
+            map.entries.put(new Key(type, id), Optional.of(entity));
+        }
+    }
+
+    /**
+     * 削除した・内容が不確定になったエンティティの記録を破棄する
+     *
+     * @param type エンティティの型
+     * @param id エンティティのID
+     */
+    public static void evict(Class<?> type, Object id) {
+        RequestIdentityMap map = CURRENT.get();
+        if (map != null) {
+            map.entries.remove(new Key(type, id));
+        }
+    }
+
+    /**
+     * load の呼び出し回数
+     */
+    public int reads() {
+        return reads;
+    }
+
+    /**
+     * 記録済みの結果を返してDynamoDBへの読み込みを省いた回数
+     */
+    public int readsSaved() {
+        return readsSaved;
+    }
+
+    private record Key(Class<?> type, Object id) {
+    }
+}
@@ -0,0 +1,118 @@
+package com.swiss_stage.common.util;
+
+import javax.crypto.AEADBadTagException;
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * クライアントに預ける値の暗号化（AES-256-GCM）
+ *
+ * ページングカーソル・OAuth2認可リクエストのCookieなど、サーバーが発行してクライアントから戻ってくる値を
+ * 中身を見せず、改ざんもできない形にする
+ * - 形式: nonce 12バイト || 暗号文 || 認証タグ 16バイト（文字列ではBase64URL）
+ * - 追加認証データ（AAD）は暗号化時と同じ値でなければ復号できない（値の利用者・用途の取り違えを防ぐ）
+ * - 鍵は「用途:設定値」のSHA-256から導出するため、同じ設定値でも用途ごとに別の鍵になる
+ */
+public final class SealedBox {
+
+    private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+    private static final int NONCE_BYTES = 12;
+    private static final int TAG_BITS = 128;
+
+    private final SecretKeySpec key;
+    private final SecureRandom random = new SecureRandom();
+
+    /**
+     * @param purpose 用途（鍵の導出に使用）
+     * @param secret 鍵の導出元（十分な長さのランダムな文字列）
+     */
+    public SealedBox(String purpose, String secret) {
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalArgumentException("Secret must not be blank: purpose=" + purpose);
+        }
+        this.key = new SecretKeySpec(sha256(purpose + ":" + secret), "AES");
+    }
+
+    /**
+     * 暗号化
+     *
+     * @param plaintext 平文
+     * @param aad 追加認証データ
+     * @return nonce || 暗号文 || 認証タグ
+     */
+    public byte[] seal(byte[] plaintext, byte[] aad) {
+        byte[] nonce = new byte[NONCE_BYTES];
+        random.nextBytes(nonce);
+        try {
+            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+            cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, nonce));
+            cipher.updateAAD(aad);
+            byte[] sealed = cipher.doFinal(plaintext);
+            return ByteBuffer.allocate(nonce.length + sealed.length).put(nonce).put(sealed).array();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to seal value", e);
+        }
+    }
+
+    /**
+     * 復号
+     *
+     * @param sealed nonce || 暗号文 || 認証タグ
+     * @param aad 暗号化時と同じ追加認証データ
+     * @return 平文（長さの不足・改ざん・鍵やAADが異なる場合はOptional.empty()）
+     */
+    public Optional<byte[]> open(byte[] sealed, byte[] aad) {
+        if (sealed.length < NONCE_BYTES + TAG_BITS / 8) {
+            return Optional.empty();
+        }
+        try {
+            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+            cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, sealed, 0, NONCE_BYTES));
+            cipher.updateAAD(aad);
+            return Optional.of(cipher.doFinal(sealed, NONCE_BYTES, sealed.length - NONCE_BYTES));
+        } catch (AEADBadTagException e) {
+            return Optional.empty();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to open sealed value", e);
+        }
+    }
+
+    /**
+     * 暗号化してBase64URL（パディングなし）の文字列にする
+     */
+    public String sealToString(byte[] plaintext, byte[] aad) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(seal(plaintext, aad));
+    }
+
+    /**
+     * Base64URLの文字列を復号
+     *
+     * @return 平文（Base64URLとして不正な場合もOptional.empty()）
+     */
+    public Optional<byte[]> openString(String sealed, byte[] aad) {
+        byte[] data;
+        try {
+            data = Base64.getUrlDecoder().decode(sealed);
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        return open(data, aad);
+    }
+
+    private static byte[] sha256(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.swiss_stage.common.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * 表形式データのストリーミング出力（CSV・XLSX共通）
+ * 1行ずつ出力先に書き込み、出力全体をメモリに保持しない
+ *
+ * セルの値:
+ * - Number: 数値として出力する
+ * - null: 空のセル
+ * - それ以外: toString() した文字列
+ *
+ * close は出力を完了させるが、出力先のストリームは閉じない
+ */
+public interface TabularWriter extends Closeable {
+
+    /**
+     * 1行を書き込む
+     *
+     * @param cells セルの値（左の列から順に）
+     * @throws IOException 書き込みエラー
+     */
+    void writeRow(Object... cells) throws IOException;
+}
@@ -0,0 +1,120 @@
+package com.swiss_stage.domain.model;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * アカウント削除ジョブの進捗
+ * ユーザーが主催したトーナメントのデータをバックグラウンドで削除し、最後にユーザーを削除する
+ *
+ * @param userId 削除するユーザーID
+ * @param status 処理状態
+ * @param tournamentCount 削除対象のトーナメント数
+ * @param deletedTournamentCount 削除済みのトーナメント数
+ * @param deletedItemCount 削除済みのアイテム数（トーナメントの全アイテムとユーザー）
+ * @param startedAt 開始日時
+ * @param updatedAt 最終更新日時（進捗を保存するたびに更新）
+ */
+public record AccountDeletion(
+        UUID userId,
+        Status status,
+        int tournamentCount,
+        int deletedTournamentCount,
+        long deletedItemCount,
+        Instant startedAt,
+        Instant updatedAt
+) {
+    public AccountDeletion {
+        if (userId == null || status == null || startedAt == null || updatedAt == null) {
+            throw new IllegalArgumentException("User ID, status and timestamps must not be null");
+        }
+    }
+
+    /**
+     * ファクトリメソッド（削除開始）
+     * @param userId 削除するユーザーID
+     * @param tournamentCount 削除対象のトーナメント数
+     * @param now 現在時刻
+     * @return 実行中のジョブ
+     */
+    public static AccountDeletion start(UUID userId, int tournamentCount, Instant now) {
+        return new AccountDeletion(userId, Status.RUNNING, tournamentCount, 0, 0, now, now);
+    }
+
+    /**
+     * トーナメント1件の削除完了を反映
+     * @param deletedItemCount これまでに削除したアイテム数
+     * @param now 現在時刻
+     * @return 更新後のジョブ
+     */
+    public AccountDeletion tournamentDeleted(long deletedItemCount, Instant now) {
+        return new AccountDeletion(userId, status, tournamentCount, deletedTournamentCount + 1,
+                deletedItemCount, startedAt, now);
+    }
+
+    /**
+     * 削除中に見つかった追加の削除対象を反映
+     * @param additionalTournamentCount 追加で見つかったトーナメント数
+     * @param now 現在時刻
+     * @return 更新後のジョブ
+     */
+    public AccountDeletion tournamentsFound(int additionalTournamentCount, Instant now) {
+        return new AccountDeletion(userId, status, tournamentCount + additionalTournamentCount,
+                deletedTournamentCount, deletedItemCount, startedAt, now);
+    }
+
+    /**
+     * 完了
+     * @param deletedItemCount 削除したアイテム数
+     * @param now 現在時刻
+     * @return 完了したジョブ
+     */
+    public AccountDeletion complete(long deletedItemCount, Instant now) {
+        return new AccountDeletion(userId, Status.COMPLETED, tournamentCount, deletedTournamentCount,
+                deletedItemCount, startedAt, now);
+    }
+
+    /**
+     * 失敗（再度削除を要求すると、残っているデータから削除をやり直す）
+     * @param now 現在時刻
+     * @return 失敗したジョブ
+     */
+    public AccountDeletion fail(Instant now) {
+        return new AccountDeletion(userId, Status.FAILED, tournamentCount, deletedTournamentCount,
+                deletedItemCount, startedAt, now);
+    }
+
+    /**
+     * 実行中のまま更新が途絶えたか（実行していたノードが停止した場合）
+     * @param now 現在時刻
+     * @param timeout 進捗の更新がない場合に停止とみなすまでの時間
+     * @return 実行中でない、または更新が途絶えた場合true
+     */
+    public boolean isRestartable(Instant now, Duration timeout) {
+        return status != Status.RUNNING || !now.isBefore(updatedAt.plus(timeout));
+    }
+
+    /**
+     * 削除が進行中か（主催者による書き込みを受け付けない状態）
+     * 完了後はユーザーが存在せず、失敗・停止したジョブは再度の要求でやり直すまで書き込みを妨げない
+     * @param now 現在時刻
+     * @param timeout 進捗の更新がない場合に停止とみなすまでの時間
+     * @return 実行中で、更新が途絶えていない場合true
+     */
+    public boolean isInProgress(Instant now, Duration timeout) {
+        return !isRestartable(now, timeout);
+    }
+
+    /**
+     * 処理状態
+     */
+    public enum Status {
+        /** 削除中 */
+        RUNNING,
+        /** 完了（ユーザーも削除済み） */
+        COMPLETED,
+        /** 失敗 */
+        FAILED
+    }
+}
@@ -0,0 +1,84 @@
+package com.swiss_stage.domain.model;
+
+import java.time.Instant;
+
+/**
+ * 冪等キー（Idempotency-Key）の記録
+ * 同じキーで再送されたリクエストに、処理をやり直さずに保存済みのレスポンスを返すために使用する
+ *
+ * @param scope キーの有効範囲（認証済みユーザーID）
+ * @param key クライアントが指定した冪等キー
+ * @param fingerprint リクエスト内容（メソッド・パス・ボディ）のハッシュ
+ * @param status 処理状態
+ * @param responseStatus 保存済みレスポンスのHTTPステータス（処理中は0）
+ * @param contentType 保存済みレスポンスのContent-Type（ボディなし・処理中はnull）
+ * @param responseBody 保存済みレスポンスのボディ（処理中は空）
+ * @param expiresAt 有効期限（DynamoDBのTTL属性）
+ */
+public record IdempotencyRecord(
+        String scope,
+        String key,
+        String fingerprint,
+        Status status,
+        int responseStatus,
+        String contentType,
+        byte[] responseBody,
+        Instant expiresAt
+) {
+    public IdempotencyRecord {
+        if (scope == null || key == null || fingerprint == null || status == null || expiresAt == null) {
+            throw new IllegalArgumentException("Scope, key, fingerprint, status and expiry must not be null");
+        }
+        if (responseBody == null) {
+            responseBody = new byte[0];
+        }
+    }
+
+    /**
+     * ファクトリメソッド（処理開始時の予約）
+     * @param scope キーの有効範囲
+     * @param key 冪等キー
+     * @param fingerprint リクエスト内容のハッシュ
+     * @param expiresAt 予約の有効期限（処理中のノードが停止した場合に再送を受け付けるまでの時間）
+     * @return 処理中の記録
+     */
+    public static IdempotencyRecord inProgress(String scope, String key, String fingerprint, Instant expiresAt) {
+        return new IdempotencyRecord(scope, key, fingerprint, Status.IN_PROGRESS, 0, null, null, expiresAt);
+    }
+
+    /**
+     * ファクトリメソッド（処理完了時にレスポンスを保存）
+     * @param scope キーの有効範囲
+     * @param key 冪等キー
+     * @param fingerprint リクエスト内容のハッシュ
+     * @param responseStatus HTTPステータス
+     * @param contentType Content-Type
+     * @param responseBody ボディ
+     * @param expiresAt 保存期限
+     * @return 完了済みの記録
+     */
+    public static IdempotencyRecord completed(String scope, String key, String fingerprint, int responseStatus,
+                                              String contentType, byte[] responseBody, Instant expiresAt) {
+        return new IdempotencyRecord(scope, key, fingerprint, Status.COMPLETED, responseStatus, contentType,
+                responseBody, expiresAt);
+    }
+
+    /**
+     * 有効期限切れか
+     * @param now 現在時刻
+     * @return 期限切れの場合true
+     */
+    public boolean isExpired(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+
+    /**
+     * 処理状態
+     */
+    public enum Status {
+        /** 処理中（同じキーの再送は処理完了まで受け付けない） */
+        IN_PROGRESS,
+        /** 完了（レスポンスを保存済み） */
+        COMPLETED
+    }
+}
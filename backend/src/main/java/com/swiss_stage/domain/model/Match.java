@@ -0,0 +1,86 @@
+package com.swiss_stage.domain.model;
+
+import java.util.UUID;
+
+/**
+ * Match値オブジェクト（ドメインモデル）
+ * 1回戦分の1対局（組合せと結果）を表す
+ * Java標準Recordを使用（結果入力は新しいインスタンスを返す）
+ *
+ * @param tournamentId トーナメントID
+ * @param roundNumber 回戦（1始まり）
+ * @param groupNumber グループ番号
+ * @param tableNumber 対局番号（グループ内1始まり）
+ * @param blackParticipantId 先手（黒）の参加者ID
+ * @param whiteParticipantId 後手（白）の参加者ID（不戦の場合null）
+ * @param result 対戦結果（未入力の場合null）
+ * @param version 楽観ロック用バージョン（保存のたびに1ずつ増加、未保存は0）
+ */
+public record Match(
+        UUID tournamentId,
+        int roundNumber,
+        int groupNumber,
+        int tableNumber,
+        UUID blackParticipantId,
+        UUID whiteParticipantId,
+        MatchResult result,
+        long version
+) {
+    public Match {
+        if (tournamentId == null || blackParticipantId == null) {
+            throw new IllegalArgumentException("Tournament ID and black participant ID must not be null");
+        }
+        if (roundNumber < 1 || groupNumber < 1 || tableNumber < 1) {
+            throw new IllegalArgumentException("Round, group and table numbers must be positive");
+        }
+        if (whiteParticipantId == null && result != null && result != MatchResult.BYE) {
+            throw new IllegalArgumentException("A match without opponent can only be a bye");
+        }
+        if (version < 0) {
+            throw new IllegalArgumentException("Version must not be negative");
+        }
+    }
+
+    /**
+     * ファクトリメソッド（組合せ作成時）
+     * @param tournamentId トーナメントID
+     * @param roundNumber 回戦
+     * @param groupNumber グループ番号
+     * @param tableNumber 対局番号
+     * @param blackParticipantId 先手（黒）の参加者ID
+     * @param whiteParticipantId 後手（白）の参加者ID（不戦の場合null）
+     * @return 結果未入力・未保存（version=0）のMatch
+     */
+    public static Match paired(UUID tournamentId, int roundNumber, int groupNumber, int tableNumber,
+                               UUID blackParticipantId, UUID whiteParticipantId) {
+        return new Match(tournamentId, roundNumber, groupNumber, tableNumber,
+                blackParticipantId, whiteParticipantId, null, 0);
+    }
+
+    /**
+     * 不戦（ダミー対戦）か
+     * @return 対戦相手がいない場合true
+     */
+    public boolean isBye() {
+        return whiteParticipantId == null;
+    }
+
+    /**
+     * 結果入力済みか
+     * @return 入力済みの場合true
+     */
+    public boolean hasResult() {
+        return result != null;
+    }
+
+    /**
+     * 結果を入力
+     * バージョンは読み込み時の値を保持し、保存時の条件（楽観ロック）に使用する
+     * @param result 対戦結果
+     * @return 結果入力済みのMatch
+     */
+    public Match withResult(MatchResult result) {
+        return new Match(tournamentId, roundNumber, groupNumber, tableNumber,
+                blackParticipantId, whiteParticipantId, result, version);
+    }
+}
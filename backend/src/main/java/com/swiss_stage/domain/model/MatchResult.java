@@ -0,0 +1,39 @@
+package com.swiss_stage.domain.model;
+
+/**
+ * 対戦結果
+ */
+public enum MatchResult {
+    /** 先手（黒）勝ち */
+    BLACK_WIN,
+    /** 後手（白）勝ち */
+    WHITE_WIN,
+    /** 引き分け（持将棋・ジゴなど） */
+    DRAW,
+    /** 不戦勝（奇数時のダミー対戦、先手側の勝ち） */
+    BYE;
+
+    /**
+     * 先手（黒）の獲得勝ち点
+     * @return 勝ち=1、引き分け=0.5、負け=0
+     */
+    public double blackPoints() {
+        return switch (this) {
+            case BLACK_WIN, BYE -> 1.0;
+            case DRAW -> 0.5;
+            case WHITE_WIN -> 0.0;
+        };
+    }
+
+    /**
+     * 後手（白）の獲得勝ち点
+     * @return 勝ち=1、引き分け=0.5、負け=0
+     */
+    public double whitePoints() {
+        return switch (this) {
+            case WHITE_WIN -> 1.0;
+            case DRAW -> 0.5;
+            case BLACK_WIN, BYE -> 0.0;
+        };
+    }
+}
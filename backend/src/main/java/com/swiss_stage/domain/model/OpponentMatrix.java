@@ -0,0 +1,228 @@
+package com.swiss_stage.domain.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 対戦済み行列（ドメインモデル）
+ * グループ内の「誰と誰が対戦済みか」「誰が不戦を受けたか」をビット列で保持する
+ *
+ * 参加者には登録順のインデックスを振り、i &gt; j の組 (i, j) を下三角のビット位置 i*(i-1)/2 + j に詰める
+ * - 参加者n名で n*(n-1)/2 ビット（300名で約5.6KB）
+ * - 参加者を後から追加してもインデックスとビット位置は変わらない（配列の末尾を伸ばすだけ）
+ * 組合せ作成では参加者ごとの対戦相手集合を作らず、このビット列を直接参照する
+ *
+ * 結果の入力に合わせて差分で更新するため、ミュータブルな標準Javaクラスで実装
+ */
+public class OpponentMatrix {
+
+    private final int groupNumber;
+    private final List<UUID> participantIds;
+    private final Map<UUID, Integer> indexes;
+    private final long version;
+    private byte[] opponents;
+    private byte[] byes;
+
+    private OpponentMatrix(int groupNumber, List<UUID> participantIds, byte[] opponents, byte[] byes,
+                           long version) {
+        if (groupNumber < 1) {
+            throw new IllegalArgumentException("Group number must be positive");
+        }
+        this.groupNumber = groupNumber;
+        this.participantIds = new ArrayList<>(participantIds);
+        this.indexes = new HashMap<>(participantIds.size() * 2);
+        for (int i = 0; i < participantIds.size(); i++) {
+            indexes.put(participantIds.get(i), i);
+        }
+        int size = participantIds.size();
+        this.opponents = Arrays.copyOf(opponents, opponentBytes(size));
+        this.byes = Arrays.copyOf(byes, byeBytes(size));
+        this.version = version;
+    }
+
+    /**
+     * ファクトリメソッド（新規作成）
+     * @param groupNumber グループ番号
+     * @return 参加者0名・未保存（version=0）のOpponentMatrix
+     */
+    public static OpponentMatrix empty(int groupNumber) {
+        return new OpponentMatrix(groupNumber, List.of(), new byte[0], new byte[0], 0);
+    }
+
+    /**
+     * 結果入力済みの対局から作り直す（対戦済み行列が未保存の大会向け）
+     * @param groupNumber グループ番号
+     * @param matches 対局（他グループ・結果未入力の対局は無視する）
+     * @return 未保存（version=0）のOpponentMatrix
+     */
+    public static OpponentMatrix of(int groupNumber, List<Match> matches) {
+        OpponentMatrix matrix = empty(groupNumber);
+        for (Match match : matches) {
+            if (match.groupNumber() == groupNumber && match.hasResult()) {
+                matrix.record(match);
+            }
+        }
+        return matrix;
+    }
+
+    /**
+     * ファクトリメソッド（既存データからの復元）
+     * @param groupNumber グループ番号
+     * @param participantIds インデックス順の参加者ID
+     * @param opponents 対戦済みビット列
+     * @param byes 不戦ビット列
+     * @param version 楽観ロック用バージョン
+     * @return 復元したOpponentMatrix
+     */
+    public static OpponentMatrix restore(int groupNumber, List<UUID> participantIds, byte[] opponents,
+                                         byte[] byes, long version) {
+        return new OpponentMatrix(groupNumber, participantIds, opponents, byes, version);
+    }
+
+    /**
+     * 参加者を登録（登録済みの場合は既存のインデックスを返す）
+     * @param participantId 参加者ID
+     * @return インデックス
+     */
+    public int register(UUID participantId) {
+        Integer index = indexes.get(participantId);
+        if (index != null) {
+            return index;
+        }
+        int newIndex = participantIds.size();
+        participantIds.add(participantId);
+        indexes.put(participantId, newIndex);
+        opponents = Arrays.copyOf(opponents, opponentBytes(newIndex + 1));
+        byes = Arrays.copyOf(byes, byeBytes(newIndex + 1));
+        return newIndex;
+    }
+
+    /**
+     * 対局を記録（対戦済み、または不戦の場合は不戦済みとする）
+     * @param match 対局
+     */
+    public void record(Match match) {
+        if (match.groupNumber() != groupNumber) {
+            throw new IllegalArgumentException("Match belongs to another group: " + match.groupNumber());
+        }
+        int black = register(match.blackParticipantId());
+        if (match.isBye()) {
+            setBit(byes, black);
+            return;
+        }
+        int white = register(match.whiteParticipantId());
+        setBit(opponents, pairBit(black, white));
+    }
+
+    /**
+     * 参加者のインデックス
+     * @param participantId 参加者ID
+     * @return インデックス（未登録の場合-1）
+     */
+    public int indexOf(UUID participantId) {
+        Integer index = indexes.get(participantId);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * 対戦済みか（インデックス指定）
+     * @param first インデックス（未登録は-1）
+     * @param second インデックス（未登録は-1）
+     * @return 対戦済みの場合true
+     */
+    public boolean hasPlayed(int first, int second) {
+        if (first < 0 || second < 0 || first == second) {
+            return false;
+        }
+        return getBit(opponents, pairBit(first, second));
+    }
+
+    /**
+     * 対戦済みか
+     * @param first 参加者ID
+     * @param second 参加者ID
+     * @return 対戦済みの場合true
+     */
+    public boolean hasPlayed(UUID first, UUID second) {
+        return hasPlayed(indexOf(first), indexOf(second));
+    }
+
+    /**
+     * 不戦を受けたことがあるか（インデックス指定）
+     * @param index インデックス（未登録は-1）
+     * @return 不戦済みの場合true
+     */
+    public boolean hasHadBye(int index) {
+        return index >= 0 && getBit(byes, index);
+    }
+
+    public int getGroupNumber() {
+        return groupNumber;
+    }
+
+    /**
+     * 登録済みの参加者数
+     * @return 参加者数
+     */
+    public int size() {
+        return participantIds.size();
+    }
+
+    /**
+     * インデックス順の参加者ID
+     * @return 参加者IDのリスト（変更不可）
+     */
+    public List<UUID> getParticipantIds() {
+        return List.copyOf(participantIds);
+    }
+
+    /**
+     * 対戦済みビット列
+     * @return ビット列のコピー
+     */
+    public byte[] getOpponents() {
+        return opponents.clone();
+    }
+
+    /**
+     * 不戦ビット列
+     * @return ビット列のコピー
+     */
+    public byte[] getByes() {
+        return byes.clone();
+    }
+
+    /**
+     * 楽観ロック用バージョン（保存のたびに1ずつ増加、未保存は0）
+     * @return バージョン
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    private static int pairBit(int first, int second) {
+        int high = Math.max(first, second);
+        int low = Math.min(first, second);
+        return high * (high - 1) / 2 + low;
+    }
+
+    private static int opponentBytes(int size) {
+        return (size * (size - 1) / 2 + 7) / 8;
+    }
+
+    private static int byeBytes(int size) {
+        return (size + 7) / 8;
+    }
+
+    private static boolean getBit(byte[] bits, int bit) {
+        return (bits[bit >>> 3] & (1 << (bit & 7))) != 0;
+    }
+
+    private static void setBit(byte[] bits, int bit) {
+        bits[bit >>> 3] |= (byte) (1 << (bit & 7));
+    }
+}
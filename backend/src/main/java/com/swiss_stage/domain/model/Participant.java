@@ -0,0 +1,91 @@
+package com.swiss_stage.domain.model;
+
+import java.util.UUID;
+
+/**
+ * Participant値オブジェクト（ドメインモデル）
+ * トーナメントの参加者を表す
+ * 憲章原則I「ドメイン駆動設計」、原則VI「コード品質とシンプリシティ」に準拠
+ * Java標準Recordを使用（状態変更は新しいインスタンスを返す）
+ *
+ * @param participantId 参加者ID
+ * @param tournamentId トーナメントID
+ * @param entryNumber エントリー番号（1始まり、グループ内の対戦履歴インデックスにも使用）
+ * @param name 参加者名（1-100文字）
+ * @param affiliation 所属（任意、100文字以内）
+ * @param grade 段級位（任意、20文字以内）
+ * @param groupNumber グループ番号（1-8）
+ * @param withdrawn 棄権済みの場合true
+ */
+public record Participant(
+        UUID participantId,
+        UUID tournamentId,
+        int entryNumber,
+        String name,
+        String affiliation,
+        String grade,
+        int groupNumber,
+        boolean withdrawn
+) {
+    public static final int MAX_GROUP_NUMBER = 8;
+
+    public Participant {
+        if (participantId == null || tournamentId == null) {
+            throw new IllegalArgumentException("Participant ID and tournament ID must not be null");
+        }
+        if (entryNumber < 1) {
+            throw new IllegalArgumentException("Entry number must be positive");
+        }
+        if (name == null || name.isBlank() || name.length() > 100) {
+            throw new IllegalArgumentException("Name must be 1-100 characters");
+        }
+        if (affiliation != null && affiliation.length() > 100) {
+            throw new IllegalArgumentException("Affiliation must be at most 100 characters");
+        }
+        if (grade != null && grade.length() > 20) {
+            throw new IllegalArgumentException("Grade must be at most 20 characters");
+        }
+        if (groupNumber < 1 || groupNumber > MAX_GROUP_NUMBER) {
+            throw new IllegalArgumentException("Group number must be 1-" + MAX_GROUP_NUMBER);
+        }
+    }
+
+    /**
+     * ファクトリメソッド（新規参加者登録）
+     * @param tournamentId トーナメントID
+     * @param entryNumber エントリー番号
+     * @param name 参加者名
+     * @param affiliation 所属
+     * @param grade 段級位
+     * @param groupNumber グループ番号
+     * @return 新規Participant
+     */
+    public static Participant create(UUID tournamentId, int entryNumber, String name,
+                                     String affiliation, String grade, int groupNumber) {
+        return new Participant(UUID.randomUUID(), tournamentId, entryNumber, name,
+                emptyToNull(affiliation), emptyToNull(grade), groupNumber, false);
+    }
+
+    /**
+     * エントリー番号を割り当て（インポートで予約した番号への付け替え）
+     * @param entryNumber エントリー番号
+     * @return エントリー番号を変更したParticipant
+     */
+    public Participant withEntryNumber(int entryNumber) {
+        return new Participant(participantId, tournamentId, entryNumber, name,
+                affiliation, grade, groupNumber, withdrawn);
+    }
+
+    /**
+     * 棄権
+     * @return 棄権済みのParticipant
+     */
+    public Participant withdraw() {
+        return new Participant(participantId, tournamentId, entryNumber, name,
+                affiliation, grade, groupNumber, true);
+    }
+
+    private static String emptyToNull(String value) {
+        return value == null || value.isBlank() ? null : value.strip();
+    }
+}
@@ -0,0 +1,22 @@
+package com.swiss_stage.domain.model;
+
+import java.util.UUID;
+
+/**
+ * 参加者一覧表示用の射影（ドメインモデル）
+ * 一覧画面で必要な属性のみを保持する
+ *
+ * @param participantId 参加者ID
+ * @param entryNumber エントリー番号
+ * @param name 参加者名
+ * @param groupNumber グループ番号
+ * @param withdrawn 棄権済みの場合true
+ */
+public record ParticipantSummary(
+        UUID participantId,
+        int entryNumber,
+        String name,
+        int groupNumber,
+        boolean withdrawn
+) {
+}
@@ -0,0 +1,15 @@
+package com.swiss_stage.domain.model;
+
+/**
+ * イベントログに記録済みのイベント（ドメインモデル）
+ *
+ * @param sequence トーナメント内の連番（1始まり、欠番なし）
+ * @param event イベント
+ */
+public record RecordedEvent(long sequence, TournamentEvent event) {
+    public RecordedEvent {
+        if (sequence < 1 || event == null) {
+            throw new IllegalArgumentException("Sequence must be positive and event must not be null");
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.swiss_stage.domain.model;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Round値オブジェクト（ドメインモデル）
+ * 1回戦分の進行状況を表す
+ * Java標準Recordを使用
+ *
+ * @param tournamentId トーナメントID
+ * @param roundNumber 回戦（1始まり）
+ * @param status 進行状態
+ * @param matchCount 対局数
+ * @param completedMatchCount 結果入力済みの対局数
+ * @param pairedAt 組合せ確定日時（組合せ作成中は予約日時）
+ * @param version 楽観ロック用バージョン（保存のたびに1ずつ増加、未保存は0）
+ */
+public record Round(
+        UUID tournamentId,
+        int roundNumber,
+        RoundStatus status,
+        int matchCount,
+        int completedMatchCount,
+        Instant pairedAt,
+        long version
+) {
+    public Round {
+        if (tournamentId == null || status == null) {
+            throw new IllegalArgumentException("Tournament ID and status must not be null");
+        }
+        if (roundNumber < 1) {
+            throw new IllegalArgumentException("Round number must be positive");
+        }
+        if (completedMatchCount < 0 || completedMatchCount > matchCount) {
+            throw new IllegalArgumentException("Completed match count must be 0-" + matchCount);
+        }
+    }
+
+    /**
+     * ファクトリメソッド（組合せ確定時に作成）
+     * @param tournamentId トーナメントID
+     * @param roundNumber 回戦
+     * @param matchCount 対局数
+     * @return 新規Round
+     */
+    public static Round paired(UUID tournamentId, int roundNumber, int matchCount) {
+        return new Round(tournamentId, roundNumber, RoundStatus.PAIRED, matchCount, 0, Instant.now(), 0);
+    }
+
+    /**
+     * ファクトリメソッド（組合せ作成の開始時に回戦を予約）
+     * 予約を保存できた操作者だけが対局を登録し、confirm()で確定する
+     * @param tournamentId トーナメントID
+     * @param roundNumber 回戦
+     * @param matchCount 対局数
+     * @param previousVersion 期限切れの予約を引き継ぐ場合はその予約のバージョン、新規の場合は0
+     * @return 予約のRound
+     */
+    public static Round pairing(UUID tournamentId, int roundNumber, int matchCount, long previousVersion) {
+        return new Round(tournamentId, roundNumber, RoundStatus.PAIRING, matchCount, 0, Instant.now(),
+                previousVersion);
+    }
+
+    /**
+     * 予約した回戦の組合せを確定
+     * バージョンは予約の保存後の値を保持し、確定時の条件（他の操作者に引き継がれていないこと）に使用する
+     * @return 確定後のRound
+     */
+    public Round confirm() {
+        if (status != RoundStatus.PAIRING) {
+            throw new IllegalStateException("Round is not being paired: round=" + roundNumber);
+        }
+        return new Round(tournamentId, roundNumber, RoundStatus.PAIRED, matchCount, 0, Instant.now(), version);
+    }
+
+    /**
+     * 予約したまま確定されていないか（予約した操作者のノードが停止した場合）
+     * @param now 現在時刻
+     * @param timeout 予約から確定までに掛かる時間の上限
+     * @return 組合せ作成中で、予約からtimeout以上経過している場合true
+     */
+    public boolean isAbandonedPairing(Instant now, Duration timeout) {
+        return status == RoundStatus.PAIRING && !now.isBefore(pairedAt.plus(timeout));
+    }
+
+    /**
+     * 結果入力済み対局数を更新
+     * 全対局が入力済みになった場合はCOMPLETEDに遷移する
+     * バージョンは読み込み時の値を保持し、保存時の条件（楽観ロック）に使用する
+     * @param completedMatchCount 結果入力済みの対局数
+     * @return 更新後のRound
+     */
+    public Round withCompletedMatchCount(int completedMatchCount) {
+        RoundStatus newStatus = completedMatchCount == matchCount ? RoundStatus.COMPLETED : RoundStatus.PAIRED;
+        return new Round(tournamentId, roundNumber, newStatus, matchCount, completedMatchCount, pairedAt, version);
+    }
+}
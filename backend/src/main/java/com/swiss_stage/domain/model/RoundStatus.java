@@ -0,0 +1,13 @@
+package com.swiss_stage.domain.model;
+
+/**
+ * 回戦の進行状態
+ */
+public enum RoundStatus {
+    /** 組合せ確定済み・対局中 */
+    PAIRED,
+    /** 全対局の結果入力済み */
+    COMPLETED,
+    /** 組合せ作成中（操作者が回戦を予約し、対局を登録している。確定までは結果入力を受け付けない） */
+    PAIRING
+}
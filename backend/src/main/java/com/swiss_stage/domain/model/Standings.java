@@ -0,0 +1,153 @@
+package com.swiss_stage.domain.model;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 順位表（ドメインモデル）
+ * 参加者ごとの勝ち点・勝敗数・対戦相手を保持し、結果の入力・修正を差分で反映する
+ * 結果が入るたびに全対局から再集計せずに済むよう、ミュータブルな標準Javaクラスで実装
+ *
+ * 順位はグループごとに 勝ち点 → SOS（対戦相手の勝ち点合計）→ エントリー番号 の順で決める
+ */
+public class Standings {
+
+    private final Map<UUID, Tally> tallies = new HashMap<>();
+
+    private Standings() {
+    }
+
+    /**
+     * 参加者と対局から順位表を作成
+     * @param participants 参加者
+     * @param matches 対局（結果未入力を含む）
+     * @return 順位表
+     */
+    public static Standings of(List<Participant> participants, List<Match> matches) {
+        Standings standings = new Standings();
+        for (Participant participant : participants) {
+            standings.tallies.put(participant.participantId(),
+                    new Tally(participant.participantId(), participant.entryNumber(), participant.groupNumber()));
+        }
+        for (Match match : matches) {
+            if (match.hasResult()) {
+                standings.apply(match, null);
+            }
+        }
+        return standings;
+    }
+
+    /**
+     * 対局結果の入力・修正を反映
+     * @param match 結果反映後の対局
+     * @param previousResult 修正前の結果（新規入力の場合null）
+     */
+    public void apply(Match match, MatchResult previousResult) {
+        Tally black = tallies.get(match.blackParticipantId());
+        Tally white = match.whiteParticipantId() == null ? null : tallies.get(match.whiteParticipantId());
+
+        if (previousResult != null) {
+            record(black, previousResult.blackPoints(), -1);
+            record(white, previousResult.whitePoints(), -1);
+        } else if (black != null && white != null) {
+            black.opponents.add(white.participantId);
+            white.opponents.add(black.participantId);
+        }
+        if (match.result() != null) {
+            record(black, match.result().blackPoints(), 1);
+            record(white, match.result().whitePoints(), 1);
+        }
+    }
+
+    /**
+     * グループ・順位順の順位表
+     * @return 順位表の行
+     */
+    public List<Entry> ranked() {
+        Map<UUID, Double> opponentScores = new HashMap<>(tallies.size() * 2);
+        for (Tally tally : tallies.values()) {
+            double score = 0;
+            for (UUID opponentId : tally.opponents) {
+                Tally opponent = tallies.get(opponentId);
+                if (opponent != null) {
+                    score += opponent.points;
+                }
+            }
+            opponentScores.put(tally.participantId, score);
+        }
+
+        List<Tally> sorted = new ArrayList<>(tallies.values());
+        sorted.sort(Comparator.comparingInt((Tally t) -> t.groupNumber)
+                .thenComparingDouble(t -> -t.points)
+                .thenComparingDouble(t -> -opponentScores.get(t.participantId))
+                .thenComparingInt(t -> t.entryNumber));
+
+        List<Entry> entries = new ArrayList<>(sorted.size());
+        int group = -1;
+        int rank = 0;
+        for (Tally tally : sorted) {
+            if (tally.groupNumber != group) {
+                group = tally.groupNumber;
+                rank = 0;
+            }
+            rank++;
+            entries.add(new Entry(tally.groupNumber, rank, tally.participantId, tally.points,
+                    tally.wins, tally.losses, tally.draws, opponentScores.get(tally.participantId)));
+        }
+        return entries;
+    }
+
+    private static void record(Tally tally, double points, int sign) {
+        if (tally == null) {
+            return;
+        }
+        tally.points += sign * points;
+        if (points == 1.0) {
+            tally.wins += sign;
+        } else if (points == 0.5) {
+            tally.draws += sign;
+        } else {
+            tally.losses += sign;
+        }
+    }
+
+    /**
+     * 順位表の1行
+     *
+     * @param groupNumber グループ番号
+     * @param rank グループ内順位
+     * @param participantId 参加者ID
+     * @param points 勝ち点
+     * @param wins 勝ち数
+     * @param losses 負け数
+     * @param draws 引き分け数
+     * @param opponentScore 対戦相手の勝ち点合計（SOS）
+     */
+    public record Entry(int groupNumber, int rank, UUID participantId, double points,
+                        int wins, int losses, int draws, double opponentScore) {
+    }
+
+    /**
+     * 参加者1名分の集計
+     */
+    private static final class Tally {
+        private final UUID participantId;
+        private final int entryNumber;
+        private final int groupNumber;
+        private final List<UUID> opponents = new ArrayList<>();
+        private double points;
+        private int wins;
+        private int losses;
+        private int draws;
+
+        private Tally(UUID participantId, int entryNumber, int groupNumber) {
+            this.participantId = participantId;
+            this.entryNumber = entryNumber;
+            this.groupNumber = groupNumber;
+        }
+    }
+}
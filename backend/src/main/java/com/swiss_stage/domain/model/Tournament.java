@@ -0,0 +1,156 @@
+package com.swiss_stage.domain.model;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Tournamentエンティティ（ドメインモデル）
+ * スイス方式トーナメントの大会情報（メタデータ）を表す
+ * 憲章原則I「ドメイン駆動設計」、原則VI「コード品質とシンプリシティ」に準拠
+ * ミュータブルな状態（進行状態・現在の回戦・参加者数）が必要なため標準Javaクラスで実装
+ */
+public class Tournament {
+    public static final int MIN_GROUP_COUNT = 1;
+    public static final int MAX_GROUP_COUNT = 8;
+    public static final int MIN_ROUND_COUNT = 2;
+    public static final int MAX_ROUND_COUNT = 5;
+
+    private final UUID tournamentId;
+    private final UUID organizerId;
+    private final String title;
+    private final int groupCount;
+    private final int roundCount;
+    private final LocalDate eventDate;
+    private final Instant createdAt;
+    private TournamentStatus status;
+    private int currentRound;
+    private int participantCount;
+
+    private Tournament(UUID tournamentId, UUID organizerId, String title, int groupCount, int roundCount,
+                       LocalDate eventDate, Instant createdAt, TournamentStatus status,
+                       int currentRound, int participantCount) {
+        this.tournamentId = tournamentId;
+        this.organizerId = organizerId;
+        this.title = title;
+        this.groupCount = groupCount;
+        this.roundCount = roundCount;
+        this.eventDate = eventDate;
+        this.createdAt = createdAt;
+        this.status = status;
+        this.currentRound = currentRound;
+        this.participantCount = participantCount;
+    }
+
+    /**
+     * ファクトリメソッド（新規トーナメント作成）
+     * @param tournamentId トーナメントID
+     * @param organizerId 主催者（User）のID
+     * @param title 大会タイトル（1-100文字）
+     * @param groupCount グループ数（1-8）
+     * @param roundCount 対戦回数（2-5）
+     * @param eventDate 開催日
+     * @return 新規Tournamentエンティティ
+     */
+    public static Tournament create(UUID tournamentId, UUID organizerId, String title,
+                                    int groupCount, int roundCount, LocalDate eventDate) {
+        validateTitle(title);
+        validateGroupCount(groupCount);
+        validateRoundCount(roundCount);
+
+        return new Tournament(tournamentId, organizerId, title, groupCount, roundCount, eventDate,
+                Instant.now(), TournamentStatus.PREPARING, 0, 0);
+    }
+
+    /**
+     * ファクトリメソッド（既存データからの復元）
+     */
+    public static Tournament restore(UUID tournamentId, UUID organizerId, String title, int groupCount,
+                                     int roundCount, LocalDate eventDate, Instant createdAt,
+                                     TournamentStatus status, int currentRound, int participantCount) {
+        return new Tournament(tournamentId, organizerId, title, groupCount, roundCount, eventDate,
+                createdAt, status, currentRound, participantCount);
+    }
+
+    /**
+     * 次の回戦を開始
+     * @return 開始した回戦番号
+     */
+    public int startNextRound() {
+        if (status == TournamentStatus.FINISHED) {
+            throw new IllegalStateException("Tournament is already finished");
+        }
+        if (currentRound >= roundCount) {
+            throw new IllegalStateException("All rounds have already started");
+        }
+        status = TournamentStatus.IN_PROGRESS;
+        currentRound++;
+        return currentRound;
+    }
+
+    /**
+     * トーナメントを終了
+     */
+    public void finish() {
+        status = TournamentStatus.FINISHED;
+    }
+
+    private static void validateTitle(String title) {
+        if (title == null || title.isBlank() || title.length() > 100) {
+            throw new IllegalArgumentException("Title must be 1-100 characters");
+        }
+    }
+
+    private static void validateGroupCount(int groupCount) {
+        if (groupCount < MIN_GROUP_COUNT || groupCount > MAX_GROUP_COUNT) {
+            throw new IllegalArgumentException("Group count must be 1-8");
+        }
+    }
+
+    private static void validateRoundCount(int roundCount) {
+        if (roundCount < MIN_ROUND_COUNT || roundCount > MAX_ROUND_COUNT) {
+            throw new IllegalArgumentException("Round count must be 2-5");
+        }
+    }
+
+    // Getters
+    public UUID getTournamentId() {
+        return tournamentId;
+    }
+
+    public UUID getOrganizerId() {
+        return organizerId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public int getGroupCount() {
+        return groupCount;
+    }
+
+    public int getRoundCount() {
+        return roundCount;
+    }
+
+    public LocalDate getEventDate() {
+        return eventDate;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public TournamentStatus getStatus() {
+        return status;
+    }
+
+    public int getCurrentRound() {
+        return currentRound;
+    }
+
+    public int getParticipantCount() {
+        return participantCount;
+    }
+}
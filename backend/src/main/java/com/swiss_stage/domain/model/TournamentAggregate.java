@@ -0,0 +1,25 @@
+package com.swiss_stage.domain.model;
+
+import java.util.List;
+
+/**
+ * トーナメント集約（ドメインモデル）
+ * 大会情報・参加者・回戦・対局をまとめて保持する読み取り用の集約
+ *
+ * @param tournament 大会情報
+ * @param participants 参加者（エントリー番号順）
+ * @param rounds 回戦（回戦番号順）
+ * @param matches 対局（回戦・グループ・対局番号順）
+ */
+public record TournamentAggregate(
+        Tournament tournament,
+        List<Participant> participants,
+        List<Round> rounds,
+        List<Match> matches
+) {
+    public TournamentAggregate {
+        participants = List.copyOf(participants);
+        rounds = List.copyOf(rounds);
+        matches = List.copyOf(matches);
+    }
+}
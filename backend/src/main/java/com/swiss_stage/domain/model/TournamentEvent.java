@@ -0,0 +1,68 @@
+package com.swiss_stage.domain.model;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * トーナメントの変更イベント（ドメインモデル）
+ * イベントログ（追記のみ）に記録し、畳み込むことで大会の進行状態を再構築する
+ * 種別ごとにJava標準Recordで表現する
+ */
+public sealed interface TournamentEvent {
+
+    /**
+     * 発生日時
+     * @return 発生日時
+     */
+    Instant occurredAt();
+
+    /**
+     * 組合せ確定
+     *
+     * @param roundNumber 回戦
+     * @param matches 確定した対局（結果未入力）
+     * @param occurredAt 発生日時
+     */
+    record RoundPaired(int roundNumber, List<Match> matches, Instant occurredAt) implements TournamentEvent {
+        public RoundPaired {
+            matches = List.copyOf(matches);
+        }
+    }
+
+    /**
+     * 結果入力
+     *
+     * @param roundNumber 回戦
+     * @param groupNumber グループ番号
+     * @param tableNumber 対局番号
+     * @param result 対戦結果
+     * @param occurredAt 発生日時
+     */
+    record ResultEntered(int roundNumber, int groupNumber, int tableNumber, MatchResult result,
+                         Instant occurredAt) implements TournamentEvent {
+    }
+
+    /**
+     * 結果修正
+     *
+     * @param roundNumber 回戦
+     * @param groupNumber グループ番号
+     * @param tableNumber 対局番号
+     * @param previousResult 修正前の対戦結果
+     * @param result 修正後の対戦結果
+     * @param occurredAt 発生日時
+     */
+    record ResultCorrected(int roundNumber, int groupNumber, int tableNumber, MatchResult previousResult,
+                           MatchResult result, Instant occurredAt) implements TournamentEvent {
+    }
+
+    /**
+     * 参加者のCSVインポート
+     * 参加者は進行状態に含めないため畳み込みでは連番のみ進め、順位表・配信は集約から作り直す
+     *
+     * @param importedCount 登録した参加者数
+     * @param occurredAt 発生日時
+     */
+    record ParticipantsImported(int importedCount, Instant occurredAt) implements TournamentEvent {
+    }
+}
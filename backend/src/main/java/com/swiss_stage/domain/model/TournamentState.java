@@ -0,0 +1,97 @@
+package com.swiss_stage.domain.model;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * イベントを畳み込んだトーナメントの進行状態（ドメインモデル）
+ * スナップショットとして保存し、以降のイベントだけを適用して最新状態を再構築する
+ *
+ * @param tournamentId トーナメントID
+ * @param sequence 適用済みの最後のイベント連番（イベントなしは0）
+ * @param currentRound 組合せ確定済みの最新回戦
+ * @param matches 対局（回戦・グループ・対局番号順）
+ */
+public record TournamentState(
+        UUID tournamentId,
+        long sequence,
+        int currentRound,
+        List<Match> matches
+) {
+    private static final Comparator<Match> MATCH_ORDER = Comparator
+            .comparingInt(Match::roundNumber)
+            .thenComparingInt(Match::groupNumber)
+            .thenComparingInt(Match::tableNumber);
+
+    public TournamentState {
+        matches = List.copyOf(matches);
+    }
+
+    /**
+     * イベント適用前の初期状態
+     * @param tournamentId トーナメントID
+     * @return 空の状態
+     */
+    public static TournamentState empty(UUID tournamentId) {
+        return new TournamentState(tournamentId, 0, 0, List.of());
+    }
+
+    /**
+     * 連番順のイベントを畳み込む
+     * 適用済みの連番以下のイベントは無視する
+     *
+     * @param events 記録済みイベント（連番の昇順）
+     * @return 適用後の状態
+     */
+    public TournamentState apply(Collection<RecordedEvent> events) {
+        Map<String, Match> byTable = new LinkedHashMap<>();
+        for (Match match : matches) {
+            byTable.put(tableKey(match.roundNumber(), match.groupNumber(), match.tableNumber()), match);
+        }
+        long lastSequence = sequence;
+        int round = currentRound;
+
+        for (RecordedEvent recorded : events) {
+            if (recorded.sequence() <= lastSequence) {
+                continue;
+            }
+            switch (recorded.event()) {
+                case TournamentEvent.RoundPaired paired -> {
+                    for (Match match : paired.matches()) {
+                        byTable.put(tableKey(match.roundNumber(), match.groupNumber(), match.tableNumber()), match);
+                    }
+                    round = Math.max(round, paired.roundNumber());
+                }
+                case TournamentEvent.ResultEntered entered -> applyResult(byTable,
+                        entered.roundNumber(), entered.groupNumber(), entered.tableNumber(), entered.result());
+                case TournamentEvent.ResultCorrected corrected -> applyResult(byTable,
+                        corrected.roundNumber(), corrected.groupNumber(), corrected.tableNumber(), corrected.result());
+                case TournamentEvent.ParticipantsImported imported -> {
+                    // 参加者は状態に含めない（連番のみ進める）
+                }
+            }
+            lastSequence = recorded.sequence();
+        }
+
+        List<Match> sorted = byTable.values().stream().sorted(MATCH_ORDER).toList();
+        return new TournamentState(tournamentId, lastSequence, round, sorted);
+    }
+
+    private static void applyResult(Map<String, Match> byTable, int roundNumber, int groupNumber,
+                                    int tableNumber, MatchResult result) {
+        String key = tableKey(roundNumber, groupNumber, tableNumber);
+        Match match = byTable.get(key);
+        if (match == null) {
+            throw new IllegalStateException("Result recorded for unknown match: " + key);
+        }
+        byTable.put(key, match.withResult(result));
+    }
+
+    private static String tableKey(int roundNumber, int groupNumber, int tableNumber) {
+        return roundNumber + "#" + groupNumber + "#" + tableNumber;
+    }
+}
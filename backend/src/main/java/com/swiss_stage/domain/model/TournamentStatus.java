@@ -0,0 +1,21 @@
+package com.swiss_stage.domain.model;
+
+/**
+ * トーナメントの進行状態
+ */
+public enum TournamentStatus {
+    /** 準備中（参加者登録・設定変更が可能） */
+    PREPARING,
+    /** 進行中 */
+    IN_PROGRESS,
+    /** 終了 */
+    FINISHED;
+
+    /**
+     * 未終了（準備中または進行中）のトーナメントか
+     * @return 未終了の場合true
+     */
+    public boolean isActive() {
+        return this != FINISHED;
+    }
+}
@@ -0,0 +1,23 @@
+package com.swiss_stage.domain.model;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * 主催者のトーナメント一覧表示用の射影（ドメインモデル）
+ * 一覧画面で必要な属性のみを保持する
+ *
+ * @param tournamentId トーナメントID
+ * @param title 大会名
+ * @param status 進行状態
+ * @param eventDate 開催日
+ * @param participantCount 参加者数
+ */
+public record TournamentSummary(
+        UUID tournamentId,
+        String title,
+        TournamentStatus status,
+        LocalDate eventDate,
+        int participantCount
+) {
+}
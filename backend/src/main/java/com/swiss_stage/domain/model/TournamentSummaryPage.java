@@ -0,0 +1,18 @@
+package com.swiss_stage.domain.model;
+
+import java.util.List;
+
+/**
+ * トーナメント一覧の1ページ分の読み込み結果
+ *
+ * @param items 一覧（開催日の新しい順）
+ * @param continuationToken 次のページの読み込み位置（最後のページの場合はnull）
+ */
+public record TournamentSummaryPage(
+        List<TournamentSummary> items,
+        String continuationToken
+) {
+    public TournamentSummaryPage {
+        items = List.copyOf(items);
+    }
+}
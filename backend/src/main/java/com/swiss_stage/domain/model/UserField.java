@@ -0,0 +1,18 @@
+package com.swiss_stage.domain.model;
+
+/**
+ * ユーザーの属性（射影読み込みで取得する属性の指定に使用）
+ * ユーザーIDは常に含まれるため指定不要
+ */
+public enum UserField {
+    /** Google OAuth2のSub */
+    GOOGLE_ID,
+    /** メールアドレス */
+    EMAIL,
+    /** 表示名 */
+    DISPLAY_NAME,
+    /** 作成日時 */
+    CREATED_AT,
+    /** 最終ログイン日時 */
+    LAST_LOGIN_AT
+}
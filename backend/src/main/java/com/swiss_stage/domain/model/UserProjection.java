@@ -0,0 +1,91 @@
+package com.swiss_stage.domain.model;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * ユーザーの一部の属性のみを読み込んだ射影（ドメインモデル）
+ * Userエンティティを組み立てずに、呼び出し元が必要な属性だけを保持する
+ * 読み込んでいない属性を参照した場合はIllegalStateException
+ */
+public final class UserProjection {
+
+    private final UUID userId;
+    private final Map<UserField, Object> values;
+
+    private UserProjection(UUID userId, Map<UserField, Object> values) {
+        this.userId = userId;
+        this.values = values;
+    }
+
+    /**
+     * ファクトリメソッド（読み込んだ属性から作成）
+     * @param userId ユーザーID
+     * @param values 属性ごとの値（String / Instant）
+     * @return UserProjection
+     */
+    public static UserProjection of(UUID userId, Map<UserField, Object> values) {
+        Map<UserField, Object> copy = new EnumMap<>(UserField.class);
+        copy.putAll(values);
+        return new UserProjection(userId, copy);
+    }
+
+    /**
+     * ファクトリメソッド（読み込み済みのUserエンティティから作成）
+     * @param user Userエンティティ
+     * @param fields 保持する属性
+     * @return UserProjection
+     */
+    public static UserProjection from(User user, Set<UserField> fields) {
+        Map<UserField, Object> values = new EnumMap<>(UserField.class);
+        for (UserField field : fields) {
+            values.put(field, switch (field) {
+                case GOOGLE_ID -> user.getGoogleId();
+                case EMAIL -> user.getEmail();
+                case DISPLAY_NAME -> user.getDisplayName();
+                case CREATED_AT -> user.getCreatedAt();
+                case LAST_LOGIN_AT -> user.getLastLoginAt();
+            });
+        }
+        return new UserProjection(user.getUserId(), values);
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public Set<UserField> getFields() {
+        return Collections.unmodifiableSet(values.keySet());
+    }
+
+    public String getGoogleId() {
+        return (String) require(UserField.GOOGLE_ID);
+    }
+
+    public String getEmail() {
+        return (String) require(UserField.EMAIL);
+    }
+
+    public String getDisplayName() {
+        return (String) require(UserField.DISPLAY_NAME);
+    }
+
+    public Instant getCreatedAt() {
+        return (Instant) require(UserField.CREATED_AT);
+    }
+
+    public Instant getLastLoginAt() {
+        return (Instant) require(UserField.LAST_LOGIN_AT);
+    }
+
+    private Object require(UserField field) {
+        if (!values.containsKey(field)) {
+            throw new IllegalStateException("Field was not loaded: " + field);
+        }
+        return values.get(field);
+    }
+}
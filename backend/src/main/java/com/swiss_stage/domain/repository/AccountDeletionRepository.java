@@ -0,0 +1,27 @@
+package com.swiss_stage.domain.repository;
+
+import com.swiss_stage.domain.model.AccountDeletion;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * アカウント削除ジョブの進捗のリポジトリインターフェース（ドメイン層）
+ * 憲章原則I「ドメイン駆動設計」に準拠
+ * 実装はinfrastructure層に配置
+ */
+public interface AccountDeletionRepository {
+
+    /**
+     * ユーザーIDで削除ジョブを検索（強い整合性の読み込み）
+     * @param userId ユーザーID
+     * @return AccountDeletion（存在しない場合はOptional.empty()）
+     */
+    Optional<AccountDeletion> findByUserId(UUID userId);
+
+    /**
+     * 削除ジョブの進捗を保存（新規作成または更新）
+     * @param deletion AccountDeletion
+     */
+    void save(AccountDeletion deletion);
+}
@@ -0,0 +1,34 @@
+package com.swiss_stage.domain.repository;
+
+import com.swiss_stage.domain.model.IdempotencyRecord;
+
+import java.util.Optional;
+
+/**
+ * 冪等キーの記録のリポジトリインターフェース（ドメイン層）
+ * 憲章原則I「ドメイン駆動設計」に準拠
+ * 実装はinfrastructure層に配置
+ */
+public interface IdempotencyRepository {
+
+    /**
+     * 処理中として予約（条件付き書き込み）
+     * 同じキーの有効な記録がない場合のみ書き込む。期限切れの記録は上書きする
+     * @param record 処理中の記録
+     * @return 既に有効な記録がある場合はその記録（予約できた場合はOptional.empty()）
+     */
+    Optional<IdempotencyRecord> reserve(IdempotencyRecord record);
+
+    /**
+     * 記録を保存（予約済みのキーの処理完了時）
+     * @param record 完了済みの記録
+     */
+    void save(IdempotencyRecord record);
+
+    /**
+     * 記録を削除（処理が失敗し、再送で処理をやり直せるようにする場合）
+     * @param scope キーの有効範囲
+     * @param key 冪等キー
+     */
+    void delete(String scope, String key);
+}
@@ -0,0 +1,44 @@
+package com.swiss_stage.domain.repository;
+
+import com.swiss_stage.domain.model.Participant;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * ParticipantRepositoryインターフェース（ドメイン層）
+ * 憲章原則I「ドメイン駆動設計」に準拠
+ * 実装はinfrastructure層に配置
+ */
+public interface ParticipantRepository {
+
+    /**
+     * 1バッチあたりの最大件数（DynamoDB BatchWriteItemの上限）
+     */
+    int MAX_BATCH_SIZE = 25;
+
+    /**
+     * 新規参加者をまとめて保存し、大会情報の参加者数に件数を加算
+     * 1回の呼び出しで渡す件数はMAX_BATCH_SIZE以下とし、すべて同じトーナメントの参加者とする
+     * @param participants 参加者リスト
+     */
+    void saveBatch(List<Participant> participants);
+
+    /**
+     * エントリー番号の範囲を予約
+     * 大会情報の採番カウンターを条件付きで加算するため、並行したインポートに同じ番号を割り当てない
+     * カウンターがない場合（カウンター導入前の大会、大会情報の上書き保存後）はfloorから再開する
+     * @param tournamentId トーナメントID
+     * @param count 予約する件数
+     * @param floor 使用済みであることが分かっているエントリー番号の最大値
+     * @return 予約した範囲の先頭のエントリー番号
+     */
+    int reserveEntryNumbers(UUID tournamentId, int count, int floor);
+
+    /**
+     * トーナメントに登録済みの参加者のエントリー番号の最大値を取得
+     * @param tournamentId トーナメントID
+     * @return エントリー番号の最大値（参加者がいない場合は0）
+     */
+    int findMaxEntryNumber(UUID tournamentId);
+}
@@ -0,0 +1,54 @@
+package com.swiss_stage.domain.repository;
+
+import com.swiss_stage.domain.model.RecordedEvent;
+import com.swiss_stage.domain.model.TournamentEvent;
+import com.swiss_stage.domain.model.TournamentState;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * トーナメントのイベントログ（追記のみ）とスナップショットのリポジトリインターフェース（ドメイン層）
+ * 憲章原則I「ドメイン駆動設計」に準拠
+ * 実装はinfrastructure層に配置
+ */
+public interface TournamentJournalRepository {
+
+    /**
+     * 記録済みの最新イベント連番を取得
+     * @param tournamentId トーナメントID
+     * @return 最新の連番（イベントなしは0）
+     */
+    long findLatestSequence(UUID tournamentId);
+
+    /**
+     * イベントを指定した連番で追記
+     * @param tournamentId トーナメントID
+     * @param sequence 連番（最新の連番+1）
+     * @param event イベント
+     * @throws com.swiss_stage.common.exception.OptimisticLockException 同じ連番が既に記録されていた場合
+     */
+    void append(UUID tournamentId, long sequence, TournamentEvent event);
+
+    /**
+     * 指定した連番より後のイベントを連番順に取得
+     * @param tournamentId トーナメントID
+     * @param afterSequence この連番より後のイベントを取得（先頭からは0）
+     * @return 記録済みイベントのリスト
+     */
+    List<RecordedEvent> findEventsAfter(UUID tournamentId, long afterSequence);
+
+    /**
+     * 最新のスナップショットを取得
+     * @param tournamentId トーナメントID
+     * @return TournamentState（スナップショットがない場合はOptional.empty()）
+     */
+    Optional<TournamentState> findLatestSnapshot(UUID tournamentId);
+
+    /**
+     * スナップショットを保存
+     * @param state 畳み込み済みの状態
+     */
+    void saveSnapshot(TournamentState state);
+}
@@ -0,0 +1,220 @@
+package com.swiss_stage.domain.repository;
+
+import com.swiss_stage.domain.model.Match;
+import com.swiss_stage.domain.model.OpponentMatrix;
+import com.swiss_stage.domain.model.ParticipantSummary;
+import com.swiss_stage.domain.model.RecordedEvent;
+import com.swiss_stage.domain.model.Round;
+import com.swiss_stage.domain.model.Tournament;
+import com.swiss_stage.domain.model.TournamentAggregate;
+import com.swiss_stage.domain.model.TournamentSummaryPage;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * TournamentRepositoryインターフェース（ドメイン層）
+ * 憲章原則I「ドメイン駆動設計」に準拠
+ * 実装はinfrastructure層に配置
+ */
+public interface TournamentRepository {
+
+    /**
+     * 1トランザクションで書き込める最大アイテム数（DynamoDB TransactWriteItemsの上限）
+     */
+    int MAX_TRANSACTION_ITEMS = 100;
+
+    /**
+     * トーナメントIDで大会情報のみを検索
+     * @param tournamentId トーナメントID
+     * @return Tournament（存在しない場合はOptional.empty()）
+     */
+    Optional<Tournament> findById(UUID tournamentId);
+
+    /**
+     * 大会情報・参加者・回戦・対局をまとめて読み込む
+     * @param tournamentId トーナメントID
+     * @return TournamentAggregate（存在しない場合はOptional.empty()）
+     */
+    Optional<TournamentAggregate> loadAggregate(UUID tournamentId);
+
+    /**
+     * 大会情報・参加者・回戦・対局をまとめて読み込む（強い整合性の読み込み）
+     * 読み込み前に確認したイベント連番までの更新を必ず含める必要がある場合に使用する
+     * @param tournamentId トーナメントID
+     * @return TournamentAggregate（存在しない場合はOptional.empty()）
+     */
+    Optional<TournamentAggregate> loadLatestAggregate(UUID tournamentId);
+
+    /**
+     * 参加者一覧表示用の射影を取得（エントリー番号順）
+     * @param tournamentId トーナメントID
+     * @return 参加者サマリーのリスト
+     */
+    List<ParticipantSummary> findParticipantSummaries(UUID tournamentId);
+
+    /**
+     * 指定した回戦の対局を取得（グループ・対局番号順）
+     * @param tournamentId トーナメントID
+     * @param roundNumber 回戦
+     * @return 対局のリスト
+     */
+    List<Match> findMatchesByRound(UUID tournamentId, int roundNumber);
+
+    /**
+     * 指定した回戦の対局をページ単位で読み込みながら順に渡す（グループ・対局番号順、結果整合性の読み込み）
+     * 回戦全体をリストに保持しないため、対戦表の出力など件数の多い読み出しに使用する
+     * @param tournamentId トーナメントID
+     * @param roundNumber 回戦
+     * @param consumer 対局を受け取る処理
+     */
+    void forEachMatchInRound(UUID tournamentId, int roundNumber, Consumer<Match> consumer);
+
+    /**
+     * 回戦を取得（強い整合性の読み込み）
+     * @param tournamentId トーナメントID
+     * @param roundNumber 回戦
+     * @return Round（存在しない場合はOptional.empty()）
+     */
+    Optional<Round> findRound(UUID tournamentId, int roundNumber);
+
+    /**
+     * 対局を取得（強い整合性の読み込み）
+     * @param tournamentId トーナメントID
+     * @param roundNumber 回戦
+     * @param groupNumber グループ番号
+     * @param tableNumber 対局番号
+     * @return Match（存在しない場合はOptional.empty()）
+     */
+    Optional<Match> findMatch(UUID tournamentId, int roundNumber, int groupNumber, int tableNumber);
+
+    /**
+     * グループの対戦済み行列を取得（強い整合性の読み込み）
+     * @param tournamentId トーナメントID
+     * @param groupNumber グループ番号
+     * @return OpponentMatrix（未保存の場合はOptional.empty()）
+     */
+    Optional<OpponentMatrix> findOpponentMatrix(UUID tournamentId, int groupNumber);
+
+    /**
+     * 全グループの対戦済み行列をまとめて取得（強い整合性の読み込み）
+     * @param tournamentId トーナメントID
+     * @return グループ番号順のOpponentMatrix（未保存のグループは含まない）
+     */
+    List<OpponentMatrix> findOpponentMatrices(UUID tournamentId);
+
+    /**
+     * 主催者に未終了（準備中・進行中）のトーナメントがあるか
+     * 未終了のトーナメントのみを含むインデックスを1件だけ読み込んで判定する（結果整合性）
+     * @param organizerId 主催者のユーザーID
+     * @return 未終了のトーナメントがある場合true
+     */
+    boolean hasActiveTournaments(UUID organizerId);
+
+    /**
+     * 主催者の全トーナメントのIDを取得（開催日順）
+     * @param organizerId 主催者のユーザーID
+     * @return トーナメントIDのリスト
+     */
+    List<UUID> findTournamentIdsByOrganizer(UUID organizerId);
+
+    /**
+     * 主催者のトーナメント一覧の1ページ分を取得（開催日の新しい順）
+     * 一覧に必要な属性のみを読み込み、ページの件数はDynamoDB側で制限する
+     * @param organizerId 主催者のユーザーID
+     * @param limit 1ページの最大件数
+     * @param continuationToken 前のページの読み込み結果が返した読み込み位置（最初のページはnull）
+     * @return 一覧と次のページの読み込み位置
+     * @throws IllegalArgumentException 読み込み位置の形式が不正な場合
+     */
+    TournamentSummaryPage findSummariesByOrganizer(UUID organizerId, int limit, String continuationToken);
+
+    /**
+     * 大会情報を保存（新規作成または更新）
+     * @param tournament Tournamentエンティティ
+     * @return 保存されたTournament
+     */
+    Tournament save(Tournament tournament);
+
+    /**
+     * 回戦を保存
+     * version=0の場合は新規作成、それ以外は保存済みのバージョンが一致する場合のみ更新する
+     * @param round Round（読み込み時のバージョンを保持）
+     * @return バージョンを1増やした保存後のRound
+     * @throws com.swiss_stage.common.exception.OptimisticLockException 他の操作者が先に更新していた場合
+     */
+    Round saveRound(Round round);
+
+    /**
+     * 対局をまとめて保存（組合せ作成時の一括登録）
+     * 条件なしで書き込むため、事前にsaveRoundで組合せ作成中の回戦を予約しておく
+     * @param matches 対局リスト
+     */
+    void saveMatches(List<Match> matches);
+
+    /**
+     * 回戦の対局をまとめて削除（確定できなかった組合せの取り消し）
+     * @param tournamentId トーナメントID
+     * @param roundNumber 回戦
+     */
+    void deleteMatchesByRound(UUID tournamentId, int roundNumber);
+
+    /**
+     * 回戦を削除（組合せ作成中の予約の解除）
+     * 保存済みのバージョンが一致する場合のみ削除する
+     * @param round Round（保存後のバージョンを保持）
+     * @throws com.swiss_stage.common.exception.OptimisticLockException 他の操作者が予約を引き継いでいた場合
+     */
+    void deleteRound(Round round);
+
+    /**
+     * 組合せ確定時の大会情報（現在の回戦）・回戦・対戦済み行列・イベントログへの追記を1トランザクションで保存
+     * 回戦は事前にsaveRoundで予約し、対局はsaveMatchesで登録しておく
+     * @param tournament 回戦を進めたTournament
+     * @param round 確定したRound（予約の保存後のバージョンを保持）
+     * @param opponentMatrices 新規作成する対戦済み行列（version=0、保存済みのグループは含めない）
+     * @param event イベントログに追記するイベント
+     * @throws com.swiss_stage.common.exception.OptimisticLockException 予約が引き継がれた、または対戦済み行列・イベントの連番が保存済みの場合
+     */
+    void savePairing(Tournament tournament, Round round, List<OpponentMatrix> opponentMatrices,
+                     RecordedEvent event);
+
+    /**
+     * 対局結果・回戦の入力済み件数・対戦済み行列・イベントログへの追記を1トランザクションで保存
+     * いずれかのバージョンが読み込み時から変わっていた場合、またはイベントの連番が記録済みの場合は何も書き込まない
+     * @param match 結果入力後のMatch（読み込み時のバージョンを保持）
+     * @param round 件数更新後のRound（読み込み時のバージョンを保持）
+     * @param opponentMatrices 更新した対戦済み行列（読み込み時のバージョンを保持、結果の修正のみの場合は空）
+     * @param event イベントログに追記するイベント
+     * @return バージョンを1増やした保存後のMatch
+     * @throws com.swiss_stage.common.exception.OptimisticLockException 他の操作者が先に更新していた場合
+     */
+    Match saveMatchResult(Match match, Round round, List<OpponentMatrix> opponentMatrices, RecordedEvent event);
+
+    /**
+     * 複数の対局結果・回戦の入力済み件数・対戦済み行列・イベントログへの追記を1トランザクションで保存
+     * 対局数×2+2+対戦済み行列数がMAX_TRANSACTION_ITEMS以下である必要がある（回戦と、保存方式によっては集約キャッシュの無効化で2件）
+     * @param matches 結果入力後のMatch（読み込み時のバージョンを保持）
+     * @param round 件数更新後のRound（読み込み時のバージョンを保持）
+     * @param opponentMatrices 更新した対戦済み行列（読み込み時のバージョンを保持、結果の修正のみの場合は空）
+     * @param events イベントログに追記するイベント（matchesと同数）
+     * @return バージョンを1増やした保存後のMatch（matchesと同じ順序）
+     * @throws com.swiss_stage.common.exception.OptimisticLockException 他の操作者が先に更新していた場合
+     */
+    List<Match> saveMatchResults(List<Match> matches, Round round, List<OpponentMatrix> opponentMatrices,
+                                 List<RecordedEvent> events);
+
+    /**
+     * トーナメントの全アイテム（大会情報・参加者・回戦・対局・イベントログなど）を削除
+     * アイテムを25件ずつのチャンクに分けて並列に削除し、大会情報は最後に削除する
+     * （途中で失敗しても、主催者のトーナメント一覧から再実行できる）
+     * @param tournamentId トーナメントID
+     * @param parallelism 同時に実行する削除チャンク数
+     * @param onDeleted チャンクの削除が完了するたびに削除件数を受け取る（削除を実行したスレッドから呼ばれる）
+     * @return 削除したアイテム数
+     */
+    long deleteTournament(UUID tournamentId, int parallelism, LongConsumer onDeleted);
+}
@@ -1,8 +1,11 @@
 package com.swiss_stage.domain.repository;
 
 import com.swiss_stage.domain.model.User;
+import com.swiss_stage.domain.model.UserField;
+import com.swiss_stage.domain.model.UserProjection;
 
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -19,6 +22,28 @@ public interface UserRepository {
      */
     Optional<User> findById(UUID userId);
 
+    /**
+     * ユーザーIDで指定した属性のみを読み込む（Userエンティティを組み立てない）
+     * @param userId ユーザーID
+     * @param fields 読み込む属性
+     * @return UserProjection（存在しない場合はOptional.empty()）
+     */
+    Optional<UserProjection> findProjection(UUID userId, Set<UserField> fields);
+
+    /**
+     * ユーザーIDで表示名のみを読み込む
+     * @param userId ユーザーID
+     * @return 表示名（存在しない場合はOptional.empty()）
+     */
+    Optional<String> findDisplayName(UUID userId);
+
+    /**
+     * ユーザーが存在するか（キー以外の属性は読み込まない）
+     * @param userId ユーザーID
+     * @return 存在する場合true
+     */
+    boolean existsById(UUID userId);
+
     /**
      * Google IDでユーザーを検索
      * @param googleId Google OAuth2のSub
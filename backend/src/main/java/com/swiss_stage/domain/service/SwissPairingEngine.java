@@ -0,0 +1,140 @@
+package com.swiss_stage.domain.service;
+
+import com.swiss_stage.domain.model.Match;
+import com.swiss_stage.domain.model.OpponentMatrix;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * スイス式の組合せ作成（ドメインサービス）
+ *
+ * 1グループ分の参加者を順位順に受け取り、次のルールで対局を作る
+ * - 上位から順に、まだ組まれていない最上位の参加者と「未対戦者同士」になる最も順位の近い相手を組む
+ * - 行き詰まった場合はバックトラックして1つ前の組を組み替える
+ * - 参加者が奇数の場合、不戦を受けていない最下位の参加者を不戦（ダミー対戦）とする
+ * - 先手（黒）は順位が上の参加者
+ *
+ * 対戦済みの判定はOpponentMatrixのビット列を直接参照し、参加者ごとの対戦相手集合は作らない
+ * 探索がmaxSteps回を超えた場合は、再戦を許して順位順に組む
+ */
+public class SwissPairingEngine {
+
+    static final int DEFAULT_MAX_STEPS = 100_000;
+
+    private final int maxSteps;
+
+    public SwissPairingEngine() {
+        this(DEFAULT_MAX_STEPS);
+    }
+
+    public SwissPairingEngine(int maxSteps) {
+        this.maxSteps = maxSteps;
+    }
+
+    /**
+     * 1グループ分の組合せを作成
+     *
+     * @param tournamentId トーナメントID
+     * @param roundNumber 回戦
+     * @param rankedParticipantIds 組合せ対象の参加者ID（順位順、棄権者を除く）
+     * @param matrix グループの対戦済み行列
+     * @return 対局番号順の対局（不戦は最後の対局番号）
+     */
+    public List<Match> pair(UUID tournamentId, int roundNumber, List<UUID> rankedParticipantIds,
+                            OpponentMatrix matrix) {
+        List<UUID> players = new ArrayList<>(rankedParticipantIds);
+        UUID byeParticipantId = null;
+        if (players.size() % 2 == 1) {
+            byeParticipantId = players.remove(selectBye(players, matrix));
+        }
+
+        int[] indexes = new int[players.size()];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = matrix.indexOf(players.get(i));
+        }
+        int[] partners = new int[players.size()];
+        Arrays.fill(partners, -1);
+        Search search = new Search(indexes, partners, matrix);
+        if (!search.solve()) {
+            // 再戦を避けられない（または探索が長すぎる）場合は順位順に組む
+            for (int i = 0; i < partners.length; i += 2) {
+                partners[i] = i + 1;
+                partners[i + 1] = i;
+            }
+        }
+
+        List<Match> matches = new ArrayList<>(players.size() / 2 + 1);
+        int groupNumber = matrix.getGroupNumber();
+        for (int i = 0; i < partners.length; i++) {
+            if (partners[i] > i) {
+                matches.add(Match.paired(tournamentId, roundNumber, groupNumber, matches.size() + 1,
+                        players.get(i), players.get(partners[i])));
+            }
+        }
+        if (byeParticipantId != null) {
+            matches.add(Match.paired(tournamentId, roundNumber, groupNumber, matches.size() + 1,
+                    byeParticipantId, null));
+        }
+        return matches;
+    }
+
+    /**
+     * 不戦を受けていない最下位の参加者（全員が不戦済みの場合は最下位）
+     */
+    private static int selectBye(List<UUID> players, OpponentMatrix matrix) {
+        for (int i = players.size() - 1; i >= 0; i--) {
+            if (!matrix.hasHadBye(matrix.indexOf(players.get(i)))) {
+                return i;
+            }
+        }
+        return players.size() - 1;
+    }
+
+    /**
+     * 再戦なしの組合せのバックトラック探索
+     */
+    private final class Search {
+        private final int[] indexes;
+        private final int[] partners;
+        private final OpponentMatrix matrix;
+        private int steps;
+
+        private Search(int[] indexes, int[] partners, OpponentMatrix matrix) {
+            this.indexes = indexes;
+            this.partners = partners;
+            this.matrix = matrix;
+        }
+
+        private boolean solve() {
+            int first = 0;
+            while (first < partners.length && partners[first] >= 0) {
+                first++;
+            }
+            if (first == partners.length) {
+                return true;
+            }
+            for (int second = first + 1; second < partners.length; second++) {
+                if (partners[second] >= 0 || matrix.hasPlayed(indexes[first], indexes[second])) {
+                    continue;
+                }
+                if (++steps > maxSteps) {
+                    return false;
+                }
+                partners[first] = second;
+                partners[second] = first;
+                if (solve()) {
+                    return true;
+                }
+                partners[first] = -1;
+                partners[second] = -1;
+                if (steps > maxSteps) {
+                    return false;
+                }
+            }
+            return false;
+        }
+    }
+}
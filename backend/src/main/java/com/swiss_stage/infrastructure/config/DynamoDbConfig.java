@@ -1,21 +1,30 @@
 package com.swiss_stage.infrastructure.config;
 
+import com.swiss_stage.infrastructure.dynamodb.AimdConcurrencyLimiter;
+import com.swiss_stage.infrastructure.dynamodb.CircuitBreaker;
+import com.swiss_stage.infrastructure.dynamodb.DynamoDbRetryPolicy;
+import com.swiss_stage.infrastructure.dynamodb.GetItemHedger;
+import com.swiss_stage.infrastructure.dynamodb.ResilientDynamoDbClient;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClientBuilder;
 
 import java.net.URI;
+import java.time.Duration;
 
 /**
  * DynamoDB設定クラス
  * ローカル開発環境とAWS本番環境の両方に対応
+ * 全リポジトリが使うクライアントは ResilientDynamoDbClient（リトライ・同時実行数制限・サーキットブレーカー）で包む
  */
 @Configuration
 public class DynamoDbConfig {
@@ -26,10 +35,87 @@ public class DynamoDbConfig {
     @Value("${aws.dynamodb.endpoint:}")
     private String dynamoDbEndpoint;
 
+    @Value("${aws.dynamodb.resilience.attempt-timeout-ms:3000}")
+    private long attemptTimeoutMs;
+
+    @Value("${aws.dynamodb.resilience.max-attempts:4}")
+    private int maxAttempts;
+
+    @Value("${aws.dynamodb.resilience.base-backoff-ms:25}")
+    private long baseBackoffMs;
+
+    @Value("${aws.dynamodb.resilience.max-backoff-ms:1000}")
+    private long maxBackoffMs;
+
+    @Value("${aws.dynamodb.resilience.retry-budget-ratio:0.1}")
+    private double retryBudgetRatio;
+
+    @Value("${aws.dynamodb.resilience.retry-budget-max-tokens:50}")
+    private int retryBudgetMaxTokens;
+
+    @Value("${aws.dynamodb.resilience.initial-concurrency:32}")
+    private int initialConcurrency;
+
+    @Value("${aws.dynamodb.resilience.min-concurrency:4}")
+    private int minConcurrency;
+
+    @Value("${aws.dynamodb.resilience.max-concurrency:256}")
+    private int maxConcurrency;
+
+    @Value("${aws.dynamodb.resilience.latency-threshold-ms:250}")
+    private long latencyThresholdMs;
+
+    @Value("${aws.dynamodb.resilience.max-queue-wait-ms:100}")
+    private long maxQueueWaitMs;
+
+    @Value("${aws.dynamodb.resilience.circuit-window-size:50}")
+    private int circuitWindowSize;
+
+    @Value("${aws.dynamodb.resilience.circuit-minimum-calls:20}")
+    private int circuitMinimumCalls;
+
+    @Value("${aws.dynamodb.resilience.circuit-failure-rate:0.5}")
+    private double circuitFailureRate;
+
+    @Value("${aws.dynamodb.resilience.circuit-open-ms:5000}")
+    private long circuitOpenMs;
+
     @Bean
-    public DynamoDbClient dynamoDbClient() {
+    public DynamoDbClient dynamoDbClient(MeterRegistry meterRegistry) {
+        return new ResilientDynamoDbClient(
+                sdkClient(),
+                new DynamoDbRetryPolicy(maxAttempts, Duration.ofMillis(baseBackoffMs), Duration.ofMillis(maxBackoffMs),
+                        retryBudgetRatio, retryBudgetMaxTokens),
+                new AimdConcurrencyLimiter(initialConcurrency, minConcurrency, maxConcurrency, 0.9,
+                        Duration.ofMillis(latencyThresholdMs), Duration.ofMillis(maxQueueWaitMs)),
+                new CircuitBreaker(circuitWindowSize, circuitMinimumCalls, circuitFailureRate,
+                        Duration.ofMillis(circuitOpenMs)),
+                meterRegistry);
+    }
+
+    /**
+     * 認証済みリクエストの経路で使うGetItemのヘッジ（既定は無効）
+     */
+    @Bean
+    public GetItemHedger getItemHedger(
+            DynamoDbClient dynamoDbClient,
+            MeterRegistry meterRegistry,
+            @Value("${aws.dynamodb.hedging.enabled:false}") boolean enabled,
+            @Value("${aws.dynamodb.hedging.percentile:0.95}") double percentile,
+            @Value("${aws.dynamodb.hedging.min-delay-ms:5}") long minDelayMs,
+            @Value("${aws.dynamodb.hedging.min-samples:100}") long minSamples,
+            @Value("${aws.dynamodb.hedging.max-ratio:0.05}") double maxRatio) {
+        return new GetItemHedger(dynamoDbClient, enabled, percentile, Duration.ofMillis(minDelayMs), minSamples,
+                maxRatio, meterRegistry);
+    }
+
+    private DynamoDbClient sdkClient() {
         DynamoDbClientBuilder builder = DynamoDbClient.builder()
-                .region(Region.of(awsRegion));
+                .region(Region.of(awsRegion))
+                // リトライはResilientDynamoDbClientで行うため、SDKのリトライは無効化して二重リトライを防ぐ
+                .overrideConfiguration(config -> config
+                        .retryPolicy(RetryPolicy.none())
+                        .apiCallAttemptTimeout(Duration.ofMillis(attemptTimeoutMs)));
 
         // ローカル開発（DynamoDB Local）が指定されている場合のみダミーの静的認証情報を使う
         if (dynamoDbEndpoint != null && !dynamoDbEndpoint.isBlank()) {
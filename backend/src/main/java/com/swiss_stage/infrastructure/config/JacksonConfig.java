@@ -0,0 +1,29 @@
+package com.swiss_stage.infrastructure.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.NativeDetector;
+
+/**
+ * JSONシリアライズ（Jackson）の設定
+ *
+ * Spring Bootが作成する ObjectMapper（APIのレスポンス・SSE配信・参照URLのスナップショットで共通）に
+ * Blackbirdモジュールを追加し、DTOのアクセサー呼び出しをリフレクションから生成したラムダに置き換える
+ * - Spring BootはModuleのBeanをすべてObjectMapperに登録する
+ * - ネイティブイメージでは実行時のクラス生成ができないため、何もしないモジュールに置き換える（リフレクションのまま）
+ * - 手動でシリアライズする箇所は型ごとの ObjectWriter をフィールドに保持して使い回す
+ */
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public Module blackbirdModule() {
+        if (NativeDetector.inNativeImage()) {
+            return new SimpleModule("blackbird-disabled");
+        }
+        return new BlackbirdModule();
+    }
+}
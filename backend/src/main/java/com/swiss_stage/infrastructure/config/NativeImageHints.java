@@ -0,0 +1,107 @@
+package com.swiss_stage.infrastructure.config;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationResponseType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * ネイティブイメージ（./gradlew nativeCompile -Pnative）向けの実行時ヒント
+ *
+ * Spring AOTが自動で検出できない、ライブラリ内部のクラス名による生成・リソース読み込み・Javaシリアライズを登録する
+ * - jjwt: jjwt-api が実装クラス（runtimeOnlyの jjwt-impl）をクラス名から生成する
+ *   （Serializer・Deserializer の jjwt-jackson はServiceLoaderで検出されるため登録不要）
+ * - AWS SDK: execution.interceptors に列挙されたインターセプターをクラス名から生成する
+ * - logstash-logback-encoder: logback-spring.xml のエンコーダーをクラス名から生成し、setterで設定する
+ * - OAuth2の認可リクエスト: CookieOAuth2AuthorizationRequestRepository がJavaシリアライズでCookieに保持する
+ *
+ * JVMでの起動では使用されない
+ */
+public class NativeImageHints implements RuntimeHintsRegistrar {
+
+    private static final List<String> JJWT_IMPLEMENTATIONS = List.of(
+            "io.jsonwebtoken.impl.DefaultJwtBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtHeaderBuilder",
+            "io.jsonwebtoken.impl.DefaultClaimsBuilder",
+            "io.jsonwebtoken.impl.io.StandardCompressionAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardSecureDigestAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardEncryptionAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardHashAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyOperations",
+            "io.jsonwebtoken.impl.security.KeysBridge");
+
+    private static final List<String> LOGSTASH_ENCODER_TYPES = List.of(
+            "net.logstash.logback.encoder.LogstashEncoder",
+            "net.logstash.logback.fieldnames.LogstashFieldNames");
+
+    private static final String AWS_INTERCEPTORS_PATTERN = "classpath*:software/amazon/awssdk/**/execution.interceptors";
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        for (String type : JJWT_IMPLEMENTATIONS) {
+            hints.reflection().registerType(TypeReference.of(type), MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        }
+
+        registerAwsInterceptors(hints, classLoader);
+
+        for (String type : LOGSTASH_ENCODER_TYPES) {
+            hints.reflection().registerType(TypeReference.of(type),
+                    MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+
+        hints.serialization()
+                .registerType(OAuth2AuthorizationRequest.class)
+                .registerType(AuthorizationGrantType.class)
+                .registerType(OAuth2AuthorizationResponseType.class)
+                .registerType(String.class)
+                .registerType(HashMap.class)
+                .registerType(LinkedHashMap.class)
+                .registerType(HashSet.class)
+                .registerType(LinkedHashSet.class)
+                .registerType(TypeReference.of("java.util.Collections$UnmodifiableCollection"))
+                .registerType(TypeReference.of("java.util.Collections$UnmodifiableSet"))
+                .registerType(TypeReference.of("java.util.Collections$UnmodifiableMap"));
+    }
+
+    /**
+     * AWS SDKのインターセプター一覧（sdk-core の global/handlers と各サービスのもの）をビルド時に読み、
+     * 一覧のリソースと列挙されたクラスを登録する
+     */
+    private static void registerAwsInterceptors(RuntimeHints hints, ClassLoader classLoader) {
+        hints.resources().registerPattern("software/amazon/awssdk/global/handlers/execution.interceptors");
+        hints.resources().registerPattern("software/amazon/awssdk/services/*/execution.interceptors");
+        try {
+            Resource[] resources = new PathMatchingResourcePatternResolver(classLoader)
+                    .getResources(AWS_INTERCEPTORS_PATTERN);
+            for (Resource resource : resources) {
+                try (BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+                    reader.lines()
+                            .map(String::trim)
+                            .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                            .forEach(type -> hints.reflection().registerType(TypeReference.of(type),
+                                    MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS));
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read AWS SDK interceptor lists", e);
+        }
+    }
+}
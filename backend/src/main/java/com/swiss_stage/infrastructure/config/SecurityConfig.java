@@ -1,6 +1,9 @@
 package com.swiss_stage.infrastructure.config;
 
+import com.swiss_stage.presentation.filter.IdempotencyKeyFilter;
 import com.swiss_stage.presentation.filter.JwtAuthenticationFilter;
+import com.swiss_stage.presentation.handler.CookieOAuth2AuthorizationRequestRepository;
+import com.swiss_stage.presentation.handler.IdTokenOidcUserService;
 import com.swiss_stage.presentation.handler.OAuth2AuthenticationSuccessHandler;
 import com.swiss_stage.presentation.handler.OAuth2AuthenticationFailureHandler;
 import org.springframework.beans.factory.annotation.Value;
@@ -34,15 +37,24 @@ public class SecurityConfig {
     private String frontendUrl;
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final IdempotencyKeyFilter idempotencyKeyFilter;
     private final OAuth2AuthenticationSuccessHandler oAuth2AuthenticationSuccessHandler;
     private final OAuth2AuthenticationFailureHandler oAuth2AuthenticationFailureHandler;
+    private final CookieOAuth2AuthorizationRequestRepository authorizationRequestRepository;
+    private final IdTokenOidcUserService idTokenOidcUserService;
 
     public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter,
+                         IdempotencyKeyFilter idempotencyKeyFilter,
                          OAuth2AuthenticationSuccessHandler oAuth2AuthenticationSuccessHandler,
-                         OAuth2AuthenticationFailureHandler oAuth2AuthenticationFailureHandler) {
+                         OAuth2AuthenticationFailureHandler oAuth2AuthenticationFailureHandler,
+                         CookieOAuth2AuthorizationRequestRepository authorizationRequestRepository,
+                         IdTokenOidcUserService idTokenOidcUserService) {
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
+        this.idempotencyKeyFilter = idempotencyKeyFilter;
         this.oAuth2AuthenticationSuccessHandler = oAuth2AuthenticationSuccessHandler;
         this.oAuth2AuthenticationFailureHandler = oAuth2AuthenticationFailureHandler;
+        this.authorizationRequestRepository = authorizationRequestRepository;
+        this.idTokenOidcUserService = idTokenOidcUserService;
 
         logger.info("SecurityConfig constructed. jwtFilter={}, successHandler={}, failureHandler={}",
             jwtAuthenticationFilter.getClass().getName(),
@@ -59,14 +71,23 @@ public class SecurityConfig {
                 .sessionCreationPolicy(SessionCreationPolicy.STATELESS)) // JWTベース認証のためセッションレス
             .authorizeHttpRequests(authz -> authz
                 .requestMatchers("/", "/login/**", "/oauth2/**", "/error").permitAll()
+                .requestMatchers("/api/public/**").permitAll() // 参加者向け参照URL（ログイン不要）
+                .requestMatchers("/actuator/health", "/actuator/health/**").permitAll() // ロードバランサーのヘルスチェック
                 .anyRequest().authenticated()
             )
             .oauth2Login(oauth2 -> oauth2
                     .loginPage(frontendUrl + "/login")
+                    // 認可リクエストをセッションではなくCookieに保持し、コールバックをどのノードでも処理できるようにする
+                    .authorizationEndpoint(endpoint -> endpoint
+                            .authorizationRequestRepository(authorizationRequestRepository))
+                    // ユーザー情報はID Tokenのクレームから作成し、UserInfoエンドポイントを呼び出さない
+                    .userInfoEndpoint(userInfo -> userInfo.oidcUserService(idTokenOidcUserService))
                     .successHandler(oAuth2AuthenticationSuccessHandler)
                     .failureHandler(oAuth2AuthenticationFailureHandler)
             )
-            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+            // 認証済みユーザーをキーの有効範囲にするため、JWT認証の後に配置
+            .addFilterAfter(idempotencyKeyFilter, JwtAuthenticationFilter.class);
         return http.build();
     }
 
@@ -76,6 +97,7 @@ public class SecurityConfig {
         configuration.setAllowedOrigins(List.of(frontendUrl));
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(Arrays.asList("*"));
+        configuration.setExposedHeaders(List.of(IdempotencyKeyFilter.REPLAYED_HEADER));
         configuration.setAllowCredentials(true); // Cookie送信を許可
         configuration.setMaxAge(3600L);
 
@@ -0,0 +1,116 @@
+package com.swiss_stage.infrastructure.dynamodb;
+
+import java.time.Duration;
+
+/**
+ * AIMD（加算増加・乗算減少）方式の同時実行数リミッター
+ *
+ * - 応答が閾値以内で、上限の半分以上を使っている間は上限を 1/上限 ずつ増やす（上限1周分の成功で+1）
+ * - スロットリング・障害・閾値超過の応答では上限に backoffRatio を掛けて下げる
+ * - 上限に達している場合は maxWait まで空きを待ち、空かなければ拒否する
+ */
+public class AimdConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long latencyThresholdNanos;
+    private final long maxWaitNanos;
+
+    private double limit;
+    private int inFlight;
+
+    /**
+     * @param initialLimit 初期の同時実行数上限
+     * @param minLimit 同時実行数上限の下限
+     * @param maxLimit 同時実行数上限の上限
+     * @param backoffRatio 減少時に掛ける係数（0〜1）
+     * @param latencyThreshold この時間を超えた応答は過負荷の兆候として上限を下げる
+     * @param maxWait 空きを待つ最大時間
+     */
+    public AimdConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double backoffRatio,
+                                  Duration latencyThreshold, Duration maxWait) {
+        if (minLimit < 1 || minLimit > maxLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 1 <= min <= initial <= max");
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("backoffRatio must be between 0 and 1");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.maxWaitNanos = maxWait.toNanos();
+        this.limit = initialLimit;
+    }
+
+    /**
+     * 実行枠を取得する（空きがなければ最大 maxWait まで待つ）
+     *
+     * @return 取得できた場合true
+     */
+    public synchronized boolean acquire() {
+        long deadline = System.nanoTime() + maxWaitNanos;
+        while (inFlight >= (int) limit) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return false;
+            }
+            try {
+                wait(Math.max(1, remaining / 1_000_000));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        inFlight++;
+        return true;
+    }
+
+    /**
+     * 成功した呼び出しの枠を返し、応答時間に応じて上限を調整する
+     *
+     * @param latencyNanos 応答時間
+     */
+    public synchronized void onSuccess(long latencyNanos) {
+        if (latencyNanos > latencyThresholdNanos) {
+            decrease();
+        } else if (inFlight * 2 >= limit) {
+            // 上限を使い切っていない間は増やさない（アイドル時に上限が膨らみ続けるのを防ぐ）
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        }
+        release();
+    }
+
+    /**
+     * スロットリング・障害で失敗した呼び出しの枠を返し、上限を下げる
+     */
+    public synchronized void onDropped() {
+        decrease();
+        release();
+    }
+
+    /**
+     * 負荷と無関係な失敗（条件不一致など）の枠を返す（上限は変えない）
+     */
+    public synchronized void onIgnored() {
+        release();
+    }
+
+    public synchronized int limit() {
+        return (int) limit;
+    }
+
+    public synchronized int inFlight() {
+        return inFlight;
+    }
+
+    private void decrease() {
+        limit = Math.max(minLimit, limit * backoffRatio);
+    }
+
+    private void release() {
+        inFlight--;
+        notifyAll();
+    }
+}
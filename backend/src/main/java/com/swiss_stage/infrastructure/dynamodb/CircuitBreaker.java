@@ -0,0 +1,160 @@
+package com.swiss_stage.infrastructure.dynamodb;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * 失敗率ベースのサーキットブレーカー
+ *
+ * 状態遷移:
+ * - CLOSED: 直近 windowSize 件の失敗率が閾値以上（minimumCalls 件以上記録済み）で OPEN
+ * - OPEN: openDuration の間は呼び出しを即座に拒否し、経過後 HALF_OPEN
+ * - HALF_OPEN: 試行を1件だけ通し、成功で CLOSED、失敗で再び OPEN
+ */
+public class CircuitBreaker {
+
+    private final boolean[] window;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openDurationNanos;
+    private final LongSupplier nanoClock;
+
+    private State state = State.CLOSED;
+    private int recorded;
+    private int failures;
+    private int next;
+    private long openedAt;
+    private boolean probeInFlight;
+
+    /**
+     * @param windowSize 失敗率を計算する直近の呼び出し件数
+     * @param minimumCalls 失敗率を判定する最小の記録件数
+     * @param failureRateThreshold OPEN にする失敗率（0〜1）
+     * @param openDuration OPEN を維持する時間
+     */
+    public CircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold, Duration openDuration) {
+        this(windowSize, minimumCalls, failureRateThreshold, openDuration, System::nanoTime);
+    }
+
+    public CircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold, Duration openDuration,
+                          LongSupplier nanoClock) {
+        if (windowSize < 1 || minimumCalls < 1 || minimumCalls > windowSize) {
+            throw new IllegalArgumentException("minimumCalls must be between 1 and windowSize");
+        }
+        this.window = new boolean[windowSize];
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 呼び出してよいか判定する（HALF_OPEN では試行を1件だけ許可する）
+     *
+     * @return 呼び出してよい場合true
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN && nanoClock.getAsLong() - openedAt >= openDurationNanos) {
+            state = State.HALF_OPEN;
+            probeInFlight = false;
+        }
+        return switch (state) {
+            case CLOSED -> true;
+            case OPEN -> false;
+            case HALF_OPEN -> {
+                if (probeInFlight) {
+                    yield false;
+                }
+                probeInFlight = true;
+                yield true;
+            }
+        };
+    }
+
+    /**
+     * 依存サービスが応答した（成功、または条件不一致などサービス側の問題ではない失敗）
+     */
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            close();
+        } else if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    /**
+     * 依存サービスの障害（5xx・タイムアウト・通信エラー）
+     */
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+        } else if (state == State.CLOSED) {
+            record(true);
+            if (recorded >= minimumCalls && (double) failures / recorded >= failureRateThreshold) {
+                open();
+            }
+        }
+    }
+
+    /**
+     * 結果を判定に使わずに許可を返す（スロットリング・同時実行数の上限による拒否など）
+     */
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN) {
+            probeInFlight = false;
+        }
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    /**
+     * OPEN が解除されるまでの残り時間（秒、切り上げ。HALF_OPEN で試行中の場合は1）
+     */
+    public synchronized long remainingOpenSeconds() {
+        if (state != State.OPEN) {
+            return 1;
+        }
+        long remaining = openDurationNanos - (nanoClock.getAsLong() - openedAt);
+        return Math.max(1, (remaining + 999_999_999) / 1_000_000_000);
+    }
+
+    private void record(boolean failure) {
+        if (recorded == window.length) {
+            if (window[next]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+        window[next] = failure;
+        if (failure) {
+            failures++;
+        }
+        next = (next + 1) % window.length;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = nanoClock.getAsLong();
+        probeInFlight = false;
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        recorded = 0;
+        failures = 0;
+        next = 0;
+        probeInFlight = false;
+    }
+
+    /**
+     * サーキットブレーカーの状態
+     */
+    public enum State {
+        CLOSED,
+        HALF_OPEN,
+        OPEN
+    }
+}
@@ -0,0 +1,177 @@
+package com.swiss_stage.infrastructure.dynamodb;
+
+import software.amazon.awssdk.core.exception.ApiCallAttemptTimeoutException;
+import software.amazon.awssdk.core.exception.ApiCallTimeoutException;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+import software.amazon.awssdk.services.dynamodb.model.CancellationReason;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughputExceededException;
+import software.amazon.awssdk.services.dynamodb.model.RequestLimitExceededException;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * DynamoDB呼び出しのリトライポリシー
+ *
+ * - 例外をリトライ可否と原因（スロットリング・障害・競合）に分類する
+ * - 待機時間は指数バックオフの範囲内で一様ランダム（フルジッター）
+ * - リトライ予算: 成功ごとに ratio トークンを貯め、リトライごとに1トークン消費する
+ *   障害が続いてもリトライは「成功数 × ratio + 上限トークン数」に抑えられ、リトライで負荷を増幅しない
+ */
+public class DynamoDbRetryPolicy {
+
+    private static final String CONDITIONAL_CHECK_FAILED = "ConditionalCheckFailed";
+    private static final String TRANSACTION_CONFLICT = "TransactionConflict";
+    private static final String THROTTLING_ERROR = "ThrottlingError";
+    private static final String PROVISIONED_THROUGHPUT_EXCEEDED = "ProvisionedThroughputExceeded";
+
+    private final int maxAttempts;
+    private final long baseBackoffNanos;
+    private final long maxBackoffNanos;
+    private final double budgetRatio;
+    private final double budgetMaxTokens;
+    private double budgetTokens;
+
+    /**
+     * @param maxAttempts 最大試行回数（初回を含む）
+     * @param baseBackoff バックオフの基準時間（スロットリング時はこの4倍から開始）
+     * @param maxBackoff バックオフの上限
+     * @param budgetRatio 成功1回あたりに貯まるリトライ予算
+     * @param budgetMaxTokens リトライ予算の上限（連続して許可するリトライ数）
+     */
+    public DynamoDbRetryPolicy(int maxAttempts, Duration baseBackoff, Duration maxBackoff,
+                               double budgetRatio, int budgetMaxTokens) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be at least 1");
+        }
+        this.maxAttempts = maxAttempts;
+        this.baseBackoffNanos = baseBackoff.toNanos();
+        this.maxBackoffNanos = maxBackoff.toNanos();
+        this.budgetRatio = budgetRatio;
+        this.budgetMaxTokens = budgetMaxTokens;
+        this.budgetTokens = budgetMaxTokens;
+    }
+
+    public int maxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * 例外を分類する
+     *
+     * @param e DynamoDbClientが送出した例外
+     * @return 分類
+     */
+    public static FailureKind classify(Throwable e) {
+        if (e instanceof TransactionCanceledException canceled) {
+            return classifyCancellation(canceled);
+        }
+        if (e instanceof ConditionalCheckFailedException) {
+            return FailureKind.NON_RETRYABLE;
+        }
+        if (e instanceof ProvisionedThroughputExceededException || e instanceof RequestLimitExceededException) {
+            return FailureKind.THROTTLED;
+        }
+        if (e instanceof SdkServiceException service) {
+            if (service.isThrottlingException()) {
+                return FailureKind.THROTTLED;
+            }
+            return service.statusCode() >= 500 ? FailureKind.UNAVAILABLE : FailureKind.NON_RETRYABLE;
+        }
+        if (e instanceof ApiCallAttemptTimeoutException || e instanceof ApiCallTimeoutException
+                || (e instanceof SdkException sdk && sdk.retryable())
+                || (e instanceof SdkClientException && hasIoCause(e))) {
+            return FailureKind.UNAVAILABLE;
+        }
+        return FailureKind.NON_RETRYABLE;
+    }
+
+    private static FailureKind classifyCancellation(TransactionCanceledException e) {
+        if (!e.hasCancellationReasons()) {
+            return FailureKind.NON_RETRYABLE;
+        }
+        FailureKind kind = FailureKind.NON_RETRYABLE;
+        for (CancellationReason reason : e.cancellationReasons()) {
+            String code = reason.code();
+            if (CONDITIONAL_CHECK_FAILED.equals(code)) {
+                // 条件不一致は呼び出し元の楽観ロック処理に委ねる
+                return FailureKind.NON_RETRYABLE;
+            }
+            if (THROTTLING_ERROR.equals(code) || PROVISIONED_THROUGHPUT_EXCEEDED.equals(code)) {
+                kind = FailureKind.THROTTLED;
+            } else if (TRANSACTION_CONFLICT.equals(code) && kind == FailureKind.NON_RETRYABLE) {
+                kind = FailureKind.CONFLICT;
+            }
+        }
+        return kind;
+    }
+
+    private static boolean hasIoCause(Throwable e) {
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof IOException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * リトライ予算から1回分を消費する
+     *
+     * @return 予算が残っていてリトライしてよい場合true
+     */
+    public synchronized boolean tryAcquireRetry() {
+        if (budgetTokens < 1) {
+            return false;
+        }
+        budgetTokens -= 1;
+        return true;
+    }
+
+    /**
+     * 成功時にリトライ予算を貯める
+     */
+    public synchronized void onSuccess() {
+        budgetTokens = Math.min(budgetMaxTokens, budgetTokens + budgetRatio);
+    }
+
+    public synchronized double availableRetryBudget() {
+        return budgetTokens;
+    }
+
+    /**
+     * リトライ前の待機時間（フルジッター）
+     *
+     * @param attempt 失敗した試行の回数（1始まり）
+     * @param kind 失敗の分類
+     * @return 待機時間（ナノ秒）
+     */
+    public long backoffNanos(int attempt, FailureKind kind) {
+        long base = kind == FailureKind.THROTTLED ? baseBackoffNanos * 4 : baseBackoffNanos;
+        long ceiling = Math.min(maxBackoffNanos, base << Math.min(attempt - 1, 20));
+        return ceiling <= 0 ? 0 : ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    /**
+     * 失敗の分類
+     */
+    public enum FailureKind {
+        /** スロットリング（リトライし、同時実行数を下げる） */
+        THROTTLED,
+        /** 5xx・タイムアウト・通信エラー（リトライし、同時実行数を下げ、サーキットブレーカーに記録） */
+        UNAVAILABLE,
+        /** トランザクション同士の競合（リトライのみ） */
+        CONFLICT,
+        /** 条件不一致・入力エラーなど（リトライしない） */
+        NON_RETRYABLE;
+
+        public boolean retryable() {
+            return this != NON_RETRYABLE;
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.swiss_stage.infrastructure.dynamodb;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * GetItemのヘッジ（投機的な再送）
+ *
+ * 処理フロー:
+ * 1. GetItemを送信し、直近の応答時間の percentile（例: p95）まで待つ
+ * 2. それまでに応答がなければ同じリクエストをもう1つ送信し、先に成功した方を返す
+ * 3. ヘッジは「GetItem 1回あたり maxHedgeRatio 回」の予算内でのみ行う（DynamoDB全体の遅延時に負荷を倍増させない）
+ *
+ * 冪等な読み込み（GetItem）専用。無効時はクライアントをそのまま呼び出す
+ *
+ * メトリクス:
+ * - dynamodb.hedge.calls{result}: not_hedged（待機内に応答）/ primary_won / hedge_won / suppressed（予算切れ）/ warming_up（記録不足）
+ * - dynamodb.hedge.delay: 現在のヘッジまでの待機時間（ミリ秒）
+ */
+public class GetItemHedger {
+
+    private static final int MAX_BUDGET_TOKENS = 10;
+    private static final List<String> RESULTS =
+            List.of("not_hedged", "primary_won", "hedge_won", "suppressed", "warming_up");
+
+    private final DynamoDbClient dynamoDbClient;
+    private final boolean enabled;
+    private final double percentile;
+    private final long minDelayNanos;
+    private final long minSamples;
+    private final double maxHedgeRatio;
+    private final LatencyHistogram histogram;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    /** 結果ごとのdynamodb.hedge.calls（呼び出しのたびに登録し直さない） */
+    private final Map<String, Counter> calls;
+    private double budgetTokens = MAX_BUDGET_TOKENS;
+
+    /**
+     * @param dynamoDbClient DynamoDBクライアント
+     * @param enabled ヘッジを行うか
+     * @param percentile ヘッジを送るまでの待機時間とする応答時間のパーセンタイル（0〜1）
+     * @param minDelay 待機時間の下限
+     * @param minSamples パーセンタイルを推定する最小の記録件数（未満の間はヘッジしない）
+     * @param maxHedgeRatio GetItem 1回あたりのヘッジ回数の上限（例: 0.05 で5%）
+     * @param meterRegistry メトリクスの登録先
+     */
+    public GetItemHedger(DynamoDbClient dynamoDbClient, boolean enabled, double percentile, Duration minDelay,
+                         long minSamples, double maxHedgeRatio, MeterRegistry meterRegistry) {
+        this.dynamoDbClient = dynamoDbClient;
+        this.enabled = enabled;
+        this.percentile = percentile;
+        this.minDelayNanos = minDelay.toNanos();
+        this.minSamples = minSamples;
+        this.maxHedgeRatio = maxHedgeRatio;
+        this.histogram = new LatencyHistogram(Duration.ofSeconds(30));
+        this.calls = RESULTS.stream().collect(Collectors.toUnmodifiableMap(Function.identity(),
+                result -> Counter.builder("dynamodb.hedge.calls")
+                        .tag("result", result)
+                        .register(meterRegistry)));
+
+        Gauge.builder("dynamodb.hedge.delay", this, hedger -> Math.max(0, hedger.hedgeDelayNanos()) / 1_000_000.0)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * GetItemを実行する（必要に応じてヘッジする）
+     *
+     * @param request リクエスト
+     * @return 先に成功した方のレスポンス
+     */
+    public GetItemResponse getItem(GetItemRequest request) {
+        if (!enabled) {
+            return dynamoDbClient.getItem(request);
+        }
+        depositBudget();
+        long delay = hedgeDelayNanos();
+        if (delay < 0) {
+            count("warming_up");
+            return timedGetItem(request);
+        }
+
+        CompletableFuture<GetItemResponse> primary = CompletableFuture.supplyAsync(() -> timedGetItem(request), executor);
+        try {
+            GetItemResponse response = primary.get(delay, TimeUnit.NANOSECONDS);
+            count("not_hedged");
+            return response;
+        } catch (TimeoutException e) {
+            // 待機時間を超えたためヘッジを検討する
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for GetItem", e);
+        }
+
+        if (!tryAcquireHedge()) {
+            count("suppressed");
+            return await(primary);
+        }
+        CompletableFuture<GetItemResponse> hedge = CompletableFuture.supplyAsync(() -> timedGetItem(request), executor);
+        return await(firstSuccessful(primary, hedge));
+    }
+
+    /**
+     * 現在のヘッジまでの待機時間（記録が足りない場合は-1）
+     */
+    long hedgeDelayNanos() {
+        long estimate = histogram.percentile(percentile, minSamples);
+        return estimate < 0 ? -1 : Math.max(minDelayNanos, estimate);
+    }
+
+    private GetItemResponse timedGetItem(GetItemRequest request) {
+        long start = System.nanoTime();
+        GetItemResponse response = dynamoDbClient.getItem(request);
+        histogram.record(System.nanoTime() - start);
+        return response;
+    }
+
+    /**
+     * 先に成功した方で完了するFuture（両方失敗した場合は後に失敗した方の例外）
+     */
+    private CompletableFuture<GetItemResponse> firstSuccessful(CompletableFuture<GetItemResponse> primary,
+                                                               CompletableFuture<GetItemResponse> hedge) {
+        CompletableFuture<GetItemResponse> winner = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+        primary.whenComplete((response, error) -> complete(winner, failures, response, error, "primary_won"));
+        hedge.whenComplete((response, error) -> complete(winner, failures, response, error, "hedge_won"));
+        return winner;
+    }
+
+    private void complete(CompletableFuture<GetItemResponse> winner, AtomicInteger failures,
+                          GetItemResponse response, Throwable error, String result) {
+        if (error == null) {
+            if (winner.complete(response)) {
+                count(result);
+            }
+        } else if (failures.incrementAndGet() == 2) {
+            winner.completeExceptionally(error);
+        }
+    }
+
+    private static GetItemResponse await(CompletableFuture<GetItemResponse> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for GetItem", e);
+        }
+    }
+
+    /**
+     * 非同期実行で包まれた例外を取り出す（リポジトリが条件不一致などSDKの例外を判別できるようにする）
+     */
+    private static RuntimeException unwrap(Throwable e) {
+        Throwable cause = e;
+        while ((cause instanceof ExecutionException || cause instanceof CompletionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause instanceof RuntimeException runtime ? runtime : new IllegalStateException(cause);
+    }
+
+    private synchronized void depositBudget() {
+        budgetTokens = Math.min(MAX_BUDGET_TOKENS, budgetTokens + maxHedgeRatio);
+    }
+
+    private synchronized boolean tryAcquireHedge() {
+        if (budgetTokens < 1) {
+            return false;
+        }
+        budgetTokens -= 1;
+        return true;
+    }
+
+    private void count(String result) {
+        calls.get(result).increment();
+    }
+}
@@ -0,0 +1,102 @@
+package com.swiss_stage.infrastructure.dynamodb;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 直近の応答時間のヒストグラム（パーセンタイル推定用）
+ *
+ * - 100µsから1.2倍刻みの64バケット（上限約10秒）に件数を数える。推定誤差はバケット幅の20%以内
+ * - 現在と直前の2つの窓を持ち、window ごとに入れ替える（古い分布を一定時間で忘れる）
+ * - 記録はロックなし、パーセンタイルの計算は64バケットの走査のみ
+ */
+public class LatencyHistogram {
+
+    private static final long MIN_BUCKET_NANOS = 100_000;
+    private static final double GROWTH = 1.2;
+    private static final int BUCKETS = 64;
+    private static final long[] UPPER_BOUNDS = new long[BUCKETS];
+
+    static {
+        double bound = MIN_BUCKET_NANOS;
+        for (int i = 0; i < BUCKETS; i++) {
+            UPPER_BOUNDS[i] = (long) bound;
+            bound *= GROWTH;
+        }
+    }
+
+    private final long windowNanos;
+    private volatile AtomicLongArray current = new AtomicLongArray(BUCKETS);
+    private volatile AtomicLongArray previous = new AtomicLongArray(BUCKETS);
+    private volatile long windowStart = System.nanoTime();
+
+    /**
+     * @param window 窓の長さ（パーセンタイルには直近1〜2窓分の記録を使う）
+     */
+    public LatencyHistogram(Duration window) {
+        this.windowNanos = window.toNanos();
+    }
+
+    /**
+     * 応答時間を記録する
+     *
+     * @param latencyNanos 応答時間
+     */
+    public void record(long latencyNanos) {
+        rotateIfExpired();
+        current.incrementAndGet(bucketOf(latencyNanos));
+    }
+
+    /**
+     * パーセンタイルを推定する
+     *
+     * @param percentile 0〜1（例: 0.95）
+     * @param minSamples この件数未満しか記録がない場合は推定しない
+     * @return 推定値（ナノ秒、該当バケットの上限）。記録が足りない場合は-1
+     */
+    public long percentile(double percentile, long minSamples) {
+        rotateIfExpired();
+        AtomicLongArray now = current;
+        AtomicLongArray before = previous;
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = now.get(i) + before.get(i);
+            total += counts[i];
+        }
+        if (total == 0 || total < minSamples) {
+            return -1;
+        }
+        long rank = (long) Math.ceil(percentile * total);
+        long cumulative = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            cumulative += counts[i];
+            if (cumulative >= rank) {
+                return UPPER_BOUNDS[i];
+            }
+        }
+        return UPPER_BOUNDS[BUCKETS - 1];
+    }
+
+    private void rotateIfExpired() {
+        if (System.nanoTime() - windowStart < windowNanos) {
+            return;
+        }
+        synchronized (this) {
+            long now = System.nanoTime();
+            if (now - windowStart >= windowNanos) {
+                previous = current;
+                current = new AtomicLongArray(BUCKETS);
+                windowStart = now;
+            }
+        }
+    }
+
+    private static int bucketOf(long latencyNanos) {
+        if (latencyNanos <= MIN_BUCKET_NANOS) {
+            return 0;
+        }
+        int index = (int) Math.ceil(Math.log((double) latencyNanos / MIN_BUCKET_NANOS) / Math.log(GROWTH));
+        return Math.min(index, BUCKETS - 1);
+    }
+}
@@ -0,0 +1,221 @@
+package com.swiss_stage.infrastructure.dynamodb;
+
+import com.swiss_stage.common.exception.ServiceUnavailableException;
+import com.swiss_stage.infrastructure.dynamodb.DynamoDbRetryPolicy.FailureKind;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.services.dynamodb.DelegatingDynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbRequest;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 障害耐性を持たせたDynamoDbClient（全リポジトリ共通）
+ *
+ * 1回の呼び出しの処理:
+ * 1. サーキットブレーカーが OPEN の場合は即座に ServiceUnavailableException（503）
+ * 2. AIMDリミッターで実行枠を取得（空かなければ ServiceUnavailableException）
+ * 3. SDKを呼び出し、応答時間・結果をリミッターとサーキットブレーカーに記録
+ * 4. リトライ可能な失敗はリトライ予算の範囲内でフルジッターのバックオフ後に再試行
+ *
+ * SDKのDelegatingDynamoDbClientを継承し、すべての操作をinvokeOperationの共通経路で処理する
+ * （個別にオーバーライドしていない操作もUnsupportedOperationExceptionにならない）
+ * SDK自体のリトライは無効化し（DynamoDbConfig）、リトライはこのクラスに一本化する
+ * 条件不一致（ConditionalCheckFailed）などリトライしない例外は、SDKの例外のまま呼び出し元に送出する
+ *
+ * メトリクス:
+ * - dynamodb.client.calls{operation,outcome}: 試行ごとの応答時間
+ * - dynamodb.client.retries{operation,reason}: リトライ回数
+ * - dynamodb.client.rejected{operation,reason}: サーキットブレーカー・リミッター・リトライ予算による打ち切り
+ * - dynamodb.client.concurrency.limit / in_flight: 同時実行数の上限と実行中の数
+ * - dynamodb.client.circuit.state: 0=CLOSED, 1=HALF_OPEN, 2=OPEN
+ * - dynamodb.client.retry.budget: 残りのリトライ予算
+ */
+public class ResilientDynamoDbClient extends DelegatingDynamoDbClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResilientDynamoDbClient.class);
+
+    private static final String METRIC_PREFIX = "dynamodb.client.";
+
+    private final DynamoDbRetryPolicy retryPolicy;
+    private final AimdConcurrencyLimiter limiter;
+    private final CircuitBreaker circuitBreaker;
+    private final MeterRegistry meterRegistry;
+    // 操作・結果ごとのメーター（呼び出しやリトライのたびにビルダーで登録し直さない）
+    private final Map<MeterKey, Timer> callTimers = new ConcurrentHashMap<>();
+    private final Map<MeterKey, Counter> retryCounters = new ConcurrentHashMap<>();
+    private final Map<MeterKey, Counter> rejectedCounters = new ConcurrentHashMap<>();
+
+    public ResilientDynamoDbClient(DynamoDbClient delegate, DynamoDbRetryPolicy retryPolicy,
+                                   AimdConcurrencyLimiter limiter, CircuitBreaker circuitBreaker,
+                                   MeterRegistry meterRegistry) {
+        super(delegate);
+        this.retryPolicy = retryPolicy;
+        this.limiter = limiter;
+        this.circuitBreaker = circuitBreaker;
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder(METRIC_PREFIX + "concurrency.limit", limiter, AimdConcurrencyLimiter::limit)
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + "concurrency.in_flight", limiter, AimdConcurrencyLimiter::inFlight)
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + "circuit.state", circuitBreaker, breaker -> breaker.state().ordinal())
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + "retry.budget", retryPolicy, DynamoDbRetryPolicy::availableRetryBudget)
+                .register(meterRegistry);
+    }
+
+    /**
+     * すべての操作の共通経路
+     * DelegatingDynamoDbClientの各メソッド（テーブル管理系も含む）はここを通って委譲先を呼び出す
+     */
+    @Override
+    protected <T extends DynamoDbRequest, ReturnT> ReturnT invokeOperation(T request, Function<T, ReturnT> operation) {
+        return execute(operationName(request), () -> operation.apply(request),
+                ResilientDynamoDbClient::isPartiallyThrottled);
+    }
+
+    private <T> T execute(String operation, Supplier<T> call, Predicate<T> partiallyThrottled) {
+        for (int attempt = 1; ; attempt++) {
+            if (!circuitBreaker.tryAcquirePermission()) {
+                reject(operation, "circuit_open");
+                throw new ServiceUnavailableException("DynamoDB is temporarily unavailable",
+                        circuitBreaker.remainingOpenSeconds());
+            }
+            if (!limiter.acquire()) {
+                circuitBreaker.onIgnored();
+                reject(operation, "concurrency_limit");
+                throw new ServiceUnavailableException("Too many concurrent DynamoDB requests", 1);
+            }
+
+            long start = System.nanoTime();
+            T response;
+            try {
+                response = call.get();
+            } catch (RuntimeException e) {
+                long elapsed = System.nanoTime() - start;
+                FailureKind kind = DynamoDbRetryPolicy.classify(e);
+                recordFailure(kind);
+                timer(operation, kind.name().toLowerCase(Locale.ROOT)).record(elapsed, TimeUnit.NANOSECONDS);
+
+                if (!kind.retryable() || attempt >= retryPolicy.maxAttempts()) {
+                    throw e;
+                }
+                if (!retryPolicy.tryAcquireRetry()) {
+                    reject(operation, "retry_budget");
+                    throw e;
+                }
+                retryCounters.computeIfAbsent(new MeterKey(operation, kind.name().toLowerCase(Locale.ROOT)),
+                        key -> Counter.builder(METRIC_PREFIX + "retries")
+                                .tag("operation", key.operation())
+                                .tag("reason", key.tag())
+                                .register(meterRegistry))
+                        .increment();
+                logger.debug("Retrying DynamoDB call. operation={}, attempt={}, reason={}", operation, attempt, kind);
+                if (!sleep(retryPolicy.backoffNanos(attempt, kind))) {
+                    throw e;
+                }
+                continue;
+            }
+
+            long elapsed = System.nanoTime() - start;
+            if (partiallyThrottled.test(response)) {
+                limiter.onDropped();
+            } else {
+                limiter.onSuccess(elapsed);
+            }
+            circuitBreaker.onSuccess();
+            retryPolicy.onSuccess();
+            timer(operation, "success").record(elapsed, TimeUnit.NANOSECONDS);
+            return response;
+        }
+    }
+
+    /**
+     * 操作名（GetItemRequest → GetItem）
+     */
+    private static String operationName(DynamoDbRequest request) {
+        String name = request.getClass().getSimpleName();
+        return name.endsWith("Request") ? name.substring(0, name.length() - "Request".length()) : name;
+    }
+
+    /**
+     * 未処理キー・未処理アイテムが返った場合はスロットリングとしてリミッターに反映する（再送は呼び出し元）
+     */
+    private static boolean isPartiallyThrottled(Object response) {
+        if (response instanceof BatchGetItemResponse batchGet) {
+            return batchGet.hasUnprocessedKeys() && !batchGet.unprocessedKeys().isEmpty();
+        }
+        if (response instanceof BatchWriteItemResponse batchWrite) {
+            return batchWrite.hasUnprocessedItems() && !batchWrite.unprocessedItems().isEmpty();
+        }
+        return false;
+    }
+
+    private void recordFailure(FailureKind kind) {
+        switch (kind) {
+            case THROTTLED -> {
+                limiter.onDropped();
+                circuitBreaker.onIgnored();
+            }
+            case UNAVAILABLE -> {
+                limiter.onDropped();
+                circuitBreaker.onFailure();
+            }
+            case CONFLICT, NON_RETRYABLE -> {
+                // サービスは正常に応答している
+                limiter.onIgnored();
+                circuitBreaker.onSuccess();
+            }
+        }
+    }
+
+    private Timer timer(String operation, String outcome) {
+        return callTimers.computeIfAbsent(new MeterKey(operation, outcome),
+                key -> Timer.builder(METRIC_PREFIX + "calls")
+                        .tag("operation", key.operation())
+                        .tag("outcome", key.tag())
+                        .register(meterRegistry));
+    }
+
+    private void reject(String operation, String reason) {
+        rejectedCounters.computeIfAbsent(new MeterKey(operation, reason),
+                key -> Counter.builder(METRIC_PREFIX + "rejected")
+                        .tag("operation", key.operation())
+                        .tag("reason", key.tag())
+                        .register(meterRegistry))
+                .increment();
+    }
+
+    /**
+     * メーターの識別子（操作名と、結果・理由のタグ値）
+     */
+    private record MeterKey(String operation, String tag) {
+    }
+
+    private static boolean sleep(long nanos) {
+        if (nanos <= 0) {
+            return true;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.swiss_stage.infrastructure.oidc;
+
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jose.util.DefaultResourceRetriever;
+import com.nimbusds.jose.util.ResourceRetriever;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URL;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 公開鍵セット（JWKS）のキャッシュ
+ *
+ * ID Tokenの署名検証のたびに認可サーバーへ公開鍵を取りに行かないよう、メモリに保持する
+ * - 作成時にバックグラウンドで取得を始め、以降も refreshInterval ごとにバックグラウンドで取得し直す
+ * - 取得に失敗した場合は保持している鍵を使い続ける（ログインの経路で認可サーバーの障害を待たない）
+ * - 保持していない鍵ID（鍵のローテーション直後）の場合のみ、minRefreshInterval に1回まで同期的に取得し直す
+ */
+public class CachedJwkSetSource implements JWKSource<SecurityContext>, Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(CachedJwkSetSource.class);
+
+    private static final int CONNECT_TIMEOUT_MS = 2_000;
+    private static final int READ_TIMEOUT_MS = 2_000;
+    private static final int SIZE_LIMIT_BYTES = 50 * 1024;
+
+    private final URL jwkSetUrl;
+    private final long refreshIntervalNanos;
+    private final long minRefreshIntervalNanos;
+    private final ResourceRetriever retriever =
+            new DefaultResourceRetriever(CONNECT_TIMEOUT_MS, READ_TIMEOUT_MS, SIZE_LIMIT_BYTES);
+    private final ScheduledExecutorService scheduler =
+            Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().name("jwks-refresh").factory());
+    // 取得はロック内で行う（仮想スレッドでのネットワーク待ちをsynchronizedで固定しない）
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile JWKSet jwkSet;
+    private long fetchedAt;
+
+    /**
+     * @param jwkSetUrl 公開鍵セットのURL
+     * @param refreshInterval バックグラウンドで取得し直す間隔
+     * @param minRefreshInterval 未知の鍵IDによる同期的な取得の最小間隔
+     */
+    public CachedJwkSetSource(URL jwkSetUrl, Duration refreshInterval, Duration minRefreshInterval) {
+        this.jwkSetUrl = jwkSetUrl;
+        this.refreshIntervalNanos = refreshInterval.toNanos();
+        this.minRefreshIntervalNanos = minRefreshInterval.toNanos();
+        this.fetchedAt = System.nanoTime() - minRefreshIntervalNanos;
+        scheduler.scheduleWithFixedDelay(this::refreshInBackground,
+                0, refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public List<JWK> get(JWKSelector jwkSelector, SecurityContext context) throws KeySourceException {
+        JWKSet current = jwkSet;
+        if (current == null) {
+            current = refresh(null);
+        }
+        List<JWK> keys = jwkSelector.select(current);
+        if (keys.isEmpty()) {
+            JWKSet refreshed = refresh(current);
+            if (refreshed != current) {
+                keys = jwkSelector.select(refreshed);
+            }
+        }
+        return keys;
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 公開鍵セットを取得し直す
+     * 他のスレッドが取得し直した直後、または最小間隔内の場合は取得せずに保持している鍵セットを返す
+     *
+     * @param seen 呼び出し元が参照した鍵セット（未取得の場合はnull）
+     * @return 最新の鍵セット
+     * @throws KeySourceException 一度も取得できていない状態で取得に失敗した場合
+     */
+    private JWKSet refresh(JWKSet seen) throws KeySourceException {
+        lock.lock();
+        try {
+            JWKSet current = jwkSet;
+            if (current != null && (current != seen || System.nanoTime() - fetchedAt < minRefreshIntervalNanos)) {
+                return current;
+            }
+            try {
+                return fetch();
+            } catch (IOException | ParseException e) {
+                if (current != null) {
+                    logger.warn("Failed to refresh JWK set, keeping cached keys. url={}", jwkSetUrl, e);
+                    return current;
+                }
+                throw new KeySourceException("Failed to fetch JWK set: " + jwkSetUrl, e);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private JWKSet fetch() throws IOException, ParseException {
+        JWKSet fetched = JWKSet.parse(retriever.retrieveResource(jwkSetUrl).getContent());
+        jwkSet = fetched;
+        fetchedAt = System.nanoTime();
+        logger.debug("JWK set fetched. url={}, keys={}", jwkSetUrl, fetched.getKeys().size());
+        return fetched;
+    }
+
+    private void refreshInBackground() {
+        lock.lock();
+        try {
+            // 最初の検証で同期的に取得した直後など、間隔の半分以内に取得済みであれば取得しない
+            if (jwkSet != null && System.nanoTime() - fetchedAt < refreshIntervalNanos / 2) {
+                return;
+            }
+            fetch();
+        } catch (Exception e) {
+            logger.warn("Failed to refresh JWK set in background. url={}", jwkSetUrl, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
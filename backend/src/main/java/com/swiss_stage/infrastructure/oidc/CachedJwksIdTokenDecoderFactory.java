@@ -0,0 +1,117 @@
+package com.swiss_stage.infrastructure.oidc;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.oauth2.client.oidc.authentication.OidcIdTokenDecoderFactory;
+import org.springframework.security.oauth2.client.oidc.authentication.OidcIdTokenValidator;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
+import org.springframework.security.oauth2.core.converter.ClaimTypeConverter;
+import org.springframework.security.oauth2.core.oidc.IdTokenClaimNames;
+import org.springframework.security.oauth2.jwt.JwtClaimValidator;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtDecoderFactory;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * ID Tokenのデコーダー（OIDCログイン用）
+ *
+ * Spring Security標準のデコーダーの代わりに、公開鍵セットを CachedJwkSetSource で保持するデコーダーを作成する
+ * - 署名（RS256）を公開鍵セットで検証する
+ * - aud・azp・exp・iat などの検証は標準と同じ OidcIdTokenValidator で行い、発行者（iss）は issuers のいずれかと一致することを確認する
+ *   （設定で発行者のURIを指定するとSpring Bootが起動時にディスカバリーを行うため、ここで確認する）
+ * - Googleは発行者を https://accounts.google.com と accounts.google.com のどちらでも発行するため、
+ *   スキームのない発行者は https:// を補ってから変換・確認する（標準の変換はissをURLとして扱う）
+ * - デコーダーは登録（registrationId）ごとに1つだけ作成し、公開鍵セットを共有する
+ */
+@Component
+public class CachedJwksIdTokenDecoderFactory implements JwtDecoderFactory<ClientRegistration> {
+
+    private final Duration refreshInterval;
+    private final Duration minRefreshInterval;
+    /** 受け入れる発行者（スキームを補った形） */
+    private final Set<String> issuers;
+    private final Map<String, JwtDecoder> decoders = new ConcurrentHashMap<>();
+    private final Map<String, CachedJwkSetSource> sources = new ConcurrentHashMap<>();
+
+    public CachedJwksIdTokenDecoderFactory(
+            @Value("${app.oauth2.oidc.jwks-refresh-interval-seconds:3600}") long refreshIntervalSeconds,
+            @Value("${app.oauth2.oidc.jwks-min-refresh-interval-seconds:30}") long minRefreshIntervalSeconds,
+            @Value("${app.oauth2.oidc.issuers:https://accounts.google.com,accounts.google.com}") List<String> issuers) {
+        this.refreshInterval = Duration.ofSeconds(refreshIntervalSeconds);
+        this.minRefreshInterval = Duration.ofSeconds(minRefreshIntervalSeconds);
+        this.issuers = issuers.stream()
+                .map(CachedJwksIdTokenDecoderFactory::withScheme)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    @Override
+    public JwtDecoder createDecoder(ClientRegistration clientRegistration) {
+        return decoders.computeIfAbsent(clientRegistration.getRegistrationId(), id -> build(clientRegistration));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sources.values().forEach(CachedJwkSetSource::close);
+    }
+
+    private JwtDecoder build(ClientRegistration clientRegistration) {
+        String registrationId = clientRegistration.getRegistrationId();
+        String jwkSetUri = clientRegistration.getProviderDetails().getJwkSetUri();
+        if (!StringUtils.hasText(jwkSetUri)) {
+            throw new IllegalStateException("JWK set URI is not configured: registration=" + registrationId);
+        }
+        CachedJwkSetSource source;
+        try {
+            source = new CachedJwkSetSource(URI.create(jwkSetUri).toURL(), refreshInterval, minRefreshInterval);
+        } catch (MalformedURLException e) {
+            throw new IllegalStateException("Invalid JWK set URI: registration=" + registrationId, e);
+        }
+        sources.put(registrationId, source);
+
+        DefaultJWTProcessor<SecurityContext> processor = new DefaultJWTProcessor<>();
+        processor.setJWSKeySelector(new JWSVerificationKeySelector<>(JWSAlgorithm.RS256, source));
+        // クレームの検証は下のOAuth2TokenValidatorで行う
+        processor.setJWTClaimsSetVerifier((claims, context) -> {
+        });
+
+        NimbusJwtDecoder decoder = new NimbusJwtDecoder(processor);
+        ClaimTypeConverter claimTypeConverter =
+                new ClaimTypeConverter(OidcIdTokenDecoderFactory.createDefaultClaimTypeConverters());
+        decoder.setClaimSetConverter(claims -> claimTypeConverter.convert(withIssuerScheme(claims)));
+        decoder.setJwtValidator(new DelegatingOAuth2TokenValidator<>(
+                new OidcIdTokenValidator(clientRegistration),
+                new JwtClaimValidator<Object>(IdTokenClaimNames.ISS,
+                        issuer -> issuer != null && issuers.contains(issuer.toString()))));
+        return decoder;
+    }
+
+    private static Map<String, Object> withIssuerScheme(Map<String, Object> claims) {
+        if (!(claims.get(IdTokenClaimNames.ISS) instanceof String issuer) || issuer.contains("://")) {
+            return claims;
+        }
+        Map<String, Object> normalized = new HashMap<>(claims);
+        normalized.put(IdTokenClaimNames.ISS, withScheme(issuer));
+        return normalized;
+    }
+
+    private static String withScheme(String issuer) {
+        return issuer.contains("://") ? issuer : "https://" + issuer;
+    }
+}
@@ -0,0 +1,171 @@
+package com.swiss_stage.infrastructure.repository;
+
+import com.swiss_stage.domain.model.TournamentAggregate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.Put;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItem;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 集約バイナリ（SK=AGGREGATE）の読み書き（Infrastructure層、ITEMS_WITH_BLOBモード）
+ *
+ * 集約バイナリは属性マップのアイテムから作るキャッシュで、generation属性で世代を管理する
+ * - 集約を変更する書き込みは、同じトランザクション（または書き込み直後）にdataを持たない新しい世代で上書きする（無効化）
+ * - 読み込み時にdataがなければアイテムから集約を作り、読み込み開始時の世代と一致する場合のみ保存する
+ *   （読み込み中に更新が入った場合は保存しないため、古い集約がキャッシュされることはない）
+ */
+final class AggregateBlobStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(AggregateBlobStore.class);
+
+    /** アイテムサイズ上限（400KB）に余裕を持たせた集約バイナリの上限 */
+    static final int MAX_BLOB_BYTES = 350 * 1024;
+
+    private static final String GENERATION = "generation";
+    private static final String DATA = "data";
+
+    private final DynamoDbClient dynamoDbClient;
+    private final String tableName;
+    private final TournamentAggregateCodec.Compression compression;
+
+    AggregateBlobStore(DynamoDbClient dynamoDbClient, String tableName,
+                       TournamentAggregateCodec.Compression compression) {
+        this.dynamoDbClient = dynamoDbClient;
+        this.tableName = tableName;
+        this.compression = compression;
+    }
+
+    /**
+     * 集約バイナリを読み込む（強い整合性の読み込み）
+     *
+     * @param tournamentId トーナメントID
+     * @return 読み込み結果（集約がない・無効化済み・未知の形式の場合はaggregateがnull）
+     */
+    Lookup find(UUID tournamentId) {
+        GetItemRequest request = GetItemRequest.builder()
+                .tableName(tableName)
+                .key(TournamentKeys.key(tournamentId, TournamentKeys.AGGREGATE))
+                .consistentRead(true)
+                .build();
+
+        GetItemResponse response;
+        try {
+            response = dynamoDbClient.getItem(request);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to get aggregate blob: tournamentId=" + tournamentId, e);
+        }
+        if (!response.hasItem()) {
+            return new Lookup(null, null);
+        }
+        Map<String, AttributeValue> item = response.item();
+        String generation = item.get(GENERATION).s();
+        if (!item.containsKey(DATA)) {
+            return new Lookup(null, generation);
+        }
+        try {
+            return new Lookup(TournamentAggregateCodec.decode(item.get(DATA).b().asByteArray()), generation);
+        } catch (TournamentAggregateCodec.UnsupportedFormatException e) {
+            // 形式バージョンの更新直後は、アイテムから作り直して新しい形式で保存し直す
+            logger.info("Aggregate blob has an old format. tournamentId={}, reason={}", tournamentId, e.getMessage());
+            return new Lookup(null, generation);
+        }
+    }
+
+    /**
+     * 集約バイナリを保存（読み込み開始時の世代から変わっていない場合のみ）
+     * キャッシュのため、競合・失敗しても例外にはしない
+     *
+     * @param tournamentId トーナメントID
+     * @param aggregate アイテムから読み込んだ集約
+     * @param expectedGeneration 読み込み開始時の世代（アイテムがなかった場合null）
+     */
+    void store(UUID tournamentId, TournamentAggregate aggregate, String expectedGeneration) {
+        byte[] data = TournamentAggregateCodec.encode(aggregate, compression);
+        if (data.length > MAX_BLOB_BYTES) {
+            logger.info("Aggregate blob is too large to store. tournamentId={}, bytes={}", tournamentId, data.length);
+            return;
+        }
+
+        Map<String, AttributeValue> item = TournamentKeys.key(tournamentId, TournamentKeys.AGGREGATE);
+        item.put(GENERATION, AttributeValue.builder()
+                .s(expectedGeneration == null ? newGeneration() : expectedGeneration).build());
+        item.put(DATA, AttributeValue.builder().b(SdkBytes.fromByteArray(data)).build());
+        PutItemRequest.Builder request = PutItemRequest.builder()
+                .tableName(tableName)
+                .item(item);
+        if (expectedGeneration == null) {
+            request.conditionExpression("attribute_not_exists(SK)");
+        } else {
+            request.conditionExpression("#generation = :expected")
+                    .expressionAttributeNames(Map.of("#generation", GENERATION))
+                    .expressionAttributeValues(Map.of(":expected",
+                            AttributeValue.builder().s(expectedGeneration).build()));
+        }
+
+        try {
+            dynamoDbClient.putItem(request.build());
+            logger.debug("Aggregate blob stored. tournamentId={}, bytes={}", tournamentId, data.length);
+        } catch (ConditionalCheckFailedException e) {
+            logger.debug("Aggregate changed while loading, blob not stored. tournamentId={}", tournamentId);
+        } catch (Exception e) {
+            logger.warn("Failed to store aggregate blob. tournamentId={}", tournamentId, e);
+        }
+    }
+
+    /**
+     * 無効化（新しい世代で上書き）をトランザクションに含めるためのPut
+     *
+     * @param tournamentId トーナメントID
+     * @return TransactWriteItem
+     */
+    TransactWriteItem invalidation(UUID tournamentId) {
+        return TransactWriteItem.builder()
+                .put(Put.builder().tableName(tableName).item(invalidationItem(tournamentId)).build())
+                .build();
+    }
+
+    /**
+     * 無効化（トランザクション外の書き込みの直後に呼ぶ）
+     *
+     * @param tournamentId トーナメントID
+     */
+    void invalidate(UUID tournamentId) {
+        try {
+            dynamoDbClient.putItem(PutItemRequest.builder()
+                    .tableName(tableName)
+                    .item(invalidationItem(tournamentId))
+                    .build());
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to invalidate aggregate blob: tournamentId=" + tournamentId, e);
+        }
+    }
+
+    private static Map<String, AttributeValue> invalidationItem(UUID tournamentId) {
+        Map<String, AttributeValue> item = TournamentKeys.key(tournamentId, TournamentKeys.AGGREGATE);
+        item.put(GENERATION, AttributeValue.builder().s(newGeneration()).build());
+        return item;
+    }
+
+    private static String newGeneration() {
+        return UUID.randomUUID().toString();
+    }
+
+    /**
+     * 集約バイナリの読み込み結果
+     *
+     * @param aggregate 集約（利用できない場合null）
+     * @param generation 世代（アイテムがない場合null）
+     */
+    record Lookup(TournamentAggregate aggregate, String generation) {
+    }
+}
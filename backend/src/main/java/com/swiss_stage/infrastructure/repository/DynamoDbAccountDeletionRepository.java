@@ -0,0 +1,119 @@
+package com.swiss_stage.infrastructure.repository;
+
+import com.swiss_stage.domain.model.AccountDeletion;
+import com.swiss_stage.domain.repository.AccountDeletionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * DynamoDbAccountDeletionRepository実装（Infrastructure層）
+ * AccountDeletionRepositoryインターフェースの実装
+ *
+ * アイテム設計: PK=ACCOUNT_DELETION#{userId}, SK=METADATA
+ * - ユーザーのパーティション（USER#）とは別に保持し、ユーザーの削除後も進捗を参照できるようにする
+ * - 最終更新からRETENTIONの経過後にDynamoDBのTTL（expiresAt）で削除する
+ */
+@Repository
+public class DynamoDbAccountDeletionRepository implements AccountDeletionRepository {
+
+    static final Duration RETENTION = Duration.ofDays(7);
+
+    private static final String PK_PREFIX = "ACCOUNT_DELETION#";
+    private static final String SK = "METADATA";
+
+    private final DynamoDbClient dynamoDbClient;
+    private final String tableName;
+
+    public DynamoDbAccountDeletionRepository(
+            DynamoDbClient dynamoDbClient,
+            @Value("${aws.dynamodb.table-name}") String tableName) {
+        this.dynamoDbClient = dynamoDbClient;
+        this.tableName = tableName;
+    }
+
+    @Override
+    public Optional<AccountDeletion> findByUserId(UUID userId) {
+        GetItemRequest request = GetItemRequest.builder()
+                .tableName(tableName)
+                .key(key(userId))
+                .consistentRead(true)
+                .build();
+
+        try {
+            GetItemResponse response = dynamoDbClient.getItem(request);
+            if (!response.hasItem()) {
+                return Optional.empty();
+            }
+            return Optional.of(mapToDeletion(response.item()));
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to find account deletion: userId=" + userId, e);
+        }
+    }
+
+    @Override
+    public void save(AccountDeletion deletion) {
+        PutItemRequest request = PutItemRequest.builder()
+                .tableName(tableName)
+                .item(mapToItem(deletion))
+                .build();
+
+        try {
+            dynamoDbClient.putItem(request);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to save account deletion: userId=" + deletion.userId(), e);
+        }
+    }
+
+    private static Map<String, AttributeValue> key(UUID userId) {
+        Map<String, AttributeValue> key = new HashMap<>();
+        key.put("PK", AttributeValue.builder().s(PK_PREFIX + userId).build());
+        key.put("SK", AttributeValue.builder().s(SK).build());
+        return key;
+    }
+
+    /**
+     * AccountDeletionをDynamoDB Itemにマッピング
+     */
+    private static Map<String, AttributeValue> mapToItem(AccountDeletion deletion) {
+        Map<String, AttributeValue> item = key(deletion.userId());
+        item.put("userId", AttributeValue.builder().s(deletion.userId().toString()).build());
+        item.put("status", AttributeValue.builder().s(deletion.status().name()).build());
+        item.put("tournamentCount", number(deletion.tournamentCount()));
+        item.put("deletedTournamentCount", number(deletion.deletedTournamentCount()));
+        item.put("deletedItemCount", number(deletion.deletedItemCount()));
+        item.put("startedAt", number(deletion.startedAt().toEpochMilli()));
+        item.put("updatedAt", number(deletion.updatedAt().toEpochMilli()));
+        item.put("expiresAt", number(deletion.updatedAt().plus(RETENTION).getEpochSecond()));
+        return item;
+    }
+
+    /**
+     * DynamoDB ItemをAccountDeletionにマッピング
+     */
+    private static AccountDeletion mapToDeletion(Map<String, AttributeValue> item) {
+        return new AccountDeletion(
+                UUID.fromString(item.get("userId").s()),
+                AccountDeletion.Status.valueOf(item.get("status").s()),
+                Integer.parseInt(item.get("tournamentCount").n()),
+                Integer.parseInt(item.get("deletedTournamentCount").n()),
+                Long.parseLong(item.get("deletedItemCount").n()),
+                Instant.ofEpochMilli(Long.parseLong(item.get("startedAt").n())),
+                Instant.ofEpochMilli(Long.parseLong(item.get("updatedAt").n())));
+    }
+
+    private static AttributeValue number(long value) {
+        return AttributeValue.builder().n(String.valueOf(value)).build();
+    }
+}
@@ -0,0 +1,100 @@
+package com.swiss_stage.infrastructure.repository;
+
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.DeleteRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutRequest;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * BatchWriteItemの共通処理（Infrastructure層）
+ * 25件ずつに分割して書き込み、スロットリング時の未処理アイテムは指数バックオフで再送する
+ */
+final class DynamoDbBatchWriter {
+
+    static final int MAX_BATCH_SIZE = 25;
+
+    private static final int MAX_UNPROCESSED_RETRIES = 5;
+    private static final long BASE_BACKOFF_MS = 50;
+
+    private DynamoDbBatchWriter() {
+        // Utility class - private constructor
+    }
+
+    /**
+     * アイテムをまとめてPutする
+     *
+     * @param dynamoDbClient DynamoDBクライアント
+     * @param tableName テーブル名
+     * @param items 書き込むアイテム
+     */
+    static void putAll(DynamoDbClient dynamoDbClient, String tableName, List<Map<String, AttributeValue>> items) {
+        List<WriteRequest> writes = new ArrayList<>(items.size());
+        for (Map<String, AttributeValue> item : items) {
+            writes.add(WriteRequest.builder()
+                    .putRequest(PutRequest.builder().item(item).build())
+                    .build());
+        }
+        writeAll(dynamoDbClient, tableName, writes);
+    }
+
+    /**
+     * キーを指定してアイテムをまとめて削除する
+     *
+     * @param dynamoDbClient DynamoDBクライアント
+     * @param tableName テーブル名
+     * @param keys 削除するアイテムのキー（PK/SK）
+     */
+    static void deleteAll(DynamoDbClient dynamoDbClient, String tableName, List<Map<String, AttributeValue>> keys) {
+        List<WriteRequest> writes = new ArrayList<>(keys.size());
+        for (Map<String, AttributeValue> key : keys) {
+            writes.add(WriteRequest.builder()
+                    .deleteRequest(DeleteRequest.builder().key(key).build())
+                    .build());
+        }
+        writeAll(dynamoDbClient, tableName, writes);
+    }
+
+    /**
+     * 書き込みリクエスト（Put/Delete）をまとめて実行する
+     *
+     * @param dynamoDbClient DynamoDBクライアント
+     * @param tableName テーブル名
+     * @param writes 書き込みリクエスト
+     */
+    static void writeAll(DynamoDbClient dynamoDbClient, String tableName, List<WriteRequest> writes) {
+        for (int from = 0; from < writes.size(); from += MAX_BATCH_SIZE) {
+            List<WriteRequest> chunk = writes.subList(from, Math.min(from + MAX_BATCH_SIZE, writes.size()));
+            writeChunk(dynamoDbClient, tableName, chunk);
+        }
+    }
+
+    private static void writeChunk(DynamoDbClient dynamoDbClient, String tableName, List<WriteRequest> chunk) {
+        Map<String, List<WriteRequest>> requestItems = Map.of(tableName, chunk);
+        try {
+            for (int attempt = 0; ; attempt++) {
+                BatchWriteItemResponse response = dynamoDbClient.batchWriteItem(BatchWriteItemRequest.builder()
+                        .requestItems(requestItems)
+                        .build());
+                if (!response.hasUnprocessedItems() || response.unprocessedItems().isEmpty()) {
+                    return;
+                }
+                if (attempt >= MAX_UNPROCESSED_RETRIES) {
+                    throw new IllegalStateException("Unprocessed items remained after retries: "
+                            + response.unprocessedItems().getOrDefault(tableName, List.of()).size());
+                }
+                requestItems = response.unprocessedItems();
+                Thread.sleep(BASE_BACKOFF_MS << attempt);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while writing batch", e);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.swiss_stage.infrastructure.repository;
+
+import com.swiss_stage.domain.model.IdempotencyRecord;
+import com.swiss_stage.domain.repository.IdempotencyRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * DynamoDbIdempotencyRepository実装（Infrastructure層）
+ * IdempotencyRepositoryインターフェースの実装
+ *
+ * アイテム設計: PK=IDEMPOTENCY#{scope}#{key}, SK=METADATA
+ * - expiresAt（エポック秒）をテーブルのTTL属性として設定し、期限切れの記録はDynamoDBが削除する
+ * - TTLによる削除は遅延するため、予約時は期限切れの記録を期限の値を条件に上書きする
+ */
+@Repository
+public class DynamoDbIdempotencyRepository implements IdempotencyRepository {
+
+    private static final String PK_PREFIX = "IDEMPOTENCY#";
+    private static final String SK = "METADATA";
+    private static final int MAX_RESERVE_ATTEMPTS = 3;
+
+    private final DynamoDbClient dynamoDbClient;
+    private final String tableName;
+
+    public DynamoDbIdempotencyRepository(
+            DynamoDbClient dynamoDbClient,
+            @Value("${aws.dynamodb.table-name}") String tableName) {
+        this.dynamoDbClient = dynamoDbClient;
+        this.tableName = tableName;
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> reserve(IdempotencyRecord record) {
+        Map<String, AttributeValue> item = mapToItem(record);
+        AttributeValue expired = null;
+
+        for (int attempt = 1; attempt <= MAX_RESERVE_ATTEMPTS; attempt++) {
+            PutItemRequest.Builder request = PutItemRequest.builder()
+                    .tableName(tableName)
+                    .item(item);
+            if (expired == null) {
+                request.conditionExpression("attribute_not_exists(PK)");
+            } else {
+                // TTLで未削除の期限切れの記録は、読み込んだ期限のままの場合のみ上書きする
+                request.conditionExpression("#expiresAt = :expired")
+                        .expressionAttributeNames(Map.of("#expiresAt", "expiresAt"))
+                        .expressionAttributeValues(Map.of(":expired", expired));
+            }
+
+            try {
+                dynamoDbClient.putItem(request.build());
+                return Optional.empty();
+            } catch (ConditionalCheckFailedException e) {
+                Optional<IdempotencyRecord> existing = find(record.scope(), record.key());
+                if (existing.isPresent() && !existing.get().isExpired(Instant.now())) {
+                    return existing;
+                }
+                // 競合した記録が直後に削除された場合は、もう一度新規として予約する
+                expired = existing.map(found -> epochSeconds(found.expiresAt())).orElse(null);
+            } catch (Exception e) {
+                throw new RuntimeException("Failed to reserve idempotency key: scope=" + record.scope(), e);
+            }
+        }
+        // 再送が同時に集中し続けている場合は、処理中の記録があるものとして扱う
+        return find(record.scope(), record.key());
+    }
+
+    @Override
+    public void save(IdempotencyRecord record) {
+        PutItemRequest request = PutItemRequest.builder()
+                .tableName(tableName)
+                .item(mapToItem(record))
+                .build();
+
+        try {
+            dynamoDbClient.putItem(request);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to save idempotency record: scope=" + record.scope(), e);
+        }
+    }
+
+    @Override
+    public void delete(String scope, String key) {
+        DeleteItemRequest request = DeleteItemRequest.builder()
+                .tableName(tableName)
+                .key(key(scope, key))
+                .build();
+
+        try {
+            dynamoDbClient.deleteItem(request);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to delete idempotency record: scope=" + scope, e);
+        }
+    }
+
+    private Optional<IdempotencyRecord> find(String scope, String key) {
+        GetItemRequest request = GetItemRequest.builder()
+                .tableName(tableName)
+                .key(key(scope, key))
+                .consistentRead(true)
+                .build();
+
+        try {
+            GetItemResponse response = dynamoDbClient.getItem(request);
+            if (!response.hasItem()) {
+                return Optional.empty();
+            }
+            return Optional.of(mapToRecord(response.item()));
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to find idempotency record: scope=" + scope, e);
+        }
+    }
+
+    private static Map<String, AttributeValue> key(String scope, String key) {
+        Map<String, AttributeValue> item = new HashMap<>();
+        item.put("PK", AttributeValue.builder().s(PK_PREFIX + scope + "#" + key).build());
+        item.put("SK", AttributeValue.builder().s(SK).build());
+        return item;
+    }
+
+    /**
+     * IdempotencyRecordをDynamoDB Itemにマッピング
+     */
+    private static Map<String, AttributeValue> mapToItem(IdempotencyRecord record) {
+        Map<String, AttributeValue> item = key(record.scope(), record.key());
+        item.put("scope", AttributeValue.builder().s(record.scope()).build());
+        item.put("idempotencyKey", AttributeValue.builder().s(record.key()).build());
+        item.put("fingerprint", AttributeValue.builder().s(record.fingerprint()).build());
+        item.put("status", AttributeValue.builder().s(record.status().name()).build());
+        item.put("responseStatus", AttributeValue.builder().n(String.valueOf(record.responseStatus())).build());
+        if (record.contentType() != null) {
+            item.put("contentType", AttributeValue.builder().s(record.contentType()).build());
+        }
+        if (record.responseBody().length > 0) {
+            item.put("responseBody", AttributeValue.builder().b(SdkBytes.fromByteArray(record.responseBody())).build());
+        }
+        item.put("expiresAt", epochSeconds(record.expiresAt()));
+        return item;
+    }
+
+    /**
+     * DynamoDB ItemをIdempotencyRecordにマッピング
+     */
+    private static IdempotencyRecord mapToRecord(Map<String, AttributeValue> item) {
+        return new IdempotencyRecord(
+                item.get("scope").s(),
+                item.get("idempotencyKey").s(),
+                item.get("fingerprint").s(),
+                IdempotencyRecord.Status.valueOf(item.get("status").s()),
+                Integer.parseInt(item.get("responseStatus").n()),
+                item.containsKey("contentType") ? item.get("contentType").s() : null,
+                item.containsKey("responseBody") ? item.get("responseBody").b().asByteArray() : null,
+                Instant.ofEpochSecond(Long.parseLong(item.get("expiresAt").n())));
+    }
+
+    private static AttributeValue epochSeconds(Instant instant) {
+        return AttributeValue.builder().n(String.valueOf(instant.getEpochSecond())).build();
+    }
+}
@@ -0,0 +1,220 @@
+package com.swiss_stage.infrastructure.repository;
+
+import com.swiss_stage.domain.model.Participant;
+import com.swiss_stage.domain.repository.ParticipantRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * DynamoDbParticipantRepository実装（Infrastructure層）
+ * ParticipantRepositoryインターフェースの実装
+ * 憲章原則I「ドメイン駆動設計」に準拠
+ *
+ * キー設計: PK=TOURNAMENT#{tournamentId}, SK=PARTICIPANT#{participantId}
+ * エントリー番号の採番カウンターは大会情報（SK=METADATA）のlastEntryNumber属性に保持する
+ */
+@Repository
+public class DynamoDbParticipantRepository implements ParticipantRepository {
+
+    private final DynamoDbClient dynamoDbClient;
+    private final String tableName;
+    /** ITEMSモードではnull */
+    private final AggregateBlobStore blobStore;
+
+    public DynamoDbParticipantRepository(DynamoDbClient dynamoDbClient, String tableName) {
+        this(dynamoDbClient, tableName, TournamentStorageMode.ITEMS, TournamentAggregateCodec.Compression.DEFLATE);
+    }
+
+    @Autowired
+    public DynamoDbParticipantRepository(
+            DynamoDbClient dynamoDbClient,
+            @Value("${aws.dynamodb.table-name}") String tableName,
+            @Value("${app.tournament.storage.mode:ITEMS}") TournamentStorageMode storageMode,
+            @Value("${app.tournament.storage.blob-compression:DEFLATE}")
+            TournamentAggregateCodec.Compression blobCompression) {
+        this.dynamoDbClient = dynamoDbClient;
+        this.tableName = tableName;
+        this.blobStore = storageMode == TournamentStorageMode.ITEMS_WITH_BLOB
+                ? new AggregateBlobStore(dynamoDbClient, tableName, blobCompression)
+                : null;
+    }
+
+    @Override
+    public void saveBatch(List<Participant> participants) {
+        if (participants.isEmpty()) {
+            return;
+        }
+        if (participants.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Batch size must be at most " + MAX_BATCH_SIZE);
+        }
+
+        List<Map<String, AttributeValue>> items = new ArrayList<>(participants.size());
+        for (Participant participant : participants) {
+            items.add(mapToItem(participant));
+        }
+
+        try {
+            DynamoDbBatchWriter.putAll(dynamoDbClient, tableName, items);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to save participants: tournamentId="
+                    + participants.get(0).tournamentId(), e);
+        }
+        addParticipantCount(participants.get(0).tournamentId(), participants.size());
+        if (blobStore != null) {
+            // 参加者の追加・変更で集約が変わるため、集約バイナリを無効化する
+            participants.stream().map(Participant::tournamentId).distinct().forEach(blobStore::invalidate);
+        }
+    }
+
+    /**
+     * 大会情報の参加者数（主催者のトーナメント一覧に表示）に登録した件数を加算
+     * 大会情報がない場合（削除済み）は何もしない
+     */
+    private void addParticipantCount(UUID tournamentId, int count) {
+        try {
+            dynamoDbClient.updateItem(UpdateItemRequest.builder()
+                    .tableName(tableName)
+                    .key(TournamentKeys.key(tournamentId, TournamentKeys.METADATA))
+                    .updateExpression("ADD participantCount :count")
+                    .conditionExpression("attribute_exists(PK)")
+                    .expressionAttributeValues(Map.of(
+                            ":count", AttributeValue.builder().n(String.valueOf(count)).build()))
+                    .build());
+        } catch (ConditionalCheckFailedException e) {
+            // 大会が削除済み
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to update participant count: tournamentId=" + tournamentId, e);
+        }
+    }
+
+    @Override
+    public int reserveEntryNumbers(UUID tournamentId, int count, int floor) {
+        if (count < 1) {
+            throw new IllegalArgumentException("Count must be positive");
+        }
+        try {
+            try {
+                return addEntryNumbers(tournamentId, count) - count + 1;
+            } catch (ConditionalCheckFailedException e) {
+                // カウンターがない場合は使用済みの最大値から開始する（並行した初期化は先に書いた方を使う）
+                initializeEntryNumberCounter(tournamentId, floor);
+                return addEntryNumbers(tournamentId, count) - count + 1;
+            }
+        } catch (ConditionalCheckFailedException e) {
+            throw new RuntimeException("Tournament not found: tournamentId=" + tournamentId, e);
+        } catch (RuntimeException e) {
+            throw new RuntimeException("Failed to reserve entry numbers: tournamentId=" + tournamentId, e);
+        }
+    }
+
+    /**
+     * 採番カウンターを加算
+     * @return 加算後のカウンター（予約した範囲の末尾）
+     */
+    private int addEntryNumbers(UUID tournamentId, int count) {
+        UpdateItemResponse response = dynamoDbClient.updateItem(UpdateItemRequest.builder()
+                .tableName(tableName)
+                .key(TournamentKeys.key(tournamentId, TournamentKeys.METADATA))
+                .updateExpression("ADD lastEntryNumber :count")
+                .conditionExpression("attribute_exists(lastEntryNumber)")
+                .expressionAttributeValues(Map.of(":count", AttributeValue.builder().n(String.valueOf(count)).build()))
+                .returnValues(ReturnValue.UPDATED_NEW)
+                .build());
+        return Integer.parseInt(response.attributes().get("lastEntryNumber").n());
+    }
+
+    private void initializeEntryNumberCounter(UUID tournamentId, int floor) {
+        try {
+            dynamoDbClient.updateItem(UpdateItemRequest.builder()
+                    .tableName(tableName)
+                    .key(TournamentKeys.key(tournamentId, TournamentKeys.METADATA))
+                    .updateExpression("SET lastEntryNumber = :floor")
+                    .conditionExpression("attribute_exists(PK) AND attribute_not_exists(lastEntryNumber)")
+                    .expressionAttributeValues(Map.of(
+                            ":floor", AttributeValue.builder().n(String.valueOf(floor)).build()))
+                    .build());
+        } catch (ConditionalCheckFailedException e) {
+            // 他のインポートが初期化済み、または大会が存在しない（続く加算で判定する）
+        }
+    }
+
+    @Override
+    public int findMaxEntryNumber(UUID tournamentId) {
+        QueryRequest request = QueryRequest.builder()
+                .tableName(tableName)
+                .keyConditionExpression("PK = :pk AND begins_with(SK, :prefix)")
+                .expressionAttributeValues(Map.of(
+                        ":pk", AttributeValue.builder().s(TournamentKeys.pk(tournamentId)).build(),
+                        ":prefix", AttributeValue.builder().s(TournamentKeys.PARTICIPANT_PREFIX).build()))
+                .projectionExpression("entryNumber")
+                // 直前のインポートで書き込んだ参加者も含めるため、強い整合性で読み込む
+                .consistentRead(true)
+                .build();
+
+        int max = 0;
+        try {
+            Map<String, AttributeValue> exclusiveStartKey = null;
+            do {
+                QueryRequest pageRequest = exclusiveStartKey == null
+                        ? request
+                        : request.toBuilder().exclusiveStartKey(exclusiveStartKey).build();
+                QueryResponse response = dynamoDbClient.query(pageRequest);
+                for (Map<String, AttributeValue> item : response.items()) {
+                    max = Math.max(max, Integer.parseInt(item.get("entryNumber").n()));
+                }
+                exclusiveStartKey = response.hasLastEvaluatedKey() && !response.lastEvaluatedKey().isEmpty()
+                        ? response.lastEvaluatedKey()
+                        : null;
+            } while (exclusiveStartKey != null);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to find max entry number: tournamentId=" + tournamentId, e);
+        }
+        return max;
+    }
+
+    /**
+     * ParticipantをDynamoDB Itemにマッピング
+     */
+    static Map<String, AttributeValue> mapToItem(Participant participant) {
+        Map<String, AttributeValue> item = new HashMap<>();
+        item.put("PK", AttributeValue.builder().s(TournamentKeys.pk(participant.tournamentId())).build());
+        item.put("SK", AttributeValue.builder().s(TournamentKeys.participantSk(participant.participantId())).build());
+        item.put("participantId", AttributeValue.builder().s(participant.participantId().toString()).build());
+        item.put("tournamentId", AttributeValue.builder().s(participant.tournamentId().toString()).build());
+        item.put("entryNumber", AttributeValue.builder().n(String.valueOf(participant.entryNumber())).build());
+        item.put("name", AttributeValue.builder().s(participant.name()).build());
+        if (participant.affiliation() != null) {
+            item.put("affiliation", AttributeValue.builder().s(participant.affiliation()).build());
+        }
+        if (participant.grade() != null) {
+            item.put("grade", AttributeValue.builder().s(participant.grade()).build());
+        }
+        item.put("groupNumber", AttributeValue.builder().n(String.valueOf(participant.groupNumber())).build());
+        item.put("withdrawn", AttributeValue.builder().bool(participant.withdrawn()).build());
+        return item;
+    }
+
+    /**
+     * DynamoDB ItemをParticipantにマッピング
+     */
+    static Participant mapToParticipant(Map<String, AttributeValue> item) {
+        return new Participant(
+                UUID.fromString(item.get("participantId").s()),
+                UUID.fromString(item.get("tournamentId").s()),
+                Integer.parseInt(item.get("entryNumber").n()),
+                item.get("name").s(),
+                item.containsKey("affiliation") ? item.get("affiliation").s() : null,
+                item.containsKey("grade") ? item.get("grade").s() : null,
+                Integer.parseInt(item.get("groupNumber").n()),
+                item.containsKey("withdrawn") && Boolean.TRUE.equals(item.get("withdrawn").bool()));
+    }
+}
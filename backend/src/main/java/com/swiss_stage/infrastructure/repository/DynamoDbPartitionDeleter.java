@@ -0,0 +1,120 @@
+package com.swiss_stage.infrastructure.repository;
+
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongConsumer;
+
+/**
+ * パーティション単位の一括削除（Infrastructure層）
+ *
+ * キーのみを射影したQueryでパーティションをページングしながら読み、25件ずつのチャンクを
+ * BatchWriteItemで並列に削除する（同時実行チャンク数はparallelismで制限し、読み込み済みのキーを溜め込まない）
+ * 削除中のパーティションをページングしても、ExclusiveStartKeyのアイテムが存在する必要はないため読み飛ばしは起きない
+ */
+final class DynamoDbPartitionDeleter {
+
+    private DynamoDbPartitionDeleter() {
+        // Utility class - private constructor
+    }
+
+    /**
+     * パーティションの全アイテムを削除する
+     *
+     * @param dynamoDbClient DynamoDBクライアント
+     * @param tableName テーブル名
+     * @param pk パーティションキー
+     * @param lastSk 他のアイテムをすべて削除した後に削除するSK（ない場合はnull）
+     * @param parallelism 同時に実行する削除チャンク数
+     * @param onDeleted チャンクの削除が完了するたびに削除件数を受け取る
+     * @return 削除したアイテム数
+     */
+    static long deletePartition(DynamoDbClient dynamoDbClient, String tableName, String pk, String lastSk,
+                                int parallelism, LongConsumer onDeleted) {
+        QueryRequest request = QueryRequest.builder()
+                .tableName(tableName)
+                .keyConditionExpression("PK = :pk")
+                .expressionAttributeValues(Map.of(":pk", AttributeValue.builder().s(pk).build()))
+                .projectionExpression("PK, SK")
+                .build();
+
+        Semaphore permits = new Semaphore(parallelism);
+        AtomicLong deleted = new AtomicLong();
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        Map<String, AttributeValue> last = null;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Map<String, AttributeValue>> chunk = new ArrayList<>(DynamoDbBatchWriter.MAX_BATCH_SIZE);
+            Map<String, AttributeValue> exclusiveStartKey = null;
+            do {
+                QueryRequest pageRequest = exclusiveStartKey == null
+                        ? request
+                        : request.toBuilder().exclusiveStartKey(exclusiveStartKey).build();
+                QueryResponse response = dynamoDbClient.query(pageRequest);
+                for (Map<String, AttributeValue> key : response.items()) {
+                    if (key.get("SK").s().equals(lastSk)) {
+                        last = key;
+                        continue;
+                    }
+                    chunk.add(key);
+                    if (chunk.size() == DynamoDbBatchWriter.MAX_BATCH_SIZE) {
+                        submit(dynamoDbClient, tableName, chunk, executor, permits, deleted, failure, onDeleted);
+                        chunk = new ArrayList<>(DynamoDbBatchWriter.MAX_BATCH_SIZE);
+                    }
+                }
+                exclusiveStartKey = response.hasLastEvaluatedKey() && !response.lastEvaluatedKey().isEmpty()
+                        ? response.lastEvaluatedKey()
+                        : null;
+            } while (exclusiveStartKey != null && failure.get() == null);
+            if (!chunk.isEmpty() && failure.get() == null) {
+                submit(dynamoDbClient, tableName, chunk, executor, permits, deleted, failure, onDeleted);
+            }
+        }
+        // close()で実行中のチャンクの完了を待ってから結果を確認する
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+
+        if (last != null) {
+            dynamoDbClient.deleteItem(DeleteItemRequest.builder().tableName(tableName).key(last).build());
+            deleted.incrementAndGet();
+            onDeleted.accept(1);
+        }
+        return deleted.get();
+    }
+
+    private static void submit(DynamoDbClient dynamoDbClient, String tableName, List<Map<String, AttributeValue>> keys,
+                               ExecutorService executor, Semaphore permits, AtomicLong deleted,
+                               AtomicReference<RuntimeException> failure, LongConsumer onDeleted) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while deleting partition", e);
+        }
+        executor.execute(() -> {
+            try {
+                if (failure.get() == null) {
+                    DynamoDbBatchWriter.deleteAll(dynamoDbClient, tableName, keys);
+                    deleted.addAndGet(keys.size());
+                    onDeleted.accept(keys.size());
+                }
+            } catch (RuntimeException e) {
+                failure.compareAndSet(null, e);
+            } finally {
+                permits.release();
+            }
+        });
+    }
+}
@@ -0,0 +1,321 @@
+package com.swiss_stage.infrastructure.repository;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.swiss_stage.common.exception.OptimisticLockException;
+import com.swiss_stage.common.util.CompressionUtil;
+import com.swiss_stage.domain.model.Match;
+import com.swiss_stage.domain.model.MatchResult;
+import com.swiss_stage.domain.model.RecordedEvent;
+import com.swiss_stage.domain.model.TournamentEvent;
+import com.swiss_stage.domain.model.TournamentState;
+import com.swiss_stage.domain.repository.TournamentJournalRepository;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.*;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * DynamoDbTournamentJournalRepository実装（Infrastructure層）
+ * TournamentJournalRepositoryインターフェースの実装
+ * 憲章原則I「ドメイン駆動設計」に準拠
+ *
+ * キー設計: PK=TOURNAMENT#{tournamentId}
+ * - SK=EVENT#{seq}: イベント1件を小さなアイテムとして追記（attribute_not_existsで連番の重複を防ぐ）
+ * - SK=SNAPSHOT#{seq}: 連番seqまでを畳み込んだ状態（JSONをgzip圧縮したバイナリ属性）
+ */
+@Repository
+@RegisterReflectionForBinding(SnapshotDocument.class)
+public class DynamoDbTournamentJournalRepository implements TournamentJournalRepository {
+
+    private static final String TYPE_ROUND_PAIRED = "ROUND_PAIRED";
+    private static final String TYPE_RESULT_ENTERED = "RESULT_ENTERED";
+    private static final String TYPE_RESULT_CORRECTED = "RESULT_CORRECTED";
+    private static final String TYPE_PARTICIPANTS_IMPORTED = "PARTICIPANTS_IMPORTED";
+
+    private final DynamoDbClient dynamoDbClient;
+    private final String tableName;
+    private final ObjectWriter snapshotWriter;
+    private final ObjectReader snapshotReader;
+
+    public DynamoDbTournamentJournalRepository(
+            DynamoDbClient dynamoDbClient,
+            @Value("${aws.dynamodb.table-name}") String tableName,
+            ObjectMapper objectMapper) {
+        this.dynamoDbClient = dynamoDbClient;
+        this.tableName = tableName;
+        this.snapshotWriter = objectMapper.writerFor(SnapshotDocument.class);
+        this.snapshotReader = objectMapper.readerFor(SnapshotDocument.class);
+    }
+
+    @Override
+    public long findLatestSequence(UUID tournamentId) {
+        QueryRequest request = QueryRequest.builder()
+                .tableName(tableName)
+                .keyConditionExpression("PK = :pk AND begins_with(SK, :prefix)")
+                .expressionAttributeValues(Map.of(
+                        ":pk", AttributeValue.builder().s(TournamentKeys.pk(tournamentId)).build(),
+                        ":prefix", AttributeValue.builder().s(TournamentKeys.EVENT_PREFIX).build()))
+                .projectionExpression("#sequence")
+                .expressionAttributeNames(Map.of("#sequence", "sequence"))
+                .scanIndexForward(false)
+                .limit(1)
+                .consistentRead(true)
+                .build();
+
+        try {
+            QueryResponse response = dynamoDbClient.query(request);
+            if (response.items().isEmpty()) {
+                return 0;
+            }
+            return Long.parseLong(response.items().get(0).get("sequence").n());
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to find latest event sequence: tournamentId=" + tournamentId, e);
+        }
+    }
+
+    @Override
+    public void append(UUID tournamentId, long sequence, TournamentEvent event) {
+        PutItemRequest request = PutItemRequest.builder()
+                .tableName(tableName)
+                .item(mapToItem(tournamentId, sequence, event))
+                .conditionExpression("attribute_not_exists(SK)")
+                .build();
+
+        try {
+            dynamoDbClient.putItem(request);
+        } catch (ConditionalCheckFailedException e) {
+            throw new OptimisticLockException("Event sequence already recorded: " + sequence, e);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to append event: tournamentId=" + tournamentId
+                    + ", sequence=" + sequence, e);
+        }
+    }
+
+    @Override
+    public List<RecordedEvent> findEventsAfter(UUID tournamentId, long afterSequence) {
+        QueryRequest request = QueryRequest.builder()
+                .tableName(tableName)
+                .keyConditionExpression("PK = :pk AND SK BETWEEN :from AND :to")
+                .expressionAttributeValues(Map.of(
+                        ":pk", AttributeValue.builder().s(TournamentKeys.pk(tournamentId)).build(),
+                        ":from", AttributeValue.builder().s(TournamentKeys.eventSk(afterSequence + 1)).build(),
+                        ":to", AttributeValue.builder().s(TournamentKeys.eventSk(TournamentKeys.MAX_SEQUENCE)).build()))
+                .consistentRead(true)
+                .build();
+
+        List<RecordedEvent> events = new ArrayList<>();
+        try {
+            Map<String, AttributeValue> exclusiveStartKey = null;
+            do {
+                QueryRequest pageRequest = exclusiveStartKey == null
+                        ? request
+                        : request.toBuilder().exclusiveStartKey(exclusiveStartKey).build();
+                QueryResponse response = dynamoDbClient.query(pageRequest);
+                for (Map<String, AttributeValue> item : response.items()) {
+                    events.add(mapToRecordedEvent(tournamentId, item));
+                }
+                exclusiveStartKey = response.hasLastEvaluatedKey() && !response.lastEvaluatedKey().isEmpty()
+                        ? response.lastEvaluatedKey()
+                        : null;
+            } while (exclusiveStartKey != null);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to find events: tournamentId=" + tournamentId, e);
+        }
+        return events;
+    }
+
+    @Override
+    public Optional<TournamentState> findLatestSnapshot(UUID tournamentId) {
+        QueryRequest request = QueryRequest.builder()
+                .tableName(tableName)
+                .keyConditionExpression("PK = :pk AND begins_with(SK, :prefix)")
+                .expressionAttributeValues(Map.of(
+                        ":pk", AttributeValue.builder().s(TournamentKeys.pk(tournamentId)).build(),
+                        ":prefix", AttributeValue.builder().s(TournamentKeys.SNAPSHOT_PREFIX).build()))
+                .scanIndexForward(false)
+                .limit(1)
+                .build();
+
+        try {
+            QueryResponse response = dynamoDbClient.query(request);
+            if (response.items().isEmpty()) {
+                return Optional.empty();
+            }
+            return Optional.of(mapToState(tournamentId, response.items().get(0)));
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to find snapshot: tournamentId=" + tournamentId, e);
+        }
+    }
+
+    @Override
+    public void saveSnapshot(TournamentState state) {
+        Map<String, AttributeValue> item = TournamentKeys.key(state.tournamentId(),
+                TournamentKeys.snapshotSk(state.sequence()));
+        item.put("sequence", number(state.sequence()));
+        item.put("currentRound", number(state.currentRound()));
+        item.put("state", AttributeValue.builder().b(SdkBytes.fromByteArray(encode(state))).build());
+
+        try {
+            dynamoDbClient.putItem(PutItemRequest.builder().tableName(tableName).item(item).build());
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to save snapshot: tournamentId=" + state.tournamentId()
+                    + ", sequence=" + state.sequence(), e);
+        }
+    }
+
+    /**
+     * イベントをDynamoDB Itemにマッピング
+     * 他のアイテムの更新と同じトランザクションで追記する場合にも使用する
+     */
+    static Map<String, AttributeValue> mapToItem(UUID tournamentId, long sequence, TournamentEvent event) {
+        Map<String, AttributeValue> item = TournamentKeys.key(tournamentId, TournamentKeys.eventSk(sequence));
+        item.put("sequence", number(sequence));
+        item.put("occurredAt", number(event.occurredAt().toEpochMilli()));
+        switch (event) {
+            case TournamentEvent.RoundPaired paired -> {
+                item.put("type", string(TYPE_ROUND_PAIRED));
+                item.put("roundNumber", number(paired.roundNumber()));
+                List<AttributeValue> matches = new ArrayList<>(paired.matches().size());
+                for (Match match : paired.matches()) {
+                    Map<String, AttributeValue> entry = new HashMap<>();
+                    entry.put("groupNumber", number(match.groupNumber()));
+                    entry.put("tableNumber", number(match.tableNumber()));
+                    entry.put("blackParticipantId", string(match.blackParticipantId().toString()));
+                    if (match.whiteParticipantId() != null) {
+                        entry.put("whiteParticipantId", string(match.whiteParticipantId().toString()));
+                    }
+                    matches.add(AttributeValue.builder().m(entry).build());
+                }
+                item.put("matches", AttributeValue.builder().l(matches).build());
+            }
+            case TournamentEvent.ResultEntered entered -> {
+                item.put("type", string(TYPE_RESULT_ENTERED));
+                putTable(item, entered.roundNumber(), entered.groupNumber(), entered.tableNumber());
+                item.put("result", string(entered.result().name()));
+            }
+            case TournamentEvent.ResultCorrected corrected -> {
+                item.put("type", string(TYPE_RESULT_CORRECTED));
+                putTable(item, corrected.roundNumber(), corrected.groupNumber(), corrected.tableNumber());
+                item.put("previousResult", string(corrected.previousResult().name()));
+                item.put("result", string(corrected.result().name()));
+            }
+            case TournamentEvent.ParticipantsImported imported -> {
+                item.put("type", string(TYPE_PARTICIPANTS_IMPORTED));
+                item.put("importedCount", number(imported.importedCount()));
+            }
+        }
+        return item;
+    }
+
+    /**
+     * DynamoDB Itemを記録済みイベントにマッピング
+     */
+    private static RecordedEvent mapToRecordedEvent(UUID tournamentId, Map<String, AttributeValue> item) {
+        long sequence = Long.parseLong(item.get("sequence").n());
+        Instant occurredAt = Instant.ofEpochMilli(Long.parseLong(item.get("occurredAt").n()));
+        String type = item.get("type").s();
+
+        TournamentEvent event = switch (type) {
+            case TYPE_ROUND_PAIRED -> {
+                int roundNumber = intValue(item, "roundNumber");
+                List<Match> matches = new ArrayList<>();
+                for (AttributeValue value : item.get("matches").l()) {
+                    Map<String, AttributeValue> entry = value.m();
+                    matches.add(Match.paired(tournamentId, roundNumber,
+                            intValue(entry, "groupNumber"),
+                            intValue(entry, "tableNumber"),
+                            UUID.fromString(entry.get("blackParticipantId").s()),
+                            entry.containsKey("whiteParticipantId")
+                                    ? UUID.fromString(entry.get("whiteParticipantId").s()) : null));
+                }
+                yield new TournamentEvent.RoundPaired(roundNumber, matches, occurredAt);
+            }
+            case TYPE_RESULT_ENTERED -> new TournamentEvent.ResultEntered(
+                    intValue(item, "roundNumber"), intValue(item, "groupNumber"), intValue(item, "tableNumber"),
+                    MatchResult.valueOf(item.get("result").s()), occurredAt);
+            case TYPE_RESULT_CORRECTED -> new TournamentEvent.ResultCorrected(
+                    intValue(item, "roundNumber"), intValue(item, "groupNumber"), intValue(item, "tableNumber"),
+                    MatchResult.valueOf(item.get("previousResult").s()),
+                    MatchResult.valueOf(item.get("result").s()), occurredAt);
+            case TYPE_PARTICIPANTS_IMPORTED -> new TournamentEvent.ParticipantsImported(
+                    intValue(item, "importedCount"), occurredAt);
+            default -> throw new IllegalStateException("Unknown event type: " + type);
+        };
+        return new RecordedEvent(sequence, event);
+    }
+
+    private byte[] encode(TournamentState state) {
+        List<SnapshotMatch> matches = new ArrayList<>(state.matches().size());
+        for (Match match : state.matches()) {
+            matches.add(new SnapshotMatch(match.roundNumber(), match.groupNumber(), match.tableNumber(),
+                    match.blackParticipantId(), match.whiteParticipantId(),
+                    match.result() == null ? null : match.result().name()));
+        }
+        try {
+            byte[] json = snapshotWriter.writeValueAsBytes(new SnapshotDocument(
+                    state.currentRound(), matches));
+            return CompressionUtil.gzip(json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to encode snapshot", e);
+        }
+    }
+
+    private TournamentState mapToState(UUID tournamentId, Map<String, AttributeValue> item) throws IOException {
+        SnapshotDocument document = snapshotReader.readValue(
+                CompressionUtil.gunzip(item.get("state").b().asByteArray()));
+        List<Match> matches = new ArrayList<>(document.matches().size());
+        for (SnapshotMatch match : document.matches()) {
+            matches.add(new Match(tournamentId, match.roundNumber(), match.groupNumber(), match.tableNumber(),
+                    match.blackParticipantId(), match.whiteParticipantId(),
+                    match.result() == null ? null : MatchResult.valueOf(match.result()), 0));
+        }
+        return new TournamentState(tournamentId, Long.parseLong(item.get("sequence").n()),
+                document.currentRound(), matches);
+    }
+
+    private static void putTable(Map<String, AttributeValue> item, int roundNumber, int groupNumber, int tableNumber) {
+        item.put("roundNumber", number(roundNumber));
+        item.put("groupNumber", number(groupNumber));
+        item.put("tableNumber", number(tableNumber));
+    }
+
+    private static int intValue(Map<String, AttributeValue> item, String name) {
+        return Integer.parseInt(item.get(name).n());
+    }
+
+    private static AttributeValue number(long value) {
+        return AttributeValue.builder().n(String.valueOf(value)).build();
+    }
+
+    private static AttributeValue string(String value) {
+        return AttributeValue.builder().s(value).build();
+    }
+
+    /**
+     * スナップショットの保存形式（gzip圧縮前のJSON）
+     * 対局のバージョンは楽観ロック用で状態の再構築には不要なため保存しない
+     * 以前の形式の属性（withdrawnParticipantIds）は読み込み時に無視する
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record SnapshotDocument(int currentRound, List<SnapshotMatch> matches) {
+    }
+
+    record SnapshotMatch(int roundNumber, int groupNumber, int tableNumber,
+                                 UUID blackParticipantId, UUID whiteParticipantId, String result) {
+    }
+}
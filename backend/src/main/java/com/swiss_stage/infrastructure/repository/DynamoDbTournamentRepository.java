@@ -0,0 +1,873 @@
+package com.swiss_stage.infrastructure.repository;
+
+import com.swiss_stage.common.exception.OptimisticLockException;
+import com.swiss_stage.common.util.RequestIdentityMap;
+import com.swiss_stage.domain.model.Match;
+import com.swiss_stage.domain.model.MatchResult;
+import com.swiss_stage.domain.model.OpponentMatrix;
+import com.swiss_stage.domain.model.Participant;
+import com.swiss_stage.domain.model.ParticipantSummary;
+import com.swiss_stage.domain.model.RecordedEvent;
+import com.swiss_stage.domain.model.Round;
+import com.swiss_stage.domain.model.RoundStatus;
+import com.swiss_stage.domain.model.Tournament;
+import com.swiss_stage.domain.model.TournamentAggregate;
+import com.swiss_stage.domain.model.TournamentStatus;
+import com.swiss_stage.domain.model.TournamentSummary;
+import com.swiss_stage.domain.model.TournamentSummaryPage;
+import com.swiss_stage.domain.repository.TournamentRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.*;
+
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * DynamoDbTournamentRepository実装（Infrastructure層）
+ * TournamentRepositoryインターフェースの実装
+ * 憲章原則I「ドメイン駆動設計」に準拠
+ *
+ * キー設計はTournamentKeysを参照。1トーナメントの全アイテムが同一パーティションにあるため、
+ * 集約の読み込みはGetItemの繰り返しではなく、ページングしたQuery 1本で行う
+ *
+ * 回戦・対局アイテムはversion属性を持ち、更新は「読み込んだバージョンと一致する場合のみ」
+ * 書き込む条件付き書き込み（楽観ロック）で行う。保存するたびにversionは1ずつ増加する
+ *
+ * 対戦済み行列はグループごとに1アイテムとし、参加者IDの並び・対戦済みビット列・不戦ビット列を
+ * バイナリ属性で保持する。結果の保存と同じトランザクションで差分を反映するため、対局とずれることはない
+ *
+ * ITEMS_WITH_BLOBモードでは、集約全体のバイナリ（AggregateBlobStore）をGetItem 1回で読み込み、
+ * 集約を変更する書き込みのたびに同じトランザクション（または書き込み直後）で無効化する
+ */
+@Repository
+public class DynamoDbTournamentRepository implements TournamentRepository {
+
+    /**
+     * 参加者一覧に必要な属性のみを読み込む射影（nameは予約語のためプレースホルダーを使用）
+     */
+    private static final String PARTICIPANT_SUMMARY_PROJECTION =
+            "participantId, entryNumber, #name, groupNumber, withdrawn";
+
+    /**
+     * 主催者のトーナメント一覧に必要な属性のみを読み込む射影（statusは予約語のためプレースホルダーを使用）
+     */
+    private static final String TOURNAMENT_SUMMARY_PROJECTION =
+            "tournamentId, title, #status, eventDate, participantCount";
+
+    private static final String VERSION_CONDITION = "#version = :expected";
+    private static final String NEW_ITEM_CONDITION = "attribute_not_exists(SK)";
+    private static final String CONDITIONAL_CHECK_FAILED = "ConditionalCheckFailed";
+
+    private final DynamoDbClient dynamoDbClient;
+    private final String tableName;
+    /** ITEMSモードではnull */
+    private final AggregateBlobStore blobStore;
+
+    public DynamoDbTournamentRepository(DynamoDbClient dynamoDbClient, String tableName) {
+        this(dynamoDbClient, tableName, TournamentStorageMode.ITEMS, TournamentAggregateCodec.Compression.DEFLATE);
+    }
+
+    @Autowired
+    public DynamoDbTournamentRepository(
+            DynamoDbClient dynamoDbClient,
+            @Value("${aws.dynamodb.table-name}") String tableName,
+            @Value("${app.tournament.storage.mode:ITEMS}") TournamentStorageMode storageMode,
+            @Value("${app.tournament.storage.blob-compression:DEFLATE}")
+            TournamentAggregateCodec.Compression blobCompression) {
+        this.dynamoDbClient = dynamoDbClient;
+        this.tableName = tableName;
+        this.blobStore = storageMode == TournamentStorageMode.ITEMS_WITH_BLOB
+                ? new AggregateBlobStore(dynamoDbClient, tableName, blobCompression)
+                : null;
+    }
+
+    @Override
+    public Optional<Tournament> findById(UUID tournamentId) {
+        // 権限確認と集約の読み込みなど、同じリクエスト内での重複した読み込みを省く
+        return RequestIdentityMap.load(Tournament.class, tournamentId, () -> getById(tournamentId));
+    }
+
+    private Optional<Tournament> getById(UUID tournamentId) {
+        GetItemRequest request = GetItemRequest.builder()
+                .tableName(tableName)
+                .key(TournamentKeys.key(tournamentId, TournamentKeys.METADATA))
+                .build();
+
+        try {
+            GetItemResponse response = dynamoDbClient.getItem(request);
+            if (!response.hasItem()) {
+                return Optional.empty();
+            }
+            return Optional.of(mapToTournament(response.item()));
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to find tournament by ID: " + tournamentId, e);
+        }
+    }
+
+    @Override
+    public Optional<TournamentAggregate> loadAggregate(UUID tournamentId) {
+        if (blobStore == null) {
+            return queryAggregate(tournamentId, false);
+        }
+        return loadAggregateWithBlob(tournamentId);
+    }
+
+    @Override
+    public Optional<TournamentAggregate> loadLatestAggregate(UUID tournamentId) {
+        if (blobStore == null) {
+            return queryAggregate(tournamentId, true);
+        }
+        // 集約バイナリモードの読み込みはもともと強い整合性
+        return loadAggregateWithBlob(tournamentId);
+    }
+
+    private Optional<TournamentAggregate> loadAggregateWithBlob(UUID tournamentId) {
+        AggregateBlobStore.Lookup lookup = blobStore.find(tournamentId);
+        if (lookup.aggregate() != null) {
+            RequestIdentityMap.put(Tournament.class, tournamentId, lookup.aggregate().tournament());
+            return Optional.of(lookup.aggregate());
+        }
+        // 集約バイナリがない（または無効化済み）場合はアイテムから読み込み、読み込み開始時の世代のまま保存する
+        Optional<TournamentAggregate> aggregate = queryAggregate(tournamentId, true);
+        aggregate.ifPresent(loaded -> blobStore.store(tournamentId, loaded, lookup.generation()));
+        return aggregate;
+    }
+
+    /**
+     * 集約本体のSK範囲をページングしたQuery 1本で読み込む
+     */
+    private Optional<TournamentAggregate> queryAggregate(UUID tournamentId, boolean consistentRead) {
+        QueryRequest request = QueryRequest.builder()
+                .tableName(tableName)
+                .keyConditionExpression("PK = :pk AND SK BETWEEN :from AND :to")
+                .expressionAttributeValues(Map.of(
+                        ":pk", AttributeValue.builder().s(TournamentKeys.pk(tournamentId)).build(),
+                        ":from", AttributeValue.builder().s(TournamentKeys.AGGREGATE_SK_FROM).build(),
+                        ":to", AttributeValue.builder().s(TournamentKeys.AGGREGATE_SK_TO).build()))
+                .consistentRead(consistentRead)
+                .build();
+
+        Tournament[] tournament = new Tournament[1];
+        List<Participant> participants = new ArrayList<>();
+        List<Round> rounds = new ArrayList<>();
+        List<Match> matches = new ArrayList<>();
+
+        try {
+            queryAll(request, item -> {
+                String sk = item.get("SK").s();
+                if (sk.startsWith(TournamentKeys.MATCH_PREFIX)) {
+                    matches.add(mapToMatch(tournamentId, item));
+                } else if (sk.startsWith(TournamentKeys.PARTICIPANT_PREFIX)) {
+                    participants.add(DynamoDbParticipantRepository.mapToParticipant(item));
+                } else if (sk.startsWith(TournamentKeys.ROUND_PREFIX)) {
+                    rounds.add(mapToRound(tournamentId, item));
+                } else if (sk.equals(TournamentKeys.METADATA)) {
+                    tournament[0] = mapToTournament(item);
+                }
+                // SK範囲内の未知のアイテム種別は無視する
+            });
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to load tournament aggregate: " + tournamentId, e);
+        }
+
+        if (tournament[0] == null) {
+            return Optional.empty();
+        }
+        // 集約と一緒に読み込んだトーナメントは、同じリクエスト内のfindByIdで再利用する
+        RequestIdentityMap.put(Tournament.class, tournamentId, tournament[0]);
+        // 参加者のSKはUUIDのため、表示順（エントリー番号順）に並べ替える
+        participants.sort(Comparator.comparingInt(Participant::entryNumber));
+        return Optional.of(new TournamentAggregate(tournament[0], participants, rounds, matches));
+    }
+
+    @Override
+    public List<ParticipantSummary> findParticipantSummaries(UUID tournamentId) {
+        QueryRequest request = QueryRequest.builder()
+                .tableName(tableName)
+                .keyConditionExpression("PK = :pk AND begins_with(SK, :prefix)")
+                .expressionAttributeValues(Map.of(
+                        ":pk", AttributeValue.builder().s(TournamentKeys.pk(tournamentId)).build(),
+                        ":prefix", AttributeValue.builder().s(TournamentKeys.PARTICIPANT_PREFIX).build()))
+                .projectionExpression(PARTICIPANT_SUMMARY_PROJECTION)
+                .expressionAttributeNames(Map.of("#name", "name"))
+                .build();
+
+        List<ParticipantSummary> summaries = new ArrayList<>();
+        try {
+            queryAll(request, item -> summaries.add(mapToParticipantSummary(item)));
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to find participant summaries: tournamentId=" + tournamentId, e);
+        }
+        summaries.sort(Comparator.comparingInt(ParticipantSummary::entryNumber));
+        return summaries;
+    }
+
+    @Override
+    public List<Match> findMatchesByRound(UUID tournamentId, int roundNumber) {
+        QueryRequest request = QueryRequest.builder()
+                .tableName(tableName)
+                .keyConditionExpression("PK = :pk AND begins_with(SK, :prefix)")
+                .expressionAttributeValues(Map.of(
+                        ":pk", AttributeValue.builder().s(TournamentKeys.pk(tournamentId)).build(),
+                        ":prefix", AttributeValue.builder().s(TournamentKeys.matchRoundPrefix(roundNumber)).build()))
+                // 結果入力時の競合判定に使うため、強い整合性で読み込む
+                .consistentRead(true)
+                .build();
+
+        List<Match> matches = new ArrayList<>();
+        try {
+            queryAll(request, item -> matches.add(mapToMatch(tournamentId, item)));
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to find matches: tournamentId=" + tournamentId
+                    + ", round=" + roundNumber, e);
+        }
+        return matches;
+    }
+
+    @Override
+    public void forEachMatchInRound(UUID tournamentId, int roundNumber, Consumer<Match> consumer) {
+        QueryRequest request = QueryRequest.builder()
+                .tableName(tableName)
+                .keyConditionExpression("PK = :pk AND begins_with(SK, :prefix)")
+                .expressionAttributeValues(Map.of(
+                        ":pk", AttributeValue.builder().s(TournamentKeys.pk(tournamentId)).build(),
+                        ":prefix", AttributeValue.builder().s(TournamentKeys.matchRoundPrefix(roundNumber)).build()))
+                .build();
+
+        try {
+            queryAll(request, item -> consumer.accept(mapToMatch(tournamentId, item)));
+        } catch (UncheckedIOException e) {
+            // 出力先への書き込みエラーはそのまま呼び出し元に返す
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to read matches: tournamentId=" + tournamentId
+                    + ", round=" + roundNumber, e);
+        }
+    }
+
+    @Override
+    public Optional<Round> findRound(UUID tournamentId, int roundNumber) {
+        return getItemConsistently(tournamentId, TournamentKeys.roundSk(roundNumber))
+                .map(item -> mapToRound(tournamentId, item));
+    }
+
+    @Override
+    public Optional<Match> findMatch(UUID tournamentId, int roundNumber, int groupNumber, int tableNumber) {
+        return getItemConsistently(tournamentId, TournamentKeys.matchSk(roundNumber, groupNumber, tableNumber))
+                .map(item -> mapToMatch(tournamentId, item));
+    }
+
+    @Override
+    public Optional<OpponentMatrix> findOpponentMatrix(UUID tournamentId, int groupNumber) {
+        return getItemConsistently(tournamentId, TournamentKeys.opponentMatrixSk(groupNumber))
+                .map(DynamoDbTournamentRepository::mapToOpponentMatrix);
+    }
+
+    @Override
+    public List<OpponentMatrix> findOpponentMatrices(UUID tournamentId) {
+        QueryRequest request = QueryRequest.builder()
+                .tableName(tableName)
+                .keyConditionExpression("PK = :pk AND begins_with(SK, :prefix)")
+                .expressionAttributeValues(Map.of(
+                        ":pk", AttributeValue.builder().s(TournamentKeys.pk(tournamentId)).build(),
+                        ":prefix", AttributeValue.builder().s(TournamentKeys.GROUP_PREFIX).build()))
+                .consistentRead(true)
+                .build();
+
+        List<OpponentMatrix> matrices = new ArrayList<>();
+        try {
+            queryAll(request, item -> {
+                if (item.get("SK").s().endsWith(TournamentKeys.OPPONENTS_SUFFIX)) {
+                    matrices.add(mapToOpponentMatrix(item));
+                }
+            });
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to find opponent matrices: tournamentId=" + tournamentId, e);
+        }
+        matrices.sort(Comparator.comparingInt(OpponentMatrix::getGroupNumber));
+        return matrices;
+    }
+
+    @Override
+    public boolean hasActiveTournaments(UUID organizerId) {
+        // 疎なインデックスには未終了のトーナメントしかないため、1件あるかどうかだけを見ればよい
+        QueryRequest request = QueryRequest.builder()
+                .tableName(tableName)
+                .indexName(TournamentKeys.ACTIVE_ORGANIZER_INDEX)
+                .keyConditionExpression("GSI2PK = :pk")
+                .expressionAttributeValues(Map.of(
+                        ":pk", AttributeValue.builder().s(TournamentKeys.organizerPk(organizerId)).build()))
+                .limit(1)
+                .build();
+
+        try {
+            return !dynamoDbClient.query(request).items().isEmpty();
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to check active tournaments: organizerId=" + organizerId, e);
+        }
+    }
+
+    @Override
+    public List<UUID> findTournamentIdsByOrganizer(UUID organizerId) {
+        QueryRequest request = QueryRequest.builder()
+                .tableName(tableName)
+                .indexName(TournamentKeys.ORGANIZER_INDEX)
+                .keyConditionExpression("GSI1PK = :pk")
+                .expressionAttributeValues(Map.of(
+                        ":pk", AttributeValue.builder().s(TournamentKeys.organizerPk(organizerId)).build()))
+                .projectionExpression("tournamentId")
+                .build();
+
+        List<UUID> tournamentIds = new ArrayList<>();
+        try {
+            queryAll(request, item -> tournamentIds.add(UUID.fromString(item.get("tournamentId").s())));
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to find tournaments by organizer: " + organizerId, e);
+        }
+        return tournamentIds;
+    }
+
+    @Override
+    public TournamentSummaryPage findSummariesByOrganizer(UUID organizerId, int limit, String continuationToken) {
+        QueryRequest.Builder request = QueryRequest.builder()
+                .tableName(tableName)
+                .indexName(TournamentKeys.ORGANIZER_INDEX)
+                .keyConditionExpression("GSI1PK = :pk")
+                .expressionAttributeValues(Map.of(
+                        ":pk", AttributeValue.builder().s(TournamentKeys.organizerPk(organizerId)).build()))
+                .projectionExpression(TOURNAMENT_SUMMARY_PROJECTION)
+                .expressionAttributeNames(Map.of("#status", "status"))
+                .scanIndexForward(false)
+                .limit(limit);
+        if (continuationToken != null) {
+            request.exclusiveStartKey(organizerIndexKey(organizerId, continuationToken));
+        }
+
+        QueryResponse response;
+        try {
+            response = dynamoDbClient.query(request.build());
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to list tournaments by organizer: " + organizerId, e);
+        }
+        List<TournamentSummary> summaries = new ArrayList<>(response.items().size());
+        for (Map<String, AttributeValue> item : response.items()) {
+            summaries.add(mapToTournamentSummary(item));
+        }
+        // GSI1のキーはGSI1SKから復元できるため、読み込み位置はGSI1SKのみにする
+        String next = response.hasLastEvaluatedKey() && !response.lastEvaluatedKey().isEmpty()
+                ? response.lastEvaluatedKey().get("GSI1SK").s()
+                : null;
+        return new TournamentSummaryPage(summaries, next);
+    }
+
+    /**
+     * GSI1SK（TOURNAMENT#{eventDate}#{tournamentId}）からGSI1のExclusiveStartKeyを復元する
+     */
+    private static Map<String, AttributeValue> organizerIndexKey(UUID organizerId, String organizerSk) {
+        int separator = organizerSk.lastIndexOf('#');
+        if (!organizerSk.startsWith("TOURNAMENT#") || separator < 0) {
+            throw new IllegalArgumentException("Invalid continuation token");
+        }
+        UUID tournamentId = UUID.fromString(organizerSk.substring(separator + 1));
+        Map<String, AttributeValue> key = TournamentKeys.key(tournamentId, TournamentKeys.METADATA);
+        key.put("GSI1PK", AttributeValue.builder().s(TournamentKeys.organizerPk(organizerId)).build());
+        key.put("GSI1SK", AttributeValue.builder().s(organizerSk).build());
+        return key;
+    }
+
+    @Override
+    public Tournament save(Tournament tournament) {
+        PutItemRequest request = PutItemRequest.builder()
+                .tableName(tableName)
+                .item(mapToItem(tournament))
+                .build();
+
+        try {
+            dynamoDbClient.putItem(request);
+        } catch (Exception e) {
+            RequestIdentityMap.evict(Tournament.class, tournament.getTournamentId());
+            throw new RuntimeException("Failed to save tournament: " + tournament.getTournamentId(), e);
+        }
+        RequestIdentityMap.put(Tournament.class, tournament.getTournamentId(), tournament);
+        invalidateAggregateBlob(tournament.getTournamentId());
+        return tournament;
+    }
+
+    @Override
+    public Round saveRound(Round round) {
+        Round next = nextVersion(round);
+        PutItemRequest.Builder request = PutItemRequest.builder()
+                .tableName(tableName)
+                .item(mapToItem(next));
+        if (round.version() == 0) {
+            request.conditionExpression(NEW_ITEM_CONDITION);
+        } else {
+            request.conditionExpression(VERSION_CONDITION)
+                    .expressionAttributeNames(Map.of("#version", "version"))
+                    .expressionAttributeValues(Map.of(":expected", number(round.version())));
+        }
+
+        try {
+            dynamoDbClient.putItem(request.build());
+        } catch (ConditionalCheckFailedException e) {
+            throw new OptimisticLockException("Round was modified concurrently: round=" + round.roundNumber(), e);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to save round: tournamentId=" + round.tournamentId()
+                    + ", round=" + round.roundNumber(), e);
+        }
+        invalidateAggregateBlob(round.tournamentId());
+        return next;
+    }
+
+    @Override
+    public void saveMatches(List<Match> matches) {
+        if (matches.isEmpty()) {
+            return;
+        }
+
+        // BatchWriteItemは条件式に対応しないため、呼び出し側で回戦を予約してから書き込む
+        List<Map<String, AttributeValue>> items = new ArrayList<>(matches.size());
+        for (Match match : matches) {
+            items.add(mapToItem(nextVersion(match)));
+        }
+
+        try {
+            DynamoDbBatchWriter.putAll(dynamoDbClient, tableName, items);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to save matches: tournamentId=" + matches.get(0).tournamentId(), e);
+        }
+        invalidateAggregateBlob(matches.get(0).tournamentId());
+    }
+
+    @Override
+    public void deleteMatchesByRound(UUID tournamentId, int roundNumber) {
+        List<Map<String, AttributeValue>> keys = new ArrayList<>();
+        for (Match match : findMatchesByRound(tournamentId, roundNumber)) {
+            keys.add(TournamentKeys.key(tournamentId,
+                    TournamentKeys.matchSk(roundNumber, match.groupNumber(), match.tableNumber())));
+        }
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        try {
+            DynamoDbBatchWriter.deleteAll(dynamoDbClient, tableName, keys);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to delete matches: tournamentId=" + tournamentId
+                    + ", round=" + roundNumber, e);
+        }
+        invalidateAggregateBlob(tournamentId);
+    }
+
+    @Override
+    public void deleteRound(Round round) {
+        DeleteItemRequest request = DeleteItemRequest.builder()
+                .tableName(tableName)
+                .key(TournamentKeys.key(round.tournamentId(), TournamentKeys.roundSk(round.roundNumber())))
+                .conditionExpression(VERSION_CONDITION)
+                .expressionAttributeNames(Map.of("#version", "version"))
+                .expressionAttributeValues(Map.of(":expected", number(round.version())))
+                .build();
+
+        try {
+            dynamoDbClient.deleteItem(request);
+        } catch (ConditionalCheckFailedException e) {
+            throw new OptimisticLockException("Round was modified concurrently: round=" + round.roundNumber(), e);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to delete round: tournamentId=" + round.tournamentId()
+                    + ", round=" + round.roundNumber(), e);
+        }
+        invalidateAggregateBlob(round.tournamentId());
+    }
+
+    @Override
+    public void savePairing(Tournament tournament, Round round, List<OpponentMatrix> opponentMatrices,
+                            RecordedEvent event) {
+        UUID tournamentId = tournament.getTournamentId();
+        List<TransactWriteItem> items = new ArrayList<>(opponentMatrices.size() + 4);
+        items.add(TransactWriteItem.builder()
+                .put(Put.builder().tableName(tableName).item(mapToItem(tournament)).build())
+                .build());
+        items.add(versionedPut(mapToItem(nextVersion(round)), round.version()));
+        for (OpponentMatrix matrix : opponentMatrices) {
+            items.add(versionedPut(mapToItem(tournamentId, matrix), matrix.getVersion()));
+        }
+        items.add(eventPut(tournamentId, event));
+        if (blobStore != null) {
+            items.add(blobStore.invalidation(tournamentId));
+        }
+
+        RequestIdentityMap.evict(Tournament.class, tournamentId);
+        try {
+            dynamoDbClient.transactWriteItems(TransactWriteItemsRequest.builder().transactItems(items).build());
+            RequestIdentityMap.put(Tournament.class, tournamentId, tournament);
+        } catch (TransactionCanceledException e) {
+            if (isConditionalCheckFailure(e)) {
+                throw new OptimisticLockException("Round was already paired: round=" + round.roundNumber(), e);
+            }
+            throw new RuntimeException("Failed to save pairing: tournamentId=" + tournamentId, e);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to save pairing: tournamentId=" + tournamentId, e);
+        }
+    }
+
+    @Override
+    public Match saveMatchResult(Match match, Round round, List<OpponentMatrix> opponentMatrices,
+                                 RecordedEvent event) {
+        return saveMatchResults(List.of(match), round, opponentMatrices, List.of(event)).get(0);
+    }
+
+    @Override
+    public List<Match> saveMatchResults(List<Match> matches, Round round, List<OpponentMatrix> opponentMatrices,
+                                        List<RecordedEvent> events) {
+        if (matches.isEmpty() || matches.size() != events.size()) {
+            throw new IllegalArgumentException("Matches and events must be non-empty and of the same size");
+        }
+        int itemCount = matches.size() * 2 + 1 + opponentMatrices.size() + (blobStore == null ? 0 : 1);
+        if (itemCount > MAX_TRANSACTION_ITEMS) {
+            throw new IllegalArgumentException("Too many items for one transaction: " + itemCount);
+        }
+
+        UUID tournamentId = round.tournamentId();
+        List<Match> saved = new ArrayList<>(matches.size());
+        List<TransactWriteItem> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < matches.size(); i++) {
+            Match match = matches.get(i);
+            Match next = nextVersion(match);
+            saved.add(next);
+            items.add(versionedPut(mapToItem(next), match.version()));
+            items.add(eventPut(tournamentId, events.get(i)));
+        }
+        // 回戦の入力済み件数・対戦済み行列はトランザクションごとに1回だけ更新する
+        items.add(versionedPut(mapToItem(nextVersion(round)), round.version()));
+        for (OpponentMatrix matrix : opponentMatrices) {
+            items.add(versionedPut(mapToItem(tournamentId, matrix), matrix.getVersion()));
+        }
+        if (blobStore != null) {
+            items.add(blobStore.invalidation(tournamentId));
+        }
+
+        try {
+            dynamoDbClient.transactWriteItems(TransactWriteItemsRequest.builder().transactItems(items).build());
+            return saved;
+        } catch (TransactionCanceledException e) {
+            if (isConditionalCheckFailure(e)) {
+                throw new OptimisticLockException("Match, round or event sequence was modified concurrently: round="
+                        + round.roundNumber(), e);
+            }
+            throw new RuntimeException("Failed to save match results: tournamentId=" + tournamentId, e);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to save match results: tournamentId=" + tournamentId, e);
+        }
+    }
+
+    @Override
+    public long deleteTournament(UUID tournamentId, int parallelism, LongConsumer onDeleted) {
+        try {
+            // 大会情報は主催者のGSIのキーを持つため最後に削除し、途中で失敗しても一覧から辿れるようにする
+            return DynamoDbPartitionDeleter.deletePartition(dynamoDbClient, tableName,
+                    TournamentKeys.pk(tournamentId), TournamentKeys.METADATA, parallelism, onDeleted);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to delete tournament: " + tournamentId, e);
+        } finally {
+            RequestIdentityMap.evict(Tournament.class, tournamentId);
+        }
+    }
+
+    /**
+     * トランザクション外の書き込みの直後に集約バイナリを無効化（ITEMSモードでは何もしない）
+     */
+    private void invalidateAggregateBlob(UUID tournamentId) {
+        if (blobStore != null) {
+            blobStore.invalidate(tournamentId);
+        }
+    }
+
+    /**
+     * 楽観ロックの判定に使うため、強い整合性の読み込みでアイテムを取得する
+     */
+    private Optional<Map<String, AttributeValue>> getItemConsistently(UUID tournamentId, String sk) {
+        GetItemRequest request = GetItemRequest.builder()
+                .tableName(tableName)
+                .key(TournamentKeys.key(tournamentId, sk))
+                .consistentRead(true)
+                .build();
+
+        try {
+            GetItemResponse response = dynamoDbClient.getItem(request);
+            return response.hasItem() ? Optional.of(response.item()) : Optional.empty();
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to get item: tournamentId=" + tournamentId + ", sk=" + sk, e);
+        }
+    }
+
+    /**
+     * 読み込み時のバージョンと一致する場合のみ書き込むPut（version=0は新規作成のみ）
+     */
+    private TransactWriteItem versionedPut(Map<String, AttributeValue> item, long expectedVersion) {
+        if (expectedVersion == 0) {
+            return TransactWriteItem.builder()
+                    .put(Put.builder()
+                            .tableName(tableName)
+                            .item(item)
+                            .conditionExpression(NEW_ITEM_CONDITION)
+                            .build())
+                    .build();
+        }
+        return TransactWriteItem.builder()
+                .put(Put.builder()
+                        .tableName(tableName)
+                        .item(item)
+                        .conditionExpression(VERSION_CONDITION)
+                        .expressionAttributeNames(Map.of("#version", "version"))
+                        .expressionAttributeValues(Map.of(":expected", number(expectedVersion)))
+                        .build())
+                .build();
+    }
+
+    /**
+     * 連番が未使用の場合のみ書き込むイベントログのPut
+     */
+    private TransactWriteItem eventPut(UUID tournamentId, RecordedEvent event) {
+        return TransactWriteItem.builder()
+                .put(Put.builder()
+                        .tableName(tableName)
+                        .item(DynamoDbTournamentJournalRepository.mapToItem(
+                                tournamentId, event.sequence(), event.event()))
+                        .conditionExpression(NEW_ITEM_CONDITION)
+                        .build())
+                .build();
+    }
+
+    private static boolean isConditionalCheckFailure(TransactionCanceledException e) {
+        return e.hasCancellationReasons() && e.cancellationReasons().stream()
+                .anyMatch(reason -> CONDITIONAL_CHECK_FAILED.equals(reason.code()));
+    }
+
+    private static Match nextVersion(Match match) {
+        return new Match(match.tournamentId(), match.roundNumber(), match.groupNumber(), match.tableNumber(),
+                match.blackParticipantId(), match.whiteParticipantId(), match.result(), match.version() + 1);
+    }
+
+    private static Round nextVersion(Round round) {
+        return new Round(round.tournamentId(), round.roundNumber(), round.status(), round.matchCount(),
+                round.completedMatchCount(), round.pairedAt(), round.version() + 1);
+    }
+
+    private static AttributeValue number(long value) {
+        return AttributeValue.builder().n(String.valueOf(value)).build();
+    }
+
+    /**
+     * LastEvaluatedKeyがなくなるまでQueryを続け、各アイテムをconsumerに渡す
+     * 1MBを超えるパーティションでも、呼び出し回数はページ数分のQueryのみ
+     */
+    private void queryAll(QueryRequest request, Consumer<Map<String, AttributeValue>> consumer) {
+        Map<String, AttributeValue> exclusiveStartKey = null;
+        do {
+            QueryRequest pageRequest = exclusiveStartKey == null
+                    ? request
+                    : request.toBuilder().exclusiveStartKey(exclusiveStartKey).build();
+            QueryResponse response = dynamoDbClient.query(pageRequest);
+            response.items().forEach(consumer);
+            exclusiveStartKey = response.hasLastEvaluatedKey() && !response.lastEvaluatedKey().isEmpty()
+                    ? response.lastEvaluatedKey()
+                    : null;
+        } while (exclusiveStartKey != null);
+    }
+
+    /**
+     * TournamentをDynamoDB Itemにマッピング
+     */
+    static Map<String, AttributeValue> mapToItem(Tournament tournament) {
+        Map<String, AttributeValue> item = TournamentKeys.key(tournament.getTournamentId(), TournamentKeys.METADATA);
+        item.put("tournamentId", AttributeValue.builder().s(tournament.getTournamentId().toString()).build());
+        item.put("organizerId", AttributeValue.builder().s(tournament.getOrganizerId().toString()).build());
+        item.put("title", AttributeValue.builder().s(tournament.getTitle()).build());
+        item.put("groupCount", AttributeValue.builder().n(String.valueOf(tournament.getGroupCount())).build());
+        item.put("roundCount", AttributeValue.builder().n(String.valueOf(tournament.getRoundCount())).build());
+        item.put("eventDate", AttributeValue.builder().s(tournament.getEventDate().toString()).build());
+        item.put("createdAt", AttributeValue.builder().n(String.valueOf(tournament.getCreatedAt().toEpochMilli())).build());
+        item.put("status", AttributeValue.builder().s(tournament.getStatus().name()).build());
+        item.put("currentRound", AttributeValue.builder().n(String.valueOf(tournament.getCurrentRound())).build());
+        item.put("participantCount", AttributeValue.builder().n(String.valueOf(tournament.getParticipantCount())).build());
+        AttributeValue organizerPk = AttributeValue.builder()
+                .s(TournamentKeys.organizerPk(tournament.getOrganizerId())).build();
+        AttributeValue organizerSk = AttributeValue.builder()
+                .s(TournamentKeys.organizerSk(tournament.getEventDate(), tournament.getTournamentId())).build();
+        item.put("GSI1PK", organizerPk);
+        item.put("GSI1SK", organizerSk);
+        if (tournament.getStatus().isActive()) {
+            // 疎なインデックス: 終了後は属性を書かず、GSI2から外す
+            item.put("GSI2PK", organizerPk);
+            item.put("GSI2SK", organizerSk);
+        }
+        return item;
+    }
+
+    /**
+     * RoundをDynamoDB Itemにマッピング
+     */
+    static Map<String, AttributeValue> mapToItem(Round round) {
+        Map<String, AttributeValue> item = TournamentKeys.key(round.tournamentId(),
+                TournamentKeys.roundSk(round.roundNumber()));
+        item.put("roundNumber", AttributeValue.builder().n(String.valueOf(round.roundNumber())).build());
+        item.put("status", AttributeValue.builder().s(round.status().name()).build());
+        item.put("matchCount", AttributeValue.builder().n(String.valueOf(round.matchCount())).build());
+        item.put("completedMatchCount", AttributeValue.builder().n(String.valueOf(round.completedMatchCount())).build());
+        item.put("pairedAt", AttributeValue.builder().n(String.valueOf(round.pairedAt().toEpochMilli())).build());
+        item.put("version", number(round.version()));
+        return item;
+    }
+
+    /**
+     * MatchをDynamoDB Itemにマッピング
+     */
+    static Map<String, AttributeValue> mapToItem(Match match) {
+        Map<String, AttributeValue> item = TournamentKeys.key(match.tournamentId(),
+                TournamentKeys.matchSk(match.roundNumber(), match.groupNumber(), match.tableNumber()));
+        item.put("roundNumber", AttributeValue.builder().n(String.valueOf(match.roundNumber())).build());
+        item.put("groupNumber", AttributeValue.builder().n(String.valueOf(match.groupNumber())).build());
+        item.put("tableNumber", AttributeValue.builder().n(String.valueOf(match.tableNumber())).build());
+        item.put("blackParticipantId", AttributeValue.builder().s(match.blackParticipantId().toString()).build());
+        if (match.whiteParticipantId() != null) {
+            item.put("whiteParticipantId", AttributeValue.builder().s(match.whiteParticipantId().toString()).build());
+        }
+        if (match.result() != null) {
+            item.put("result", AttributeValue.builder().s(match.result().name()).build());
+        }
+        item.put("version", number(match.version()));
+        return item;
+    }
+
+    /**
+     * OpponentMatrixをDynamoDB Itemにマッピング（保存後のバージョンで書き込む）
+     * 参加者IDは16バイトずつ連結したバイナリで保持する
+     */
+    static Map<String, AttributeValue> mapToItem(UUID tournamentId, OpponentMatrix matrix) {
+        List<UUID> participantIds = matrix.getParticipantIds();
+        ByteBuffer ids = ByteBuffer.allocate(participantIds.size() * 16);
+        for (UUID participantId : participantIds) {
+            ids.putLong(participantId.getMostSignificantBits());
+            ids.putLong(participantId.getLeastSignificantBits());
+        }
+
+        Map<String, AttributeValue> item = TournamentKeys.key(tournamentId,
+                TournamentKeys.opponentMatrixSk(matrix.getGroupNumber()));
+        item.put("groupNumber", AttributeValue.builder().n(String.valueOf(matrix.getGroupNumber())).build());
+        item.put("participantIds", binary(ids.array()));
+        item.put("opponents", binary(matrix.getOpponents()));
+        item.put("byes", binary(matrix.getByes()));
+        item.put("version", number(matrix.getVersion() + 1));
+        return item;
+    }
+
+    /**
+     * DynamoDB ItemをTournamentエンティティにマッピング
+     */
+    static Tournament mapToTournament(Map<String, AttributeValue> item) {
+        return Tournament.restore(
+                UUID.fromString(item.get("tournamentId").s()),
+                UUID.fromString(item.get("organizerId").s()),
+                item.get("title").s(),
+                Integer.parseInt(item.get("groupCount").n()),
+                Integer.parseInt(item.get("roundCount").n()),
+                LocalDate.parse(item.get("eventDate").s()),
+                Instant.ofEpochMilli(Long.parseLong(item.get("createdAt").n())),
+                TournamentStatus.valueOf(item.get("status").s()),
+                Integer.parseInt(item.get("currentRound").n()),
+                Integer.parseInt(item.get("participantCount").n()));
+    }
+
+    /**
+     * DynamoDB ItemをRoundにマッピング
+     */
+    static Round mapToRound(UUID tournamentId, Map<String, AttributeValue> item) {
+        return new Round(
+                tournamentId,
+                Integer.parseInt(item.get("roundNumber").n()),
+                RoundStatus.valueOf(item.get("status").s()),
+                Integer.parseInt(item.get("matchCount").n()),
+                Integer.parseInt(item.get("completedMatchCount").n()),
+                Instant.ofEpochMilli(Long.parseLong(item.get("pairedAt").n())),
+                version(item));
+    }
+
+    /**
+     * DynamoDB ItemをMatchにマッピング
+     */
+    static Match mapToMatch(UUID tournamentId, Map<String, AttributeValue> item) {
+        return new Match(
+                tournamentId,
+                Integer.parseInt(item.get("roundNumber").n()),
+                Integer.parseInt(item.get("groupNumber").n()),
+                Integer.parseInt(item.get("tableNumber").n()),
+                UUID.fromString(item.get("blackParticipantId").s()),
+                item.containsKey("whiteParticipantId") ? UUID.fromString(item.get("whiteParticipantId").s()) : null,
+                item.containsKey("result") ? MatchResult.valueOf(item.get("result").s()) : null,
+                version(item));
+    }
+
+    /**
+     * DynamoDB ItemをOpponentMatrixにマッピング
+     */
+    static OpponentMatrix mapToOpponentMatrix(Map<String, AttributeValue> item) {
+        ByteBuffer ids = item.get("participantIds").b().asByteBuffer();
+        List<UUID> participantIds = new ArrayList<>(ids.remaining() / 16);
+        while (ids.remaining() >= 16) {
+            participantIds.add(new UUID(ids.getLong(), ids.getLong()));
+        }
+        return OpponentMatrix.restore(
+                Integer.parseInt(item.get("groupNumber").n()),
+                participantIds,
+                item.get("opponents").b().asByteArray(),
+                item.get("byes").b().asByteArray(),
+                version(item));
+    }
+
+    private static AttributeValue binary(byte[] value) {
+        return AttributeValue.builder().b(SdkBytes.fromByteArray(value)).build();
+    }
+
+    private static long version(Map<String, AttributeValue> item) {
+        return item.containsKey("version") ? Long.parseLong(item.get("version").n()) : 0;
+    }
+
+    /**
+     * 射影したDynamoDB ItemをTournamentSummaryにマッピング
+     */
+    private static TournamentSummary mapToTournamentSummary(Map<String, AttributeValue> item) {
+        return new TournamentSummary(
+                UUID.fromString(item.get("tournamentId").s()),
+                item.get("title").s(),
+                TournamentStatus.valueOf(item.get("status").s()),
+                LocalDate.parse(item.get("eventDate").s()),
+                Integer.parseInt(item.get("participantCount").n()));
+    }
+
+    /**
+     * 射影したDynamoDB ItemをParticipantSummaryにマッピング
+     */
+    private static ParticipantSummary mapToParticipantSummary(Map<String, AttributeValue> item) {
+        return new ParticipantSummary(
+                UUID.fromString(item.get("participantId").s()),
+                Integer.parseInt(item.get("entryNumber").n()),
+                item.get("name").s(),
+                Integer.parseInt(item.get("groupNumber").n()),
+                item.containsKey("withdrawn") && Boolean.TRUE.equals(item.get("withdrawn").bool()));
+    }
+}
@@ -1,49 +1,73 @@
 package com.swiss_stage.infrastructure.repository;
 
+import com.swiss_stage.common.util.RequestIdentityMap;
 import com.swiss_stage.domain.model.User;
+import com.swiss_stage.domain.model.UserField;
+import com.swiss_stage.domain.model.UserProjection;
 import com.swiss_stage.domain.repository.UserRepository;
+import com.swiss_stage.infrastructure.dynamodb.GetItemHedger;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.*;
 
 import java.time.Instant;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
  * DynamoDbUserRepository実装（Infrastructure層）
  * UserRepositoryインターフェースの実装
  * 憲章原則I「ドメイン駆動設計」に準拠
+ *
+ * 射影の読み込み（findProjection / findDisplayName / existsById）はProjectionExpressionで指定した属性のみを返させ、
+ * Userエンティティを組み立てない。GetItemの消費読み込み容量はアイテム全体のサイズで決まるため変わらないが、
+ * 応答のサイズと変換の処理はプロフィール属性が増えても一定に保てる
  */
 @Repository
 public class DynamoDbUserRepository implements UserRepository {
 
+    /** 属性名（予約語と衝突しないよう、射影ではプレースホルダー経由で指定する） */
+    private static final Map<UserField, String> ATTRIBUTE_NAMES = new EnumMap<>(Map.of(
+            UserField.GOOGLE_ID, "googleId",
+            UserField.EMAIL, "email",
+            UserField.DISPLAY_NAME, "displayName",
+            UserField.CREATED_AT, "createdAt",
+            UserField.LAST_LOGIN_AT, "lastLoginAt"));
+
     private final DynamoDbClient dynamoDbClient;
+    private final GetItemHedger getItemHedger;
     private final String tableName;
 
     public DynamoDbUserRepository(
             DynamoDbClient dynamoDbClient,
+            GetItemHedger getItemHedger,
             @Value("${aws.dynamodb.table-name}") String tableName) {
         this.dynamoDbClient = dynamoDbClient;
+        this.getItemHedger = getItemHedger;
         this.tableName = tableName;
     }
 
     @Override
     public Optional<User> findById(UUID userId) {
-        Map<String, AttributeValue> key = new HashMap<>();
-        key.put("PK", AttributeValue.builder().s("USER#" + userId.toString()).build());
-        key.put("SK", AttributeValue.builder().s("METADATA").build());
+        // 同じリクエスト内で読み込み済みの場合はDynamoDBを読まない
+        return RequestIdentityMap.load(User.class, userId, () -> getById(userId));
+    }
 
+    private Optional<User> getById(UUID userId) {
         GetItemRequest request = GetItemRequest.builder()
                 .tableName(tableName)
-                .key(key)
+                .key(key(userId))
                 .build();
 
         try {
-            GetItemResponse response = dynamoDbClient.getItem(request);
+            // 認証済みリクエストごとに呼ばれるため、遅い応答はヘッジで打ち消す（有効時のみ）
+            GetItemResponse response = getItemHedger.getItem(request);
             if (!response.hasItem()) {
                 return Optional.empty();
             }
@@ -53,6 +77,50 @@ public class DynamoDbUserRepository implements UserRepository {
         }
     }
 
+    @Override
+    public Optional<UserProjection> findProjection(UUID userId, Set<UserField> fields) {
+        // 同じリクエスト内でUserを読み込み済みの場合はそこから射影する
+        Optional<User> cached = RequestIdentityMap.cached(User.class, userId);
+        if (cached.isPresent()) {
+            return Optional.of(UserProjection.from(cached.get(), fields));
+        }
+
+        Map<String, String> names = new HashMap<>();
+        StringBuilder projection = new StringBuilder("PK");
+        for (UserField field : fields) {
+            String placeholder = "#" + field.name();
+            names.put(placeholder, ATTRIBUTE_NAMES.get(field));
+            projection.append(", ").append(placeholder);
+        }
+        GetItemRequest.Builder request = GetItemRequest.builder()
+                .tableName(tableName)
+                .key(key(userId))
+                .projectionExpression(projection.toString());
+        if (!names.isEmpty()) {
+            request.expressionAttributeNames(names);
+        }
+
+        try {
+            GetItemResponse response = getItemHedger.getItem(request.build());
+            if (!response.hasItem() || response.item().isEmpty()) {
+                return Optional.empty();
+            }
+            return Optional.of(mapToProjection(userId, fields, response.item()));
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to find user projection by ID: " + userId, e);
+        }
+    }
+
+    @Override
+    public Optional<String> findDisplayName(UUID userId) {
+        return findProjection(userId, EnumSet.of(UserField.DISPLAY_NAME)).map(UserProjection::getDisplayName);
+    }
+
+    @Override
+    public boolean existsById(UUID userId) {
+        return findProjection(userId, EnumSet.noneOf(UserField.class)).isPresent();
+    }
+
     @Override
     public Optional<User> findByGoogleId(String googleId) {
         // Note: This implementation uses Scan for simplicity.
@@ -79,9 +147,7 @@ public class DynamoDbUserRepository implements UserRepository {
 
     @Override
     public User save(User user) {
-        Map<String, AttributeValue> item = new HashMap<>();
-        item.put("PK", AttributeValue.builder().s("USER#" + user.getUserId().toString()).build());
-        item.put("SK", AttributeValue.builder().s("METADATA").build());
+        Map<String, AttributeValue> item = key(user.getUserId());
         item.put("userId", AttributeValue.builder().s(user.getUserId().toString()).build());
         item.put("googleId", AttributeValue.builder().s(user.getGoogleId()).build());
         item.put("email", AttributeValue.builder().s(user.getEmail()).build());
@@ -96,23 +162,22 @@ public class DynamoDbUserRepository implements UserRepository {
 
         try {
             dynamoDbClient.putItem(request);
+            RequestIdentityMap.put(User.class, user.getUserId(), user);
             return user;
         } catch (Exception e) {
+            RequestIdentityMap.evict(User.class, user.getUserId());
             throw new RuntimeException("Failed to save user: " + user.getUserId(), e);
         }
     }
 
     @Override
     public void deleteById(UUID userId) {
-        Map<String, AttributeValue> key = new HashMap<>();
-        key.put("PK", AttributeValue.builder().s("USER#" + userId.toString()).build());
-        key.put("SK", AttributeValue.builder().s("METADATA").build());
-
         DeleteItemRequest request = DeleteItemRequest.builder()
                 .tableName(tableName)
-                .key(key)
+                .key(key(userId))
                 .build();
 
+        RequestIdentityMap.evict(User.class, userId);
         try {
             dynamoDbClient.deleteItem(request);
         } catch (Exception e) {
@@ -120,6 +185,28 @@ public class DynamoDbUserRepository implements UserRepository {
         }
     }
 
+    private static Map<String, AttributeValue> key(UUID userId) {
+        Map<String, AttributeValue> key = new HashMap<>();
+        key.put("PK", AttributeValue.builder().s("USER#" + userId.toString()).build());
+        key.put("SK", AttributeValue.builder().s("METADATA").build());
+        return key;
+    }
+
+    /**
+     * 射影したDynamoDB ItemをUserProjectionにマッピング
+     */
+    private static UserProjection mapToProjection(UUID userId, Set<UserField> fields, Map<String, AttributeValue> item) {
+        Map<UserField, Object> values = new EnumMap<>(UserField.class);
+        for (UserField field : fields) {
+            AttributeValue value = item.get(ATTRIBUTE_NAMES.get(field));
+            values.put(field, switch (field) {
+                case CREATED_AT, LAST_LOGIN_AT -> Instant.ofEpochMilli(Long.parseLong(value.n()));
+                case GOOGLE_ID, EMAIL, DISPLAY_NAME -> value.s();
+            });
+        }
+        return UserProjection.of(userId, values);
+    }
+
     /**
      * DynamoDB ItemをUserエンティティにマッピング
      */
@@ -0,0 +1,412 @@
+package com.swiss_stage.infrastructure.repository;
+
+import com.swiss_stage.domain.model.Match;
+import com.swiss_stage.domain.model.MatchResult;
+import com.swiss_stage.domain.model.Participant;
+import com.swiss_stage.domain.model.Round;
+import com.swiss_stage.domain.model.RoundStatus;
+import com.swiss_stage.domain.model.Tournament;
+import com.swiss_stage.domain.model.TournamentAggregate;
+import com.swiss_stage.domain.model.TournamentStatus;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * トーナメント集約のバイナリコーデック（Infrastructure層）
+ *
+ * 属性名を繰り返す属性マップ形式に比べ、集約全体を1つの小さなバイナリにまとめる
+ * - 数値は可変長整数（varint）、文字列はUTF-8の長さ付きバイト列
+ * - 参加者IDは先頭の辞書に16バイトで1回だけ書き、対局からは辞書の番号で参照する
+ * - 列挙型は序数で書く（値の追加は末尾のみ。順序を変える場合はFORMAT_VERSIONを上げる）
+ * - 本体はDeflate圧縮が可能（ヘッダーのフラグで判別）
+ *
+ * 形式:
+ *   [FORMAT_VERSION:1byte][flags:1byte][(圧縮時)展開後の長さ:varint][本体]
+ *   本体 = 大会情報, ID辞書, 参加者, 回戦, 対局
+ *
+ * 未知のFORMAT_VERSIONはdecodeでUnsupportedFormatExceptionとし、呼び出し側で属性マップ形式から読み直す
+ */
+public final class TournamentAggregateCodec {
+
+    /** 形式のバージョン（互換性のない変更のたびに上げる） */
+    public static final int FORMAT_VERSION = 1;
+
+    private static final int FLAG_DEFLATE = 1;
+
+    /**
+     * 本体の圧縮方式
+     */
+    public enum Compression {
+        NONE,
+        DEFLATE
+    }
+
+    private TournamentAggregateCodec() {
+        // Utility class - private constructor
+    }
+
+    /**
+     * 集約をバイナリに変換
+     *
+     * @param aggregate トーナメント集約
+     * @param compression 圧縮方式
+     * @return エンコード済みバイト列
+     */
+    public static byte[] encode(TournamentAggregate aggregate, Compression compression) {
+        Writer body = new Writer(1024 + aggregate.matches().size() * 8);
+        writeTournament(body, aggregate.tournament());
+
+        // ID辞書: 参加者（エントリー番号順）の後に、対局にだけ現れるIDを追加する
+        List<UUID> dictionary = new ArrayList<>(aggregate.participants().size());
+        Map<UUID, Integer> indexes = new HashMap<>(aggregate.participants().size() * 2);
+        for (Participant participant : aggregate.participants()) {
+            register(participant.participantId(), dictionary, indexes);
+        }
+        for (Match match : aggregate.matches()) {
+            register(match.blackParticipantId(), dictionary, indexes);
+            if (match.whiteParticipantId() != null) {
+                register(match.whiteParticipantId(), dictionary, indexes);
+            }
+        }
+        body.varint(dictionary.size());
+        for (UUID id : dictionary) {
+            body.uuid(id);
+        }
+
+        body.varint(aggregate.participants().size());
+        for (Participant participant : aggregate.participants()) {
+            body.varint(participant.entryNumber());
+            body.string(participant.name());
+            body.nullableString(participant.affiliation());
+            body.nullableString(participant.grade());
+            body.varint(participant.groupNumber());
+            body.varint(participant.withdrawn() ? 1 : 0);
+        }
+
+        body.varint(aggregate.rounds().size());
+        for (Round round : aggregate.rounds()) {
+            body.varint(round.roundNumber());
+            body.varint(round.status().ordinal());
+            body.varint(round.matchCount());
+            body.varint(round.completedMatchCount());
+            body.varlong(round.pairedAt().toEpochMilli());
+            body.varlong(round.version());
+        }
+
+        body.varint(aggregate.matches().size());
+        for (Match match : aggregate.matches()) {
+            body.varint(match.roundNumber());
+            body.varint(match.groupNumber());
+            body.varint(match.tableNumber());
+            body.varint(indexes.get(match.blackParticipantId()));
+            body.varint(match.whiteParticipantId() == null ? 0 : indexes.get(match.whiteParticipantId()) + 1);
+            body.varint(match.result() == null ? 0 : match.result().ordinal() + 1);
+            body.varlong(match.version());
+        }
+
+        byte[] raw = body.toByteArray();
+        Writer out = new Writer(raw.length + 8);
+        out.raw(FORMAT_VERSION);
+        if (compression == Compression.DEFLATE) {
+            out.raw(FLAG_DEFLATE);
+            out.varint(raw.length);
+            out.bytes(deflate(raw));
+        } else {
+            out.raw(0);
+            out.bytes(raw);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * バイナリから集約を復元
+     *
+     * @param data エンコード済みバイト列
+     * @return トーナメント集約
+     * @throws UnsupportedFormatException 未知の形式バージョンの場合
+     */
+    public static TournamentAggregate decode(byte[] data) {
+        if (data.length < 2 || data[0] != FORMAT_VERSION) {
+            throw new UnsupportedFormatException(data.length == 0 ? -1 : data[0]);
+        }
+        Reader header = new Reader(data, 2);
+        Reader body;
+        if ((data[1] & FLAG_DEFLATE) != 0) {
+            int length = header.varint();
+            body = new Reader(inflate(data, header.position(), length), 0);
+        } else {
+            body = header;
+        }
+
+        Tournament tournament = readTournament(body);
+        UUID tournamentId = tournament.getTournamentId();
+
+        UUID[] dictionary = new UUID[body.varint()];
+        for (int i = 0; i < dictionary.length; i++) {
+            dictionary[i] = body.uuid();
+        }
+
+        int participantCount = body.varint();
+        List<Participant> participants = new ArrayList<>(participantCount);
+        for (int i = 0; i < participantCount; i++) {
+            participants.add(new Participant(dictionary[i], tournamentId, body.varint(), body.string(),
+                    body.nullableString(), body.nullableString(), body.varint(), body.varint() == 1));
+        }
+
+        int roundCount = body.varint();
+        List<Round> rounds = new ArrayList<>(roundCount);
+        RoundStatus[] roundStatuses = RoundStatus.values();
+        for (int i = 0; i < roundCount; i++) {
+            rounds.add(new Round(tournamentId, body.varint(), roundStatuses[body.varint()], body.varint(),
+                    body.varint(), Instant.ofEpochMilli(body.varlong()), body.varlong()));
+        }
+
+        int matchCount = body.varint();
+        List<Match> matches = new ArrayList<>(matchCount);
+        MatchResult[] results = MatchResult.values();
+        for (int i = 0; i < matchCount; i++) {
+            int roundNumber = body.varint();
+            int groupNumber = body.varint();
+            int tableNumber = body.varint();
+            UUID black = dictionary[body.varint()];
+            int white = body.varint();
+            int result = body.varint();
+            matches.add(new Match(tournamentId, roundNumber, groupNumber, tableNumber, black,
+                    white == 0 ? null : dictionary[white - 1], result == 0 ? null : results[result - 1],
+                    body.varlong()));
+        }
+        return new TournamentAggregate(tournament, participants, rounds, matches);
+    }
+
+    private static void writeTournament(Writer out, Tournament tournament) {
+        out.uuid(tournament.getTournamentId());
+        out.uuid(tournament.getOrganizerId());
+        out.string(tournament.getTitle());
+        out.varint(tournament.getGroupCount());
+        out.varint(tournament.getRoundCount());
+        out.signedVarlong(tournament.getEventDate().toEpochDay());
+        out.varlong(tournament.getCreatedAt().toEpochMilli());
+        out.varint(tournament.getStatus().ordinal());
+        out.varint(tournament.getCurrentRound());
+        out.varint(tournament.getParticipantCount());
+    }
+
+    private static Tournament readTournament(Reader in) {
+        return Tournament.restore(in.uuid(), in.uuid(), in.string(), in.varint(), in.varint(),
+                LocalDate.ofEpochDay(in.signedVarlong()), Instant.ofEpochMilli(in.varlong()),
+                TournamentStatus.values()[in.varint()], in.varint(), in.varint());
+    }
+
+    private static void register(UUID id, List<UUID> dictionary, Map<UUID, Integer> indexes) {
+        if (indexes.putIfAbsent(id, dictionary.size()) == null) {
+            dictionary.add(id);
+        }
+    }
+
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2 + 16);
+            byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] data, int offset, int length) {
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(data, offset, data.length - offset);
+            byte[] raw = new byte[length];
+            int read = 0;
+            while (read < length) {
+                int n = inflater.inflate(raw, read, length - read);
+                if (n == 0 && (inflater.finished() || inflater.needsInput())) {
+                    break;
+                }
+                read += n;
+            }
+            if (read != length) {
+                throw new IllegalArgumentException("Truncated aggregate data");
+            }
+            return raw;
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("Corrupted aggregate data", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * 未知の形式バージョン
+     */
+    public static class UnsupportedFormatException extends RuntimeException {
+        public UnsupportedFormatException(int version) {
+            super("Unsupported aggregate format version: " + version);
+        }
+    }
+
+    /**
+     * 可変長整数を書き込むバッファ
+     */
+    private static final class Writer {
+        private byte[] buffer;
+        private int size;
+
+        private Writer(int capacity) {
+            this.buffer = new byte[Math.max(16, capacity)];
+        }
+
+        void raw(int value) {
+            ensure(1);
+            buffer[size++] = (byte) value;
+        }
+
+        void varint(int value) {
+            varlong(value & 0xFFFFFFFFL);
+        }
+
+        void varlong(long value) {
+            ensure(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[size++] = (byte) value;
+        }
+
+        void signedVarlong(long value) {
+            // ZigZag: 絶対値の小さい負数も短く書く
+            varlong((value << 1) ^ (value >> 63));
+        }
+
+        void uuid(UUID id) {
+            ensure(16);
+            long most = id.getMostSignificantBits();
+            long least = id.getLeastSignificantBits();
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                buffer[size++] = (byte) (most >>> shift);
+            }
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                buffer[size++] = (byte) (least >>> shift);
+            }
+        }
+
+        void string(String value) {
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            varint(utf8.length);
+            bytes(utf8);
+        }
+
+        void nullableString(String value) {
+            if (value == null) {
+                varint(0);
+                return;
+            }
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            varint(utf8.length + 1);
+            bytes(utf8);
+        }
+
+        void bytes(byte[] value) {
+            ensure(value.length);
+            System.arraycopy(value, 0, buffer, size, value.length);
+            size += value.length;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, size);
+        }
+
+        private void ensure(int additional) {
+            if (size + additional > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + additional));
+            }
+        }
+    }
+
+    /**
+     * 可変長整数を読み込むカーソル
+     */
+    private static final class Reader {
+        private final byte[] data;
+        private int position;
+
+        private Reader(byte[] data, int position) {
+            this.data = data;
+            this.position = position;
+        }
+
+        int position() {
+            return position;
+        }
+
+        int varint() {
+            return Math.toIntExact(varlong());
+        }
+
+        long varlong() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = data[position++];
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint");
+        }
+
+        long signedVarlong() {
+            long value = varlong();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        UUID uuid() {
+            long most = 0;
+            long least = 0;
+            for (int i = 0; i < 8; i++) {
+                most = (most << 8) | (data[position++] & 0xFF);
+            }
+            for (int i = 0; i < 8; i++) {
+                least = (least << 8) | (data[position++] & 0xFF);
+            }
+            return new UUID(most, least);
+        }
+
+        String string() {
+            int length = varint();
+            String value = new String(data, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        String nullableString() {
+            int length = varint();
+            if (length == 0) {
+                return null;
+            }
+            String value = new String(data, position, length - 1, StandardCharsets.UTF_8);
+            position += length - 1;
+            return value;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.swiss_stage.infrastructure.repository;
+
+import com.swiss_stage.domain.model.TournamentStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 主催者単位のGSIのキーの補完（Infrastructure層）
+ *
+ * GSI1・GSI2のキー属性を書き込むようになる前に作成された大会情報（METADATA）アイテムは、
+ * 主催者のトーナメント一覧・未終了トーナメントの確認・アカウント削除の列挙から漏れる
+ * 有効時は起動時にテーブルをScanし、キー属性が欠けているアイテムに大会情報から導出した値を書き込む
+ * - GSI1PK / GSI1SK: すべての大会情報アイテム
+ * - GSI2PK / GSI2SK: 未終了（準備中・進行中）の大会情報アイテムのみ
+ *
+ * 書き込みは読み込んだ状態・開催日と一致する場合のみ行う条件付き更新とし、
+ * 並行した大会情報の更新（終了・開催日の変更）を古い値で上書きしない
+ * 既にキー属性を持つアイテムは書き込まないため、何度実行しても結果は同じ
+ *
+ * 既存テーブルへの移行用のため既定では無効（app.tournament.index-backfill.enabled）
+ */
+@Component
+public class TournamentIndexBackfill implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(TournamentIndexBackfill.class);
+
+    private static final String PROJECTION =
+            "PK, SK, tournamentId, organizerId, eventDate, #status, GSI1PK, GSI2PK";
+
+    private final DynamoDbClient dynamoDbClient;
+    private final String tableName;
+    private final boolean enabled;
+
+    public TournamentIndexBackfill(DynamoDbClient dynamoDbClient,
+                                   @Value("${aws.dynamodb.table-name}") String tableName,
+                                   @Value("${app.tournament.index-backfill.enabled:false}") boolean enabled) {
+        this.dynamoDbClient = dynamoDbClient;
+        this.tableName = tableName;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        long start = System.nanoTime();
+        int updated = backfill();
+        logger.info("Tournament index backfill finished. updated={}, elapsedMs={}",
+                updated, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * キー属性が欠けている大会情報アイテムを補完する
+     *
+     * @return 書き込んだアイテム数
+     */
+    public int backfill() {
+        int updated = 0;
+        Map<String, AttributeValue> exclusiveStartKey = null;
+        do {
+            ScanRequest.Builder request = ScanRequest.builder()
+                    .tableName(tableName)
+                    .filterExpression("SK = :metadata")
+                    .projectionExpression(PROJECTION)
+                    .expressionAttributeNames(Map.of("#status", "status"))
+                    .expressionAttributeValues(Map.of(
+                            ":metadata", AttributeValue.builder().s(TournamentKeys.METADATA).build()));
+            if (exclusiveStartKey != null) {
+                request.exclusiveStartKey(exclusiveStartKey);
+            }
+            ScanResponse response = dynamoDbClient.scan(request.build());
+            for (Map<String, AttributeValue> item : response.items()) {
+                if (backfill(item)) {
+                    updated++;
+                }
+            }
+            exclusiveStartKey = response.hasLastEvaluatedKey() && !response.lastEvaluatedKey().isEmpty()
+                    ? response.lastEvaluatedKey()
+                    : null;
+        } while (exclusiveStartKey != null);
+        return updated;
+    }
+
+    private boolean backfill(Map<String, AttributeValue> item) {
+        boolean active = TournamentStatus.valueOf(item.get("status").s()).isActive();
+        boolean missingOrganizerIndex = !item.containsKey("GSI1PK");
+        boolean missingActiveIndex = active && !item.containsKey("GSI2PK");
+        if (!missingOrganizerIndex && !missingActiveIndex) {
+            return false;
+        }
+
+        UUID tournamentId = UUID.fromString(item.get("tournamentId").s());
+        Map<String, AttributeValue> values = new HashMap<>();
+        values.put(":pk", AttributeValue.builder()
+                .s(TournamentKeys.organizerPk(UUID.fromString(item.get("organizerId").s()))).build());
+        values.put(":sk", AttributeValue.builder()
+                .s(TournamentKeys.organizerSk(LocalDate.parse(item.get("eventDate").s()), tournamentId)).build());
+        values.put(":status", item.get("status"));
+        values.put(":eventDate", item.get("eventDate"));
+
+        UpdateItemRequest request = UpdateItemRequest.builder()
+                .tableName(tableName)
+                .key(TournamentKeys.key(tournamentId, TournamentKeys.METADATA))
+                .updateExpression(active
+                        ? "SET GSI1PK = :pk, GSI1SK = :sk, GSI2PK = :pk, GSI2SK = :sk"
+                        : "SET GSI1PK = :pk, GSI1SK = :sk")
+                .conditionExpression("attribute_exists(PK) AND #status = :status AND eventDate = :eventDate")
+                .expressionAttributeNames(Map.of("#status", "status"))
+                .expressionAttributeValues(values)
+                .build();
+        try {
+            dynamoDbClient.updateItem(request);
+            return true;
+        } catch (ConditionalCheckFailedException e) {
+            // 読み込み後に削除・更新された（更新時の書き込みでキー属性も書き込まれている）
+            logger.debug("Tournament changed during index backfill. tournamentId={}", tournamentId);
+            return false;
+        }
+    }
+}
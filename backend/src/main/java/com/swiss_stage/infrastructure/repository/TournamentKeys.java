@@ -0,0 +1,106 @@
+package com.swiss_stage.infrastructure.repository;
+
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * トーナメント関連アイテムのキー定義（Infrastructure層）
+ *
+ * 単一テーブル設計: 1トーナメントの全アイテムを同一パーティションに格納する
+ * - PK: TOURNAMENT#{tournamentId}
+ * - SK: METADATA                         大会情報
+ *       AGGREGATE                        集約全体のバイナリ（ITEMS_WITH_BLOBモードのみ）
+ *       PARTICIPANT#{participantId}      参加者
+ *       ROUND#{rr}                       回戦（2桁ゼロ埋め）
+ *       MATCH#{rr}#{g}#{ttt}             対局（回戦2桁・グループ1桁・対局番号3桁ゼロ埋め）
+ *       EVENT#{seq}                      イベントログ（連番10桁ゼロ埋め）
+ *       SNAPSHOT#{seq}                   イベントを畳み込んだスナップショット（適用済み連番10桁ゼロ埋め）
+ *       GROUP#{g}#OPPONENTS              グループの対戦済み行列（ビット列をバイナリ属性で保持）
+ *
+ * SKのゼロ埋めにより、Query結果が回戦・グループ・対局番号順（イベントは連番順）に並ぶ
+ * 集約本体（MATCH# / METADATA / PARTICIPANT# / ROUND#）はSKの辞書順で連続する範囲に収まるため、
+ * イベント・スナップショット・対戦済み行列・集約バイナリを読まずにBETWEENで集約だけをQueryできる
+ *
+ * 大会情報（METADATA）アイテムは主催者単位のGSIのキーも持つ
+ * - GSI1PK: ORGANIZER#{organizerId} / GSI1SK: TOURNAMENT#{eventDate}#{tournamentId}  主催者の全トーナメント
+ * - GSI2PK / GSI2SK: GSI1と同じ値を未終了（準備中・進行中）の間のみ保持する疎なインデックス
+ *   終了時の上書きで属性が消えるため、GSI2には主催者の未終了トーナメントだけが残る
+ */
+final class TournamentKeys {
+
+    static final String METADATA = "METADATA";
+    static final String AGGREGATE = "AGGREGATE";
+    static final String PARTICIPANT_PREFIX = "PARTICIPANT#";
+    static final String ROUND_PREFIX = "ROUND#";
+    static final String MATCH_PREFIX = "MATCH#";
+    static final String EVENT_PREFIX = "EVENT#";
+    static final String SNAPSHOT_PREFIX = "SNAPSHOT#";
+    static final String GROUP_PREFIX = "GROUP#";
+    static final String OPPONENTS_SUFFIX = "#OPPONENTS";
+
+    /** 主催者の全トーナメントのGSI */
+    static final String ORGANIZER_INDEX = "GSI1";
+    /** 主催者の未終了トーナメントのみを含む疎なGSI */
+    static final String ACTIVE_ORGANIZER_INDEX = "GSI2";
+
+    /** 集約本体のSK範囲（MATCH#〜ROUND#、'~'は数字・英字より後ろに並ぶ） */
+    static final String AGGREGATE_SK_FROM = MATCH_PREFIX;
+    static final String AGGREGATE_SK_TO = ROUND_PREFIX + "~";
+
+    static final long MAX_SEQUENCE = 9_999_999_999L;
+
+    private TournamentKeys() {
+        // Utility class - private constructor
+    }
+
+    static String pk(UUID tournamentId) {
+        return "TOURNAMENT#" + tournamentId;
+    }
+
+    static String organizerPk(UUID organizerId) {
+        return "ORGANIZER#" + organizerId;
+    }
+
+    static String organizerSk(LocalDate eventDate, UUID tournamentId) {
+        return "TOURNAMENT#" + eventDate + "#" + tournamentId;
+    }
+
+    static String participantSk(UUID participantId) {
+        return PARTICIPANT_PREFIX + participantId;
+    }
+
+    static String roundSk(int roundNumber) {
+        return ROUND_PREFIX + String.format("%02d", roundNumber);
+    }
+
+    static String matchRoundPrefix(int roundNumber) {
+        return MATCH_PREFIX + String.format("%02d#", roundNumber);
+    }
+
+    static String matchSk(int roundNumber, int groupNumber, int tableNumber) {
+        return matchRoundPrefix(roundNumber) + groupNumber + "#" + String.format("%03d", tableNumber);
+    }
+
+    static String eventSk(long sequence) {
+        return EVENT_PREFIX + String.format("%010d", sequence);
+    }
+
+    static String snapshotSk(long sequence) {
+        return SNAPSHOT_PREFIX + String.format("%010d", sequence);
+    }
+
+    static String opponentMatrixSk(int groupNumber) {
+        return GROUP_PREFIX + groupNumber + OPPONENTS_SUFFIX;
+    }
+
+    static Map<String, AttributeValue> key(UUID tournamentId, String sk) {
+        Map<String, AttributeValue> key = new HashMap<>();
+        key.put("PK", AttributeValue.builder().s(pk(tournamentId)).build());
+        key.put("SK", AttributeValue.builder().s(sk).build());
+        return key;
+    }
+}
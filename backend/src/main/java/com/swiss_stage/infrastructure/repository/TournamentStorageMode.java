@@ -0,0 +1,13 @@
+package com.swiss_stage.infrastructure.repository;
+
+/**
+ * トーナメント集約の保存モード（Infrastructure層）
+ *
+ * - ITEMS: 大会情報・参加者・回戦・対局を属性マップのアイテムとして保存し、集約はQueryで読み込む
+ * - ITEMS_WITH_BLOB: ITEMSに加えて、集約全体をバイナリ（TournamentAggregateCodec）で
+ *   AGGREGATEアイテムに保持する。読み込みはGetItem 1回で済み、更新時は同じ書き込みで無効化する
+ */
+public enum TournamentStorageMode {
+    ITEMS,
+    ITEMS_WITH_BLOB
+}
@@ -0,0 +1,290 @@
+package com.swiss_stage.infrastructure.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.swiss_stage.application.dto.PairingDto;
+import com.swiss_stage.application.dto.StandingDto;
+import com.swiss_stage.application.dto.TournamentStateDto;
+import com.swiss_stage.application.service.JwtService;
+import com.swiss_stage.domain.model.Match;
+import com.swiss_stage.domain.model.OpponentMatrix;
+import com.swiss_stage.domain.repository.UserRepository;
+import com.swiss_stage.domain.service.SwissPairingEngine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * 起動直後のウォームアップ
+ *
+ * デプロイ直後の最初のログイン・組合せ作成が遅い（JITコンパイル前・接続の確立前）ため、
+ * readinessがUPになる前に主要な処理を合成データで繰り返し実行する
+ * - ApplicationRunnerはSpring Bootがreadinessを ACCEPTING_TRAFFIC にする前に実行されるため、
+ *   ロードバランサーは完了まで /actuator/health/readiness を OUT_OF_SERVICE と見て振り分けない
+ * - 処理は duration の間、順に繰り返す。失敗した処理は以降の実行から外し、起動は止めない
+ * - DynamoDB・HTTPの処理は接続の確立とコードパスのJITコンパイルに足りる io-iterations 回で打ち切る
+ *   （duration の間繰り返すと、デプロイのたびにDynamoDBの読み込み容量を消費し続けるため）
+ * - 処理ごとに初回と最後の1割の中央値の所要時間をログに出力する
+ *
+ * 対象:
+ * - jwt: JWTの生成と検証
+ * - json: 順位表・対戦表のDTOのシリアライズ
+ * - dynamodb: 存在しないユーザーの読み込み（HTTP接続・TLS・SDKのマーシャラーの初期化）
+ * - pairing: 64名・3回戦済みのグループの組合せ作成
+ * - http: 自身への認証付きリクエスト（セキュリティフィルター・コントローラー・DynamoDBのQuery）
+ */
+@Component
+public class WarmUpRunner implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(WarmUpRunner.class);
+
+    private static final UUID WARM_UP_ID = UUID.fromString("00000000-0000-0000-0000-00000000a11e");
+    private static final int PAIRING_PARTICIPANTS = 64;
+    private static final int PAIRING_ROUNDS = 3;
+
+    private final JwtService jwtService;
+    private final ObjectMapper objectMapper;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Environment environment;
+    private final boolean enabled;
+    private final Duration duration;
+    private final int ioIterations;
+
+    public WarmUpRunner(JwtService jwtService,
+                        ObjectMapper objectMapper,
+                        UserRepository userRepository,
+                        ApplicationEventPublisher eventPublisher,
+                        Environment environment,
+                        @Value("${app.warmup.enabled:true}") boolean enabled,
+                        @Value("${app.warmup.duration-seconds:10}") long durationSeconds,
+                        @Value("${app.warmup.io-iterations:200}") int ioIterations) {
+        this.jwtService = jwtService;
+        this.objectMapper = objectMapper;
+        this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.environment = environment;
+        this.enabled = enabled;
+        this.duration = Duration.ofSeconds(durationSeconds);
+        this.ioIterations = ioIterations;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+
+        List<Task> tasks = new ArrayList<>();
+        tasks.add(new Task("jwt", this::jwt));
+        tasks.add(new Task("json", json()));
+        tasks.add(new Task("dynamodb", () -> userRepository.existsById(WARM_UP_ID), ioIterations));
+        tasks.add(new Task("pairing", pairing()));
+        Integer port = environment.getProperty("local.server.port", Integer.class);
+        if (port != null) {
+            tasks.add(new Task("http", http(port), ioIterations));
+        }
+
+        long start = System.nanoTime();
+        List<Result> results = warmUp(tasks, duration);
+        logger.info("Warm-up finished. elapsedMs={}", (System.nanoTime() - start) / 1_000_000);
+        for (Result result : results) {
+            if (result.failure() != null) {
+                logger.warn("Warm-up task failed and was skipped. task={}, iterations={}, error={}",
+                        result.name(), result.iterations(), result.failure());
+            } else {
+                logger.info("Warm-up task. task={}, iterations={}, firstMs={}, warmMs={}",
+                        result.name(), result.iterations(),
+                        String.format("%.2f", result.firstNanos() / 1_000_000.0),
+                        String.format("%.2f", result.warmNanos() / 1_000_000.0));
+            }
+        }
+    }
+
+    /**
+     * 処理を duration の間、順に繰り返し実行する（各処理は少なくとも1回、最大で処理ごとの上限回数まで実行する）
+     *
+     * @param tasks 処理
+     * @param duration 実行時間
+     * @return 処理ごとの結果（tasksの順）
+     */
+    public static List<Result> warmUp(List<Task> tasks, Duration duration) {
+        List<List<Long>> latencies = new ArrayList<>();
+        String[] failures = new String[tasks.size()];
+        for (int i = 0; i < tasks.size(); i++) {
+            latencies.add(new ArrayList<>());
+        }
+
+        long deadline = System.nanoTime() + duration.toNanos();
+        boolean first = true;
+        boolean running = true;
+        while (running && (first || System.nanoTime() < deadline)) {
+            running = false;
+            for (int i = 0; i < tasks.size(); i++) {
+                if (failures[i] != null || latencies.get(i).size() >= tasks.get(i).maxIterations()) {
+                    continue;
+                }
+                long start = System.nanoTime();
+                try {
+                    tasks.get(i).action().run();
+                    latencies.get(i).add(System.nanoTime() - start);
+                    running = true;
+                } catch (RuntimeException e) {
+                    failures[i] = e.toString();
+                }
+            }
+            first = false;
+        }
+
+        List<Result> results = new ArrayList<>(tasks.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            List<Long> samples = latencies.get(i);
+            long firstNanos = samples.isEmpty() ? 0 : samples.get(0);
+            results.add(new Result(tasks.get(i).name(), samples.size(), firstNanos, warmMedian(samples), failures[i]));
+        }
+        return results;
+    }
+
+    /**
+     * 最後の1割（最低1回）の中央値
+     */
+    private static long warmMedian(List<Long> samples) {
+        if (samples.isEmpty()) {
+            return 0;
+        }
+        int count = Math.max(1, samples.size() / 10);
+        long[] tail = samples.subList(samples.size() - count, samples.size()).stream()
+                .mapToLong(Long::longValue).toArray();
+        Arrays.sort(tail);
+        return tail[tail.length / 2];
+    }
+
+    private void jwt() {
+        String token = jwtService.generateToken(WARM_UP_ID);
+        jwtService.validateTokenAndGetUserId(token);
+    }
+
+    private Runnable json() {
+        List<UUID> participantIds = participantIds(new Random(1));
+        List<StandingDto> standings = new ArrayList<>();
+        List<PairingDto> pairings = new ArrayList<>();
+        for (int i = 0; i < participantIds.size(); i++) {
+            standings.add(new StandingDto(1, i + 1, participantIds.get(i), "参加者" + (i + 1),
+                    PAIRING_ROUNDS - i % 4 * 0.5, 2, 1, 0, 4.5));
+            if (i % 2 == 1) {
+                pairings.add(new PairingDto(PAIRING_ROUNDS, 1, i / 2 + 1, participantIds.get(i - 1),
+                        "参加者" + i, participantIds.get(i), "参加者" + (i + 1), null));
+            }
+        }
+        TournamentStateDto state = new TournamentStateDto(WARM_UP_ID, 1, PAIRING_ROUNDS, standings, pairings);
+        ObjectWriter writer = objectMapper.writerFor(TournamentStateDto.class);
+        return () -> {
+            try {
+                objectMapper.readTree(writer.writeValueAsBytes(state));
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+
+    private Runnable pairing() {
+        SwissPairingEngine engine = new SwissPairingEngine();
+        Random random = new Random(1);
+        List<UUID> participantIds = participantIds(random);
+        OpponentMatrix matrix = OpponentMatrix.empty(1);
+        participantIds.forEach(matrix::register);
+        for (int round = 1; round <= PAIRING_ROUNDS; round++) {
+            for (Match match : engine.pair(WARM_UP_ID, round, participantIds, matrix)) {
+                matrix.record(match);
+            }
+            Collections.shuffle(participantIds, random);
+        }
+        return () -> engine.pair(WARM_UP_ID, PAIRING_ROUNDS + 1, participantIds, matrix);
+    }
+
+    private Runnable http(int port) {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/tournaments?limit=1"))
+                .header("Cookie", "jwt_token=" + jwtService.generateToken(WARM_UP_ID))
+                .timeout(Duration.ofSeconds(5))
+                .GET()
+                .build();
+        return () -> {
+            try {
+                int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                if (status != 200) {
+                    throw new IllegalStateException("Unexpected status: " + status);
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+
+    private static List<UUID> participantIds(Random random) {
+        List<UUID> participantIds = new ArrayList<>(PAIRING_PARTICIPANTS);
+        for (int i = 0; i < PAIRING_PARTICIPANTS; i++) {
+            participantIds.add(new UUID(random.nextLong(), random.nextLong()));
+        }
+        return participantIds;
+    }
+
+    /**
+     * ウォームアップの処理
+     *
+     * @param name 処理名（ログの表示用）
+     * @param action 処理（例外を投げた場合は以降実行しない）
+     * @param maxIterations 実行回数の上限（duration 内でもこの回数で打ち切る）
+     */
+    public record Task(String name, Runnable action, int maxIterations) {
+
+        public Task {
+            if (maxIterations < 1) {
+                throw new IllegalArgumentException("maxIterations must be positive: " + maxIterations);
+            }
+        }
+
+        /**
+         * duration の間繰り返す処理（CPUのみを使う処理）
+         */
+        public Task(String name, Runnable action) {
+            this(name, action, Integer.MAX_VALUE);
+        }
+    }
+
+    /**
+     * ウォームアップの結果
+     *
+     * @param name 処理名
+     * @param iterations 成功した実行回数
+     * @param firstNanos 初回の所要時間
+     * @param warmNanos 最後の1割の所要時間の中央値
+     * @param failure 失敗した場合の例外（成功した場合はnull）
+     */
+    public record Result(String name, int iterations, long firstNanos, long warmNanos, String failure) {
+    }
+}
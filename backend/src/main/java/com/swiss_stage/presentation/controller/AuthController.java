@@ -7,6 +7,7 @@ import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -33,11 +34,14 @@ public class AuthController {
 
     /**
      * 現在認証されているユーザーの情報を取得
+     * If-None-Matchが一致する場合は304 Not Modifiedを返す（画面遷移ごとの再取得で本文を送らない）
      * 
+     * @param ifNoneMatch If-None-Matchヘッダー
      * @return ユーザー情報
      */
     @GetMapping("/me")
-    public ResponseEntity<UserDto> getCurrentUser() {
+    public ResponseEntity<UserDto> getCurrentUser(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         
         if (authentication == null || !authentication.isAuthenticated()) {
@@ -50,7 +54,7 @@ public class AuthController {
 
         logger.debug("Current user retrieved. userId={}", userId);
         
-        return ResponseEntity.ok(user);
+        return UserResponses.conditional(user, ifNoneMatch);
     }
 
     /**
@@ -0,0 +1,35 @@
+package com.swiss_stage.presentation.controller;
+
+import com.swiss_stage.common.exception.UnauthorizedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.UUID;
+
+/**
+ * 認証済みユーザーの取得
+ * JwtAuthenticationFilterが設定した認証情報の名前（ユーザーID）を返す
+ */
+final class CurrentUser {
+
+    private CurrentUser() {
+    }
+
+    /**
+     * 現在認証されているユーザーのID
+     *
+     * @return ユーザーID
+     * @throws UnauthorizedException 認証されていない場合
+     */
+    static UUID id() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            throw new UnauthorizedException("User is not authenticated");
+        }
+        try {
+            return UUID.fromString(authentication.getName());
+        } catch (IllegalArgumentException e) {
+            throw new UnauthorizedException("User is not authenticated");
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.swiss_stage.presentation.controller;
+
+import com.swiss_stage.application.dto.BulkResultRequest;
+import com.swiss_stage.application.dto.BulkResultResponse;
+import com.swiss_stage.application.dto.MatchDto;
+import com.swiss_stage.application.dto.MatchResultRequest;
+import com.swiss_stage.application.service.MatchResultService;
+import com.swiss_stage.application.service.TournamentAccessService;
+import com.swiss_stage.common.exception.BusinessException;
+import com.swiss_stage.domain.model.MatchResult;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+/**
+ * 対局関連のAPIエンドポイント
+ *
+ * エンドポイント:
+ * - PUT /api/tournaments/{tournamentId}/rounds/{roundNumber}/matches/{groupNumber}/{tableNumber}/result:
+ *   対局結果を入力（他の操作者と競合した場合は409 Conflict）
+ * - POST /api/tournaments/{tournamentId}/rounds/{roundNumber}/matches/results:
+ *   対局結果を一括入力（1件ごとの処理結果を返す）
+ *
+ * いずれもトーナメントの主催者のみ（存在しない場合は404、主催者以外は403）
+ */
+@RestController
+@RequestMapping("/api/tournaments/{tournamentId}/rounds/{roundNumber}/matches")
+public class MatchController {
+
+    private final MatchResultService matchResultService;
+    private final TournamentAccessService tournamentAccessService;
+
+    public MatchController(MatchResultService matchResultService,
+                           TournamentAccessService tournamentAccessService) {
+        this.matchResultService = matchResultService;
+        this.tournamentAccessService = tournamentAccessService;
+    }
+
+    /**
+     * 対局結果を入力
+     *
+     * @param tournamentId トーナメントID
+     * @param roundNumber 回戦
+     * @param groupNumber グループ番号
+     * @param tableNumber 対局番号
+     * @param request 結果入力リクエスト
+     * @return 保存後の対局（新しいバージョンを含む）
+     */
+    @PutMapping("/{groupNumber}/{tableNumber}/result")
+    public ResponseEntity<MatchDto> recordResult(
+            @PathVariable String tournamentId,
+            @PathVariable int roundNumber,
+            @PathVariable int groupNumber,
+            @PathVariable int tableNumber,
+            @RequestBody MatchResultRequest request) {
+        UUID uuid = parseTournamentId(tournamentId);
+        tournamentAccessService.requireOrganizerForUpdate(uuid, CurrentUser.id());
+        MatchResult result = parseResult(request.result());
+
+        return ResponseEntity.ok(matchResultService.recordResult(
+                uuid, roundNumber, groupNumber, tableNumber, result, request.version()));
+    }
+
+    /**
+     * 対局結果を一括入力
+     * 一部の入力が競合・不正でも、他の入力は保存して1件ごとの処理結果を返す
+     *
+     * @param tournamentId トーナメントID
+     * @param roundNumber 回戦
+     * @param request 一括入力リクエスト
+     * @return 1件ごとの処理結果
+     */
+    @PostMapping("/results")
+    public ResponseEntity<BulkResultResponse> recordResults(
+            @PathVariable String tournamentId,
+            @PathVariable int roundNumber,
+            @RequestBody BulkResultRequest request) {
+        UUID uuid = parseTournamentId(tournamentId);
+        tournamentAccessService.requireOrganizerForUpdate(uuid, CurrentUser.id());
+
+        return ResponseEntity.ok(matchResultService.recordResults(uuid, roundNumber, request.results()));
+    }
+
+    private UUID parseTournamentId(String tournamentId) {
+        try {
+            return UUID.fromString(tournamentId);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("Invalid tournament ID format");
+        }
+    }
+
+    private MatchResult parseResult(String result) {
+        if (result == null) {
+            throw new BusinessException("Result is required");
+        }
+        try {
+            return MatchResult.valueOf(result);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("Invalid match result: " + result);
+        }
+    }
+}
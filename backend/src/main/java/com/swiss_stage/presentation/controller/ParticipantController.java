@@ -0,0 +1,68 @@
+package com.swiss_stage.presentation.controller;
+
+import com.swiss_stage.application.dto.ParticipantImportResult;
+import com.swiss_stage.application.service.ParticipantImportService;
+import com.swiss_stage.application.service.TournamentAccessService;
+import com.swiss_stage.common.exception.BusinessException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.UUID;
+
+/**
+ * 参加者関連のAPIエンドポイント
+ *
+ * エンドポイント:
+ * - POST /api/tournaments/{tournamentId}/participants/import: 参加者CSVをインポート（主催者のみ）
+ */
+@RestController
+@RequestMapping("/api/tournaments/{tournamentId}/participants")
+public class ParticipantController {
+
+    private final ParticipantImportService participantImportService;
+    private final TournamentAccessService tournamentAccessService;
+
+    public ParticipantController(ParticipantImportService participantImportService,
+                                 TournamentAccessService tournamentAccessService) {
+        this.participantImportService = participantImportService;
+        this.tournamentAccessService = tournamentAccessService;
+    }
+
+    /**
+     * 参加者CSVをインポート
+     *
+     * @param tournamentId トーナメントID
+     * @param file CSVファイル（列: 名前, 所属, 段級位, グループ）
+     * @param charset 文字コード（UTF-8 または Shift_JIS、デフォルトUTF-8）
+     * @return インポート結果（行エラーは行番号付き）
+     * @throws com.swiss_stage.common.exception.NotFoundException トーナメントが存在しない場合（404）
+     * @throws com.swiss_stage.common.exception.ForbiddenException 主催者でない場合（403）
+     * @throws com.swiss_stage.common.exception.ConflictException 主催者のアカウント削除が進行中の場合（409）
+     */
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ParticipantImportResult> importCsv(
+            @PathVariable String tournamentId,
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(value = "charset", required = false) String charset) {
+        UUID uuid;
+        try {
+            uuid = UUID.fromString(tournamentId);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("Invalid tournament ID format");
+        }
+        tournamentAccessService.requireOrganizerForUpdate(uuid, CurrentUser.id());
+        Charset resolved = ParticipantImportService.resolveCharset(charset);
+
+        // MultipartFileはサーバー側で一時ファイルに保存されるため、ストリームで順次読み込む
+        try (InputStream input = file.getInputStream()) {
+            return ResponseEntity.ok(participantImportService.importCsv(uuid, input, resolved));
+        } catch (IOException e) {
+            throw new BusinessException("Failed to read uploaded file", e);
+        }
+    }
+}
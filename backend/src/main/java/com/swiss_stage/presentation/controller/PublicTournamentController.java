@@ -0,0 +1,136 @@
+package com.swiss_stage.presentation.controller;
+
+import com.swiss_stage.application.dto.PublicSnapshot;
+import com.swiss_stage.application.dto.TournamentStateDto;
+import com.swiss_stage.application.service.PublicSnapshotService;
+import com.swiss_stage.application.service.TournamentStateService;
+import com.swiss_stage.common.exception.BusinessException;
+import com.swiss_stage.common.util.EntityTags;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * 参照URL（参加者向け公開ページ）のAPIエンドポイント
+ * JWT認証不要。事前生成済みスナップショットをメモリから返す
+ * 最新の状態はTournamentStateServiceのニアキャッシュで確認し、他ノードでの更新も反映する
+ *
+ * エンドポイント:
+ * - GET /api/public/tournaments/{tournamentId}: 対戦表・順位表のスナップショットを取得
+ */
+@RestController
+@RequestMapping("/api/public/tournaments")
+public class PublicTournamentController {
+
+    private static final String BROTLI = "br";
+    private static final String GZIP = "gzip";
+
+    private final PublicSnapshotService publicSnapshotService;
+    private final TournamentStateService tournamentStateService;
+
+    public PublicTournamentController(PublicSnapshotService publicSnapshotService,
+                                      TournamentStateService tournamentStateService) {
+        this.publicSnapshotService = publicSnapshotService;
+        this.tournamentStateService = tournamentStateService;
+    }
+
+    /**
+     * スナップショットを取得
+     * Accept-Encodingに応じて事前圧縮済みボディ（br > gzip > 非圧縮）を返し、
+     * If-None-Matchが一致する場合は304 Not Modifiedを返す
+     *
+     * @param tournamentId トーナメントID
+     * @param acceptEncoding Accept-Encodingヘッダー
+     * @param ifNoneMatch If-None-Matchヘッダー
+     * @return スナップショットJSON
+     */
+    @GetMapping("/{tournamentId}")
+    public ResponseEntity<byte[]> getSnapshot(
+            @PathVariable String tournamentId,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        UUID uuid;
+        try {
+            uuid = UUID.fromString(tournamentId);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("Invalid tournament ID format");
+        }
+
+        TournamentStateDto state = tournamentStateService.findState(uuid).orElse(null);
+        PublicSnapshot snapshot = state == null ? null : publicSnapshotService.findSnapshot(state).orElse(null);
+        if (snapshot == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        String encoding = selectEncoding(acceptEncoding, snapshot);
+        // 強いETagは表現（エンコーディング）ごとに異なる値にする
+        String etag = EntityTags.strong(snapshot.etag() + (encoding == null ? "" : "-" + encoding));
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(etag);
+        headers.setCacheControl(CacheControl.noCache().cachePublic());
+        headers.setVary(List.of(HttpHeaders.ACCEPT_ENCODING));
+
+        if (EntityTags.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(headers).build();
+        }
+
+        byte[] body;
+        if (BROTLI.equals(encoding)) {
+            body = snapshot.brotli();
+        } else if (GZIP.equals(encoding)) {
+            body = snapshot.gzip();
+        } else {
+            body = snapshot.json();
+        }
+        if (encoding != null) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, encoding);
+        }
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setContentLength(body.length);
+
+        return new ResponseEntity<>(body, headers, HttpStatus.OK);
+    }
+
+    /**
+     * Accept-Encodingから返却するエンコーディングを選択
+     *
+     * @param acceptEncoding Accept-Encodingヘッダー
+     * @param snapshot スナップショット
+     * @return "br"、"gzip"、または非圧縮の場合null
+     */
+    private String selectEncoding(String acceptEncoding, PublicSnapshot snapshot) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return null;
+        }
+        boolean brotli = false;
+        boolean gzip = false;
+        for (String token : acceptEncoding.toLowerCase(Locale.ROOT).split(",")) {
+            String[] parts = token.trim().split(";");
+            String coding = parts[0].trim();
+            if (parts.length > 1 && parts[1].trim().matches("q=0(\\.0*)?")) {
+                continue;
+            }
+            if (BROTLI.equals(coding)) {
+                brotli = true;
+            } else if (GZIP.equals(coding)) {
+                gzip = true;
+            }
+        }
+        if (brotli && snapshot.brotli() != null) {
+            return BROTLI;
+        }
+        return gzip ? GZIP : null;
+    }
+}
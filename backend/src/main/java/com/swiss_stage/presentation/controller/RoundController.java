@@ -0,0 +1,56 @@
+package com.swiss_stage.presentation.controller;
+
+import com.swiss_stage.application.dto.MatchDto;
+import com.swiss_stage.application.service.PairingService;
+import com.swiss_stage.application.service.TournamentAccessService;
+import com.swiss_stage.common.exception.BusinessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 回戦関連のAPIエンドポイント
+ *
+ * エンドポイント:
+ * - POST /api/tournaments/{tournamentId}/rounds:
+ *   次の回戦の組合せを作成して確定（前の回戦が未完了の場合は400、二重確定は409 Conflict）
+ *
+ * トーナメントの主催者のみ（存在しない場合は404、主催者以外は403）
+ */
+@RestController
+@RequestMapping("/api/tournaments/{tournamentId}/rounds")
+public class RoundController {
+
+    private final PairingService pairingService;
+    private final TournamentAccessService tournamentAccessService;
+
+    public RoundController(PairingService pairingService, TournamentAccessService tournamentAccessService) {
+        this.pairingService = pairingService;
+        this.tournamentAccessService = tournamentAccessService;
+    }
+
+    /**
+     * 次の回戦の組合せを作成
+     *
+     * @param tournamentId トーナメントID
+     * @return 作成した対局（グループ・対局番号順）
+     */
+    @PostMapping
+    public ResponseEntity<List<MatchDto>> pairNextRound(@PathVariable String tournamentId) {
+        UUID uuid = parseTournamentId(tournamentId);
+        tournamentAccessService.requireOrganizerForUpdate(uuid, CurrentUser.id());
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(pairingService.pairNextRound(uuid));
+    }
+
+    private UUID parseTournamentId(String tournamentId) {
+        try {
+            return UUID.fromString(tournamentId);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("Invalid tournament ID format");
+        }
+    }
+}
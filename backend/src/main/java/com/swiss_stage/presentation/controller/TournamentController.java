@@ -0,0 +1,38 @@
+package com.swiss_stage.presentation.controller;
+
+import com.swiss_stage.application.dto.TournamentListResponse;
+import com.swiss_stage.application.service.TournamentListService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * トーナメント関連のAPIエンドポイント
+ *
+ * エンドポイント:
+ * - GET /api/tournaments?cursor=&limit=: ログイン中のユーザーが主催するトーナメント一覧（開催日の新しい順）
+ */
+@RestController
+@RequestMapping("/api/tournaments")
+public class TournamentController {
+
+    private final TournamentListService tournamentListService;
+
+    public TournamentController(TournamentListService tournamentListService) {
+        this.tournamentListService = tournamentListService;
+    }
+
+    /**
+     * 主催するトーナメント一覧を取得
+     * 次のページはレスポンスのnextCursorをcursorに指定して取得する（nextCursorがnullになるまで）
+     *
+     * @param cursor 前のページのnextCursor（最初のページは省略）
+     * @param limit 1ページの最大件数（省略時20、最大100）
+     * @return 一覧と次のページのカーソル
+     */
+    @GetMapping
+    public ResponseEntity<TournamentListResponse> listTournaments(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        return ResponseEntity.ok(tournamentListService.listOrganizedTournaments(CurrentUser.id(), cursor, limit));
+    }
+}
@@ -0,0 +1,107 @@
+package com.swiss_stage.presentation.controller;
+
+import com.swiss_stage.application.service.ParticipantImportService;
+import com.swiss_stage.application.service.TournamentExportService;
+import com.swiss_stage.application.service.TournamentExportService.Export;
+import com.swiss_stage.application.service.TournamentExportService.Format;
+import com.swiss_stage.common.exception.BusinessException;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.Charset;
+import java.util.UUID;
+
+/**
+ * 対戦表・順位表の出力APIエンドポイント
+ * 本文はStreamingResponseBodyで書き出し、出力全体をメモリに保持しない
+ *
+ * エンドポイント:
+ * - GET /api/tournaments/{tournamentId}/rounds/{roundNumber}/pairings/export?format=&charset=: 対戦表を出力
+ * - GET /api/tournaments/{tournamentId}/standings/export?format=&charset=: 順位表を出力
+ *
+ * format は csv（デフォルト）または xlsx、charset はCSVの文字コード（UTF-8（デフォルト）または Shift_JIS）
+ *
+ * トーナメントの主催者のみ（存在しない場合は404、主催者以外は403）。確認は本文の書き出し前に行う
+ */
+@RestController
+@RequestMapping("/api/tournaments/{tournamentId}")
+public class TournamentExportController {
+
+    private final TournamentExportService exportService;
+
+    public TournamentExportController(TournamentExportService exportService) {
+        this.exportService = exportService;
+    }
+
+    /**
+     * 対戦表を出力
+     *
+     * @param tournamentId トーナメントID
+     * @param roundNumber 回戦
+     * @param format 出力形式（csv または xlsx）
+     * @param charset CSVの文字コード
+     * @return 対戦表ファイル
+     */
+    @GetMapping("/rounds/{roundNumber}/pairings/export")
+    public ResponseEntity<StreamingResponseBody> exportPairings(
+            @PathVariable String tournamentId,
+            @PathVariable int roundNumber,
+            @RequestParam(value = "format", required = false) String format,
+            @RequestParam(value = "charset", required = false) String charset) {
+        UUID uuid = parseTournamentId(tournamentId);
+        Format resolvedFormat = Format.resolve(format);
+        Charset resolvedCharset = ParticipantImportService.resolveCharset(charset);
+
+        Export export = exportService.pairingSheet(uuid, CurrentUser.id(), roundNumber, resolvedFormat, resolvedCharset);
+        return stream(export, resolvedFormat, resolvedCharset, "pairings-round" + roundNumber);
+    }
+
+    /**
+     * 順位表を出力
+     *
+     * @param tournamentId トーナメントID
+     * @param format 出力形式（csv または xlsx）
+     * @param charset CSVの文字コード
+     * @return 順位表ファイル
+     */
+    @GetMapping("/standings/export")
+    public ResponseEntity<StreamingResponseBody> exportStandings(
+            @PathVariable String tournamentId,
+            @RequestParam(value = "format", required = false) String format,
+            @RequestParam(value = "charset", required = false) String charset) {
+        UUID uuid = parseTournamentId(tournamentId);
+        Format resolvedFormat = Format.resolve(format);
+        Charset resolvedCharset = ParticipantImportService.resolveCharset(charset);
+
+        Export export = exportService.standings(uuid, CurrentUser.id(), resolvedFormat, resolvedCharset);
+        return stream(export, resolvedFormat, resolvedCharset, "standings");
+    }
+
+    private static ResponseEntity<StreamingResponseBody> stream(Export export, Format format, Charset charset,
+                                                                String baseName) {
+        MediaType contentType = format == Format.CSV
+                ? new MediaType(MediaType.parseMediaType(format.contentType()), charset)
+                : MediaType.parseMediaType(format.contentType());
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename(baseName + "." + format.extension())
+                .build();
+        StreamingResponseBody body = export::writeTo;
+
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .body(body);
+    }
+
+    private UUID parseTournamentId(String tournamentId) {
+        try {
+            return UUID.fromString(tournamentId);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("Invalid tournament ID format");
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.swiss_stage.presentation.controller;
+
+import com.swiss_stage.application.service.TournamentStreamService;
+import com.swiss_stage.common.exception.BusinessException;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.UUID;
+
+/**
+ * 参加者向けトーナメント更新配信のAPIエンドポイント
+ *
+ * エンドポイント:
+ * - GET /api/public/tournaments/{tournamentId}/stream: 順位表・対戦表の更新をServer-Sent Eventsで配信
+ */
+@RestController
+@RequestMapping("/api/public/tournaments")
+public class TournamentStreamController {
+
+    private final TournamentStreamService tournamentStreamService;
+
+    public TournamentStreamController(TournamentStreamService tournamentStreamService) {
+        this.tournamentStreamService = tournamentStreamService;
+    }
+
+    /**
+     * トーナメント更新ストリームを購読
+     *
+     * @param tournamentId トーナメントID
+     * @return SseEmitter（イベント名: state、データ: TournamentStateDto）
+     */
+    @GetMapping(value = "/{tournamentId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@PathVariable String tournamentId) {
+        UUID uuid;
+        try {
+            uuid = UUID.fromString(tournamentId);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("Invalid tournament ID format");
+        }
+        return tournamentStreamService.subscribe(uuid);
+    }
+}
@@ -1,5 +1,6 @@
 package com.swiss_stage.presentation.controller;
 
+import com.swiss_stage.application.dto.AccountDeletionDto;
 import com.swiss_stage.application.dto.DeleteAccountRequest;
 import com.swiss_stage.application.dto.UserDto;
 import com.swiss_stage.application.service.UserService;
@@ -7,6 +8,7 @@ import com.swiss_stage.common.exception.BusinessException;
 import com.swiss_stage.common.exception.UnauthorizedException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -17,7 +19,8 @@ import org.springframework.web.bind.annotation.*;
  * 
  * エンドポイント:
  * - GET /api/users/{userId}: ユーザー情報を取得
- * - DELETE /api/users/{userId}: アカウントを削除
+ * - DELETE /api/users/{userId}: アカウントの削除を開始
+ * - GET /api/users/{userId}/deletion: アカウント削除の進捗を取得
  */
 @RestController
 @RequestMapping("/api/users")
@@ -33,40 +36,62 @@ public class UserController {
 
     /**
      * ユーザー情報を取得
+     * If-None-Matchが一致する場合は304 Not Modifiedを返す
      * 
      * @param userId ユーザーID
+     * @param ifNoneMatch If-None-Matchヘッダー
      * @return ユーザー情報
      */
     @GetMapping("/{userId}")
-    public ResponseEntity<UserDto> getUser(@PathVariable String userId) {
+    public ResponseEntity<UserDto> getUser(
+            @PathVariable String userId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         // 自分のuserIdのみアクセス可能
         validateUserAccess(userId);
 
         UserDto user = userService.findById(userId)
                 .orElseThrow(() -> new BusinessException("User not found"));
 
-        return ResponseEntity.ok(user);
+        return UserResponses.conditional(user, ifNoneMatch);
     }
 
     /**
-     * アカウントを削除
+     * アカウントの削除を開始
+     * 主催したトーナメントのデータの削除には時間がかかるため、削除ジョブを開始した時点で返す
      * 
      * @param userId ユーザーID
      * @param request 削除リクエスト
-     * @return 削除成功（204 No Content）
+     * @return 削除ジョブの進捗（202 Accepted）
      */
     @DeleteMapping("/{userId}")
-    public ResponseEntity<Void> deleteAccount(
+    public ResponseEntity<AccountDeletionDto> deleteAccount(
             @PathVariable String userId,
             @RequestBody DeleteAccountRequest request) {
         // 自分のuserIdのみ削除可能
         validateUserAccess(userId);
 
-        userService.deleteAccount(userId, request.email(), request.confirmation());
+        AccountDeletionDto deletion = userService.deleteAccount(userId, request.email(), request.confirmation());
+
+        logger.info("Account deletion accepted. userId={}", userId);
+
+        return ResponseEntity.accepted().body(deletion);
+    }
+
+    /**
+     * アカウント削除の進捗を取得
+     * ユーザーの削除後も、同じトークンで完了を確認できる
+     * 
+     * @param userId ユーザーID
+     * @return 削除ジョブの進捗
+     */
+    @GetMapping("/{userId}/deletion")
+    public ResponseEntity<AccountDeletionDto> getDeletionStatus(@PathVariable String userId) {
+        validateUserAccess(userId);
 
-        logger.info("Account deletion successful. userId={}", userId);
+        AccountDeletionDto deletion = userService.findDeletionStatus(userId)
+                .orElseThrow(() -> new BusinessException("Account deletion not found"));
 
-        return ResponseEntity.noContent().build();
+        return ResponseEntity.ok(deletion);
     }
 
     /**
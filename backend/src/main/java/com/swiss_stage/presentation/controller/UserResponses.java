@@ -0,0 +1,61 @@
+package com.swiss_stage.presentation.controller;
+
+import com.swiss_stage.application.dto.UserDto;
+import com.swiss_stage.common.util.EntityTags;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * ユーザー情報のレスポンス（条件付きGET）
+ * GET /api/auth/me と GET /api/users/{userId} で共通
+ *
+ * - ETagは本文をシリアライズせずに作る（最終ログイン日時と、ユーザーID・表示名のSHA-256の先頭8バイト）
+ *   表示名の変更をログイン日時が同じでも確実に検出するため、衝突しやすい32ビットのハッシュは使わない
+ * - If-None-Matchが一致する場合は本文なしの304を返す
+ * - 本人のみが参照する情報のため Cache-Control: private, no-cache（共有キャッシュには保存させず、毎回再検証させる）
+ * - 認証はCookieのため Vary: Cookie
+ */
+final class UserResponses {
+
+    private UserResponses() {
+    }
+
+    static ResponseEntity<UserDto> conditional(UserDto user, String ifNoneMatch) {
+        String etag = etag(user);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(etag);
+        headers.setCacheControl(CacheControl.noCache().cachePrivate());
+        headers.setVary(List.of(HttpHeaders.COOKIE));
+
+        if (EntityTags.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(headers).build();
+        }
+        return ResponseEntity.ok().headers(headers).body(user);
+    }
+
+    static String etag(UserDto user) {
+        Instant version = user.lastLoginAt() != null ? user.lastLoginAt() : user.createdAt();
+        long versionMillis = version == null ? 0 : version.toEpochMilli();
+        return EntityTags.strong(Long.toHexString(versionMillis) + "-"
+                + digest(user.userId() + "\n" + user.displayName()));
+    }
+
+    private static String digest(String value) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
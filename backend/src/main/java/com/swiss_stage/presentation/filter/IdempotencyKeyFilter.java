@@ -0,0 +1,261 @@
+package com.swiss_stage.presentation.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.swiss_stage.application.service.IdempotencyService;
+import com.swiss_stage.application.service.IdempotencyService.Decision;
+import com.swiss_stage.common.dto.ErrorResponse;
+import com.swiss_stage.domain.model.IdempotencyRecord;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.Part;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Set;
+
+/**
+ * 冪等キー（Idempotency-Key）フィルター
+ *
+ * 処理フロー:
+ * 1. Idempotency-Keyヘッダー付きの認証済み変更リクエスト（POST/PUT/PATCH/DELETE）のみ対象
+ * 2. メソッド・パス・ボディのハッシュ（fingerprint）でIdempotencyServiceに処理開始を問い合わせる
+ * 3. 完了済みの場合は保存済みのレスポンスを返す（Idempotent-Replayed: true）
+ * 4. 初回の場合は処理を実行し、2xx/4xx（409・429を除く）のレスポンスを保存する
+ *    5xx・例外・409・429は予約を取り消し、同じキーでの再送で処理をやり直せるようにする
+ *
+ * エラー:
+ * - 同じキーを異なる内容のリクエストに使用: 422 IDEMPOTENCY_KEY_REUSED
+ * - 同じキーのリクエストを処理中: 409 IDEMPOTENCY_KEY_IN_USE
+ */
+@Component
+@RegisterReflectionForBinding(ErrorResponse.class)
+public class IdempotencyKeyFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyKeyFilter.class);
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final Set<String> MUTATING_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+    private static final String API_PATH_PREFIX = "/api/";
+    private static final String PUBLIC_PATH_PREFIX = "/api/public/";
+
+    private final IdempotencyService idempotencyService;
+    private final ObjectWriter errorWriter;
+
+    public IdempotencyKeyFilter(IdempotencyService idempotencyService, ObjectMapper objectMapper) {
+        this.idempotencyService = idempotencyService;
+        this.errorWriter = objectMapper.writerFor(ErrorResponse.class);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getServletPath();
+        return !MUTATING_METHODS.contains(request.getMethod())
+                || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null
+                || !path.startsWith(API_PATH_PREFIX)
+                || path.startsWith(PUBLIC_PATH_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            // 未認証のリクエストは後続の認可で401になるため、キーを記録しない
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String key = request.getHeader(IDEMPOTENCY_KEY_HEADER).trim();
+        if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+            writeError(request, response, HttpStatus.BAD_REQUEST, "INVALID_IDEMPOTENCY_KEY",
+                    "Idempotency-Key must be 1-" + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+
+        String scope = authentication.getName();
+        HttpServletRequest target = isMultipart(request) ? request : new CachedBodyRequest(request);
+        String fingerprint = fingerprint(target);
+
+        Decision decision = idempotencyService.begin(scope, key, fingerprint);
+        switch (decision) {
+            case Decision.Replay replay -> replay(replay.record(), response);
+            case Decision.Mismatch mismatch -> writeError(request, response, HttpStatus.UNPROCESSABLE_ENTITY,
+                    "IDEMPOTENCY_KEY_REUSED", "Idempotency-Key was already used for a different request");
+            case Decision.InProgress inProgress -> writeError(request, response, HttpStatus.CONFLICT,
+                    "IDEMPOTENCY_KEY_IN_USE", "A request with this Idempotency-Key is still being processed");
+            case Decision.Proceed proceed -> proceed(target, response, filterChain, scope, key, fingerprint);
+        }
+    }
+
+    private void proceed(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain,
+                         String scope, String key, String fingerprint) throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(request, wrapper);
+        } catch (ServletException | IOException | RuntimeException e) {
+            idempotencyService.abandon(scope, key);
+            throw e;
+        }
+
+        int status = wrapper.getStatus();
+        if (isStorable(status)) {
+            idempotencyService.complete(scope, key, fingerprint, status, wrapper.getContentType(),
+                    wrapper.getContentAsByteArray());
+        } else {
+            idempotencyService.abandon(scope, key);
+        }
+        wrapper.copyBodyToResponse();
+    }
+
+    private void replay(IdempotencyRecord record, HttpServletResponse response) throws IOException {
+        logger.debug("Replaying stored response for idempotency key. scope={}, status={}",
+                record.scope(), record.responseStatus());
+        response.setStatus(record.responseStatus());
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (record.contentType() != null) {
+            response.setContentType(record.contentType());
+        }
+        response.setContentLength(record.responseBody().length);
+        response.getOutputStream().write(record.responseBody());
+    }
+
+    /**
+     * 再送で同じ結果になるレスポンスのみ保存する
+     * 409（同時更新の競合）・429は時間をおいた再送で結果が変わり得るため保存しない
+     */
+    private static boolean isStorable(int status) {
+        return status < 500 && status != HttpStatus.CONFLICT.value() && status != HttpStatus.TOO_MANY_REQUESTS.value();
+    }
+
+    private void writeError(HttpServletRequest request, HttpServletResponse response, HttpStatus status,
+                            String error, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        errorWriter.writeValue(response.getOutputStream(), new ErrorResponse(error, message, request.getRequestURI()));
+    }
+
+    /**
+     * メソッド・パス・クエリ・ボディのSHA-256
+     * マルチパートの場合はボディの代わりに各パートの名前と内容を使う（パートはサーバー側の一時ファイルから読み直せる）
+     */
+    private static String fingerprint(HttpServletRequest request) throws IOException, ServletException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        digest.update((request.getMethod() + " " + request.getRequestURI() + "?" + request.getQueryString() + "\n")
+                .getBytes(StandardCharsets.UTF_8));
+        if (request instanceof CachedBodyRequest cached) {
+            digest.update(cached.body);
+        } else {
+            for (Part part : request.getParts()) {
+                digest.update((part.getName() + "\n").getBytes(StandardCharsets.UTF_8));
+                try (InputStream in = part.getInputStream()) {
+                    byte[] buffer = new byte[8192];
+                    int read;
+                    while ((read = in.read(buffer)) != -1) {
+                        digest.update(buffer, 0, read);
+                    }
+                }
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static boolean isMultipart(HttpServletRequest request) {
+        String contentType = request.getContentType();
+        return contentType != null && contentType.toLowerCase().startsWith(MediaType.MULTIPART_FORM_DATA_VALUE);
+    }
+
+    /**
+     * ボディを先読みして保持し、後続の処理でも読み直せるようにするラッパー
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = request.getInputStream().readAllBytes();
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    throw new UnsupportedOperationException("Async reads are not supported");
+                }
+
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return in.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding)));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.swiss_stage.presentation.filter;
+
+import com.swiss_stage.common.util.RequestIdentityMap;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * リクエスト単位のアイデンティティマップを開始・終了するフィルター
+ * 認証フィルターを含むすべての処理より前に開始し、リクエスト内の読み込みを共有する
+ *
+ * メトリクス:
+ * - repository.identity_map.reads_saved: 1リクエストあたりの省略できた読み込み回数
+ */
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER - 1)
+public class IdentityMapFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdentityMapFilter.class);
+
+    private final DistributionSummary readsSaved;
+
+    public IdentityMapFilter(MeterRegistry meterRegistry) {
+        this.readsSaved = DistributionSummary.builder("repository.identity_map.reads_saved")
+                .description("Repository reads served from the request-scoped identity map")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RequestIdentityMap identityMap = RequestIdentityMap.open();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            identityMap.close();
+            if (identityMap.reads() > 0) {
+                readsSaved.record(identityMap.readsSaved());
+                logger.debug("Identity map. path={}, reads={}, saved={}",
+                        request.getRequestURI(), identityMap.reads(), identityMap.readsSaved());
+            }
+        }
+    }
+}
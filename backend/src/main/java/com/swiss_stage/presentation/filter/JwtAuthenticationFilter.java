@@ -26,18 +26,27 @@ import java.util.UUID;
  * 2. トークンを検証してuserIdを取得
  * 3. SecurityContextにAuthentication設定
  * 4. 次のフィルターに処理を渡す
+ *
+ * 参照URL向けの公開エンドポイント（/api/public/**）はJWTを扱わないためフィルター自体をスキップする
  */
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
 
+    private static final String PUBLIC_PATH_PREFIX = "/api/public/";
+
     private final JwtService jwtService;
 
     public JwtAuthenticationFilter(JwtService jwtService) {
         this.jwtService = jwtService;
     }
 
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getServletPath().startsWith(PUBLIC_PATH_PREFIX);
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
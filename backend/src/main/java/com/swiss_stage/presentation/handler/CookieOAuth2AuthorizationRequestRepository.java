@@ -0,0 +1,147 @@
+package com.swiss_stage.presentation.handler;
+
+import com.swiss_stage.common.util.SealedBox;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.oauth2.client.web.AuthorizationRequestRepository;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+/**
+ * OAuth2認可リクエストをCookieに保持するリポジトリ
+ *
+ * Spring Security標準の実装はHttpSessionに保持するため、Googleからのコールバックが
+ * 認可リクエストを作成したノードに届かないとログインに失敗する
+ * Cookieに保持することで、ログインの全体をノードに依存せず、サーバー側のセッションも作らずに処理する
+ *
+ * Cookieの内容:
+ * - SealedBoxで暗号化した Base64URL(nonce 12バイト || AES-256-GCMの暗号文 || 認証タグ 16バイト)
+ * - 暗号文は 有効期限（エポックミリ秒 8バイト） || OAuth2AuthorizationRequestのシリアライズ
+ * - Cookie名を追加認証データにするため、同じ鍵で暗号化した他の値をこのCookieとして受け入れない
+ * - 認証タグで改ざんを検出してから復元し、復元できるクラスはJava標準とSpring Securityに限定する
+ * - 鍵は設定値から導出するため、同じ設定のノードであればどのノードでも復号できる
+ */
+@Component
+public class CookieOAuth2AuthorizationRequestRepository
+        implements AuthorizationRequestRepository<OAuth2AuthorizationRequest> {
+
+    public static final String COOKIE_NAME = "oauth2_auth_request";
+
+    private static final Logger logger = LoggerFactory.getLogger(CookieOAuth2AuthorizationRequestRepository.class);
+
+    private static final byte[] AAD = COOKIE_NAME.getBytes(StandardCharsets.UTF_8);
+    private static final ObjectInputFilter DESERIALIZATION_FILTER =
+            ObjectInputFilter.Config.createFilter("java.base/*;org.springframework.security.**;!*");
+
+    private final SealedBox sealedBox;
+    private final int maxAgeSeconds;
+    private final boolean secure;
+
+    public CookieOAuth2AuthorizationRequestRepository(
+            @Value("${app.oauth2.authorization-request.cookie-secret}") String secret,
+            @Value("${app.oauth2.authorization-request.max-age-seconds:300}") int maxAgeSeconds,
+            @Value("${app.frontend.url:http://localhost:3000}") String frontendUrl) {
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalArgumentException("Authorization request cookie secret must not be blank");
+        }
+        this.sealedBox = new SealedBox("oauth2-authorization-request", secret);
+        this.maxAgeSeconds = maxAgeSeconds;
+        this.secure = frontendUrl != null && frontendUrl.startsWith("https");
+    }
+
+    @Override
+    public OAuth2AuthorizationRequest loadAuthorizationRequest(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                return decode(cookie.getValue());
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void saveAuthorizationRequest(OAuth2AuthorizationRequest authorizationRequest,
+                                         HttpServletRequest request, HttpServletResponse response) {
+        if (authorizationRequest == null) {
+            addCookie(response, "", 0);
+            return;
+        }
+        addCookie(response, encode(authorizationRequest), maxAgeSeconds);
+    }
+
+    @Override
+    public OAuth2AuthorizationRequest removeAuthorizationRequest(HttpServletRequest request,
+                                                                 HttpServletResponse response) {
+        OAuth2AuthorizationRequest authorizationRequest = loadAuthorizationRequest(request);
+        if (authorizationRequest != null) {
+            addCookie(response, "", 0);
+        }
+        return authorizationRequest;
+    }
+
+    private String encode(OAuth2AuthorizationRequest authorizationRequest) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeLong(System.currentTimeMillis() + maxAgeSeconds * 1000L);
+            output.writeObject(authorizationRequest);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to serialize authorization request", e);
+        }
+        return sealedBox.sealToString(bytes.toByteArray(), AAD);
+    }
+
+    /**
+     * Cookieの値を認可リクエストに復元する
+     *
+     * @return 認可リクエスト（形式不正・改ざん・鍵の不一致・期限切れの場合はnull）
+     */
+    private OAuth2AuthorizationRequest decode(String value) {
+        Optional<byte[]> plaintext = sealedBox.openString(value, AAD);
+        if (plaintext.isEmpty()) {
+            logger.warn("Rejected authorization request cookie: malformed or authentication tag mismatch");
+            return null;
+        }
+
+        try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(plaintext.get()))) {
+            input.setObjectInputFilter(DESERIALIZATION_FILTER);
+            if (input.readLong() <= System.currentTimeMillis()) {
+                logger.debug("Rejected authorization request cookie: expired");
+                return null;
+            }
+            return (OAuth2AuthorizationRequest) input.readObject();
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
+            logger.warn("Rejected authorization request cookie: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void addCookie(HttpServletResponse response, String value, int maxAge) {
+        // コールバックはGoogleからのトップレベルのGETリダイレクトのため、SameSite=Laxで送信される
+        StringBuilder cookie = new StringBuilder()
+                .append(COOKIE_NAME).append('=').append(value)
+                .append("; Path=/")
+                .append("; Max-Age=").append(maxAge)
+                .append("; HttpOnly; SameSite=Lax");
+        if (secure) {
+            cookie.append("; Secure");
+        }
+        response.addHeader("Set-Cookie", cookie.toString());
+    }
+}
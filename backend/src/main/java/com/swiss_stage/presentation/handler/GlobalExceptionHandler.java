@@ -0,0 +1,79 @@
+package com.swiss_stage.presentation.handler;
+
+import com.swiss_stage.common.dto.ErrorResponse;
+import com.swiss_stage.common.exception.BusinessException;
+import com.swiss_stage.common.exception.ConflictException;
+import com.swiss_stage.common.exception.ForbiddenException;
+import com.swiss_stage.common.exception.NotFoundException;
+import com.swiss_stage.common.exception.ServiceUnavailableException;
+import com.swiss_stage.common.exception.UnauthorizedException;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * APIの例外をErrorResponseに変換するハンドラー
+ *
+ * 対応:
+ * - ConflictException: 409 Conflict
+ * - BusinessException: 400 Bad Request
+ * - UnauthorizedException: 401 Unauthorized
+ * - ForbiddenException: 403 Forbidden
+ * - NotFoundException: 404 Not Found
+ * - ServiceUnavailableException: 503 Service Unavailable（リポジトリの例外にラップされている場合も含む）
+ */
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<ErrorResponse> handleConflict(ConflictException e, HttpServletRequest request) {
+        logger.info("Conflict. path={}, message={}", request.getRequestURI(), e.getMessage());
+        return build(HttpStatus.CONFLICT, e.getErrorCode(), e.getMessage(), request);
+    }
+
+    @ExceptionHandler(BusinessException.class)
+    public ResponseEntity<ErrorResponse> handleBusiness(BusinessException e, HttpServletRequest request) {
+        logger.info("Business error. path={}, errorCode={}", request.getRequestURI(), e.getErrorCode());
+        return build(HttpStatus.BAD_REQUEST, e.getErrorCode(), e.getMessage(), request);
+    }
+
+    @ExceptionHandler(UnauthorizedException.class)
+    public ResponseEntity<ErrorResponse> handleUnauthorized(UnauthorizedException e, HttpServletRequest request) {
+        logger.warn("Unauthorized. path={}", request.getRequestURI());
+        return build(HttpStatus.UNAUTHORIZED, "UNAUTHORIZED", e.getMessage(), request);
+    }
+
+    @ExceptionHandler(ForbiddenException.class)
+    public ResponseEntity<ErrorResponse> handleForbidden(ForbiddenException e, HttpServletRequest request) {
+        logger.warn("Forbidden. path={}", request.getRequestURI());
+        return build(HttpStatus.FORBIDDEN, "FORBIDDEN", e.getMessage(), request);
+    }
+
+    @ExceptionHandler(NotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleNotFound(NotFoundException e, HttpServletRequest request) {
+        logger.info("Not found. path={}, message={}", request.getRequestURI(), e.getMessage());
+        return build(HttpStatus.NOT_FOUND, "NOT_FOUND", e.getMessage(), request);
+    }
+
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleServiceUnavailable(ServiceUnavailableException e,
+                                                                  HttpServletRequest request) {
+        logger.warn("Service unavailable. path={}, message={}", request.getRequestURI(), e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(new ErrorResponse("SERVICE_UNAVAILABLE", e.getMessage(), request.getRequestURI()));
+    }
+
+    private ResponseEntity<ErrorResponse> build(HttpStatus status, String error, String message,
+                                                HttpServletRequest request) {
+        return ResponseEntity.status(status)
+                .body(new ErrorResponse(error, message, request.getRequestURI()));
+    }
+}
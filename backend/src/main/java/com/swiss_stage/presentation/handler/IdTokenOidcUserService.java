@@ -0,0 +1,36 @@
+package com.swiss_stage.presentation.handler;
+
+import org.springframework.security.oauth2.client.oidc.userinfo.OidcUserRequest;
+import org.springframework.security.oauth2.client.userinfo.OAuth2UserService;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.oidc.IdTokenClaimNames;
+import org.springframework.security.oauth2.core.oidc.OidcIdToken;
+import org.springframework.security.oauth2.core.oidc.user.DefaultOidcUser;
+import org.springframework.security.oauth2.core.oidc.user.OidcUser;
+import org.springframework.security.oauth2.core.oidc.user.OidcUserAuthority;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * OIDCログインのユーザー情報をID Tokenのクレームから作成するサービス
+ *
+ * Spring Security標準のOidcUserServiceはログインのたびにUserInfoエンドポイントを呼び出すが、
+ * 必要な属性（sub / email / name）は署名検証済みのID Tokenに含まれるため、追加のHTTPS呼び出しを行わない
+ * （ID Tokenの署名・クレームはこのサービスの呼び出し前に CachedJwksIdTokenDecoderFactory のデコーダーで検証済み）
+ */
+@Component
+public class IdTokenOidcUserService implements OAuth2UserService<OidcUserRequest, OidcUser> {
+
+    @Override
+    public OidcUser loadUser(OidcUserRequest userRequest) throws OAuth2AuthenticationException {
+        OidcIdToken idToken = userRequest.getIdToken();
+        if (idToken.getEmail() == null) {
+            // emailスコープを要求していない・同意されていない場合（ユーザーの作成に必須）
+            throw new OAuth2AuthenticationException(new OAuth2Error("invalid_id_token",
+                    "ID token does not contain the email claim", null));
+        }
+        return new DefaultOidcUser(Set.of(new OidcUserAuthority(idToken)), idToken, IdTokenClaimNames.SUB);
+    }
+}
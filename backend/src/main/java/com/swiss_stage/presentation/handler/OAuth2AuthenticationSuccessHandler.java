@@ -64,7 +64,7 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
         UserDto user = userService.findOrCreateUser(googleId, email, name);
 
         // JWTトークンを生成
-        String token = jwtService.generateToken(user.getUserId());
+        String token = jwtService.generateToken(user.userId());
 
         // Set-Cookieを手動で設定してSameSite/Secureを環境に応じて制御
         int maxAge = 24 * 60 * 60; // 24時間
@@ -82,7 +82,8 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
             cookieBuilder.append("; SameSite=Lax");
         }
 
-        response.setHeader("Set-Cookie", cookieBuilder.toString());
+        // 認可リクエストのCookieの削除と併せて送るため、setHeaderで上書きしない
+        response.addHeader("Set-Cookie", cookieBuilder.toString());
 
         logger.info("User authenticated successfully. userId={}", user.getUserId());
 
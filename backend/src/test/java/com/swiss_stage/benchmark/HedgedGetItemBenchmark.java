@@ -0,0 +1,87 @@
+package com.swiss_stage.benchmark;
+
+import com.swiss_stage.infrastructure.dynamodb.GetItemHedger;
+import com.swiss_stage.support.InMemoryDynamoDbClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * GetItemのヘッジのベンチマーク
+ * ときどき遅い応答が混ざるGetItemを順に実行し、ヘッジなし・ありのp50/p99/最大を出力する
+ *
+ * 実行: ./gradlew benchmark --tests '*HedgedGetItemBenchmark'
+ *
+ * 遅延は1呼び出しあたり通常FAST_MS、SLOW_RATIOの割合でSLOW_MSの待機で模擬する
+ */
+@Tag("benchmark")
+class HedgedGetItemBenchmark {
+
+    private static final String TABLE_NAME = "swiss_stage_table";
+    private static final int CALLS = 2_000;
+    private static final long FAST_MS = 2;
+    private static final long SLOW_MS = 80;
+    private static final double SLOW_RATIO = 0.02;
+
+    private static final GetItemRequest REQUEST = GetItemRequest.builder()
+            .tableName(TABLE_NAME)
+            .key(Map.of(
+                    "PK", AttributeValue.builder().s("USER#1").build(),
+                    "SK", AttributeValue.builder().s("METADATA").build()))
+            .build();
+
+    @Test
+    void getItem_2パーセントが遅い応答() {
+        long[] plain = run(false);
+        long[] hedged = run(true);
+
+        System.out.printf("[HedgedGetItemBenchmark] calls=%d fast=%dms slow=%dms(%.0f%%) "
+                        + "plain: p50=%.1fms p99=%.1fms max=%.1fms / hedged: p50=%.1fms p99=%.1fms max=%.1fms%n",
+                CALLS, FAST_MS, SLOW_MS, SLOW_RATIO * 100,
+                millis(plain, 0.50), millis(plain, 0.99), millis(plain, 1.0),
+                millis(hedged, 0.50), millis(hedged, 0.99), millis(hedged, 1.0));
+        assertTrue(millis(hedged, 0.99) < millis(plain, 0.99));
+    }
+
+    private static long[] run(boolean hedging) {
+        Random random = new Random(42);
+        InMemoryDynamoDbClient dynamoDbClient = new InMemoryDynamoDbClient();
+        dynamoDbClient.putItem(PutItemRequest.builder()
+                .tableName(TABLE_NAME)
+                .item(Map.of(
+                        "PK", AttributeValue.builder().s("USER#1").build(),
+                        "SK", AttributeValue.builder().s("METADATA").build()))
+                .build());
+        dynamoDbClient.withLatency(() -> {
+            synchronized (random) {
+                return random.nextDouble() < SLOW_RATIO ? SLOW_MS : FAST_MS;
+            }
+        });
+        GetItemHedger hedger = new GetItemHedger(dynamoDbClient, hedging, 0.95, Duration.ofMillis(1), 100, 0.05,
+                new SimpleMeterRegistry());
+
+        long[] latencies = new long[CALLS];
+        for (int i = 0; i < CALLS; i++) {
+            long start = System.nanoTime();
+            hedger.getItem(REQUEST);
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    private static double millis(long[] sorted, double percentile) {
+        int index = Math.min(sorted.length - 1, (int) Math.ceil(percentile * sorted.length) - 1);
+        return sorted[index] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,94 @@
+package com.swiss_stage.benchmark;
+
+import com.swiss_stage.infrastructure.oidc.CachedJwksIdTokenDecoderFactory;
+import com.swiss_stage.presentation.handler.IdTokenOidcUserService;
+import com.swiss_stage.support.StubAuthorizationServer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.client.oidc.userinfo.OidcUserRequest;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
+import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.security.oauth2.core.oidc.OidcIdToken;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * ログイン時のユーザー情報取得のベンチマーク
+ * テスト用の認可サーバー（応答ごとにNETWORK_MSの待機）に対して、トークン交換後の処理時間を比較する
+ * - userinfo: 従来のOAuth2フロー（UserInfoエンドポイントをログインごとに呼び出す）
+ * - id_token: OIDCフロー（ID Tokenの署名をキャッシュした公開鍵セットで検証し、クレームから作成する）
+ *
+ * 実行: ./gradlew benchmark --tests '*OidcLoginBenchmark'
+ *
+ * トークン交換（token-uri）は両方のフローで同じため対象外
+ */
+@Tag("benchmark")
+class OidcLoginBenchmark {
+
+    private static final String CLIENT_ID = "client-id";
+    private static final int LOGINS = 200;
+    private static final long NETWORK_MS = 40;
+
+    @Test
+    void loadUser_UserInfo呼び出しとIDトークン検証() throws IOException {
+        try (StubAuthorizationServer authorizationServer = new StubAuthorizationServer().withLatency(NETWORK_MS)) {
+            ClientRegistration registration = authorizationServer.clientRegistration(CLIENT_ID);
+            OAuth2AccessToken accessToken = new OAuth2AccessToken(OAuth2AccessToken.TokenType.BEARER,
+                    "access-token", Instant.now(), Instant.now().plusSeconds(3600));
+
+            DefaultOAuth2UserService userInfoService = new DefaultOAuth2UserService();
+            long[] userInfo = measure(() -> userInfoService.loadUser(new OAuth2UserRequest(registration, accessToken)));
+
+            CachedJwksIdTokenDecoderFactory factory =
+                    new CachedJwksIdTokenDecoderFactory(3600, 30, List.of(StubAuthorizationServer.ISSUER));
+            IdTokenOidcUserService idTokenService = new IdTokenOidcUserService();
+            JwtDecoder decoder = factory.createDecoder(registration);
+            List<String> idTokens = IntStream.range(0, LOGINS)
+                    .mapToObj(i -> authorizationServer.idToken(StubAuthorizationServer.ISSUER, CLIENT_ID))
+                    .toList();
+            int[] next = {0};
+            long[] idToken = measure(() -> {
+                Jwt jwt = decoder.decode(idTokens.get(next[0]++));
+                OidcIdToken oidcIdToken = new OidcIdToken(jwt.getTokenValue(), jwt.getIssuedAt(),
+                        jwt.getExpiresAt(), jwt.getClaims());
+                idTokenService.loadUser(new OidcUserRequest(registration, accessToken, oidcIdToken));
+            });
+            factory.shutdown();
+
+            System.out.printf("[OidcLoginBenchmark] logins=%d network=%dms "
+                            + "userinfo: p50=%.1fms p99=%.1fms / id_token: p50=%.2fms p99=%.2fms max=%.1fms "
+                            + "(jwks requests=%d, userinfo requests=%d)%n",
+                    LOGINS, NETWORK_MS,
+                    millis(userInfo, 0.50), millis(userInfo, 0.99),
+                    millis(idToken, 0.50), millis(idToken, 0.99), millis(idToken, 1.0),
+                    authorizationServer.requestCount("/jwks"), authorizationServer.requestCount("/userinfo"));
+            assertTrue(millis(idToken, 0.50) < millis(userInfo, 0.50));
+        }
+    }
+
+    private static long[] measure(Runnable login) {
+        long[] latencies = new long[LOGINS];
+        for (int i = 0; i < LOGINS; i++) {
+            long start = System.nanoTime();
+            login.run();
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    private static double millis(long[] sorted, double percentile) {
+        int index = Math.min(sorted.length - 1, (int) Math.ceil(percentile * sorted.length) - 1);
+        return sorted[index] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,158 @@
+package com.swiss_stage.benchmark;
+
+import com.swiss_stage.application.dto.ParticipantImportResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.swiss_stage.application.service.ParticipantImportService;
+import com.swiss_stage.application.service.TournamentJournalService;
+import com.swiss_stage.application.service.TournamentStateService;
+import com.swiss_stage.domain.model.Participant;
+import com.swiss_stage.domain.model.Tournament;
+import com.swiss_stage.domain.repository.ParticipantRepository;
+import com.swiss_stage.infrastructure.repository.DynamoDbTournamentJournalRepository;
+import com.swiss_stage.infrastructure.repository.DynamoDbTournamentRepository;
+import com.swiss_stage.support.InMemoryDynamoDbClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 参加者CSVインポートのベンチマーク
+ * 300行・10,000行のCSVを取り込み、処理時間とヒープ使用量のピークを出力する
+ *
+ * 実行: ./gradlew benchmark --tests '*ParticipantImportBenchmark'
+ *
+ * DynamoDBの往復時間はBatchWriteItem 1回あたりWRITE_LATENCY_MSの待機で模擬する
+ * （エントリー番号の予約はメモリ上のカウンターで行い、待機しない）
+ */
+@Tag("benchmark")
+class ParticipantImportBenchmark {
+
+    private static final String TABLE_NAME = "swiss_stage_table";
+    private static final long WRITE_LATENCY_MS = 8;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void import_300行() throws Exception {
+        run(300, StandardCharsets.UTF_8);
+        run(300, Charset.forName("windows-31j"));
+    }
+
+    @Test
+    void import_10000行() throws Exception {
+        run(10_000, StandardCharsets.UTF_8);
+        run(10_000, Charset.forName("windows-31j"));
+    }
+
+    private void run(int rows, Charset charset) throws Exception {
+        Path csv = writeCsv(rows, charset);
+        CountingParticipantRepository repository = new CountingParticipantRepository();
+        // イベントの追記・状態の作り直しはインポート1回につき1度のため、インメモリのDynamoDbClientで済ませる
+        InMemoryDynamoDbClient dynamoDbClient = new InMemoryDynamoDbClient();
+        DynamoDbTournamentJournalRepository journalRepository = new DynamoDbTournamentJournalRepository(
+                dynamoDbClient, TABLE_NAME, new ObjectMapper());
+        TournamentJournalService journalService = new TournamentJournalService(journalRepository, 1_000);
+        DynamoDbTournamentRepository tournamentRepository = new DynamoDbTournamentRepository(dynamoDbClient, TABLE_NAME);
+        TournamentStateService stateService = new TournamentStateService(tournamentRepository, journalRepository,
+                event -> { }, new SimpleMeterRegistry(), 1_000);
+        Tournament tournament = Tournament.create(UUID.randomUUID(), UUID.randomUUID(), "ベンチマーク大会", 8, 5,
+                LocalDate.of(2026, 4, 29));
+        tournamentRepository.save(tournament);
+        ParticipantImportService service = new ParticipantImportService(repository, tournamentRepository,
+                journalService, stateService, rows, 4);
+
+        try {
+            // ウォームアップ
+            importFile(service, tournament.getTournamentId(), csv, charset);
+            repository.count.set(0);
+
+            System.gc();
+            List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                    .filter(pool -> pool.getType() == MemoryType.HEAP)
+                    .toList();
+            heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+            long baseline = heapPools.stream().mapToLong(pool -> pool.getUsage().getUsed()).sum();
+
+            long start = System.nanoTime();
+            ParticipantImportResult result = importFile(service, tournament.getTournamentId(), csv, charset);
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+            long peak = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+
+            assertEquals(rows, result.importedCount());
+            assertEquals(rows, repository.count.get());
+            System.out.printf("[ParticipantImportBenchmark] rows=%d charset=%s fileBytes=%d time=%dms "
+                            + "heapBaseline=%.1fMB heapPeak=%.1fMB heapDelta=%.1fMB%n",
+                    rows, charset.name(), Files.size(csv), elapsedMs,
+                    baseline / 1048576.0, peak / 1048576.0, (peak - baseline) / 1048576.0);
+        } finally {
+            service.shutdown();
+            journalService.shutdown();
+        }
+    }
+
+    private ParticipantImportResult importFile(ParticipantImportService service, UUID tournamentId, Path csv,
+                                               Charset charset) throws IOException {
+        try (InputStream input = Files.newInputStream(csv)) {
+            return service.importCsv(tournamentId, input, charset);
+        }
+    }
+
+    private Path writeCsv(int rows, Charset charset) throws IOException {
+        Path file = tempDir.resolve("participants-" + rows + "-" + charset.name() + ".csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(file, charset)) {
+            writer.write("名前,所属,段級位,グループ\r\n");
+            for (int i = 1; i <= rows; i++) {
+                writer.write("参加者" + i + ",囲碁クラブ" + (i % 50) + "," + (i % 9 + 1) + "段," + (i % 8 + 1) + "\r\n");
+            }
+        }
+        return file;
+    }
+
+    /**
+     * 件数のみ記録し、DynamoDBの往復時間を待機で模擬するリポジトリ
+     */
+    private static class CountingParticipantRepository implements ParticipantRepository {
+        private final AtomicInteger count = new AtomicInteger();
+        private final AtomicInteger lastEntryNumber = new AtomicInteger();
+
+        @Override
+        public void saveBatch(List<Participant> participants) {
+            try {
+                Thread.sleep(WRITE_LATENCY_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            count.addAndGet(participants.size());
+        }
+
+        @Override
+        public int reserveEntryNumbers(UUID tournamentId, int count, int floor) {
+            return lastEntryNumber.addAndGet(count) - count + 1;
+        }
+
+        @Override
+        public int findMaxEntryNumber(UUID tournamentId) {
+            return 0;
+        }
+    }
+}
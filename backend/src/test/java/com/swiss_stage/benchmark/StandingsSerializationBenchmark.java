@@ -0,0 +1,110 @@
+package com.swiss_stage.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.swiss_stage.application.dto.PairingDto;
+import com.swiss_stage.application.dto.StandingDto;
+import com.swiss_stage.application.dto.TournamentStateDto;
+import com.swiss_stage.infrastructure.config.JacksonConfig;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+/**
+ * 順位表のJSONシリアライズのベンチマーク
+ * 300名の順位表と150局の対戦表（TournamentStateDto）を繰り返しシリアライズし、1回あたりの時間を比較する
+ * - default: 既定のObjectMapperで毎回 writeValueAsBytes（型ごとのシリアライザーを毎回引き直す）
+ * - tuned: Blackbirdを追加したObjectMapperの、型を固定した ObjectWriter を使い回し、出力先に直接書き込む
+ *
+ * 実行: ./gradlew benchmark --tests '*StandingsSerializationBenchmark'
+ *
+ * JITコンパイル後の値を比べるため、WARMUP回実行してからMEASURE回を計測する
+ */
+@Tag("benchmark")
+class StandingsSerializationBenchmark {
+
+    private static final int PARTICIPANTS = 300;
+    private static final int WARMUP = 20_000;
+    private static final int MEASURE = 20_000;
+
+    @Test
+    void serialize_300名の順位表() throws IOException {
+        TournamentStateDto state = state();
+        ObjectMapper defaultMapper = new ObjectMapper();
+        ObjectWriter tunedWriter = new ObjectMapper()
+                .registerModule(new JacksonConfig().blackbirdModule())
+                .writerFor(TournamentStateDto.class);
+        ByteArrayOutputStream output = new ByteArrayOutputStream(64 * 1024);
+
+        Serialization defaultRun = () -> defaultMapper.writeValueAsBytes(state);
+        Serialization tunedRun = () -> {
+            output.reset();
+            tunedWriter.writeValue(output, state);
+            return output.toByteArray();
+        };
+        assertArrayEquals(defaultRun.run(), tunedRun.run());
+
+        long[] defaults = measure(defaultRun);
+        long[] tuned = measure(tunedRun);
+
+        System.out.printf("[StandingsSerializationBenchmark] participants=%d bytes=%d "
+                        + "default: p50=%.1fus p99=%.1fus / tuned: p50=%.1fus p99=%.1fus%n",
+                PARTICIPANTS, defaultRun.run().length,
+                micros(defaults, 0.50), micros(defaults, 0.99),
+                micros(tuned, 0.50), micros(tuned, 0.99));
+    }
+
+    private static long[] measure(Serialization serialization) throws IOException {
+        for (int i = 0; i < WARMUP; i++) {
+            serialization.run();
+        }
+        long[] latencies = new long[MEASURE];
+        for (int i = 0; i < MEASURE; i++) {
+            long start = System.nanoTime();
+            serialization.run();
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    private static TournamentStateDto state() {
+        Random random = new Random(42);
+        List<UUID> participantIds = new ArrayList<>(PARTICIPANTS);
+        List<StandingDto> standings = new ArrayList<>(PARTICIPANTS);
+        for (int i = 0; i < PARTICIPANTS; i++) {
+            UUID participantId = new UUID(random.nextLong(), random.nextLong());
+            participantIds.add(participantId);
+            int wins = random.nextInt(6);
+            int draws = random.nextInt(6 - wins + 1);
+            standings.add(new StandingDto(i % 8 + 1, i / 8 + 1, participantId, "参加者" + (i + 1),
+                    wins + draws * 0.5, wins, 6 - wins - draws, draws, random.nextInt(40) * 0.5));
+        }
+        List<PairingDto> pairings = new ArrayList<>(PARTICIPANTS / 2);
+        for (int i = 0; i < PARTICIPANTS; i += 2) {
+            pairings.add(new PairingDto(6, i % 8 + 1, i / 2 + 1,
+                    participantIds.get(i), "参加者" + (i + 1),
+                    participantIds.get(i + 1), "参加者" + (i + 2), "BLACK_WIN"));
+        }
+        return new TournamentStateDto(UUID.randomUUID(), 42, 6, standings, pairings);
+    }
+
+    private static double micros(long[] sorted, double percentile) {
+        int index = Math.min(sorted.length - 1, (int) Math.ceil(percentile * sorted.length) - 1);
+        return sorted[index] / 1_000.0;
+    }
+
+    @FunctionalInterface
+    private interface Serialization {
+        byte[] run() throws IOException;
+    }
+}
@@ -0,0 +1,215 @@
+package com.swiss_stage.benchmark;
+
+import com.swiss_stage.application.service.JwtService;
+import com.swiss_stage.domain.model.User;
+import com.swiss_stage.infrastructure.dynamodb.GetItemHedger;
+import com.swiss_stage.infrastructure.repository.DynamoDbUserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.jar.JarFile;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 起動時間のベンチマーク
+ * build/cds のレイアウトでアプリケーションを別プロセスとして起動し、
+ * 最初の GET /api/auth/me が200を返すまでの時間を比較する
+ * - plain: 通常の起動
+ * - aot: Spring AOT処理済みのBean定義で起動（-Dspring.aot.enabled=true）
+ * - aot+cds: AOTに加えてAppCDSアーカイブ（application.jsa）を使用
+ * - native: GraalVMのネイティブイメージ（起動時間に加えて、応答時点の常駐メモリ（RSS）をJVMと比較する）
+ *
+ * 実行:
+ * ./gradlew cdsArchive -Paot
+ * ./gradlew nativeCompile -Pnative
+ * ./gradlew benchmark --tests '*StartupBenchmark'
+ *
+ * DynamoDB Local（localhost:8000、テーブル作成済み）が必要。起動時のウォームアップは無効にして計測する
+ */
+@Tag("benchmark")
+class StartupBenchmark {
+
+    private static final String SECRET_KEY = "startup-benchmark-secret-key-at-least-256-bits-long";
+    private static final String DYNAMODB_ENDPOINT = "http://localhost:8000";
+    private static final String TABLE_NAME = "swiss_stage_table";
+    private static final int RUNS = 3;
+    private static final Duration TIMEOUT = Duration.ofSeconds(120);
+
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+    @Test
+    void start_通常とAOTとAOTおよびCDS() throws Exception {
+        Path dir = Path.of(System.getProperty("startup.dir", "build/cds"));
+        Path jar = dir.resolve("app.jar");
+        assumeTrue(Files.exists(jar), "Run ./gradlew cdsArchive -Paot first");
+        assumeTrue(hasAotInitializer(jar), "app.jar was built without -Paot");
+        assumeTrue(Files.exists(dir.resolve("application.jsa")), "application.jsa was not created");
+        String token = tokenForNewUser();
+
+        Measurement plain = median(dir, token, jvm());
+        Measurement aot = median(dir, token, jvm("-Dspring.aot.enabled=true"));
+        Measurement aotCds = median(dir, token,
+                jvm("-Dspring.aot.enabled=true", "-XX:SharedArchiveFile=application.jsa"));
+
+        System.out.printf("[StartupBenchmark] runs=%d time to first /api/auth/me: "
+                + "plain=%.0fms aot=%.0fms aot+cds=%.0fms%n", RUNS, plain.millis(), aot.millis(), aotCds.millis());
+        assertTrue(aotCds.millis() < plain.millis());
+    }
+
+    @Test
+    void start_JVMとネイティブイメージ() throws Exception {
+        Path dir = Path.of(System.getProperty("startup.dir", "build/cds"));
+        Path executable = Path.of(System.getProperty("startup.native",
+                "build/native/nativeCompile/swiss-stage-backend"));
+        assumeTrue(Files.exists(dir.resolve("app.jar")), "Run ./gradlew cdsArchive first");
+        assumeTrue(Files.isExecutable(executable), "Run ./gradlew nativeCompile -Pnative first");
+        String token = tokenForNewUser();
+
+        Measurement jvmRun = median(dir, token, jvm());
+        Measurement nativeRun = median(dir, token, List.of(executable.toString()));
+
+        System.out.printf("[StartupBenchmark] runs=%d time to first /api/auth/me and RSS: "
+                        + "jvm=%.0fms/%dMB native=%.0fms/%dMB%n", RUNS,
+                jvmRun.millis(), jvmRun.rssKb() / 1024, nativeRun.millis(), nativeRun.rssKb() / 1024);
+        assertTrue(nativeRun.millis() < jvmRun.millis());
+    }
+
+    /**
+     * build/cds の app.jar を起動するコマンド
+     * アーカイブを作成した cdsArchive と同じJDK（PATHのjava）で起動する
+     */
+    private static List<String> jvm(String... jvmArgs) {
+        List<String> command = new ArrayList<>();
+        command.add("java");
+        command.addAll(List.of(jvmArgs));
+        command.addAll(List.of("-jar", "app.jar"));
+        return command;
+    }
+
+    private Measurement median(Path dir, String token, List<String> command) throws Exception {
+        Measurement[] measurements = new Measurement[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            measurements[i] = measure(dir, token, command);
+        }
+        Arrays.sort(measurements, Comparator.comparingDouble(Measurement::millis));
+        return measurements[RUNS / 2];
+    }
+
+    private Measurement measure(Path dir, String token, List<String> command) throws Exception {
+        int port = freePort();
+        ProcessBuilder builder = new ProcessBuilder(command)
+                .directory(dir.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.to(new File(dir.toFile(), "startup-benchmark.log")));
+        builder.environment().putAll(Map.of(
+                "SERVER_PORT", String.valueOf(port),
+                "JWT_SECRET_KEY", SECRET_KEY,
+                "GOOGLE_CLIENT_ID", "startup-benchmark",
+                "GOOGLE_CLIENT_SECRET", "startup-benchmark",
+                "DYNAMODB_ENDPOINT", DYNAMODB_ENDPOINT,
+                "DYNAMODB_TABLE_NAME", TABLE_NAME,
+                "WARMUP_ENABLED", "false",
+                "LOGGING_LEVEL_COM_SWISS_STAGE", "INFO"));
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/auth/me"))
+                .header("Cookie", "jwt_token=" + token)
+                .timeout(Duration.ofSeconds(5))
+                .GET()
+                .build();
+
+        long start = System.nanoTime();
+        Process process = builder.start();
+        try {
+            long deadline = start + TIMEOUT.toNanos();
+            while (System.nanoTime() < deadline) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("Application exited. exitCode=" + process.exitValue());
+                }
+                try {
+                    if (httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return new Measurement((System.nanoTime() - start) / 1_000_000.0, rssKb(process.pid()));
+                    }
+                } catch (IOException e) {
+                    // 起動前（接続拒否）
+                }
+                Thread.sleep(10);
+            }
+            throw new IllegalStateException("Application did not respond within " + TIMEOUT);
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    /**
+     * プロセスの常駐メモリ（Linuxの /proc/{pid}/status の VmRSS、取得できない場合は-1）
+     */
+    private static long rssKb(long pid) throws IOException {
+        Path status = Path.of("/proc", String.valueOf(pid), "status");
+        if (!Files.exists(status)) {
+            return -1;
+        }
+        return Files.readAllLines(status).stream()
+                .filter(line -> line.startsWith("VmRSS:"))
+                .map(line -> line.replaceAll("[^0-9]", ""))
+                .mapToLong(Long::parseLong)
+                .findFirst()
+                .orElse(-1);
+    }
+
+    private static String tokenForNewUser() {
+        UUID userId = UUID.randomUUID();
+        createUser(userId);
+        return new JwtService(SECRET_KEY, 1).generateToken(userId);
+    }
+
+    private static void createUser(UUID userId) {
+        DynamoDbClient dynamoDbClient = DynamoDbClient.builder()
+                .region(Region.AP_NORTHEAST_1)
+                .endpointOverride(URI.create(DYNAMODB_ENDPOINT))
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("dummy", "dummy")))
+                .build();
+        GetItemHedger hedger = new GetItemHedger(dynamoDbClient, false, 0.95, Duration.ZERO, 0, 0,
+                new SimpleMeterRegistry());
+        new DynamoDbUserRepository(dynamoDbClient, hedger, TABLE_NAME)
+                .save(User.create(userId, "google-" + userId, "startup@example.com", "起動計測"));
+    }
+
+    private static boolean hasAotInitializer(Path jar) throws IOException {
+        try (JarFile jarFile = new JarFile(jar.toFile())) {
+            return jarFile.getEntry("com/swiss_stage/SwissStageApplication__ApplicationContextInitializer.class")
+                    != null;
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private record Measurement(double millis, long rssKb) {
+    }
+}
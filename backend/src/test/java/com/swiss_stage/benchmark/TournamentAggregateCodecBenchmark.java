@@ -0,0 +1,159 @@
+package com.swiss_stage.benchmark;
+
+import com.swiss_stage.domain.model.Match;
+import com.swiss_stage.domain.model.MatchResult;
+import com.swiss_stage.domain.model.Participant;
+import com.swiss_stage.domain.model.Round;
+import com.swiss_stage.domain.model.Tournament;
+import com.swiss_stage.domain.model.TournamentAggregate;
+import com.swiss_stage.infrastructure.repository.DynamoDbParticipantRepository;
+import com.swiss_stage.infrastructure.repository.DynamoDbTournamentRepository;
+import com.swiss_stage.infrastructure.repository.TournamentAggregateCodec;
+import com.swiss_stage.infrastructure.repository.TournamentAggregateCodec.Compression;
+import com.swiss_stage.support.InMemoryDynamoDbClient;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * トーナメント集約バイナリのベンチマーク
+ * 300名×5回戦の大会について、属性マップのアイテム（従来の保存形式）と集約バイナリの
+ * サイズ・読み書きの消費キャパシティ（概算）と、エンコード/デコードの処理速度を出力する
+ *
+ * 実行: ./gradlew benchmark --tests '*TournamentAggregateCodecBenchmark'
+ *
+ * キャパシティは強い整合性の読み込み4KBごとに1RCU、書き込み1KBごとに1WCUで概算する
+ */
+@Tag("benchmark")
+class TournamentAggregateCodecBenchmark {
+
+    private static final String TABLE_NAME = "swiss_stage_table";
+    private static final int PARTICIPANTS = 300;
+    private static final int ROUNDS = 5;
+    private static final int GROUPS = 4;
+    private static final int ITERATIONS = 2_000;
+
+    @Test
+    void codec_300名x5回戦() {
+        InMemoryDynamoDbClient dynamoDbClient = new InMemoryDynamoDbClient();
+        DynamoDbTournamentRepository repository = new DynamoDbTournamentRepository(dynamoDbClient, TABLE_NAME);
+        Tournament tournament = seed(dynamoDbClient, repository);
+        TournamentAggregate aggregate = repository.loadAggregate(tournament.getTournamentId()).orElseThrow();
+
+        // サイズ: 属性マップのアイテム（Queryはページ内の合計サイズで消費する）と集約バイナリ
+        List<Map<String, AttributeValue>> items = queryItems(dynamoDbClient, tournament.getTournamentId());
+        int itemBytes = 0;
+        int itemWcu = 0;
+        for (Map<String, AttributeValue> item : items) {
+            int size = InMemoryDynamoDbClient.itemSize(item);
+            itemBytes += size;
+            itemWcu += ceilDiv(size, 1024);
+        }
+        byte[] raw = TournamentAggregateCodec.encode(aggregate, Compression.NONE);
+        byte[] deflated = TournamentAggregateCodec.encode(aggregate, Compression.DEFLATE);
+
+        // 処理速度: アイテムからの組み立て（インメモリのQuery＋マッピング）とエンコード/デコード
+        double loadOps = opsPerSecond(() -> repository.loadAggregate(tournament.getTournamentId()).orElseThrow());
+        double encodeRawOps = opsPerSecond(() -> TournamentAggregateCodec.encode(aggregate, Compression.NONE));
+        double encodeDeflateOps = opsPerSecond(() -> TournamentAggregateCodec.encode(aggregate, Compression.DEFLATE));
+        double decodeRawOps = opsPerSecond(() -> TournamentAggregateCodec.decode(raw));
+        double decodeDeflateOps = opsPerSecond(() -> TournamentAggregateCodec.decode(deflated));
+
+        assertEquals(aggregate.matches(), TournamentAggregateCodec.decode(deflated).matches());
+        assertEquals(aggregate.participants(), TournamentAggregateCodec.decode(raw).participants());
+        System.out.printf("[TournamentAggregateCodecBenchmark] items: count=%d bytes=%d rcu=%d wcu=%d loadAggregate=%.0f ops/s%n",
+                items.size(), itemBytes, ceilDiv(itemBytes, 4096), itemWcu, loadOps);
+        System.out.printf("[TournamentAggregateCodecBenchmark] blob(NONE): bytes=%d rcu=%d wcu=%d encode=%.0f ops/s decode=%.0f ops/s%n",
+                raw.length, ceilDiv(raw.length, 4096), ceilDiv(raw.length, 1024), encodeRawOps, decodeRawOps);
+        System.out.printf("[TournamentAggregateCodecBenchmark] blob(DEFLATE): bytes=%d rcu=%d wcu=%d encode=%.0f ops/s decode=%.0f ops/s%n",
+                deflated.length, ceilDiv(deflated.length, 4096), ceilDiv(deflated.length, 1024),
+                encodeDeflateOps, decodeDeflateOps);
+    }
+
+    /**
+     * ウォームアップ後、ITERATIONS回の処理速度を計測する
+     */
+    private static double opsPerSecond(Supplier<?> operation) {
+        for (int i = 0; i < ITERATIONS; i++) {
+            operation.get();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            operation.get();
+        }
+        return ITERATIONS * 1_000_000_000.0 / (System.nanoTime() - start);
+    }
+
+    /**
+     * 集約の範囲（MATCH#〜ROUND#）のアイテムを属性マップのまま取得する
+     */
+    private static List<Map<String, AttributeValue>> queryItems(InMemoryDynamoDbClient dynamoDbClient,
+                                                                UUID tournamentId) {
+        List<Map<String, AttributeValue>> items = new ArrayList<>();
+        Map<String, AttributeValue> startKey = null;
+        do {
+            QueryResponse response = dynamoDbClient.query(QueryRequest.builder()
+                    .tableName(TABLE_NAME)
+                    .keyConditionExpression("PK = :pk AND SK BETWEEN :from AND :to")
+                    .expressionAttributeValues(Map.of(
+                            ":pk", AttributeValue.builder().s("TOURNAMENT#" + tournamentId).build(),
+                            ":from", AttributeValue.builder().s("MATCH#").build(),
+                            ":to", AttributeValue.builder().s("ROUND#~").build()))
+                    .exclusiveStartKey(startKey)
+                    .build());
+            items.addAll(response.items());
+            startKey = response.hasLastEvaluatedKey() ? response.lastEvaluatedKey() : null;
+        } while (startKey != null);
+        return items;
+    }
+
+    private static int ceilDiv(int value, int unit) {
+        return (value + unit - 1) / unit;
+    }
+
+    private static Tournament seed(InMemoryDynamoDbClient dynamoDbClient, DynamoDbTournamentRepository repository) {
+        Tournament tournament = Tournament.create(UUID.randomUUID(), UUID.randomUUID(), "ベンチマーク大会",
+                GROUPS, ROUNDS, LocalDate.of(2026, 11, 3));
+        UUID tournamentId = tournament.getTournamentId();
+        repository.save(tournament);
+
+        DynamoDbParticipantRepository participantRepository = new DynamoDbParticipantRepository(dynamoDbClient, TABLE_NAME);
+        List<Participant> participants = new ArrayList<>();
+        for (int i = 1; i <= PARTICIPANTS; i++) {
+            participants.add(Participant.create(tournamentId, i, "参加者" + i, "囲碁クラブ" + (i % 50),
+                    (i % 9 + 1) + "段", (i - 1) % GROUPS + 1));
+        }
+        for (int from = 0; from < participants.size(); from += 25) {
+            participantRepository.saveBatch(participants.subList(from, from + 25));
+        }
+
+        int tables = PARTICIPANTS / GROUPS / 2;
+        for (int round = 1; round <= ROUNDS; round++) {
+            List<Match> matches = new ArrayList<>();
+            for (int group = 1; group <= GROUPS; group++) {
+                for (int table = 1; table <= tables; table++) {
+                    int index = (group - 1) * tables * 2 + (table - 1) * 2;
+                    matches.add(new Match(tournamentId, round, group, table,
+                            participants.get(index).participantId(),
+                            participants.get(index + 1).participantId(),
+                            MatchResult.values()[(round + table) % 3], 0));
+                }
+            }
+            repository.saveMatches(matches);
+            repository.saveRound(Round.paired(tournamentId, round, matches.size())
+                    .withCompletedMatchCount(matches.size()));
+        }
+        return tournament;
+    }
+}
@@ -0,0 +1,144 @@
+package com.swiss_stage.benchmark;
+
+import com.swiss_stage.domain.model.Match;
+import com.swiss_stage.domain.model.MatchResult;
+import com.swiss_stage.domain.model.Participant;
+import com.swiss_stage.domain.model.Round;
+import com.swiss_stage.domain.model.Tournament;
+import com.swiss_stage.domain.model.TournamentAggregate;
+import com.swiss_stage.infrastructure.repository.DynamoDbParticipantRepository;
+import com.swiss_stage.infrastructure.repository.DynamoDbTournamentRepository;
+import com.swiss_stage.support.InMemoryDynamoDbClient;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * トーナメント集約読み込みのベンチマーク
+ * 300名×5回戦の大会を、アイテムごとのGetItemとページングしたQueryで読み込み、
+ * 呼び出し回数と処理時間を出力する
+ *
+ * 実行: ./gradlew benchmark --tests '*TournamentAggregateLoadBenchmark'
+ *
+ * DynamoDBの往復時間は1呼び出しあたりREQUEST_LATENCY_MSの待機で模擬する
+ */
+@Tag("benchmark")
+class TournamentAggregateLoadBenchmark {
+
+    private static final String TABLE_NAME = "swiss_stage_table";
+    private static final long REQUEST_LATENCY_MS = 5;
+    private static final int PARTICIPANTS = 300;
+    private static final int ROUNDS = 5;
+    private static final int GROUPS = 4;
+
+    private List<Participant> seededParticipants = List.of();
+
+    @Test
+    void loadAggregate_300名x5回戦() {
+        InMemoryDynamoDbClient dynamoDbClient = new InMemoryDynamoDbClient();
+        DynamoDbTournamentRepository repository = new DynamoDbTournamentRepository(dynamoDbClient, TABLE_NAME);
+        Tournament tournament = seed(dynamoDbClient, repository);
+        int itemCount = dynamoDbClient.itemCount();
+        dynamoDbClient.withLatency(REQUEST_LATENCY_MS);
+
+        // ウォームアップ
+        repository.loadAggregate(tournament.getTournamentId());
+        loadByGetItem(dynamoDbClient, tournament.getTournamentId());
+
+        dynamoDbClient.resetCounts();
+        long start = System.nanoTime();
+        TournamentAggregate aggregate = repository.loadAggregate(tournament.getTournamentId()).orElseThrow();
+        long queryMs = (System.nanoTime() - start) / 1_000_000;
+        int queryCalls = dynamoDbClient.requestCount("Query");
+
+        dynamoDbClient.resetCounts();
+        start = System.nanoTime();
+        int loaded = loadByGetItem(dynamoDbClient, tournament.getTournamentId());
+        long getItemMs = (System.nanoTime() - start) / 1_000_000;
+        int getItemCalls = dynamoDbClient.requestCount("GetItem");
+
+        assertEquals(PARTICIPANTS, aggregate.participants().size());
+        assertEquals(ROUNDS, aggregate.rounds().size());
+        assertEquals(itemCount, loaded);
+        System.out.printf("[TournamentAggregateLoadBenchmark] items=%d latency=%dms "
+                        + "query: calls=%d time=%dms / getItem: calls=%d time=%dms%n",
+                itemCount, REQUEST_LATENCY_MS, queryCalls, queryMs, getItemCalls, getItemMs);
+    }
+
+    /**
+     * 比較対象: キーが分かっているアイテムを1件ずつGetItemで読み込む
+     */
+    private int loadByGetItem(InMemoryDynamoDbClient dynamoDbClient, UUID tournamentId) {
+        List<Map<String, AttributeValue>> keys = new ArrayList<>();
+        keys.add(key(tournamentId, "METADATA"));
+        for (Participant participant : seededParticipants) {
+            keys.add(key(tournamentId, "PARTICIPANT#" + participant.participantId()));
+        }
+        for (int round = 1; round <= ROUNDS; round++) {
+            keys.add(key(tournamentId, String.format("ROUND#%02d", round)));
+            for (int group = 1; group <= GROUPS; group++) {
+                for (int table = 1; table <= PARTICIPANTS / GROUPS / 2; table++) {
+                    keys.add(key(tournamentId, String.format("MATCH#%02d#%d#%03d", round, group, table)));
+                }
+            }
+        }
+        int loaded = 0;
+        for (Map<String, AttributeValue> key : keys) {
+            if (dynamoDbClient.getItem(GetItemRequest.builder().tableName(TABLE_NAME).key(key).build()).hasItem()) {
+                loaded++;
+            }
+        }
+        return loaded;
+    }
+
+    private Tournament seed(InMemoryDynamoDbClient dynamoDbClient, DynamoDbTournamentRepository repository) {
+        Tournament tournament = Tournament.create(UUID.randomUUID(), UUID.randomUUID(), "ベンチマーク大会",
+                GROUPS, ROUNDS, LocalDate.of(2026, 11, 3));
+        UUID tournamentId = tournament.getTournamentId();
+        repository.save(tournament);
+
+        DynamoDbParticipantRepository participantRepository = new DynamoDbParticipantRepository(dynamoDbClient, TABLE_NAME);
+        List<Participant> participants = new ArrayList<>();
+        for (int i = 1; i <= PARTICIPANTS; i++) {
+            participants.add(Participant.create(tournamentId, i, "参加者" + i, "囲碁クラブ" + (i % 50),
+                    (i % 9 + 1) + "段", (i - 1) % GROUPS + 1));
+        }
+        for (int from = 0; from < participants.size(); from += 25) {
+            participantRepository.saveBatch(participants.subList(from, from + 25));
+        }
+        seededParticipants = participants;
+
+        int tables = PARTICIPANTS / GROUPS / 2;
+        for (int round = 1; round <= ROUNDS; round++) {
+            List<Match> matches = new ArrayList<>();
+            for (int group = 1; group <= GROUPS; group++) {
+                for (int table = 1; table <= tables; table++) {
+                    int index = (group - 1) * tables * 2 + (table - 1) * 2;
+                    matches.add(new Match(tournamentId, round, group, table,
+                            participants.get(index).participantId(),
+                            participants.get(index + 1).participantId(),
+                            MatchResult.values()[(round + table) % 3], 0));
+                }
+            }
+            repository.saveMatches(matches);
+            repository.saveRound(Round.paired(tournamentId, round, matches.size())
+                    .withCompletedMatchCount(matches.size()));
+        }
+        return tournament;
+    }
+
+    private static Map<String, AttributeValue> key(UUID tournamentId, String sk) {
+        return Map.of(
+                "PK", AttributeValue.builder().s("TOURNAMENT#" + tournamentId).build(),
+                "SK", AttributeValue.builder().s(sk).build());
+    }
+}
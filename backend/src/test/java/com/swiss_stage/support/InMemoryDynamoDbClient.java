@@ -0,0 +1,524 @@
+package com.swiss_stage.support;
+
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * テスト用のインメモリDynamoDbClient
+ *
+ * DynamoDB Localを起動せずにリポジトリのアクセスパターン（呼び出し回数・ページング）を検証するためのフェイク
+ * リポジトリが使用する範囲の式のみ対応する:
+ * - KeyConditionExpression: "PK = :pk" / "PK = :pk AND begins_with(SK, :prefix)" / "PK = :pk AND SK BETWEEN :a AND :b"
+ *   （IndexName指定時はGSI名をキー属性の接頭辞とし、"GSI1PK = :pk" のように指定する。GSIは呼び出しごとに全件から組み立てる）
+ * - ProjectionExpression（#プレースホルダー対応）
+ * - Limit / ExclusiveStartKey / ScanIndexForward
+ * - ConditionExpression / FilterExpression: "attribute_not_exists(X)" / "attribute_exists(X)" / "X = :v" をANDで連結したもの
+ * - Scan（テーブルのPK・SK順、FilterExpressionはページの読み込み後に適用）
+ * - UpdateExpression: "SET a = :x, b = :y" または "ADD n :d"（数値の加算、ReturnValuesは更新後のアイテム全体を返す）
+ * - TransactWriteItems（Put/Delete/ConditionCheck、条件不成立時はTransactionCanceledException）
+ * - 1ページ1MB（または指定件数）でのページ分割
+ * - 呼び出しごとの遅延注入（DynamoDBの往復時間の模擬）
+ */
+public class InMemoryDynamoDbClient implements DynamoDbClient {
+
+    private static final int MAX_PAGE_BYTES = 1024 * 1024;
+    private static final Pattern ATTRIBUTE_FUNCTION = Pattern.compile("(attribute_not_exists|attribute_exists)\\(\\s*([#\\w]+)\\s*\\)");
+    private static final Pattern EQUALS = Pattern.compile("([#\\w]+)\\s*=\\s*(:\\w+)");
+    private static final Pattern KEY_CONDITION = Pattern.compile(
+            "(\\w+)\\s*=\\s*(:\\w+)(?:\\s+AND\\s+(?:begins_with\\(\\s*(\\w+)\\s*,\\s*(:\\w+)\\s*\\)"
+                    + "|(\\w+)\\s+BETWEEN\\s+(:\\w+)\\s+AND\\s+(:\\w+)))?");
+    private static final Pattern SET_EXPRESSION = Pattern.compile("(?i)SET\\s+(.+)");
+    private static final Pattern ADD_EXPRESSION = Pattern.compile("(?i)ADD\\s+([#\\w]+)\\s+(:\\w+)");
+    private static final char INDEX_KEY_SEPARATOR = '\u0000';
+
+    private final Map<String, NavigableMap<String, Map<String, AttributeValue>>> partitions = new HashMap<>();
+    private final Map<String, AtomicInteger> requestCounts = new ConcurrentHashMap<>();
+    private final List<QueryRequest> queryRequests = new ArrayList<>();
+    private final List<GetItemRequest> getItemRequests = new ArrayList<>();
+
+    private volatile LongSupplier latencyMs = () -> 0;
+    private volatile int maxPageItems = Integer.MAX_VALUE;
+
+    /**
+     * 1呼び出しあたりの遅延を設定（DynamoDBの往復時間の模擬）
+     */
+    public InMemoryDynamoDbClient withLatency(long latencyMs) {
+        this.latencyMs = () -> latencyMs;
+        return this;
+    }
+
+    /**
+     * 呼び出しごとに異なる遅延を設定（ときどき遅い応答が混ざるテール遅延の模擬）
+     */
+    public InMemoryDynamoDbClient withLatency(LongSupplier latencyMs) {
+        this.latencyMs = latencyMs;
+        return this;
+    }
+
+    /**
+     * 1ページあたりの最大件数を設定（1MB制限より小さいページ分割の再現）
+     */
+    public InMemoryDynamoDbClient withMaxPageItems(int maxPageItems) {
+        this.maxPageItems = maxPageItems;
+        return this;
+    }
+
+    /**
+     * 操作ごとの呼び出し回数を取得
+     *
+     * @param operation 操作名（例: "Query", "GetItem"）
+     * @return 呼び出し回数
+     */
+    public int requestCount(String operation) {
+        AtomicInteger count = requestCounts.get(operation);
+        return count == null ? 0 : count.get();
+    }
+
+    public synchronized List<QueryRequest> queryRequests() {
+        return List.copyOf(queryRequests);
+    }
+
+    public synchronized List<GetItemRequest> getItemRequests() {
+        return List.copyOf(getItemRequests);
+    }
+
+    public void resetCounts() {
+        requestCounts.clear();
+        synchronized (this) {
+            queryRequests.clear();
+            getItemRequests.clear();
+        }
+    }
+
+    public synchronized int itemCount() {
+        return partitions.values().stream().mapToInt(Map::size).sum();
+    }
+
+    @Override
+    public String serviceName() {
+        return "dynamodb";
+    }
+
+    @Override
+    public void close() {
+        // no-op
+    }
+
+    @Override
+    public GetItemResponse getItem(GetItemRequest request) {
+        record("GetItem");
+        synchronized (this) {
+            getItemRequests.add(request);
+            Map<String, AttributeValue> item = find(request.key());
+            if (item == null) {
+                return GetItemResponse.builder().build();
+            }
+            return GetItemResponse.builder()
+                    .item(project(item, request.projectionExpression(), request.expressionAttributeNames()))
+                    .build();
+        }
+    }
+
+    @Override
+    public PutItemResponse putItem(PutItemRequest request) {
+        record("PutItem");
+        synchronized (this) {
+            if (!matches(find(request.item()), request.conditionExpression(),
+                    request.expressionAttributeNames(), request.expressionAttributeValues())) {
+                throw ConditionalCheckFailedException.builder().message("The conditional request failed").build();
+            }
+            put(request.item());
+            return PutItemResponse.builder().build();
+        }
+    }
+
+    @Override
+    public DeleteItemResponse deleteItem(DeleteItemRequest request) {
+        record("DeleteItem");
+        synchronized (this) {
+            if (!matches(find(request.key()), request.conditionExpression(),
+                    request.expressionAttributeNames(), request.expressionAttributeValues())) {
+                throw ConditionalCheckFailedException.builder().message("The conditional request failed").build();
+            }
+            delete(request.key());
+            return DeleteItemResponse.builder().build();
+        }
+    }
+
+    @Override
+    public UpdateItemResponse updateItem(UpdateItemRequest request) {
+        record("UpdateItem");
+        synchronized (this) {
+            Map<String, AttributeValue> current = find(request.key());
+            if (!matches(current, request.conditionExpression(),
+                    request.expressionAttributeNames(), request.expressionAttributeValues())) {
+                throw ConditionalCheckFailedException.builder().message("The conditional request failed").build();
+            }
+            Map<String, AttributeValue> item = new HashMap<>(current == null ? request.key() : current);
+            Matcher set = SET_EXPRESSION.matcher(request.updateExpression().trim());
+            Matcher add = ADD_EXPRESSION.matcher(request.updateExpression().trim());
+            if (set.matches()) {
+                for (String assignment : set.group(1).split(",")) {
+                    Matcher equals = EQUALS.matcher(assignment.trim());
+                    if (!equals.matches()) {
+                        throw new UnsupportedOperationException(
+                                "Unsupported update expression: " + request.updateExpression());
+                    }
+                    item.put(resolve(equals.group(1), request.expressionAttributeNames()),
+                            request.expressionAttributeValues().get(equals.group(2)));
+                }
+            } else if (add.matches()) {
+                String name = resolve(add.group(1), request.expressionAttributeNames());
+                long base = item.containsKey(name) ? Long.parseLong(item.get(name).n()) : 0;
+                long delta = Long.parseLong(request.expressionAttributeValues().get(add.group(2)).n());
+                item.put(name, AttributeValue.builder().n(String.valueOf(base + delta)).build());
+            } else {
+                throw new UnsupportedOperationException("Unsupported update expression: " + request.updateExpression());
+            }
+            put(item);
+            UpdateItemResponse.Builder response = UpdateItemResponse.builder();
+            if (request.returnValues() != null && request.returnValues() != ReturnValue.NONE) {
+                response.attributes(Map.copyOf(item));
+            }
+            return response.build();
+        }
+    }
+
+    @Override
+    public ScanResponse scan(ScanRequest request) {
+        record("Scan");
+        synchronized (this) {
+            NavigableMap<String, Map<String, AttributeValue>> table = new TreeMap<>();
+            for (NavigableMap<String, Map<String, AttributeValue>> partition : partitions.values()) {
+                for (Map<String, AttributeValue> item : partition.values()) {
+                    table.put(scanKey(item), item);
+                }
+            }
+            NavigableMap<String, Map<String, AttributeValue>> range = table;
+            if (request.hasExclusiveStartKey() && !request.exclusiveStartKey().isEmpty()) {
+                range = table.tailMap(scanKey(request.exclusiveStartKey()), false);
+            }
+
+            // Limitと1MBの上限は絞り込み前の読み込み件数に適用される
+            int pageLimit = Math.min(request.limit() == null ? Integer.MAX_VALUE : request.limit(), maxPageItems);
+            List<Map<String, AttributeValue>> items = new ArrayList<>();
+            Map<String, AttributeValue> lastItem = null;
+            int scanned = 0;
+            int bytes = 0;
+            boolean more = false;
+            for (Map<String, AttributeValue> item : range.values()) {
+                if (scanned >= pageLimit || bytes >= MAX_PAGE_BYTES) {
+                    more = true;
+                    break;
+                }
+                scanned++;
+                bytes += itemSize(item);
+                lastItem = item;
+                if (matches(item, request.filterExpression(),
+                        request.expressionAttributeNames(), request.expressionAttributeValues())) {
+                    items.add(project(item, request.projectionExpression(), request.expressionAttributeNames()));
+                }
+            }
+
+            ScanResponse.Builder response = ScanResponse.builder()
+                    .items(items)
+                    .count(items.size())
+                    .scannedCount(scanned);
+            if (more && lastItem != null) {
+                response.lastEvaluatedKey(Map.of("PK", lastItem.get("PK"), "SK", lastItem.get("SK")));
+            }
+            return response.build();
+        }
+    }
+
+    @Override
+    public BatchWriteItemResponse batchWriteItem(BatchWriteItemRequest request) {
+        record("BatchWriteItem");
+        synchronized (this) {
+            for (List<WriteRequest> writes : request.requestItems().values()) {
+                if (writes.size() > 25) {
+                    throw DynamoDbException.builder().message("Too many items in batch: " + writes.size()).build();
+                }
+                for (WriteRequest write : writes) {
+                    if (write.putRequest() != null) {
+                        put(write.putRequest().item());
+                    } else if (write.deleteRequest() != null) {
+                        delete(write.deleteRequest().key());
+                    }
+                }
+            }
+            return BatchWriteItemResponse.builder().unprocessedItems(Map.of()).build();
+        }
+    }
+
+    @Override
+    public TransactWriteItemsResponse transactWriteItems(TransactWriteItemsRequest request) {
+        record("TransactWriteItems");
+        synchronized (this) {
+            if (request.transactItems().size() > 100) {
+                throw DynamoDbException.builder()
+                        .message("Too many items in transaction: " + request.transactItems().size()).build();
+            }
+            // 全条件を評価してから書き込む（1件でも不成立なら何も書き込まない）
+            List<CancellationReason> reasons = new ArrayList<>();
+            boolean failed = false;
+            for (TransactWriteItem item : request.transactItems()) {
+                boolean ok;
+                if (item.put() != null) {
+                    Put put = item.put();
+                    ok = matches(find(put.item()), put.conditionExpression(),
+                            put.expressionAttributeNames(), put.expressionAttributeValues());
+                } else if (item.delete() != null) {
+                    Delete delete = item.delete();
+                    ok = matches(find(delete.key()), delete.conditionExpression(),
+                            delete.expressionAttributeNames(), delete.expressionAttributeValues());
+                } else if (item.conditionCheck() != null) {
+                    ConditionCheck check = item.conditionCheck();
+                    ok = matches(find(check.key()), check.conditionExpression(),
+                            check.expressionAttributeNames(), check.expressionAttributeValues());
+                } else {
+                    throw new UnsupportedOperationException("Unsupported transact item: " + item);
+                }
+                failed |= !ok;
+                reasons.add(CancellationReason.builder().code(ok ? "None" : "ConditionalCheckFailed").build());
+            }
+            if (failed) {
+                throw TransactionCanceledException.builder()
+                        .message("Transaction cancelled")
+                        .cancellationReasons(reasons)
+                        .build();
+            }
+            for (TransactWriteItem item : request.transactItems()) {
+                if (item.put() != null) {
+                    put(item.put().item());
+                } else if (item.delete() != null) {
+                    delete(item.delete().key());
+                }
+            }
+            return TransactWriteItemsResponse.builder().build();
+        }
+    }
+
+    @Override
+    public QueryResponse query(QueryRequest request) {
+        record("Query");
+        synchronized (this) {
+            queryRequests.add(request);
+
+            String index = request.indexName();
+            String hashAttribute = index == null ? "PK" : index + "PK";
+            String rangeAttribute = index == null ? "SK" : index + "SK";
+            Matcher matcher = KEY_CONDITION.matcher(request.keyConditionExpression().trim());
+            if (!matcher.matches() || !matcher.group(1).equals(hashAttribute)
+                    || !rangeAttribute.equals(matcher.group(3) == null ? rangeAttribute : matcher.group(3))
+                    || !rangeAttribute.equals(matcher.group(5) == null ? rangeAttribute : matcher.group(5))) {
+                throw new UnsupportedOperationException("Unsupported key condition: " + request.keyConditionExpression());
+            }
+            Map<String, AttributeValue> values = request.expressionAttributeValues();
+            String pk = values.get(matcher.group(2)).s();
+            String prefix = matcher.group(4) == null ? null : values.get(matcher.group(4)).s();
+            String from = matcher.group(6) == null ? null : values.get(matcher.group(6)).s();
+            String to = matcher.group(7) == null ? null : values.get(matcher.group(7)).s();
+
+            NavigableMap<String, Map<String, AttributeValue>> partition = index == null
+                    ? partitions.getOrDefault(pk, new TreeMap<>())
+                    : indexPartition(hashAttribute, rangeAttribute, pk);
+            if (from != null) {
+                // GSIの並び順キーは「範囲キー + 区切り + テーブルのキー」のため、上限側は区切りの次の文字まで含める
+                partition = index == null
+                        ? partition.subMap(from, true, to, true)
+                        : partition.subMap(from, true, to + (char) (INDEX_KEY_SEPARATOR + 1), false);
+            }
+            boolean forward = request.scanIndexForward() == null || request.scanIndexForward();
+            NavigableMap<String, Map<String, AttributeValue>> range = forward ? partition : partition.descendingMap();
+            if (request.hasExclusiveStartKey() && !request.exclusiveStartKey().isEmpty()) {
+                range = range.tailMap(sortKey(request.exclusiveStartKey(), index == null ? null : rangeAttribute), false);
+            }
+
+            int limit = request.limit() == null ? Integer.MAX_VALUE : request.limit();
+            int pageLimit = Math.min(limit, maxPageItems);
+            List<Map<String, AttributeValue>> items = new ArrayList<>();
+            Map<String, AttributeValue> lastItem = null;
+            int bytes = 0;
+            boolean more = false;
+            for (Map.Entry<String, Map<String, AttributeValue>> entry : range.entrySet()) {
+                if (prefix != null && !entry.getKey().startsWith(prefix)) {
+                    continue;
+                }
+                if (items.size() >= pageLimit || bytes >= MAX_PAGE_BYTES) {
+                    more = true;
+                    break;
+                }
+                bytes += itemSize(entry.getValue());
+                items.add(project(entry.getValue(), request.projectionExpression(), request.expressionAttributeNames()));
+                lastItem = entry.getValue();
+            }
+
+            QueryResponse.Builder response = QueryResponse.builder()
+                    .items(items)
+                    .count(items.size());
+            if (more && lastItem != null) {
+                // GSIのLastEvaluatedKeyはテーブルのキーとインデックスのキーの両方を含む
+                Map<String, AttributeValue> lastEvaluatedKey = new HashMap<>();
+                lastEvaluatedKey.put("PK", lastItem.get("PK"));
+                lastEvaluatedKey.put("SK", lastItem.get("SK"));
+                if (index != null) {
+                    lastEvaluatedKey.put(hashAttribute, lastItem.get(hashAttribute));
+                    lastEvaluatedKey.put(rangeAttribute, lastItem.get(rangeAttribute));
+                }
+                response.lastEvaluatedKey(lastEvaluatedKey);
+            }
+            return response.build();
+        }
+    }
+
+    /**
+     * GSIのパーティションを組み立てる（インデックスのキー属性を持つアイテムのみを含む疎なインデックス）
+     */
+    private NavigableMap<String, Map<String, AttributeValue>> indexPartition(String hashAttribute, String rangeAttribute,
+                                                                           String pk) {
+        NavigableMap<String, Map<String, AttributeValue>> partition = new TreeMap<>();
+        for (NavigableMap<String, Map<String, AttributeValue>> table : partitions.values()) {
+            for (Map<String, AttributeValue> item : table.values()) {
+                AttributeValue hash = item.get(hashAttribute);
+                if (hash != null && pk.equals(hash.s()) && item.containsKey(rangeAttribute)) {
+                    partition.put(sortKey(item, rangeAttribute), item);
+                }
+            }
+        }
+        return partition;
+    }
+
+    /**
+     * Query結果の並び順キー（テーブルはSK、GSIは範囲キーが同じアイテムをテーブルのキー順に並べる）
+     */
+    private static String sortKey(Map<String, AttributeValue> item, String rangeAttribute) {
+        if (rangeAttribute == null) {
+            return item.get("SK").s();
+        }
+        return item.get(rangeAttribute).s() + INDEX_KEY_SEPARATOR + item.get("PK").s()
+                + INDEX_KEY_SEPARATOR + item.get("SK").s();
+    }
+
+    /**
+     * Scan結果の並び順キー（テーブルのPK・SK順）
+     */
+    private static String scanKey(Map<String, AttributeValue> item) {
+        return item.get("PK").s() + INDEX_KEY_SEPARATOR + item.get("SK").s();
+    }
+
+    private void record(String operation) {
+        requestCounts.computeIfAbsent(operation, op -> new AtomicInteger()).incrementAndGet();
+        long latency = latencyMs.getAsLong();
+        if (latency > 0) {
+            try {
+                Thread.sleep(latency);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private Map<String, AttributeValue> find(Map<String, AttributeValue> key) {
+        NavigableMap<String, Map<String, AttributeValue>> partition = partitions.get(key.get("PK").s());
+        return partition == null ? null : partition.get(key.get("SK").s());
+    }
+
+    private void put(Map<String, AttributeValue> item) {
+        partitions.computeIfAbsent(item.get("PK").s(), pk -> new TreeMap<>())
+                .put(item.get("SK").s(), Map.copyOf(item));
+    }
+
+    private void delete(Map<String, AttributeValue> key) {
+        NavigableMap<String, Map<String, AttributeValue>> partition = partitions.get(key.get("PK").s());
+        if (partition != null) {
+            partition.remove(key.get("SK").s());
+        }
+    }
+
+    /**
+     * ANDで連結された条件式を評価する（ORや比較演算子は未対応）
+     */
+    private static boolean matches(Map<String, AttributeValue> item, String condition,
+                                   Map<String, String> names, Map<String, AttributeValue> values) {
+        if (condition == null || condition.isBlank()) {
+            return true;
+        }
+        for (String clause : condition.split("(?i)\\s+AND\\s+")) {
+            String trimmed = clause.trim();
+            Matcher function = ATTRIBUTE_FUNCTION.matcher(trimmed);
+            Matcher equals = EQUALS.matcher(trimmed);
+            if (function.matches()) {
+                boolean exists = item != null && item.containsKey(resolve(function.group(2), names));
+                if (exists != function.group(1).equals("attribute_exists")) {
+                    return false;
+                }
+            } else if (equals.matches()) {
+                AttributeValue actual = item == null ? null : item.get(resolve(equals.group(1), names));
+                if (actual == null || !actual.equals(values.get(equals.group(2)))) {
+                    return false;
+                }
+            } else {
+                throw new UnsupportedOperationException("Unsupported condition: " + trimmed);
+            }
+        }
+        return true;
+    }
+
+    private static String resolve(String name, Map<String, String> names) {
+        return name.startsWith("#") ? names.get(name) : name;
+    }
+
+    private static Map<String, AttributeValue> project(Map<String, AttributeValue> item, String projection,
+                                                       Map<String, String> names) {
+        if (projection == null || projection.isBlank()) {
+            return item;
+        }
+        Map<String, AttributeValue> projected = new HashMap<>();
+        for (String token : projection.split(",")) {
+            String name = token.trim();
+            if (name.startsWith("#")) {
+                name = names.get(name);
+            }
+            AttributeValue value = item.get(name);
+            if (value != null) {
+                projected.put(name, value);
+            }
+        }
+        return projected;
+    }
+
+    /**
+     * DynamoDBのアイテムサイズ計算（属性名＋値のバイト数）の近似
+     */
+    public static int itemSize(Map<String, AttributeValue> item) {
+        int size = 0;
+        for (Map.Entry<String, AttributeValue> entry : item.entrySet()) {
+            size += entry.getKey().getBytes(StandardCharsets.UTF_8).length;
+            AttributeValue value = entry.getValue();
+            if (value.s() != null) {
+                size += value.s().getBytes(StandardCharsets.UTF_8).length;
+            } else if (value.n() != null) {
+                size += value.n().length();
+            } else if (value.b() != null) {
+                size += value.b().asByteArray().length;
+            } else {
+                size += 1;
+            }
+        }
+        return size;
+    }
+}
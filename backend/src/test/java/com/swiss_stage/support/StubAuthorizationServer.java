@@ -0,0 +1,166 @@
+package com.swiss_stage.support;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * テスト用の認可サーバー（Googleの代わり）
+ * ローカルのポートで公開鍵セット（/jwks）とUserInfo（/userinfo）を返し、ID Tokenを署名して発行する
+ *
+ * - withLatency: 応答ごとの待機時間（ネットワークの往復の模擬）
+ * - rotateKey: 署名鍵を新しい鍵IDの鍵に切り替える（公開鍵セットには新旧両方を載せる）
+ * - requestCount: パスごとの呼び出し回数
+ */
+public class StubAuthorizationServer implements AutoCloseable {
+
+    public static final String ISSUER = "https://accounts.google.com";
+
+    private final HttpServer server;
+    private final Map<String, AtomicInteger> requestCounts = new ConcurrentHashMap<>();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private volatile RSAKey signingKey;
+    private volatile JWKSet jwkSet;
+    private volatile long latencyMs;
+
+    public StubAuthorizationServer() throws IOException {
+        this.signingKey = generateKey();
+        this.jwkSet = new JWKSet(signingKey.toPublicJWK());
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/jwks", exchange -> respond(exchange, jwkSet.toString()));
+        server.createContext("/userinfo", exchange -> respond(exchange,
+                "{\"sub\":\"google-1\",\"email\":\"player@example.com\",\"name\":\"対局者\"}"));
+        server.start();
+    }
+
+    public StubAuthorizationServer withLatency(long latencyMs) {
+        this.latencyMs = latencyMs;
+        return this;
+    }
+
+    public String url(String path) {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+    }
+
+    public int requestCount(String path) {
+        AtomicInteger count = requestCounts.get(path);
+        return count == null ? 0 : count.get();
+    }
+
+    /**
+     * この認可サーバーを指すGoogleのクライアント登録
+     *
+     * @param clientId クライアントID
+     * @return クライアント登録
+     */
+    public ClientRegistration clientRegistration(String clientId) {
+        return ClientRegistration.withRegistrationId("google")
+                .clientId(clientId)
+                .clientSecret("client-secret")
+                .authorizationGrantType(AuthorizationGrantType.AUTHORIZATION_CODE)
+                .redirectUri("{baseUrl}/login/oauth2/code/{registrationId}")
+                .scope("openid", "email", "profile")
+                .authorizationUri(url("/authorize"))
+                .tokenUri(url("/token"))
+                .jwkSetUri(url("/jwks"))
+                .userInfoUri(url("/userinfo"))
+                .userNameAttributeName("sub")
+                .build();
+    }
+
+    /**
+     * 署名鍵を新しい鍵に切り替える
+     */
+    public void rotateKey() {
+        RSAKey next = generateKey();
+        jwkSet = new JWKSet(List.<JWK>of(next.toPublicJWK(), signingKey.toPublicJWK()));
+        signingKey = next;
+    }
+
+    /**
+     * ID Tokenを発行する
+     *
+     * @param issuer 発行者（iss）
+     * @param audience 対象（aud、クライアントID）
+     * @return 署名済みのID Token
+     */
+    public String idToken(String issuer, String audience) {
+        Instant now = Instant.now();
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .issuer(issuer)
+                .subject("google-1")
+                .audience(audience)
+                .issueTime(Date.from(now))
+                .expirationTime(Date.from(now.plusSeconds(3600)))
+                .claim("email", "player@example.com")
+                .claim("email_verified", true)
+                .claim("name", "対局者")
+                .build();
+        SignedJWT jwt = new SignedJWT(
+                new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(signingKey.getKeyID()).build(), claims);
+        try {
+            jwt.sign(new RSASSASigner(signingKey));
+        } catch (JOSEException e) {
+            throw new IllegalStateException(e);
+        }
+        return jwt.serialize();
+    }
+
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            server.stop(0);
+        }
+    }
+
+    private void respond(HttpExchange exchange, String body) throws IOException {
+        requestCounts.computeIfAbsent(exchange.getRequestURI().getPath(), path -> new AtomicInteger()).incrementAndGet();
+        if (latencyMs > 0) {
+            try {
+                Thread.sleep(latencyMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(bytes);
+        }
+    }
+
+    private static RSAKey generateKey() {
+        try {
+            return new RSAKeyGenerator(2048).keyID(UUID.randomUUID().toString()).generate();
+        } catch (JOSEException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
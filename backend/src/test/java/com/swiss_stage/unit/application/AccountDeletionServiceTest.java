@@ -0,0 +1,184 @@
+package com.swiss_stage.unit.application;
+
+import com.swiss_stage.application.dto.AccountDeletionDto;
+import com.swiss_stage.application.service.AccountDeletionService;
+import com.swiss_stage.domain.model.AccountDeletion;
+import com.swiss_stage.domain.model.Participant;
+import com.swiss_stage.domain.model.Tournament;
+import com.swiss_stage.domain.model.User;
+import com.swiss_stage.infrastructure.dynamodb.GetItemHedger;
+import com.swiss_stage.infrastructure.repository.DynamoDbAccountDeletionRepository;
+import com.swiss_stage.infrastructure.repository.DynamoDbParticipantRepository;
+import com.swiss_stage.infrastructure.repository.DynamoDbTournamentRepository;
+import com.swiss_stage.infrastructure.repository.DynamoDbUserRepository;
+import com.swiss_stage.support.InMemoryDynamoDbClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AccountDeletionServiceのユニットテスト
+ * インメモリのDynamoDbClientに実際のリポジトリを組み合わせ、バックグラウンドの削除ジョブの結果と進捗を検証する
+ */
+class AccountDeletionServiceTest {
+
+    private static final String TABLE_NAME = "swiss_stage_table";
+
+    private InMemoryDynamoDbClient dynamoDbClient;
+    private DynamoDbTournamentRepository tournamentRepository;
+    private DynamoDbUserRepository userRepository;
+    private DynamoDbAccountDeletionRepository accountDeletionRepository;
+    private AccountDeletionService service;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        dynamoDbClient = new InMemoryDynamoDbClient();
+        tournamentRepository = new DynamoDbTournamentRepository(dynamoDbClient, TABLE_NAME);
+        GetItemHedger hedger = new GetItemHedger(dynamoDbClient, false, 0.95, Duration.ZERO, 0, 0,
+                new SimpleMeterRegistry());
+        userRepository = new DynamoDbUserRepository(dynamoDbClient, hedger, TABLE_NAME);
+        accountDeletionRepository = new DynamoDbAccountDeletionRepository(dynamoDbClient, TABLE_NAME);
+        service = new AccountDeletionService(userRepository, tournamentRepository, accountDeletionRepository, 4, 300);
+
+        user = User.create(UUID.randomUUID(), "google-1", "organizer@example.com", "主催者");
+        userRepository.save(user);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void start_正常系_主催したトーナメントとユーザーをバックグラウンドで削除する() throws InterruptedException {
+        // Arrange: 参加者60人のトーナメント2件（各61アイテム）と、他のユーザーのトーナメント1件
+        seedTournament(user.getUserId(), 60);
+        seedTournament(user.getUserId(), 60);
+        Tournament others = seedTournament(UUID.randomUUID(), 10);
+
+        // Act
+        AccountDeletionDto started = service.start(user.getUserId());
+        AccountDeletionDto finished = awaitFinished(user.getUserId());
+
+        // Assert
+        assertEquals(AccountDeletion.Status.RUNNING, started.status());
+        assertEquals(2, started.tournamentCount());
+        assertEquals(AccountDeletion.Status.COMPLETED, finished.status());
+        assertEquals(2, finished.deletedTournamentCount());
+        assertEquals(61 * 2 + 1, finished.deletedItemCount());
+        assertTrue(userRepository.findById(user.getUserId()).isEmpty());
+        assertTrue(tournamentRepository.findTournamentIdsByOrganizer(user.getUserId()).isEmpty());
+        assertTrue(tournamentRepository.findById(others.getTournamentId()).isPresent());
+        // 残るのは他のユーザーのトーナメント（11アイテム）と削除ジョブの進捗のみ
+        assertEquals(11 + 1, dynamoDbClient.itemCount());
+    }
+
+    @Test
+    void start_実行中_新しいジョブを開始せず進捗を返す() throws InterruptedException {
+        // Arrange
+        seedTournament(user.getUserId(), 60);
+        dynamoDbClient.withLatency(20);
+        AccountDeletionDto first = service.start(user.getUserId());
+
+        // Act
+        AccountDeletionDto second = service.start(user.getUserId());
+
+        // Assert
+        assertEquals(first.startedAt(), second.startedAt());
+        assertEquals(AccountDeletion.Status.RUNNING, second.status());
+        assertEquals(AccountDeletion.Status.COMPLETED, awaitFinished(user.getUserId()).status());
+    }
+
+    @Test
+    void start_失敗したジョブ_残っているデータから削除をやり直す() throws InterruptedException {
+        // Arrange
+        seedTournament(user.getUserId(), 10);
+        Instant failedAt = Instant.now().minusSeconds(60);
+        accountDeletionRepository.save(AccountDeletion.start(user.getUserId(), 3, failedAt).fail(failedAt));
+
+        // Act
+        AccountDeletionDto restarted = service.start(user.getUserId());
+
+        // Assert
+        assertEquals(AccountDeletion.Status.RUNNING, restarted.status());
+        assertEquals(1, restarted.tournamentCount());
+        assertEquals(AccountDeletion.Status.COMPLETED, awaitFinished(user.getUserId()).status());
+    }
+
+    @Test
+    void start_削除中に追加されたトーナメント_ユーザーの削除前に一覧し直して削除する() throws InterruptedException {
+        // Arrange: 1件目の削除に時間がかかる間に、主催者のトーナメントが追加される
+        seedTournament(user.getUserId(), 120);
+        dynamoDbClient.withLatency(20);
+        AccountDeletionDto started = service.start(user.getUserId());
+        Tournament added = seedTournament(user.getUserId(), 10);
+
+        // Act
+        AccountDeletionDto finished = awaitFinished(user.getUserId());
+
+        // Assert
+        assertEquals(1, started.tournamentCount());
+        assertEquals(AccountDeletion.Status.COMPLETED, finished.status());
+        assertEquals(2, finished.tournamentCount());
+        assertEquals(2, finished.deletedTournamentCount());
+        assertTrue(tournamentRepository.findById(added.getTournamentId()).isEmpty());
+        assertTrue(userRepository.findById(user.getUserId()).isEmpty());
+    }
+
+    @Test
+    void isInProgress_実行中のみtrueを返す() throws InterruptedException {
+        // Arrange
+        seedTournament(user.getUserId(), 60);
+        dynamoDbClient.withLatency(20);
+        assertFalse(service.isInProgress(user.getUserId()));
+
+        // Act
+        service.start(user.getUserId());
+        boolean running = service.isInProgress(user.getUserId());
+        awaitFinished(user.getUserId());
+
+        // Assert
+        assertTrue(running);
+        assertFalse(service.isInProgress(user.getUserId()));
+    }
+
+    private Tournament seedTournament(UUID organizerId, int participantCount) {
+        Tournament tournament = Tournament.create(UUID.randomUUID(), organizerId, "大会", 1, 2,
+                LocalDate.of(2026, 3, 20));
+        tournament.finish();
+        tournamentRepository.save(tournament);
+        DynamoDbParticipantRepository participantRepository = new DynamoDbParticipantRepository(dynamoDbClient,
+                TABLE_NAME);
+        List<Participant> participants = new ArrayList<>();
+        for (int i = 1; i <= participantCount; i++) {
+            participants.add(Participant.create(tournament.getTournamentId(), i, "参加者" + i, null, null, 1));
+        }
+        for (int from = 0; from < participants.size(); from += 25) {
+            participantRepository.saveBatch(participants.subList(from, Math.min(from + 25, participants.size())));
+        }
+        return tournament;
+    }
+
+    private AccountDeletionDto awaitFinished(UUID userId) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (System.nanoTime() < deadline) {
+            AccountDeletionDto status = service.findStatus(userId).orElseThrow();
+            if (status.status() != AccountDeletion.Status.RUNNING) {
+                return status;
+            }
+            Thread.sleep(10);
+        }
+        return fail("Account deletion did not finish");
+    }
+}
@@ -0,0 +1,103 @@
+package com.swiss_stage.unit.application;
+
+import com.swiss_stage.application.service.IdempotencyService;
+import com.swiss_stage.application.service.IdempotencyService.Decision;
+import com.swiss_stage.infrastructure.repository.DynamoDbIdempotencyRepository;
+import com.swiss_stage.support.InMemoryDynamoDbClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * IdempotencyServiceのユニットテスト
+ * 同じインメモリのDynamoDbClientを共有する2ノードで、ノード内の記録とDynamoDBの記録の使い分けを検証する
+ */
+class IdempotencyServiceTest {
+
+    private static final String TABLE_NAME = "swiss_stage_table";
+    private static final String USER = "user-1";
+    private static final String KEY = "key-1";
+    private static final byte[] BODY = "{\"status\":\"ok\"}".getBytes(StandardCharsets.UTF_8);
+
+    private InMemoryDynamoDbClient dynamoDbClient;
+    private DynamoDbIdempotencyRepository repository;
+    private IdempotencyService service;
+
+    @BeforeEach
+    void setUp() {
+        dynamoDbClient = new InMemoryDynamoDbClient();
+        repository = new DynamoDbIdempotencyRepository(dynamoDbClient, TABLE_NAME);
+        service = new IdempotencyService(repository, 86_400, 60, 100);
+    }
+
+    @Test
+    void begin_AfterComplete_ReplaysFromMemoryWithoutDynamoDbAccess() {
+        assertInstanceOf(Decision.Proceed.class, service.begin(USER, KEY, "fp"));
+        service.complete(USER, KEY, "fp", 200, "application/json", BODY);
+        dynamoDbClient.resetCounts();
+
+        Decision decision = service.begin(USER, KEY, "fp");
+
+        Decision.Replay replay = assertInstanceOf(Decision.Replay.class, decision);
+        assertEquals(200, replay.record().responseStatus());
+        assertEquals("application/json", replay.record().contentType());
+        assertArrayEquals(BODY, replay.record().responseBody());
+        assertEquals(0, dynamoDbClient.requestCount("GetItem") + dynamoDbClient.requestCount("PutItem"));
+    }
+
+    @Test
+    void begin_OnAnotherNode_ReplaysStoredResponse() {
+        service.begin(USER, KEY, "fp");
+        service.complete(USER, KEY, "fp", 201, "application/json", BODY);
+        IdempotencyService otherNode = new IdempotencyService(repository, 86_400, 60, 100);
+
+        Decision decision = otherNode.begin(USER, KEY, "fp");
+
+        Decision.Replay replay = assertInstanceOf(Decision.Replay.class, decision);
+        assertEquals(201, replay.record().responseStatus());
+        assertArrayEquals(BODY, replay.record().responseBody());
+    }
+
+    @Test
+    void begin_WithDifferentFingerprint_ReturnsMismatch() {
+        service.begin(USER, KEY, "fp");
+        service.complete(USER, KEY, "fp", 200, "application/json", BODY);
+
+        assertInstanceOf(Decision.Mismatch.class, service.begin(USER, KEY, "other"));
+    }
+
+    @Test
+    void begin_WhileInProgress_ReturnsInProgress() {
+        service.begin(USER, KEY, "fp");
+        IdempotencyService otherNode = new IdempotencyService(repository, 86_400, 60, 100);
+
+        assertInstanceOf(Decision.InProgress.class, otherNode.begin(USER, KEY, "fp"));
+    }
+
+    @Test
+    void begin_AfterInProgressTimeout_TakesOverReservation() {
+        IdempotencyService crashedNode = new IdempotencyService(repository, 86_400, 0, 100);
+        crashedNode.begin(USER, KEY, "fp");
+
+        assertInstanceOf(Decision.Proceed.class, service.begin(USER, KEY, "fp"));
+    }
+
+    @Test
+    void begin_AfterAbandon_ProceedsAgain() {
+        service.begin(USER, KEY, "fp");
+        service.abandon(USER, KEY);
+
+        assertInstanceOf(Decision.Proceed.class, service.begin(USER, KEY, "fp"));
+    }
+
+    @Test
+    void begin_WithSameKeyForAnotherUser_IsIndependent() {
+        service.begin(USER, KEY, "fp");
+        service.complete(USER, KEY, "fp", 200, "application/json", BODY);
+
+        assertInstanceOf(Decision.Proceed.class, service.begin("user-2", KEY, "fp"));
+    }
+}
@@ -0,0 +1,288 @@
+package com.swiss_stage.unit.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.swiss_stage.application.dto.BulkResultItem;
+import com.swiss_stage.application.dto.BulkResultOutcome;
+import com.swiss_stage.application.dto.BulkResultResponse;
+import com.swiss_stage.application.dto.MatchDto;
+import com.swiss_stage.application.dto.StandingDto;
+import com.swiss_stage.application.event.TournamentStateChangedEvent;
+import com.swiss_stage.application.service.MatchResultService;
+import com.swiss_stage.application.service.TournamentJournalService;
+import com.swiss_stage.application.service.TournamentStateService;
+import com.swiss_stage.common.exception.ConflictException;
+import com.swiss_stage.domain.model.Match;
+import com.swiss_stage.domain.model.MatchResult;
+import com.swiss_stage.domain.model.Participant;
+import com.swiss_stage.domain.model.Round;
+import com.swiss_stage.domain.model.Tournament;
+import com.swiss_stage.domain.model.TournamentState;
+import com.swiss_stage.infrastructure.repository.DynamoDbParticipantRepository;
+import com.swiss_stage.infrastructure.repository.DynamoDbTournamentJournalRepository;
+import com.swiss_stage.infrastructure.repository.DynamoDbTournamentRepository;
+import com.swiss_stage.support.InMemoryDynamoDbClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MatchResultServiceのユニットテスト
+ * インメモリのDynamoDbClientと実際のリポジトリで、同時入力時の楽観ロックと一括入力を検証する
+ * TDD: Red-Green-Refactor
+ */
+class MatchResultServiceTest {
+
+    private static final int WRITERS = 20;
+    private static final int PARTICIPANTS = 300;
+
+    private InMemoryDynamoDbClient dynamoDbClient;
+    private DynamoDbTournamentRepository repository;
+    private TournamentJournalService journalService;
+    private MatchResultService service;
+    private final List<TournamentStateChangedEvent> published = new CopyOnWriteArrayList<>();
+    private final List<Participant> participants = new ArrayList<>();
+    private Tournament tournament;
+    private UUID tournamentId;
+
+    @BeforeEach
+    void setUp() {
+        dynamoDbClient = new InMemoryDynamoDbClient();
+        repository = new DynamoDbTournamentRepository(dynamoDbClient, "swiss_stage_table");
+        DynamoDbTournamentJournalRepository journalRepository = new DynamoDbTournamentJournalRepository(
+                dynamoDbClient, "swiss_stage_table", new ObjectMapper());
+        journalService = new TournamentJournalService(journalRepository, 1_000);
+        TournamentStateService stateService = new TournamentStateService(repository, journalRepository,
+                event -> published.add((TournamentStateChangedEvent) event), new SimpleMeterRegistry(), 1_000);
+        // 20名が同時に同じ回戦アイテムを更新するため、試行回数に余裕を持たせる
+        service = new MatchResultService(repository, journalService, stateService, 100);
+
+        tournament = Tournament.create(UUID.randomUUID(), UUID.randomUUID(), "秋季大会", 1, 3,
+                LocalDate.of(2026, 10, 12));
+        tournamentId = tournament.getTournamentId();
+        DynamoDbParticipantRepository participantRepository =
+                new DynamoDbParticipantRepository(dynamoDbClient, "swiss_stage_table");
+        for (int i = 1; i <= PARTICIPANTS; i++) {
+            participants.add(Participant.create(tournamentId, i, "参加者" + i, null, null, 1));
+        }
+        for (int from = 0; from < PARTICIPANTS; from += 25) {
+            participantRepository.saveBatch(participants.subList(from, from + 25));
+        }
+        tournament.startNextRound();
+        repository.save(tournament);
+        pairRound(1, WRITERS);
+    }
+
+    @Test
+    void recordResult_正常系_20名が別々の対局を同時入力しても更新が失われない() throws Exception {
+        // Act
+        List<Future<MatchDto>> futures = runConcurrently(writer ->
+                service.recordResult(tournamentId, 1, 1, writer + 1, MatchResult.BLACK_WIN, null));
+
+        // Assert
+        for (Future<MatchDto> future : futures) {
+            assertEquals("BLACK_WIN", future.get().result());
+        }
+        Round round = repository.findRound(tournamentId, 1).orElseThrow();
+        assertEquals(WRITERS, round.completedMatchCount());
+        assertTrue(repository.findMatchesByRound(tournamentId, 1).stream().allMatch(Match::hasResult));
+
+        // 結果入力イベントが欠番・重複なく記録されている
+        TournamentState state = journalService.rebuild(tournamentId);
+        assertEquals(WRITERS, state.sequence());
+    }
+
+    @Test
+    void recordResult_正常系_同じ対局に同じ結果を同時入力した場合は全員成功する() throws Exception {
+        // Act
+        List<Future<MatchDto>> futures = runConcurrently(writer ->
+                service.recordResult(tournamentId, 1, 1, 1, MatchResult.DRAW, null));
+
+        // Assert
+        for (Future<MatchDto> future : futures) {
+            assertEquals("DRAW", future.get().result());
+        }
+        assertEquals(1, repository.findRound(tournamentId, 1).orElseThrow().completedMatchCount());
+    }
+
+    @Test
+    void recordResult_異常系_同じ対局に異なる結果を同時入力した場合は競合として拒否する() throws Exception {
+        // Act: 偶数番は先手勝ち、奇数番は後手勝ちを同じバージョンから入力
+        long version = repository.findMatch(tournamentId, 1, 1, 1).orElseThrow().version();
+        List<Future<MatchDto>> futures = runConcurrently(writer ->
+                service.recordResult(tournamentId, 1, 1, 1,
+                        writer % 2 == 0 ? MatchResult.BLACK_WIN : MatchResult.WHITE_WIN, version));
+
+        // Assert: 勝った側と同じ結果の入力は成功、異なる結果の入力は409
+        MatchResult stored = repository.findMatch(tournamentId, 1, 1, 1).orElseThrow().result();
+        int succeeded = 0;
+        int conflicted = 0;
+        for (int writer = 0; writer < WRITERS; writer++) {
+            MatchResult requested = writer % 2 == 0 ? MatchResult.BLACK_WIN : MatchResult.WHITE_WIN;
+            try {
+                futures.get(writer).get();
+                assertEquals(stored, requested);
+                succeeded++;
+            } catch (ExecutionException e) {
+                assertInstanceOf(ConflictException.class, e.getCause());
+                assertNotEquals(stored, requested);
+                conflicted++;
+            }
+        }
+        assertEquals(WRITERS / 2, succeeded);
+        assertEquals(WRITERS / 2, conflicted);
+        assertEquals(1, repository.findRound(tournamentId, 1).orElseThrow().completedMatchCount());
+    }
+
+    @Test
+    void recordResult_正常系_バージョン指定で結果を修正できる() {
+        // Arrange
+        MatchDto first = service.recordResult(tournamentId, 1, 1, 1, MatchResult.BLACK_WIN, null);
+
+        // Act
+        MatchDto corrected = service.recordResult(tournamentId, 1, 1, 1, MatchResult.WHITE_WIN, first.version());
+
+        // Assert
+        assertEquals("WHITE_WIN", corrected.result());
+        assertEquals(first.version() + 1, corrected.version());
+        assertEquals(1, repository.findRound(tournamentId, 1).orElseThrow().completedMatchCount());
+        assertEquals(2, journalService.rebuild(tournamentId).sequence());
+    }
+
+    @Test
+    void recordResult_異常系_バージョン指定なしで別の結果は上書きできない() {
+        // Arrange
+        service.recordResult(tournamentId, 1, 1, 1, MatchResult.BLACK_WIN, null);
+
+        // Act & Assert
+        assertThrows(ConflictException.class,
+                () -> service.recordResult(tournamentId, 1, 1, 1, MatchResult.WHITE_WIN, null));
+    }
+
+    @Test
+    void recordResults_正常系_150件を上限内のトランザクションにまとめ順位表は1回だけ更新する() {
+        // Arrange
+        pairRound(2, PARTICIPANTS / 2);
+        List<BulkResultItem> items = new ArrayList<>();
+        for (int table = 1; table <= PARTICIPANTS / 2; table++) {
+            items.add(new BulkResultItem(1, table, table % 10 == 0 ? "DRAW" : "BLACK_WIN", null));
+        }
+        dynamoDbClient.resetCounts();
+        published.clear();
+
+        // Act
+        BulkResultResponse response = service.recordResults(tournamentId, 2, items);
+
+        // Assert: 45件ずつ4トランザクション（対局・イベント各45件＋回戦＋対戦済み行列）
+        assertEquals(150, response.savedCount());
+        assertEquals(0, response.failedCount());
+        assertTrue(response.outcomes().stream().allMatch(o -> o.status() == BulkResultOutcome.Status.SAVED));
+        assertEquals(4, dynamoDbClient.requestCount("TransactWriteItems"));
+        assertEquals(0, dynamoDbClient.requestCount("PutItem"));
+        assertEquals(150, repository.findRound(tournamentId, 2).orElseThrow().completedMatchCount());
+        assertEquals(150, journalService.rebuild(tournamentId).sequence());
+        assertTrue(repository.findOpponentMatrix(tournamentId, 1).orElseThrow().hasPlayed(
+                participants.get(298).participantId(), participants.get(299).participantId()));
+
+        assertEquals(1, published.size());
+        List<StandingDto> standings = published.get(0).state().standings();
+        assertEquals(PARTICIPANTS, standings.size());
+        assertEquals(1.0, standings.get(0).points());
+        assertEquals(150, published.get(0).state().version());
+    }
+
+    @Test
+    void recordResults_正常系_1件ごとの処理結果をリクエスト順に返す() {
+        // Arrange
+        service.recordResult(tournamentId, 1, 1, 3, MatchResult.BLACK_WIN, null);
+        service.recordResult(tournamentId, 1, 1, 4, MatchResult.DRAW, null);
+        List<BulkResultItem> items = List.of(
+                new BulkResultItem(1, 1, "BLACK_WIN", null),
+                new BulkResultItem(1, 2, "UNKNOWN", null),
+                new BulkResultItem(1, 1, "WHITE_WIN", null),
+                new BulkResultItem(1, 3, "WHITE_WIN", null),
+                new BulkResultItem(1, 4, "DRAW", null),
+                new BulkResultItem(1, 99, "DRAW", null),
+                new BulkResultItem(1, 5, "BYE", null));
+
+        // Act
+        BulkResultResponse response = service.recordResults(tournamentId, 1, items);
+
+        // Assert
+        List<BulkResultOutcome.Status> statuses = response.outcomes().stream().map(BulkResultOutcome::status).toList();
+        assertEquals(List.of(
+                BulkResultOutcome.Status.SAVED,
+                BulkResultOutcome.Status.INVALID,
+                BulkResultOutcome.Status.INVALID,
+                BulkResultOutcome.Status.CONFLICT,
+                BulkResultOutcome.Status.UNCHANGED,
+                BulkResultOutcome.Status.NOT_FOUND,
+                BulkResultOutcome.Status.INVALID), statuses);
+        assertEquals(2, response.savedCount());
+        assertEquals(5, response.failedCount());
+        assertEquals(MatchResult.BLACK_WIN, repository.findMatch(tournamentId, 1, 1, 3).orElseThrow().result());
+        assertEquals(3, repository.findRound(tournamentId, 1).orElseThrow().completedMatchCount());
+    }
+
+    /**
+     * 回戦の組合せを登録（参加者を先頭から2名ずつ対戦させる）
+     */
+    private void pairRound(int roundNumber, int tables) {
+        List<Match> matches = new ArrayList<>();
+        for (int table = 1; table <= tables; table++) {
+            matches.add(Match.paired(tournamentId, roundNumber, 1, table,
+                    participants.get((table - 1) * 2).participantId(),
+                    participants.get((table - 1) * 2 + 1).participantId()));
+        }
+        repository.saveMatches(matches);
+        repository.saveRound(Round.paired(tournamentId, roundNumber, tables));
+    }
+
+    /**
+     * WRITERS個のタスクを同時に開始し、Futureを書き込み者の番号順に返す
+     */
+    private List<Future<MatchDto>> runConcurrently(WriterTask task) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<MatchDto>> futures = new ArrayList<>();
+        try {
+            for (int writer = 0; writer < WRITERS; writer++) {
+                int id = writer;
+                Callable<MatchDto> callable = () -> {
+                    start.await();
+                    return task.run(id);
+                };
+                futures.add(executor.submit(callable));
+            }
+            start.countDown();
+            for (Future<MatchDto> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException ignored) {
+                    // 各テストで検証する
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+        return futures;
+    }
+
+    @FunctionalInterface
+    private interface WriterTask {
+        MatchDto run(int writer);
+    }
+}
@@ -0,0 +1,241 @@
+package com.swiss_stage.unit.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.swiss_stage.application.dto.BulkResultItem;
+import com.swiss_stage.application.dto.MatchDto;
+import com.swiss_stage.application.service.MatchResultService;
+import com.swiss_stage.application.service.PairingService;
+import com.swiss_stage.application.service.TournamentJournalService;
+import com.swiss_stage.application.service.TournamentStateService;
+import com.swiss_stage.common.exception.BusinessException;
+import com.swiss_stage.common.exception.ConflictException;
+import com.swiss_stage.domain.model.Match;
+import com.swiss_stage.domain.model.OpponentMatrix;
+import com.swiss_stage.domain.model.Participant;
+import com.swiss_stage.domain.model.Round;
+import com.swiss_stage.domain.model.RoundStatus;
+import com.swiss_stage.domain.model.Tournament;
+import com.swiss_stage.infrastructure.repository.DynamoDbParticipantRepository;
+import com.swiss_stage.infrastructure.repository.DynamoDbTournamentJournalRepository;
+import com.swiss_stage.infrastructure.repository.DynamoDbTournamentRepository;
+import com.swiss_stage.support.InMemoryDynamoDbClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PairingServiceのユニットテスト
+ * インメモリのDynamoDbClientと実際のリポジトリで、対戦済み行列を使った組合せ作成を検証する
+ */
+class PairingServiceTest {
+
+    private static final String TABLE_NAME = "swiss_stage_table";
+
+    private InMemoryDynamoDbClient dynamoDbClient;
+    private DynamoDbTournamentRepository repository;
+    private TournamentJournalService journalService;
+    private PairingService pairingService;
+    private MatchResultService matchResultService;
+    private UUID tournamentId;
+
+    @BeforeEach
+    void setUp() {
+        dynamoDbClient = new InMemoryDynamoDbClient();
+        repository = new DynamoDbTournamentRepository(dynamoDbClient, TABLE_NAME);
+        DynamoDbTournamentJournalRepository journalRepository = new DynamoDbTournamentJournalRepository(
+                dynamoDbClient, TABLE_NAME, new ObjectMapper());
+        journalService = new TournamentJournalService(journalRepository, 1_000);
+        TournamentStateService stateService = new TournamentStateService(repository, journalRepository,
+                event -> { }, new SimpleMeterRegistry(), 1_000);
+        pairingService = new PairingService(repository, journalService, stateService);
+        matchResultService = new MatchResultService(repository, journalService, stateService, 10);
+
+        Tournament tournament = Tournament.create(UUID.randomUUID(), UUID.randomUUID(), "秋季大会", 2, 3,
+                LocalDate.of(2026, 10, 12));
+        tournamentId = tournament.getTournamentId();
+        repository.save(tournament);
+
+        // グループ1は奇数（9名）、グループ2は偶数（8名）
+        List<Participant> participants = new ArrayList<>();
+        for (int i = 1; i <= 17; i++) {
+            participants.add(Participant.create(tournamentId, i, "参加者" + i, null, null, i <= 9 ? 1 : 2));
+        }
+        new DynamoDbParticipantRepository(dynamoDbClient, TABLE_NAME).saveBatch(participants);
+    }
+
+    @AfterEach
+    void tearDown() {
+        journalService.shutdown();
+    }
+
+    @Test
+    void pairNextRound_正常系_全回戦で同じ相手との再戦がない() {
+        Set<String> pairs = new HashSet<>();
+        for (int round = 1; round <= 3; round++) {
+            // Act
+            List<MatchDto> matches = pairingService.pairNextRound(tournamentId);
+
+            // Assert
+            assertEquals(9, matches.size());
+            for (MatchDto match : matches) {
+                assertEquals(round, match.roundNumber());
+                if (match.whiteParticipantId() != null) {
+                    assertTrue(pairs.add(pairKey(match.blackParticipantId(), match.whiteParticipantId())),
+                            "Rematch in round " + round);
+                }
+            }
+            completeRound(round, matches);
+        }
+        assertEquals(3, repository.findById(tournamentId).orElseThrow().getCurrentRound());
+    }
+
+    @Test
+    void pairNextRound_正常系_対戦済み行列を作成し結果入力で差分更新される() {
+        // Act
+        List<MatchDto> matches = pairingService.pairNextRound(tournamentId);
+
+        // Assert: 組合せ確定時に全グループの行列を作成（まだ対戦済みはない）
+        List<OpponentMatrix> created = repository.findOpponentMatrices(tournamentId);
+        assertEquals(2, created.size());
+        assertEquals(9, created.get(0).size());
+        assertEquals(8, created.get(1).size());
+
+        MatchDto first = matches.get(0);
+        completeRound(1, matches);
+        OpponentMatrix updated = repository.findOpponentMatrix(tournamentId, first.groupNumber()).orElseThrow();
+        assertTrue(updated.hasPlayed(first.blackParticipantId(), first.whiteParticipantId()));
+        assertTrue(updated.getVersion() > created.get(0).getVersion());
+    }
+
+    @Test
+    void pairNextRound_異常系_前の回戦が未完了の場合は組合せを作成しない() {
+        // Arrange
+        pairingService.pairNextRound(tournamentId);
+
+        // Act & Assert
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> pairingService.pairNextRound(tournamentId));
+        assertEquals("ROUND_NOT_COMPLETED", exception.getErrorCode());
+        assertEquals(1, repository.findById(tournamentId).orElseThrow().getCurrentRound());
+    }
+
+    @Test
+    void pairNextRound_並行_予約を取れなかった操作者は対局を書き込まない() throws Exception {
+        // Arrange: 両方の操作者が回戦の未作成を確認してから予約へ進むようにする
+        CountDownLatch bothChecked = new CountDownLatch(2);
+        DynamoDbTournamentRepository racingRepository = new DynamoDbTournamentRepository(dynamoDbClient, TABLE_NAME) {
+            @Override
+            public Optional<Round> findRound(UUID id, int roundNumber) {
+                Optional<Round> round = super.findRound(id, roundNumber);
+                bothChecked.countDown();
+                try {
+                    bothChecked.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return round;
+            }
+        };
+        TournamentStateService stateService = new TournamentStateService(racingRepository,
+                new DynamoDbTournamentJournalRepository(dynamoDbClient, TABLE_NAME, new ObjectMapper()),
+                event -> { }, new SimpleMeterRegistry(), 1_000);
+        PairingService racingService = new PairingService(racingRepository, journalService, stateService);
+        dynamoDbClient.withLatency(5);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // Act
+        List<Future<List<MatchDto>>> futures = List.of(
+                executor.submit(() -> racingService.pairNextRound(tournamentId)),
+                executor.submit(() -> racingService.pairNextRound(tournamentId)));
+        List<List<MatchDto>> succeeded = new ArrayList<>();
+        int conflicts = 0;
+        for (Future<List<MatchDto>> future : futures) {
+            try {
+                succeeded.add(future.get(10, TimeUnit.SECONDS));
+            } catch (ExecutionException e) {
+                assertInstanceOf(ConflictException.class, e.getCause());
+                conflicts++;
+            }
+        }
+        executor.shutdown();
+
+        // Assert: 保存された対局は予約を取った操作者の組合せのみ
+        assertEquals(1, succeeded.size());
+        assertEquals(1, conflicts);
+        assertEquals(matchKeys(succeeded.get(0)), matchKeys(repository.findMatchesByRound(tournamentId, 1).stream()
+                .map(MatchDto::fromMatch)
+                .toList()));
+        assertEquals(RoundStatus.PAIRED, repository.findRound(tournamentId, 1).orElseThrow().status());
+        assertEquals(1, repository.findById(tournamentId).orElseThrow().getCurrentRound());
+    }
+
+    @Test
+    void pairNextRound_期限切れの予約_引き継いで残った対局を削除する() {
+        // Arrange: 確定前にノードが停止した予約と、その操作者が登録した対局
+        Instant abandonedAt = Instant.now().minus(Duration.ofMinutes(5));
+        repository.saveRound(new Round(tournamentId, 1, RoundStatus.PAIRING, 10, 0, abandonedAt, 0));
+        repository.saveMatches(List.of(new Match(tournamentId, 1, 1, 99, UUID.randomUUID(), null, null, 0)));
+
+        // Act
+        List<MatchDto> matches = pairingService.pairNextRound(tournamentId);
+
+        // Assert
+        assertEquals(9, matches.size());
+        assertEquals(matchKeys(matches), matchKeys(repository.findMatchesByRound(tournamentId, 1).stream()
+                .map(MatchDto::fromMatch)
+                .toList()));
+        assertEquals(RoundStatus.PAIRED, repository.findRound(tournamentId, 1).orElseThrow().status());
+    }
+
+    @Test
+    void pairNextRound_異常系_作成中の予約がある場合は対局を書き込まない() {
+        // Arrange
+        repository.saveRound(Round.pairing(tournamentId, 1, 9, 0));
+
+        // Act & Assert
+        assertThrows(ConflictException.class, () -> pairingService.pairNextRound(tournamentId));
+        assertEquals(List.of(), repository.findMatchesByRound(tournamentId, 1));
+        assertEquals(0, repository.findById(tournamentId).orElseThrow().getCurrentRound());
+    }
+
+    private void completeRound(int roundNumber, List<MatchDto> matches) {
+        List<BulkResultItem> items = new ArrayList<>();
+        for (MatchDto match : matches) {
+            items.add(new BulkResultItem(match.groupNumber(), match.tableNumber(),
+                    match.whiteParticipantId() == null ? "BYE" : "BLACK_WIN", null));
+        }
+        assertEquals(matches.size(), matchResultService.recordResults(tournamentId, roundNumber, items).savedCount());
+    }
+
+    private static Set<String> matchKeys(List<MatchDto> matches) {
+        Set<String> keys = new HashSet<>();
+        for (MatchDto match : matches) {
+            keys.add(match.groupNumber() + "-" + match.tableNumber() + ":" + match.blackParticipantId()
+                    + ":" + match.whiteParticipantId());
+        }
+        return keys;
+    }
+
+    private static String pairKey(UUID first, UUID second) {
+        return first.compareTo(second) < 0 ? first + ":" + second : second + ":" + first;
+    }
+}
@@ -0,0 +1,317 @@
+package com.swiss_stage.unit.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.swiss_stage.application.dto.ImportRowError;
+import com.swiss_stage.application.dto.ParticipantImportResult;
+import com.swiss_stage.application.dto.StandingDto;
+import com.swiss_stage.application.dto.TournamentStateDto;
+import com.swiss_stage.application.service.ParticipantImportService;
+import com.swiss_stage.application.service.TournamentJournalService;
+import com.swiss_stage.application.service.TournamentStateService;
+import com.swiss_stage.common.exception.BusinessException;
+import com.swiss_stage.domain.model.Participant;
+import com.swiss_stage.domain.model.Tournament;
+import com.swiss_stage.domain.model.TournamentEvent;
+import com.swiss_stage.domain.repository.ParticipantRepository;
+import com.swiss_stage.infrastructure.repository.DynamoDbParticipantRepository;
+import com.swiss_stage.infrastructure.repository.DynamoDbTournamentJournalRepository;
+import com.swiss_stage.infrastructure.repository.DynamoDbTournamentRepository;
+import com.swiss_stage.support.InMemoryDynamoDbClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ParticipantImportServiceのユニットテスト
+ * TDD: Red-Green-Refactor
+ */
+class ParticipantImportServiceTest {
+
+    private static final String TABLE_NAME = "swiss_stage_table";
+
+    private RecordingParticipantRepository repository;
+    private DynamoDbTournamentJournalRepository journalRepository;
+    private TournamentJournalService journalService;
+    private TournamentStateService stateService;
+    private ParticipantImportService service;
+    private UUID tournamentId;
+
+    @BeforeEach
+    void setUp() {
+        InMemoryDynamoDbClient dynamoDbClient = new InMemoryDynamoDbClient();
+        DynamoDbTournamentRepository tournamentRepository = new DynamoDbTournamentRepository(dynamoDbClient, TABLE_NAME);
+        repository = new RecordingParticipantRepository(new DynamoDbParticipantRepository(dynamoDbClient, TABLE_NAME));
+        journalRepository = new DynamoDbTournamentJournalRepository(dynamoDbClient, TABLE_NAME, new ObjectMapper());
+        journalService = new TournamentJournalService(journalRepository, 1_000);
+        stateService = new TournamentStateService(tournamentRepository, journalRepository,
+                event -> { }, new SimpleMeterRegistry(), 1_000);
+        service = new ParticipantImportService(repository, tournamentRepository, journalService, stateService,
+                1000, 4);
+
+        Tournament tournament = Tournament.create(UUID.randomUUID(), UUID.randomUUID(), "春季大会", 2, 3,
+                LocalDate.of(2026, 4, 29));
+        tournamentId = tournament.getTournamentId();
+        tournamentRepository.save(tournament);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+        journalService.shutdown();
+    }
+
+    @Test
+    void importCsv_正常系_ヘッダー付きUTF8のCSVを取り込める() {
+        // Arrange
+        String csv = "名前,所属,段級位,グループ\n山田太郎,東京囲碁クラブ,3段,1\n鈴木花子,,初段,2\n";
+
+        // Act
+        ParticipantImportResult result = importCsv(csv, StandardCharsets.UTF_8);
+
+        // Assert
+        assertEquals(2, result.importedCount());
+        assertEquals(0, result.errorCount());
+        List<Participant> saved = repository.sorted();
+        assertEquals("山田太郎", saved.get(0).name());
+        assertEquals("東京囲碁クラブ", saved.get(0).affiliation());
+        assertEquals(1, saved.get(0).entryNumber());
+        assertNull(saved.get(1).affiliation());
+        assertEquals(2, saved.get(1).groupNumber());
+    }
+
+    @Test
+    void importCsv_正常系_ShiftJISのCSVを取り込める() {
+        // Arrange
+        Charset sjis = ParticipantImportService.resolveCharset("Shift_JIS");
+        String csv = "氏名,所属\r\n髙橋一郎,大阪将棋会館\r\n";
+
+        // Act
+        ParticipantImportResult result = importCsv(csv, sjis);
+
+        // Assert
+        assertEquals(1, result.importedCount());
+        assertEquals("髙橋一郎", repository.sorted().get(0).name());
+    }
+
+    @Test
+    void importCsv_正常系_クォート内の改行とカンマを扱える() {
+        // Arrange
+        String csv = "名前,所属\n\"佐藤, 次郎\",\"第一\n支部\"\n田中三郎,本部\n";
+
+        // Act
+        ParticipantImportResult result = importCsv(csv, StandardCharsets.UTF_8);
+
+        // Assert
+        assertEquals(2, result.importedCount());
+        List<Participant> saved = repository.sorted();
+        assertEquals("佐藤, 次郎", saved.get(0).name());
+        assertEquals("第一\n支部", saved.get(0).affiliation());
+    }
+
+    @Test
+    void importCsv_異常系_不正な行を行番号付きで報告し有効な行は取り込む() {
+        // Arrange
+        String csv = "名前,所属,段級位,グループ\n山田太郎,,,1\n,所属のみ,,1\n鈴木花子,,,9\n田中三郎,,,abc\n";
+
+        // Act
+        ParticipantImportResult result = importCsv(csv, StandardCharsets.UTF_8);
+
+        // Assert
+        assertEquals(1, result.importedCount());
+        assertEquals(3, result.errorCount());
+        assertEquals(List.of(3L, 4L, 5L), result.errors().stream().map(ImportRowError::lineNumber).toList());
+        assertEquals("Name must be 1-100 characters", result.errors().get(0).message());
+    }
+
+    @Test
+    void importCsv_異常系_文字コード不正を報告する() {
+        // Arrange: Shift_JISのバイト列をUTF-8として読み込む
+        byte[] sjisBytes = "名前\n山田太郎\n".getBytes(Charset.forName("windows-31j"));
+
+        // Act
+        ParticipantImportResult result = service.importCsv(tournamentId, new ByteArrayInputStream(sjisBytes),
+                StandardCharsets.UTF_8);
+
+        // Assert
+        assertEquals(1, result.errorCount());
+        assertTrue(result.errors().get(0).message().startsWith("Invalid character encoding"));
+    }
+
+    @Test
+    void importCsv_正常系_25件ずつのバッチで書き込む() {
+        // Arrange
+        StringBuilder csv = new StringBuilder("名前\n");
+        for (int i = 1; i <= 60; i++) {
+            csv.append("参加者").append(i).append('\n');
+        }
+
+        // Act
+        ParticipantImportResult result = importCsv(csv.toString(), StandardCharsets.UTF_8);
+
+        // Assert
+        assertEquals(60, result.importedCount());
+        List<Integer> sizes = new ArrayList<>(repository.batchSizes);
+        Collections.sort(sizes);
+        assertEquals(List.of(10, 25, 25), sizes);
+    }
+
+    @Test
+    void resolveCharset_異常系_未対応の文字コードは例外をスローする() {
+        // Act & Assert
+        assertThrows(BusinessException.class, () -> ParticipantImportService.resolveCharset("EUC-JP"));
+    }
+
+    @Test
+    void importCsv_2回目のインポート_エントリー番号を登録済みの続きから採番する() {
+        // Arrange
+        importCsv("名前\n山田太郎\n鈴木花子\n", StandardCharsets.UTF_8);
+
+        // Act
+        ParticipantImportResult result = importCsv("名前\n佐藤一郎\n田中次郎\n", StandardCharsets.UTF_8);
+
+        // Assert
+        assertEquals(2, result.importedCount());
+        List<Participant> saved = repository.sorted();
+        assertEquals(List.of(1, 2, 3, 4), saved.stream().map(Participant::entryNumber).toList());
+        assertEquals("佐藤一郎", saved.get(2).name());
+        assertEquals("田中次郎", saved.get(3).name());
+    }
+
+    @Test
+    void importCsv_異常系_大会のグループ数を超えるグループ番号を行番号付きで報告する() {
+        // Arrange: グループ数2の大会
+        String csv = "名前,グループ\n山田太郎,2\n鈴木花子,3\n";
+
+        // Act
+        ParticipantImportResult result = importCsv(csv, StandardCharsets.UTF_8);
+
+        // Assert
+        assertEquals(1, result.importedCount());
+        assertEquals(List.of(new ImportRowError(3, "Group number must be 1-2")), result.errors());
+    }
+
+    @Test
+    void importCsv_並行したインポート_エントリー番号が重複しない() throws Exception {
+        // Arrange
+        StringBuilder first = new StringBuilder("名前\n");
+        StringBuilder second = new StringBuilder("名前\n");
+        for (int i = 1; i <= 60; i++) {
+            first.append("前半").append(i).append('\n');
+            second.append("後半").append(i).append('\n');
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // Act
+        List<Future<ParticipantImportResult>> results = List.of(
+                executor.submit(() -> importCsv(first.toString(), StandardCharsets.UTF_8)),
+                executor.submit(() -> importCsv(second.toString(), StandardCharsets.UTF_8)));
+        for (Future<ParticipantImportResult> result : results) {
+            assertEquals(60, result.get(10, TimeUnit.SECONDS).importedCount());
+        }
+        executor.shutdown();
+
+        // Assert
+        assertEquals(IntStream.rangeClosed(1, 120).boxed().toList(),
+                repository.sorted().stream().map(Participant::entryNumber).toList());
+    }
+
+    @Test
+    void importCsv_採番カウンターのない大会_登録済みの最大値の続きから採番する() {
+        // Arrange: カウンター導入前に登録された参加者
+        repository.saveBatch(List.of(Participant.create(tournamentId, 7, "既存参加者", null, null, 1)));
+
+        // Act
+        importCsv("名前\n山田太郎\n", StandardCharsets.UTF_8);
+
+        // Assert
+        assertEquals(List.of(7, 8), repository.sorted().stream().map(Participant::entryNumber).toList());
+    }
+
+    @Test
+    void importCsv_正常系_イベントを追記し順位表に取り込んだ参加者が反映される() {
+        // Arrange: インポート前の状態を参照してメモリ上に保持させる
+        assertEquals(List.of(), stateService.findState(tournamentId).orElseThrow().standings());
+
+        // Act
+        importCsv("名前,グループ\n山田太郎,1\n鈴木花子,2\n", StandardCharsets.UTF_8);
+
+        // Assert
+        TournamentStateDto state = stateService.findState(tournamentId).orElseThrow();
+        assertEquals(List.of("山田太郎", "鈴木花子"), state.standings().stream()
+                .map(StandingDto::name)
+                .sorted()
+                .toList());
+        assertEquals(1, state.version());
+        assertEquals(List.of(2), journalRepository.findEventsAfter(tournamentId, 0).stream()
+                .map(recorded -> ((TournamentEvent.ParticipantsImported) recorded.event()).importedCount())
+                .toList());
+    }
+
+    @Test
+    void importCsv_有効な行なし_イベントを追記しない() {
+        // Act
+        ParticipantImportResult result = importCsv("名前,グループ\n,1\n", StandardCharsets.UTF_8);
+
+        // Assert
+        assertEquals(0, result.importedCount());
+        assertEquals(List.of(), journalRepository.findEventsAfter(tournamentId, 0));
+    }
+
+    private ParticipantImportResult importCsv(String csv, Charset charset) {
+        return service.importCsv(tournamentId, new ByteArrayInputStream(csv.getBytes(charset)), charset);
+    }
+
+    /**
+     * 保存内容を記録し、インメモリのDynamoDbClientのリポジトリに書き込むリポジトリ
+     */
+    private static class RecordingParticipantRepository implements ParticipantRepository {
+        private final ParticipantRepository delegate;
+        private final List<Participant> saved = Collections.synchronizedList(new ArrayList<>());
+        private final List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+
+        RecordingParticipantRepository(ParticipantRepository delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void saveBatch(List<Participant> participants) {
+            batchSizes.add(participants.size());
+            delegate.saveBatch(participants);
+            saved.addAll(participants);
+        }
+
+        @Override
+        public int reserveEntryNumbers(UUID tournamentId, int count, int floor) {
+            return delegate.reserveEntryNumbers(tournamentId, count, floor);
+        }
+
+        @Override
+        public int findMaxEntryNumber(UUID tournamentId) {
+            return delegate.findMaxEntryNumber(tournamentId);
+        }
+
+        List<Participant> sorted() {
+            List<Participant> copy = new ArrayList<>(saved);
+            copy.sort(Comparator.comparingInt(Participant::entryNumber));
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.swiss_stage.unit.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.swiss_stage.application.dto.PublicSnapshot;
+import com.swiss_stage.application.dto.TournamentStateDto;
+import com.swiss_stage.application.event.TournamentStateChangedEvent;
+import com.swiss_stage.application.service.PublicSnapshotService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PublicSnapshotServiceのユニットテスト
+ * TDD: Red-Green-Refactor
+ */
+class PublicSnapshotServiceTest {
+
+    private PublicSnapshotService service;
+    private final UUID tournamentId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        service = new PublicSnapshotService(new ObjectMapper().findAndRegisterModules());
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void findSnapshot_正常系_未公開の場合は空を返す() {
+        // Act
+        Optional<PublicSnapshot> result = service.findSnapshot(tournamentId);
+
+        // Assert
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void onTournamentStateChanged_正常系_シリアライズ済みと圧縮済みのボディを生成する() throws Exception {
+        // Act
+        service.onTournamentStateChanged(new TournamentStateChangedEvent(state(1)));
+
+        // Assert
+        awaitUntil(() -> service.findSnapshot(tournamentId).isPresent());
+        PublicSnapshot snapshot = service.findSnapshot(tournamentId).orElseThrow();
+        assertEquals(1, snapshot.version());
+        assertTrue(snapshot.etag().startsWith("v1-"));
+        assertTrue(new String(snapshot.json(), StandardCharsets.UTF_8).contains("\"version\":1"));
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(snapshot.gzip()))) {
+            assertArrayEquals(snapshot.json(), gzip.readAllBytes());
+        }
+    }
+
+    @Test
+    void onTournamentStateChanged_正常系_同時に大量の変更が届いても最新バージョンに収束する() throws Exception {
+        // Arrange
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // Act
+        for (long version = 1; version <= 200; version++) {
+            long v = version;
+            executor.execute(() -> service.onTournamentStateChanged(new TournamentStateChangedEvent(state(v))));
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+
+        // Assert
+        awaitUntil(() -> service.findSnapshot(tournamentId).map(s -> s.version() == 200).orElse(false));
+    }
+
+    @Test
+    void onTournamentStateChanged_正常系_古いバージョンで上書きしない() {
+        // Act
+        service.onTournamentStateChanged(new TournamentStateChangedEvent(state(3)));
+        awaitUntil(() -> service.findSnapshot(tournamentId).isPresent());
+        service.onTournamentStateChanged(new TournamentStateChangedEvent(state(2)));
+
+        // Assert
+        assertEquals(3, service.findSnapshot(tournamentId).orElseThrow().version());
+    }
+
+    @Test
+    void findSnapshot_正常系_公開中より新しい状態は公開中のものを返して再構築を予約する() {
+        // Arrange
+        service.onTournamentStateChanged(new TournamentStateChangedEvent(state(1)));
+        awaitUntil(() -> service.findSnapshot(tournamentId).isPresent());
+        PublicSnapshot published = service.findSnapshot(tournamentId).orElseThrow();
+
+        // Act: 他ノードで更新された状態（イベントはこのノードに届いていない）
+        PublicSnapshot snapshot = service.findSnapshot(state(4)).orElseThrow();
+
+        // Assert
+        assertTrue(snapshot == published || snapshot.version() == 4);
+        awaitUntil(() -> service.findSnapshot(tournamentId).map(s -> s.version() == 4).orElse(false));
+        assertEquals(4, service.findSnapshot(state(4)).orElseThrow().version());
+    }
+
+    @Test
+    void findSnapshot_正常系_未公開の場合は最初の再構築を待って返す() {
+        // Act
+        Optional<PublicSnapshot> snapshot = service.findSnapshot(state(2));
+
+        // Assert
+        assertTrue(snapshot.isPresent());
+        assertEquals(2, snapshot.get().version());
+    }
+
+    @Test
+    void onTournamentStateChanged_保持数の上限_最後の参照が最も古いトーナメントを破棄する() {
+        // Arrange: 2件まで保持する
+        service.shutdown();
+        service = new PublicSnapshotService(new ObjectMapper().findAndRegisterModules(), 2, 600_000);
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        service.onTournamentStateChanged(new TournamentStateChangedEvent(state(1)));
+        service.onTournamentStateChanged(new TournamentStateChangedEvent(state(second, 1)));
+        awaitUntil(() -> service.findSnapshot(tournamentId).isPresent() && service.findSnapshot(second).isPresent());
+        service.findSnapshot(tournamentId);
+
+        // Act
+        service.onTournamentStateChanged(new TournamentStateChangedEvent(state(third, 1)));
+
+        // Assert
+        awaitUntil(() -> service.findSnapshot(third).isPresent());
+        assertTrue(service.findSnapshot(second).isEmpty());
+        assertTrue(service.findSnapshot(tournamentId).isPresent());
+        assertEquals(1, service.findSnapshot(state(second, 1)).orElseThrow().version());
+    }
+
+    private TournamentStateDto state(long version) {
+        return state(tournamentId, version);
+    }
+
+    private static TournamentStateDto state(UUID id, long version) {
+        return new TournamentStateDto(id, version, 1, List.of(), List.of());
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("Condition not met within timeout");
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail("Interrupted");
+            }
+        }
+    }
+}
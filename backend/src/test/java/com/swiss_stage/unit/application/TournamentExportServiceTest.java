@@ -0,0 +1,218 @@
+package com.swiss_stage.unit.application;
+
+import com.swiss_stage.application.dto.StandingDto;
+import com.swiss_stage.application.dto.TournamentStateDto;
+import com.swiss_stage.application.service.AccountDeletionService;
+import com.swiss_stage.application.service.TournamentAccessService;
+import com.swiss_stage.application.service.TournamentExportService;
+import com.swiss_stage.application.service.TournamentExportService.Format;
+import com.swiss_stage.application.service.TournamentStateService;
+import com.swiss_stage.common.exception.BusinessException;
+import com.swiss_stage.common.exception.ForbiddenException;
+import com.swiss_stage.common.exception.NotFoundException;
+import com.swiss_stage.domain.model.Match;
+import com.swiss_stage.domain.model.MatchResult;
+import com.swiss_stage.domain.model.Participant;
+import com.swiss_stage.domain.model.Tournament;
+import com.swiss_stage.infrastructure.repository.DynamoDbParticipantRepository;
+import com.swiss_stage.infrastructure.repository.DynamoDbTournamentRepository;
+import com.swiss_stage.support.InMemoryDynamoDbClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * TournamentExportServiceのユニットテスト
+ * インメモリのDynamoDbClientで、対戦表をページ単位で読みながらCSV・XLSXに書き出すことを検証する
+ */
+@DisabledInNativeImage
+class TournamentExportServiceTest {
+
+    private static final String TABLE_NAME = "swiss_stage_table";
+    private static final Charset SHIFT_JIS = Charset.forName("windows-31j");
+
+    private InMemoryDynamoDbClient dynamoDbClient;
+    private TournamentStateService stateService;
+    private TournamentExportService service;
+    private Tournament tournament;
+
+    @BeforeEach
+    void setUp() {
+        dynamoDbClient = new InMemoryDynamoDbClient();
+        DynamoDbTournamentRepository repository = new DynamoDbTournamentRepository(dynamoDbClient, TABLE_NAME);
+        DynamoDbParticipantRepository participantRepository =
+                new DynamoDbParticipantRepository(dynamoDbClient, TABLE_NAME);
+        stateService = mock(TournamentStateService.class);
+        service = new TournamentExportService(repository, stateService,
+                new TournamentAccessService(repository, mock(AccountDeletionService.class)));
+
+        tournament = Tournament.create(UUID.randomUUID(), UUID.randomUUID(), "春季大会", 1, 3,
+                LocalDate.of(2026, 4, 29));
+        tournament.startNextRound();
+        repository.save(tournament);
+        UUID tournamentId = tournament.getTournamentId();
+        List<Participant> participants = new ArrayList<>();
+        for (int i = 1; i <= 20; i++) {
+            participants.add(Participant.create(tournamentId, i, i == 1 ? "山田, 太郎" : "参加者" + i, null, null, 1));
+        }
+        participantRepository.saveBatch(participants);
+        List<Match> matches = new ArrayList<>();
+        for (int table = 1; table <= 10; table++) {
+            matches.add(new Match(tournamentId, 1, 1, table,
+                    participants.get((table - 1) * 2).participantId(),
+                    participants.get((table - 1) * 2 + 1).participantId(),
+                    table == 1 ? MatchResult.BLACK_WIN : null, 0));
+        }
+        repository.saveMatches(matches);
+    }
+
+    @Test
+    void pairingSheet_CSVをShift_JISで出力_ページごとに読みながら全対局を書き出す() throws IOException {
+        // Arrange
+        dynamoDbClient.withMaxPageItems(3);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Act
+        service.pairingSheet(tournament.getTournamentId(), organizerId(), 1, Format.CSV, SHIFT_JIS).writeTo(output);
+
+        // Assert
+        String[] lines = new String(output.toByteArray(), SHIFT_JIS).split("\r\n");
+        assertEquals(11, lines.length);
+        assertEquals("回戦,グループ,対局番号,先手,後手,結果", lines[0]);
+        assertEquals("1,1,1,\"山田, 太郎\",参加者2,先手勝ち", lines[1]);
+        assertEquals("1,1,10,参加者19,参加者20,", lines[10]);
+    }
+
+    @Test
+    void pairingSheet_CSVをUTF_8で出力_先頭にBOMを付ける() throws IOException {
+        // Arrange
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Act
+        service.pairingSheet(tournament.getTournamentId(), organizerId(), 1, Format.CSV, StandardCharsets.UTF_8)
+                .writeTo(output);
+
+        // Assert
+        String csv = output.toString(StandardCharsets.UTF_8);
+        assertTrue(csv.startsWith("\uFEFF回戦,"));
+    }
+
+    @Test
+    void pairingSheet_XLSXで出力_ブックの部品とインライン文字列のシートを書き出す() throws IOException {
+        // Arrange
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Act
+        service.pairingSheet(tournament.getTournamentId(), organizerId(), 1, Format.XLSX, StandardCharsets.UTF_8)
+                .writeTo(output);
+
+        // Assert
+        Map<String, String> entries = unzip(output.toByteArray());
+        assertTrue(entries.containsKey("[Content_Types].xml"));
+        assertTrue(entries.containsKey("_rels/.rels"));
+        assertTrue(entries.get("xl/workbook.xml").contains("name=\"対戦表 第1回戦\""));
+        String sheet = entries.get("xl/worksheets/sheet1.xml");
+        assertTrue(sheet.contains("<c r=\"D2\" t=\"inlineStr\"><is><t xml:space=\"preserve\">山田, 太郎</t></is></c>"));
+        assertTrue(sheet.contains("<c r=\"C11\"><v>10</v></c>"));
+        assertTrue(sheet.endsWith("</row></sheetData></worksheet>"));
+    }
+
+    @Test
+    void pairingSheet_異常系_組合せ前の回戦() {
+        // Act & Assert
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> service.pairingSheet(tournament.getTournamentId(), organizerId(), 2, Format.CSV,
+                        StandardCharsets.UTF_8));
+        assertEquals("INVALID_STATE", exception.getErrorCode());
+    }
+
+    @Test
+    void standings_CSVで出力_勝ち点は整数なら小数点なしで書き出す() throws IOException {
+        // Arrange
+        UUID tournamentId = tournament.getTournamentId();
+        when(stateService.findState(tournamentId)).thenReturn(Optional.of(new TournamentStateDto(tournamentId, 1, 1,
+                List.of(new StandingDto(1, 1, UUID.randomUUID(), "=参加者1", 2.0, 2, 0, 0, 1.5)),
+                List.of())));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Act
+        service.standings(tournamentId, organizerId(), Format.CSV, SHIFT_JIS).writeTo(output);
+
+        // Assert: 数式として解釈される文字で始まる名前は「'」を付ける
+        String[] lines = new String(output.toByteArray(), SHIFT_JIS).split("\r\n");
+        assertEquals("グループ,順位,参加者,勝ち点,勝,負,分,SOS", lines[0]);
+        assertEquals("1,1,'=参加者1,2,2,0,0,1.5", lines[1]);
+    }
+
+    @Test
+    void standings_異常系_大会が存在しない() {
+        // Arrange
+        UUID unknown = UUID.randomUUID();
+
+        // Act & Assert
+        assertThrows(NotFoundException.class,
+                () -> service.standings(unknown, organizerId(), Format.XLSX, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void pairingSheet_異常系_主催者以外_対局を読まずにForbiddenExceptionをスローする() {
+        // Arrange
+        dynamoDbClient.resetCounts();
+
+        // Act & Assert
+        assertThrows(ForbiddenException.class, () -> service.pairingSheet(
+                tournament.getTournamentId(), UUID.randomUUID(), 1, Format.CSV, StandardCharsets.UTF_8));
+        assertEquals(0, dynamoDbClient.requestCount("Query"));
+    }
+
+    @Test
+    void standings_異常系_主催者以外_状態を読まずにForbiddenExceptionをスローする() {
+        // Act & Assert
+        assertThrows(ForbiddenException.class, () -> service.standings(
+                tournament.getTournamentId(), UUID.randomUUID(), Format.CSV, StandardCharsets.UTF_8));
+        verifyNoInteractions(stateService);
+    }
+
+    @Test
+    void resolve_異常系_未対応の出力形式() {
+        // Act & Assert
+        assertEquals(Format.CSV, Format.resolve(null));
+        assertEquals(Format.XLSX, Format.resolve("XLSX"));
+        assertThrows(BusinessException.class, () -> Format.resolve("pdf"));
+    }
+
+    private static Map<String, String> unzip(byte[] bytes) throws IOException {
+        Map<String, String> entries = new HashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(bytes))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                entries.put(entry.getName(), new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        return entries;
+    }
+
+    private UUID organizerId() {
+        return tournament.getOrganizerId();
+    }
+}
@@ -0,0 +1,144 @@
+package com.swiss_stage.unit.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.swiss_stage.application.service.TournamentJournalService;
+import com.swiss_stage.domain.model.Match;
+import com.swiss_stage.domain.model.MatchResult;
+import com.swiss_stage.domain.model.RecordedEvent;
+import com.swiss_stage.domain.model.TournamentEvent;
+import com.swiss_stage.domain.model.TournamentState;
+import com.swiss_stage.infrastructure.repository.DynamoDbTournamentJournalRepository;
+import com.swiss_stage.support.InMemoryDynamoDbClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TournamentJournalServiceのユニットテスト
+ * TDD: Red-Green-Refactor
+ */
+class TournamentJournalServiceTest {
+
+    private static final String TABLE_NAME = "swiss_stage_table";
+    private static final int SNAPSHOT_INTERVAL = 10;
+
+    private InMemoryDynamoDbClient dynamoDbClient;
+    private DynamoDbTournamentJournalRepository journalRepository;
+    private TournamentJournalService service;
+    private final UUID tournamentId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        dynamoDbClient = new InMemoryDynamoDbClient();
+        journalRepository = new DynamoDbTournamentJournalRepository(dynamoDbClient, TABLE_NAME, new ObjectMapper());
+        service = new TournamentJournalService(journalRepository, SNAPSHOT_INTERVAL);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void record_正常系_連番を欠番なく採番する() {
+        // Act
+        RecordedEvent first = service.record(tournamentId, paired());
+        RecordedEvent second = service.record(tournamentId, entered(1, MatchResult.BLACK_WIN));
+
+        // Assert
+        assertEquals(1, first.sequence());
+        assertEquals(2, second.sequence());
+        assertEquals(2, journalRepository.findLatestSequence(tournamentId));
+    }
+
+    @Test
+    void record_正常系_他ノードと連番が衝突した場合は再採番する() {
+        // Arrange: 別ノード（別インスタンス）が先に追記している
+        TournamentJournalService otherNode = new TournamentJournalService(journalRepository, SNAPSHOT_INTERVAL);
+        service.record(tournamentId, paired());
+        otherNode.record(tournamentId, entered(1, MatchResult.BLACK_WIN));
+
+        // Act: このノードのキャッシュでは次は2だが、既に記録済み
+        RecordedEvent recorded = service.record(tournamentId, entered(2, MatchResult.WHITE_WIN));
+
+        // Assert
+        assertEquals(3, recorded.sequence());
+        otherNode.shutdown();
+    }
+
+    @Test
+    void rebuild_正常系_イベントを畳み込んで現在の状態を再構築する() {
+        // Arrange
+        service.record(tournamentId, paired());
+        service.record(tournamentId, entered(1, MatchResult.BLACK_WIN));
+        service.record(tournamentId, entered(2, MatchResult.DRAW));
+        service.record(tournamentId, new TournamentEvent.ResultCorrected(1, 1, 1,
+                MatchResult.BLACK_WIN, MatchResult.WHITE_WIN, Instant.now()));
+        service.record(tournamentId, new TournamentEvent.ParticipantsImported(8, Instant.now()));
+
+        // Act
+        TournamentState state = service.rebuild(tournamentId);
+
+        // Assert
+        assertEquals(5, state.sequence());
+        assertEquals(1, state.currentRound());
+        assertEquals(MatchResult.WHITE_WIN, state.matches().get(0).result());
+        assertEquals(MatchResult.DRAW, state.matches().get(1).result());
+        assertNull(state.matches().get(2).result());
+    }
+
+    @Test
+    void rebuild_正常系_スナップショット以降のイベントのみ読み込む() throws Exception {
+        // Arrange: 1回戦の組合せ + 結果入力・修正を繰り返し、スナップショット間隔を超える
+        service.record(tournamentId, paired());
+        for (int i = 0; i < SNAPSHOT_INTERVAL + 2; i++) {
+            service.record(tournamentId, new TournamentEvent.ResultCorrected(1, 1, 2, MatchResult.BLACK_WIN,
+                    i % 2 == 0 ? MatchResult.WHITE_WIN : MatchResult.BLACK_WIN, Instant.now()));
+        }
+        awaitSnapshot(SNAPSHOT_INTERVAL);
+        TournamentState expected = TournamentState.empty(tournamentId)
+                .apply(journalRepository.findEventsAfter(tournamentId, 0));
+
+        // Act
+        TournamentState state = service.rebuild(tournamentId);
+
+        // Assert: 13イベント中、スナップショット（連番10）以降の3件だけで最新状態になる
+        assertEquals(expected, state);
+        assertEquals(SNAPSHOT_INTERVAL + 3, state.sequence());
+        assertEquals(3, journalRepository.findEventsAfter(tournamentId, SNAPSHOT_INTERVAL).size());
+    }
+
+    private void awaitSnapshot(long sequence) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (true) {
+            Optional<TournamentState> snapshot = journalRepository.findLatestSnapshot(tournamentId);
+            if (snapshot.isPresent() && snapshot.get().sequence() >= sequence) {
+                return;
+            }
+            if (System.currentTimeMillis() > deadline) {
+                fail("Snapshot was not saved within timeout");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private TournamentEvent.RoundPaired paired() {
+        List<Match> matches = new ArrayList<>();
+        for (int table = 1; table <= 3; table++) {
+            matches.add(Match.paired(tournamentId, 1, 1, table, UUID.randomUUID(), UUID.randomUUID()));
+        }
+        return new TournamentEvent.RoundPaired(1, matches, Instant.now());
+    }
+
+    private TournamentEvent.ResultEntered entered(int table, MatchResult result) {
+        return new TournamentEvent.ResultEntered(1, 1, table, result, Instant.now());
+    }
+}
@@ -0,0 +1,132 @@
+package com.swiss_stage.unit.application;
+
+import com.swiss_stage.application.dto.TournamentListResponse;
+import com.swiss_stage.application.dto.TournamentSummaryDto;
+import com.swiss_stage.application.service.TournamentListService;
+import com.swiss_stage.common.exception.BusinessException;
+import com.swiss_stage.domain.model.Participant;
+import com.swiss_stage.domain.model.Tournament;
+import com.swiss_stage.infrastructure.repository.DynamoDbParticipantRepository;
+import com.swiss_stage.infrastructure.repository.DynamoDbTournamentRepository;
+import com.swiss_stage.support.InMemoryDynamoDbClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TournamentListServiceのユニットテスト
+ * インメモリのDynamoDbClientで、暗号化したカーソルによるページングを検証する
+ */
+class TournamentListServiceTest {
+
+    private static final String TABLE_NAME = "swiss_stage_table";
+    private static final String SECRET = "test-cursor-secret";
+
+    private InMemoryDynamoDbClient dynamoDbClient;
+    private DynamoDbTournamentRepository repository;
+    private TournamentListService service;
+    private final UUID organizerId = UUID.randomUUID();
+    private final List<Tournament> tournaments = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        dynamoDbClient = new InMemoryDynamoDbClient();
+        repository = new DynamoDbTournamentRepository(dynamoDbClient, TABLE_NAME);
+        service = new TournamentListService(repository, SECRET);
+        for (int month = 1; month <= 12; month++) {
+            Tournament tournament = Tournament.create(UUID.randomUUID(), organizerId, month + "月例会", 2, 3,
+                    LocalDate.of(2026, month, 10));
+            repository.save(tournament);
+            tournaments.add(tournament);
+        }
+    }
+
+    @Test
+    void listOrganizedTournaments_正常系_カーソルを辿って全件を1回ずつ取得できる() {
+        // Act
+        List<String> titles = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            TournamentListResponse page = service.listOrganizedTournaments(organizerId, cursor, 5);
+            page.items().stream().map(TournamentSummaryDto::title).forEach(titles::add);
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        // Assert
+        assertEquals(3, pages);
+        assertEquals(12, titles.size());
+        assertEquals("12月例会", titles.get(0));
+        assertEquals("1月例会", titles.get(11));
+    }
+
+    @Test
+    void listOrganizedTournaments_参加者を登録した大会_参加者数を返す() {
+        // Arrange: 12月例会に30名（2バッチ）を登録し、登録後に大会情報を保存し直す
+        Tournament december = tournaments.get(11);
+        List<Participant> participants = new ArrayList<>();
+        for (int i = 1; i <= 30; i++) {
+            participants.add(Participant.create(december.getTournamentId(), i, "参加者" + i, null, null, 1));
+        }
+        DynamoDbParticipantRepository participantRepository = new DynamoDbParticipantRepository(dynamoDbClient, TABLE_NAME);
+        participantRepository.saveBatch(participants.subList(0, 25));
+        participantRepository.saveBatch(participants.subList(25, 30));
+        Tournament reloaded = repository.findById(december.getTournamentId()).orElseThrow();
+        reloaded.startNextRound();
+        repository.save(reloaded);
+
+        // Act
+        List<TournamentSummaryDto> items = service.listOrganizedTournaments(organizerId, null, 2).items();
+
+        // Assert
+        assertEquals(List.of("12月例会", "11月例会"), items.stream().map(TournamentSummaryDto::title).toList());
+        assertEquals(30, items.get(0).participantCount());
+        assertEquals(0, items.get(1).participantCount());
+    }
+
+    @Test
+    void listOrganizedTournaments_正常系_カーソルはキーを含まない不透明な文字列() {
+        // Act
+        String cursor = service.listOrganizedTournaments(organizerId, null, 5).nextCursor();
+
+        // Assert
+        assertNotNull(cursor);
+        assertFalse(cursor.contains("TOURNAMENT"));
+        assertTrue(cursor.matches("[A-Za-z0-9_-]+"));
+    }
+
+    @Test
+    void listOrganizedTournaments_異常系_改ざんしたカーソル() {
+        // Arrange
+        String cursor = service.listOrganizedTournaments(organizerId, null, 5).nextCursor();
+        char replaced = cursor.charAt(20) == 'A' ? 'B' : 'A';
+        String tampered = cursor.substring(0, 20) + replaced + cursor.substring(21);
+
+        // Act & Assert
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> service.listOrganizedTournaments(organizerId, tampered, 5));
+        assertEquals("Invalid cursor", exception.getMessage());
+    }
+
+    @Test
+    void listOrganizedTournaments_異常系_他のユーザーに発行したカーソル() {
+        // Arrange
+        String cursor = service.listOrganizedTournaments(organizerId, null, 5).nextCursor();
+
+        // Act & Assert
+        assertThrows(BusinessException.class,
+                () -> service.listOrganizedTournaments(UUID.randomUUID(), cursor, 5));
+    }
+
+    @Test
+    void listOrganizedTournaments_異常系_件数の上限を超える() {
+        assertThrows(BusinessException.class, () -> service.listOrganizedTournaments(organizerId, null, 101));
+    }
+}
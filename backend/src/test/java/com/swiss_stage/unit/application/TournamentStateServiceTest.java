@@ -0,0 +1,268 @@
+package com.swiss_stage.unit.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.swiss_stage.application.dto.MatchDto;
+import com.swiss_stage.application.dto.PairingDto;
+import com.swiss_stage.application.dto.TournamentStateDto;
+import com.swiss_stage.application.event.TournamentStateChangedEvent;
+import com.swiss_stage.application.service.MatchResultService;
+import com.swiss_stage.application.service.PairingService;
+import com.swiss_stage.application.service.TournamentJournalService;
+import com.swiss_stage.application.service.TournamentStateService;
+import com.swiss_stage.application.service.TournamentStateService.ResultChange;
+import com.swiss_stage.domain.model.Match;
+import com.swiss_stage.domain.model.MatchResult;
+import com.swiss_stage.domain.model.Participant;
+import com.swiss_stage.domain.model.Tournament;
+import com.swiss_stage.infrastructure.repository.DynamoDbParticipantRepository;
+import com.swiss_stage.infrastructure.repository.DynamoDbTournamentJournalRepository;
+import com.swiss_stage.infrastructure.repository.DynamoDbTournamentRepository;
+import com.swiss_stage.support.InMemoryDynamoDbClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TournamentStateServiceのユニットテスト
+ * 同じインメモリのDynamoDbClientを共有する2ノード（書き込みノード・参照ノード）でニアキャッシュを検証する
+ */
+class TournamentStateServiceTest {
+
+    private static final String TABLE_NAME = "swiss_stage_table";
+
+    private InMemoryDynamoDbClient dynamoDbClient;
+    private DynamoDbTournamentRepository repository;
+    private DynamoDbTournamentJournalRepository journalRepository;
+    private TournamentJournalService journalService;
+    private MatchResultService writerResults;
+    private UUID tournamentId;
+    private List<MatchDto> pairings;
+
+    private final List<TournamentStateChangedEvent> readerEvents = new CopyOnWriteArrayList<>();
+    private SimpleMeterRegistry readerMetrics;
+
+    @BeforeEach
+    void setUp() {
+        dynamoDbClient = new InMemoryDynamoDbClient();
+        repository = new DynamoDbTournamentRepository(dynamoDbClient, TABLE_NAME);
+        journalRepository = new DynamoDbTournamentJournalRepository(dynamoDbClient, TABLE_NAME, new ObjectMapper());
+        journalService = new TournamentJournalService(journalRepository, 1_000);
+        TournamentStateService writerState = new TournamentStateService(repository, journalRepository,
+                event -> { }, new SimpleMeterRegistry(), 1_000);
+        writerResults = new MatchResultService(repository, journalService, writerState, 10);
+
+        Tournament tournament = Tournament.create(UUID.randomUUID(), UUID.randomUUID(), "秋季大会", 1, 3,
+                LocalDate.of(2026, 10, 12));
+        tournamentId = tournament.getTournamentId();
+        repository.save(tournament);
+        List<Participant> participants = new ArrayList<>();
+        for (int i = 1; i <= 8; i++) {
+            participants.add(Participant.create(tournamentId, i, "参加者" + i, null, null, 1));
+        }
+        new DynamoDbParticipantRepository(dynamoDbClient, TABLE_NAME).saveBatch(participants);
+        pairings = new PairingService(repository, journalService, writerState).pairNextRound(tournamentId);
+        readerMetrics = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        journalService.shutdown();
+    }
+
+    @Test
+    void findState_正常系_lease内はDynamoDBにアクセスしない() {
+        // Arrange
+        TournamentStateService reader = reader(60_000);
+        TournamentStateDto first = reader.findState(tournamentId).orElseThrow();
+        dynamoDbClient.resetCounts();
+
+        // Act
+        TournamentStateDto second = reader.findState(tournamentId).orElseThrow();
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(0, dynamoDbClient.requestCount("Query"));
+        assertEquals(0, dynamoDbClient.requestCount("GetItem"));
+        assertEquals(1.0, count("miss"));
+        assertEquals(1.0, count("lease_hit"));
+    }
+
+    @Test
+    void findState_正常系_連番が変わっていなければ射影したQuery1回で再検証する() {
+        // Arrange
+        TournamentStateService reader = reader(0);
+        TournamentStateDto first = reader.findState(tournamentId).orElseThrow();
+        dynamoDbClient.resetCounts();
+
+        // Act
+        TournamentStateDto second = reader.findState(tournamentId).orElseThrow();
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(1, dynamoDbClient.requestCount("Query"));
+        assertNotNull(dynamoDbClient.queryRequests().get(dynamoDbClient.queryRequests().size() - 1)
+                .projectionExpression());
+        assertEquals(1.0, count("revalidated"));
+        assertEquals(1, readerEvents.size());
+    }
+
+    @Test
+    void findState_正常系_他ノードの結果入力後は読み直して発行する() {
+        // Arrange
+        TournamentStateService reader = reader(0);
+        TournamentStateDto before = reader.findState(tournamentId).orElseThrow();
+        MatchDto match = pairings.get(0);
+
+        // Act: 書き込みノードで結果を2件入力
+        writerResults.recordResult(tournamentId, 1, match.groupNumber(), match.tableNumber(), MatchResult.BLACK_WIN, null);
+        MatchDto other = pairings.get(1);
+        writerResults.recordResult(tournamentId, 1, other.groupNumber(), other.tableNumber(), MatchResult.DRAW, null);
+        TournamentStateDto after = reader.findState(tournamentId).orElseThrow();
+
+        // Assert
+        assertEquals(before.version() + 2, after.version());
+        PairingDto pairing = after.pairings().stream()
+                .filter(p -> p.tableNumber() == match.tableNumber())
+                .findFirst().orElseThrow();
+        assertEquals("BLACK_WIN", pairing.result());
+        assertEquals(1.0, count("reloaded"));
+        assertEquals(2.0, readerMetrics.get("tournament.state.cache.staleness").summary().totalAmount());
+        assertEquals(after, readerEvents.get(readerEvents.size() - 1).state());
+    }
+
+    @Test
+    void findState_正常系_存在しない大会は空を返し発行しない() {
+        // Arrange
+        TournamentStateService reader = reader(60_000);
+
+        // Act
+        Optional<TournamentStateDto> result = reader.findState(UUID.randomUUID());
+
+        // Assert
+        assertTrue(result.isEmpty());
+        assertTrue(readerEvents.isEmpty());
+    }
+
+    @Test
+    void findState_正常系_存在しない大会は期間内はDynamoDBにアクセスせずに空を返す() {
+        // Arrange
+        TournamentStateService reader = reader(0);
+        UUID missing = UUID.randomUUID();
+        reader.findState(missing);
+        dynamoDbClient.resetCounts();
+
+        // Act
+        Optional<TournamentStateDto> result = reader.findState(missing);
+
+        // Assert
+        assertTrue(result.isEmpty());
+        assertEquals(0, dynamoDbClient.requestCount("Query"));
+        assertEquals(0, dynamoDbClient.requestCount("GetItem"));
+        assertEquals(1.0, count("not_found"));
+    }
+
+    @Test
+    void findState_保持数の上限_最後の参照が最も古い状態を破棄して次の参照で読み直す() {
+        // Arrange: 2件まで保持する参照ノード
+        TournamentStateService reader = new TournamentStateService(repository, journalRepository,
+                event -> { }, readerMetrics, 60_000, 5_000, 2, 600_000);
+        UUID second = saveTournament("春季大会");
+        UUID third = saveTournament("夏季大会");
+        reader.findState(tournamentId);
+        reader.findState(second);
+        reader.findState(tournamentId);
+
+        // Act
+        reader.findState(third);
+        dynamoDbClient.resetCounts();
+        reader.findState(tournamentId);
+        int queriesForRecent = dynamoDbClient.requestCount("Query");
+        Optional<TournamentStateDto> evicted = reader.findState(second);
+
+        // Assert
+        assertEquals(0, queriesForRecent);
+        assertTrue(evicted.isPresent());
+        assertEquals(4.0, count("miss"));
+        assertEquals(2.0, readerMetrics.get("tournament.state.cache.evictions").counter().count());
+    }
+
+    @Test
+    void findState_保持数の上限_終了済みのトーナメントの状態を先に破棄する() {
+        // Arrange
+        TournamentStateService reader = new TournamentStateService(repository, journalRepository,
+                event -> { }, readerMetrics, 60_000, 5_000, 2, 600_000);
+        Tournament finished = Tournament.create(UUID.randomUUID(), UUID.randomUUID(), "春季大会", 1, 3,
+                LocalDate.of(2026, 4, 29));
+        finished.finish();
+        repository.save(finished);
+        reader.findState(tournamentId);
+        reader.findState(finished.getTournamentId());
+
+        // Act
+        reader.findState(saveTournament("夏季大会"));
+        dynamoDbClient.resetCounts();
+        reader.findState(tournamentId);
+
+        // Assert: 参照が古い進行中のトーナメントは残る
+        assertEquals(0, dynamoDbClient.requestCount("Query"));
+        assertEquals(1.0, readerMetrics.get("tournament.state.cache.evictions").counter().count());
+    }
+
+    @Test
+    void applyResults_一括入力の間に他ノードの書き込み_連番の欠けを検出して集約から作り直す() {
+        // Arrange: 一括入力の2チャンクの間に、他ノードが別の対局の結果を書き込んだ状態を作る
+        TournamentStateService reader = reader(60_000);
+        TournamentStateDto before = reader.findState(tournamentId).orElseThrow();
+        MatchDto first = pairings.get(0);
+        MatchDto interleaved = pairings.get(1);
+        MatchDto last = pairings.get(2);
+        writerResults.recordResult(tournamentId, 1, first.groupNumber(), first.tableNumber(), MatchResult.BLACK_WIN, null);
+        writerResults.recordResult(tournamentId, 1, interleaved.groupNumber(), interleaved.tableNumber(),
+                MatchResult.DRAW, null);
+        writerResults.recordResult(tournamentId, 1, last.groupNumber(), last.tableNumber(), MatchResult.WHITE_WIN, null);
+        List<ResultChange> changes = List.of(
+                new ResultChange(savedMatch(first), null, before.version() + 1),
+                new ResultChange(savedMatch(last), null, before.version() + 3));
+
+        // Act
+        reader.applyResults(tournamentId, changes);
+        TournamentStateDto after = reader.findState(tournamentId).orElseThrow();
+
+        // Assert
+        assertEquals(before.version() + 3, after.version());
+        PairingDto pairing = after.pairings().stream()
+                .filter(p -> p.tableNumber() == interleaved.tableNumber())
+                .findFirst().orElseThrow();
+        assertEquals("DRAW", pairing.result());
+    }
+
+    private Match savedMatch(MatchDto match) {
+        return repository.findMatch(tournamentId, 1, match.groupNumber(), match.tableNumber()).orElseThrow();
+    }
+
+    private UUID saveTournament(String title) {
+        Tournament tournament = Tournament.create(UUID.randomUUID(), UUID.randomUUID(), title, 1, 3,
+                LocalDate.of(2026, 10, 12));
+        repository.save(tournament);
+        return tournament.getTournamentId();
+    }
+
+    private TournamentStateService reader(long leaseMs) {
+        return new TournamentStateService(repository, journalRepository,
+                event -> readerEvents.add((TournamentStateChangedEvent) event), readerMetrics, leaseMs);
+    }
+
+    private double count(String result) {
+        return readerMetrics.get("tournament.state.cache.requests").tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,274 @@
+package com.swiss_stage.unit.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.swiss_stage.application.dto.TournamentStateDto;
+import com.swiss_stage.application.event.TournamentStateChangedEvent;
+import com.swiss_stage.application.service.TournamentStateService;
+import com.swiss_stage.application.service.TournamentStreamService;
+import com.swiss_stage.common.exception.NotFoundException;
+import com.swiss_stage.common.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * TournamentStreamServiceのユニットテスト
+ * TDD: Red-Green-Refactor
+ */
+class TournamentStreamServiceTest {
+
+    private TournamentStateService stateService;
+    private TournamentStreamService service;
+    private final UUID tournamentId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        // 接続時点の状態はバージョン0（各購読者は接続直後にこの1フレームを受信する）
+        stateService = mock(TournamentStateService.class);
+        when(stateService.findState(any())).thenAnswer(invocation ->
+                Optional.of(new TournamentStateDto(invocation.getArgument(0), 0, 1, List.of(), List.of())));
+        // スケジューラーによる自動フラッシュが干渉しないよう間隔を長くし、flush()を手動で呼ぶ
+        service = newService(2_000, 500);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void flush_正常系_連続した状態変更を1フレームに合体する() {
+        // Arrange
+        RecordingEmitter emitter = new RecordingEmitter();
+        service.subscribe(tournamentId, emitter);
+
+        // Act
+        for (long version = 1; version <= 50; version++) {
+            service.onTournamentStateChanged(new TournamentStateChangedEvent(state(version)));
+        }
+        service.flush();
+
+        // Assert
+        awaitUntil(() -> emitter.payloads.size() == 2);
+        assertTrue(emitter.payloads.get(1).contains("\"version\":50"));
+    }
+
+    @Test
+    void flush_正常系_古いバージョンで最新状態を上書きしない() {
+        // Arrange
+        RecordingEmitter emitter = new RecordingEmitter();
+        service.subscribe(tournamentId, emitter);
+
+        // Act
+        service.onTournamentStateChanged(new TournamentStateChangedEvent(state(5)));
+        service.onTournamentStateChanged(new TournamentStateChangedEvent(state(3)));
+        service.flush();
+
+        // Assert
+        awaitUntil(() -> emitter.payloads.size() == 2);
+        assertTrue(emitter.payloads.get(1).contains("\"version\":5"));
+    }
+
+    @Test
+    void flush_正常系_全購読者で同一のシリアライズ済みペイロードを共有する() {
+        // Arrange
+        RecordingEmitter first = new RecordingEmitter();
+        RecordingEmitter second = new RecordingEmitter();
+        service.subscribe(tournamentId, first);
+        service.subscribe(tournamentId, second);
+
+        // Act
+        service.onTournamentStateChanged(new TournamentStateChangedEvent(state(1)));
+        service.flush();
+
+        // Assert
+        awaitUntil(() -> first.payloads.size() == 2 && second.payloads.size() == 2);
+        assertSame(first.payloads.get(1), second.payloads.get(1));
+    }
+
+    @Test
+    void subscribe_正常系_接続直後に最新状態を受信できる() {
+        // Arrange
+        service.onTournamentStateChanged(new TournamentStateChangedEvent(state(7)));
+        service.flush();
+
+        // Act
+        RecordingEmitter lateSubscriber = new RecordingEmitter();
+        service.subscribe(tournamentId, lateSubscriber);
+
+        // Assert
+        awaitUntil(() -> lateSubscriber.payloads.size() == 1);
+        assertTrue(lateSubscriber.payloads.get(0).contains("\"version\":7"));
+    }
+
+    @Test
+    void subscribe_正常系_配信前でも接続直後に現在の状態を受信できる() {
+        // Arrange: 接続後に状態変更がない（配信済みのフレームもない）トーナメント
+        when(stateService.findState(tournamentId)).thenReturn(Optional.of(state(3)));
+
+        // Act
+        RecordingEmitter emitter = new RecordingEmitter();
+        service.subscribe(tournamentId, emitter);
+
+        // Assert
+        awaitUntil(() -> emitter.payloads.size() == 1);
+        assertTrue(emitter.payloads.get(0).contains("\"version\":3"));
+    }
+
+    @Test
+    void subscribe_異常系_存在しないトーナメントは登録せずNotFoundException() {
+        // Arrange
+        UUID unknownId = UUID.randomUUID();
+        when(stateService.findState(unknownId)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(NotFoundException.class, () -> service.subscribe(unknownId, new RecordingEmitter()));
+        assertEquals(0, service.subscriberCount(unknownId));
+    }
+
+    @Test
+    void subscribe_異常系_購読者数の上限を超える接続はServiceUnavailableException() {
+        // Arrange: ノード全体で2接続・トーナメントごとに1接続まで
+        service.shutdown();
+        service = newService(2, 1);
+        UUID otherId = UUID.randomUUID();
+        service.subscribe(tournamentId, new RecordingEmitter());
+
+        // Act & Assert
+        assertThrows(ServiceUnavailableException.class,
+                () -> service.subscribe(tournamentId, new RecordingEmitter()));
+        service.subscribe(otherId, new RecordingEmitter());
+        assertThrows(ServiceUnavailableException.class,
+                () -> service.subscribe(UUID.randomUUID(), new RecordingEmitter()));
+        assertEquals(1, service.subscriberCount(tournamentId));
+        assertEquals(1, service.subscriberCount(otherId));
+    }
+
+    @Test
+    void flush_異常系_受信が遅い購読者は切断される() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(release);
+        RecordingEmitter fast = new RecordingEmitter();
+        service.subscribe(tournamentId, slow);
+        service.subscribe(tournamentId, fast);
+
+        // Act: 送信が詰まっている間に上限（2フレーム）を超えて配信する
+        for (long version = 1; version <= 5; version++) {
+            service.onTournamentStateChanged(new TournamentStateChangedEvent(state(version)));
+            service.flush();
+        }
+
+        // Assert
+        awaitUntil(() -> slow.completed);
+        release.countDown();
+        awaitUntil(() -> fast.payloads.size() == 6);
+        assertEquals(1, service.subscriberCount(tournamentId));
+    }
+
+    @Test
+    void flush_正常系_購読者のいないトーナメントの最新フレームは保持しない() {
+        // Arrange
+        RecordingEmitter emitter = new RecordingEmitter();
+        service.subscribe(tournamentId, emitter);
+        service.onTournamentStateChanged(new TournamentStateChangedEvent(state(1)));
+        service.flush();
+        awaitUntil(() -> emitter.payloads.size() == 2);
+        assertEquals(1, service.retainedFrameCount());
+
+        // Act: 送信に失敗した購読者が切断され、購読者のいない別のトーナメントも更新される
+        emitter.failing = true;
+        service.onTournamentStateChanged(new TournamentStateChangedEvent(state(2)));
+        service.onTournamentStateChanged(new TournamentStateChangedEvent(
+                new TournamentStateDto(UUID.randomUUID(), 1, 1, List.of(), List.of())));
+        service.flush();
+
+        // Assert
+        awaitUntil(() -> service.subscriberCount(tournamentId) == 0);
+        assertEquals(0, service.retainedFrameCount());
+    }
+
+    private TournamentStreamService newService(int maxSubscribers, int maxSubscribersPerTournament) {
+        return new TournamentStreamService(new ObjectMapper().findAndRegisterModules(), stateService,
+                60_000, 60_000, 60_000, 2, maxSubscribers, maxSubscribersPerTournament);
+    }
+
+    private TournamentStateDto state(long version) {
+        return new TournamentStateDto(tournamentId, version, 1, List.of(), List.of());
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("Condition not met within timeout");
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail("Interrupted");
+            }
+        }
+    }
+
+    /**
+     * 送信内容を記録するSseEmitter
+     * releaseを指定すると、解放されるまで送信をブロックする（遅い端末の再現）
+     * failingをtrueにすると、以降の送信は失敗する（切断された端末の再現）
+     */
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<String> payloads = new CopyOnWriteArrayList<>();
+        private final CountDownLatch release;
+        private volatile boolean completed;
+        private volatile boolean failing;
+
+        RecordingEmitter() {
+            this(new CountDownLatch(0));
+        }
+
+        RecordingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+            Set<ResponseBodyEmitter.DataWithMediaType> items = builder.build();
+            for (ResponseBodyEmitter.DataWithMediaType item : items) {
+                if (MediaType.APPLICATION_JSON.equals(item.getMediaType())) {
+                    payloads.add((String) item.getData());
+                }
+            }
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed = true;
+        }
+    }
+}
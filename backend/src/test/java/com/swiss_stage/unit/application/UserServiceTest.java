@@ -1,37 +1,55 @@
 package com.swiss_stage.unit.application;
 
+import com.swiss_stage.application.dto.AccountDeletionDto;
 import com.swiss_stage.application.dto.UserDto;
+import com.swiss_stage.application.service.AccountDeletionService;
 import com.swiss_stage.application.service.UserService;
 import com.swiss_stage.common.exception.BusinessException;
+import com.swiss_stage.domain.model.AccountDeletion;
 import com.swiss_stage.domain.model.User;
+import com.swiss_stage.domain.model.UserField;
+import com.swiss_stage.domain.model.UserProjection;
+import com.swiss_stage.domain.repository.TournamentRepository;
 import com.swiss_stage.domain.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.time.Instant;
+import java.util.EnumSet;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
  * UserServiceのユニットテスト
  * TDD: Red-Green-Refactor
  */
+@DisabledInNativeImage
 class UserServiceTest {
 
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private TournamentRepository tournamentRepository;
+
+    @Mock
+    private AccountDeletionService accountDeletionService;
+
     private UserService userService;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        userService = new UserService(userRepository);
+        userService = new UserService(userRepository, tournamentRepository, accountDeletionService);
     }
 
     @Test
@@ -50,8 +68,8 @@ class UserServiceTest {
 
         // Assert
         assertNotNull(result);
-        assertEquals(existingUser.getUserId(), result.getUserId());
-        assertEquals(displayName, result.getDisplayName());
+        assertEquals(existingUser.getUserId(), result.userId());
+        assertEquals(displayName, result.displayName());
         verify(userRepository, times(1)).findByGoogleId(googleId);
         verify(userRepository, times(1)).save(any(User.class)); // lastLoginAt更新のため保存
     }
@@ -71,8 +89,8 @@ class UserServiceTest {
 
         // Assert
         assertNotNull(result);
-        assertNotNull(result.getUserId());
-        assertEquals(displayName, result.getDisplayName());
+        assertNotNull(result.userId());
+        assertEquals(displayName, result.displayName());
         verify(userRepository, times(1)).findByGoogleId(googleId);
         verify(userRepository, times(1)).save(any(User.class));
     }
@@ -86,29 +104,34 @@ class UserServiceTest {
         String displayName = "テストユーザー";
         
         User user = User.create(userId, googleId, email, displayName);
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(userRepository.findProjection(eq(userId), anySet()))
+                .thenAnswer(invocation -> Optional.of(UserProjection.from(user, invocation.getArgument(1))));
 
         // Act
         Optional<UserDto> result = userService.findById(userId.toString());
 
         // Assert
         assertTrue(result.isPresent());
-        assertEquals(userId, result.get().getUserId());
-        verify(userRepository, times(1)).findById(userId);
+        assertEquals(userId, result.get().userId());
+        assertEquals(displayName, result.get().displayName());
+        // DTOに含めない属性（メールアドレス・Google ID）は読み込まない
+        verify(userRepository, times(1)).findProjection(userId,
+                EnumSet.of(UserField.DISPLAY_NAME, UserField.CREATED_AT, UserField.LAST_LOGIN_AT));
+        verify(userRepository, never()).findById(any());
     }
 
     @Test
     void findById_異常系_ユーザーが存在しない場合空のOptionalを返す() {
         // Arrange
         UUID userId = UUID.randomUUID();
-        when(userRepository.findById(userId)).thenReturn(Optional.empty());
+        when(userRepository.findProjection(eq(userId), anySet())).thenReturn(Optional.empty());
 
         // Act
         Optional<UserDto> result = userService.findById(userId.toString());
 
         // Assert
         assertFalse(result.isPresent());
-        verify(userRepository, times(1)).findById(userId);
+        verify(userRepository, times(1)).findProjection(eq(userId), anySet());
     }
 
     @Test
@@ -121,14 +144,39 @@ class UserServiceTest {
         String confirmation = "DELETE";
         
         User user = User.create(userId, googleId, email, displayName);
+        AccountDeletionDto started = AccountDeletionDto.from(AccountDeletion.start(userId, 3, Instant.now()));
         when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(tournamentRepository.hasActiveTournaments(userId)).thenReturn(false);
+        when(accountDeletionService.start(userId)).thenReturn(started);
 
         // Act
-        userService.deleteAccount(userId.toString(), email, confirmation);
+        AccountDeletionDto result = userService.deleteAccount(userId.toString(), email, confirmation);
 
         // Assert
+        assertSame(started, result);
         verify(userRepository, times(1)).findById(userId);
-        verify(userRepository, times(1)).deleteById(userId);
+        verify(accountDeletionService, times(1)).start(userId);
+        // ユーザーの削除はバックグラウンドのジョブで行う
+        verify(userRepository, never()).deleteById(any());
+    }
+
+    @Test
+    void deleteAccount_異常系_未終了のトーナメントがある() {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        String email = "user@example.com";
+        User user = User.create(userId, "102345678901234567890", email, "テストユーザー");
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(tournamentRepository.hasActiveTournaments(userId)).thenReturn(true);
+
+        // Act & Assert
+        BusinessException exception = assertThrows(BusinessException.class, () -> {
+            userService.deleteAccount(userId.toString(), email, "DELETE");
+        });
+
+        assertEquals("Cannot delete account with pending tournaments", exception.getMessage());
+        verify(accountDeletionService, never()).start(any());
+        verify(userRepository, never()).deleteById(any());
     }
 
     @Test
@@ -0,0 +1,143 @@
+package com.swiss_stage.unit.domain;
+
+import com.swiss_stage.domain.model.Match;
+import com.swiss_stage.domain.model.OpponentMatrix;
+import com.swiss_stage.domain.service.SwissPairingEngine;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * OpponentMatrix・SwissPairingEngineのドメインロジックをテスト
+ * TDD: Red-Green-Refactor
+ */
+class OpponentMatrixTest {
+
+    private final UUID tournamentId = UUID.randomUUID();
+
+    @Test
+    void record_正常系_対戦済みと不戦を記録できる() {
+        // Arrange
+        List<UUID> players = players(3);
+        OpponentMatrix matrix = OpponentMatrix.empty(1);
+
+        // Act
+        matrix.record(Match.paired(tournamentId, 1, 1, 1, players.get(0), players.get(1)));
+        matrix.record(Match.paired(tournamentId, 1, 1, 2, players.get(2), null));
+
+        // Assert
+        assertTrue(matrix.hasPlayed(players.get(0), players.get(1)));
+        assertTrue(matrix.hasPlayed(players.get(1), players.get(0)));
+        assertFalse(matrix.hasPlayed(players.get(0), players.get(2)));
+        assertTrue(matrix.hasHadBye(matrix.indexOf(players.get(2))));
+        assertFalse(matrix.hasHadBye(matrix.indexOf(players.get(0))));
+    }
+
+    @Test
+    void restore_正常系_300名分のビット列から同じ対戦履歴を復元できる() {
+        // Arrange: 全員が順に5局ずつ対戦した状態
+        List<UUID> players = players(300);
+        OpponentMatrix matrix = OpponentMatrix.empty(2);
+        for (int round = 1; round <= 5; round++) {
+            for (int i = 0; i < 300; i += 2) {
+                int opponent = (i + round * 2 + 1) % 300;
+                matrix.record(Match.paired(tournamentId, round, 2, i / 2 + 1, players.get(i), players.get(opponent)));
+            }
+        }
+
+        // Act
+        OpponentMatrix restored = OpponentMatrix.restore(2, matrix.getParticipantIds(),
+                matrix.getOpponents(), matrix.getByes(), 3);
+
+        // Assert: 300名で n*(n-1)/2 ビット ≒ 5.6KB
+        assertEquals(5607, restored.getOpponents().length);
+        for (int i = 0; i < 300; i++) {
+            for (int j = 0; j < 300; j++) {
+                assertEquals(matrix.hasPlayed(i, j), restored.hasPlayed(i, j));
+            }
+        }
+        assertEquals(3, restored.getVersion());
+    }
+
+    @Test
+    void register_正常系_参加者を追加しても既存の対戦履歴は変わらない() {
+        // Arrange
+        List<UUID> players = players(3);
+        OpponentMatrix matrix = OpponentMatrix.empty(1);
+        matrix.record(Match.paired(tournamentId, 1, 1, 1, players.get(0), players.get(1)));
+
+        // Act
+        int index = matrix.register(players.get(2));
+
+        // Assert
+        assertEquals(2, index);
+        assertEquals(0, matrix.register(players.get(0)));
+        assertTrue(matrix.hasPlayed(players.get(0), players.get(1)));
+        assertFalse(matrix.hasPlayed(players.get(1), players.get(2)));
+    }
+
+    @Test
+    void pair_正常系_対戦済みの組合せを避けて組む() {
+        // Arrange: 1位と2位、3位と4位が対戦済み
+        List<UUID> players = players(4);
+        OpponentMatrix matrix = OpponentMatrix.empty(1);
+        matrix.record(Match.paired(tournamentId, 1, 1, 1, players.get(0), players.get(1)));
+        matrix.record(Match.paired(tournamentId, 1, 1, 2, players.get(2), players.get(3)));
+
+        // Act
+        List<Match> matches = new SwissPairingEngine().pair(tournamentId, 2, players, matrix);
+
+        // Assert
+        assertEquals(2, matches.size());
+        assertEquals(players.get(0), matches.get(0).blackParticipantId());
+        assertEquals(players.get(2), matches.get(0).whiteParticipantId());
+        assertEquals(players.get(1), matches.get(1).blackParticipantId());
+        assertEquals(players.get(3), matches.get(1).whiteParticipantId());
+    }
+
+    @Test
+    void pair_正常系_奇数の場合は不戦を受けていない最下位を不戦にする() {
+        // Arrange: 最下位（5位）は不戦済み
+        List<UUID> players = players(5);
+        OpponentMatrix matrix = OpponentMatrix.empty(1);
+        players.forEach(matrix::register);
+        matrix.record(Match.paired(tournamentId, 1, 1, 3, players.get(4), null));
+
+        // Act
+        List<Match> matches = new SwissPairingEngine().pair(tournamentId, 2, players, matrix);
+
+        // Assert
+        Match bye = matches.get(matches.size() - 1);
+        assertTrue(bye.isBye());
+        assertEquals(players.get(3), bye.blackParticipantId());
+        assertEquals(3, bye.tableNumber());
+    }
+
+    @Test
+    void pair_正常系_再戦を避けられない場合は順位順に組む() {
+        // Arrange: 2名が対戦済み
+        List<UUID> players = players(2);
+        OpponentMatrix matrix = OpponentMatrix.empty(1);
+        matrix.record(Match.paired(tournamentId, 1, 1, 1, players.get(0), players.get(1)));
+
+        // Act
+        List<Match> matches = new SwissPairingEngine().pair(tournamentId, 2, players, matrix);
+
+        // Assert
+        assertEquals(1, matches.size());
+        assertEquals(players.get(0), matches.get(0).blackParticipantId());
+        assertEquals(players.get(1), matches.get(0).whiteParticipantId());
+    }
+
+    private static List<UUID> players(int count) {
+        List<UUID> players = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            players.add(UUID.randomUUID());
+        }
+        return players;
+    }
+}
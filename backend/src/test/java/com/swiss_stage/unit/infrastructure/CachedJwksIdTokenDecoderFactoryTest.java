@@ -0,0 +1,170 @@
+package com.swiss_stage.unit.infrastructure;
+
+import com.swiss_stage.infrastructure.oidc.CachedJwksIdTokenDecoderFactory;
+import com.swiss_stage.presentation.handler.IdTokenOidcUserService;
+import com.swiss_stage.support.StubAuthorizationServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.client.oidc.userinfo.OidcUserRequest;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.security.oauth2.core.oidc.OidcIdToken;
+import org.springframework.security.oauth2.core.oidc.user.OidcUser;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CachedJwksIdTokenDecoderFactoryのユニットテスト
+ * テスト用の認可サーバーが発行したID Tokenを検証し、公開鍵セットの取得回数を数える
+ */
+class CachedJwksIdTokenDecoderFactoryTest {
+
+    private static final String CLIENT_ID = "client-id";
+
+    private StubAuthorizationServer authorizationServer;
+    private CachedJwksIdTokenDecoderFactory factory;
+    private ClientRegistration registration;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        authorizationServer = new StubAuthorizationServer();
+        factory = new CachedJwksIdTokenDecoderFactory(3600, 30, List.of(StubAuthorizationServer.ISSUER));
+        registration = authorizationServer.clientRegistration(CLIENT_ID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        factory.shutdown();
+        authorizationServer.close();
+    }
+
+    @Test
+    void decode_正常系_公開鍵セットは1回だけ取得して以降はキャッシュで検証する() {
+        // Arrange
+        JwtDecoder decoder = factory.createDecoder(registration);
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            decoder.decode(authorizationServer.idToken(StubAuthorizationServer.ISSUER, CLIENT_ID));
+        }
+        Jwt jwt = factory.createDecoder(registration)
+                .decode(authorizationServer.idToken(StubAuthorizationServer.ISSUER, CLIENT_ID));
+
+        // Assert
+        assertEquals("google-1", jwt.getSubject());
+        assertEquals("player@example.com", jwt.getClaimAsString("email"));
+        assertEquals(1, authorizationServer.requestCount("/jwks"));
+    }
+
+    @Test
+    void decode_異常系_別のクライアント向けのIDトークン() {
+        // Arrange
+        JwtDecoder decoder = factory.createDecoder(registration);
+
+        // Act & Assert
+        assertThrows(JwtException.class,
+                () -> decoder.decode(authorizationServer.idToken(StubAuthorizationServer.ISSUER, "other-client")));
+    }
+
+    @Test
+    void decode_異常系_想定外の発行者() {
+        // Arrange
+        JwtDecoder decoder = factory.createDecoder(registration);
+
+        // Act & Assert
+        assertThrows(JwtException.class,
+                () -> decoder.decode(authorizationServer.idToken("https://issuer.example.com", CLIENT_ID)));
+    }
+
+    @Test
+    void decode_スキームなしの発行者_https付きの発行者として受け入れる() {
+        // Arrange: Googleの発行者の2つの表記
+        JwtDecoder decoder = new CachedJwksIdTokenDecoderFactory(3600, 30,
+                List.of(StubAuthorizationServer.ISSUER, "accounts.google.com")).createDecoder(registration);
+
+        // Act
+        Jwt jwt = decoder.decode(authorizationServer.idToken("accounts.google.com", CLIENT_ID));
+
+        // Assert
+        assertEquals(StubAuthorizationServer.ISSUER, jwt.getIssuer().toString());
+        assertThrows(JwtException.class,
+                () -> decoder.decode(authorizationServer.idToken("issuer.example.com", CLIENT_ID)));
+    }
+
+    @Test
+    void decode_鍵のローテーション_未知の鍵IDの場合のみ取得し直す() {
+        // Arrange: 取得し直しの最小間隔なし
+        CachedJwksIdTokenDecoderFactory noMinInterval =
+                new CachedJwksIdTokenDecoderFactory(3600, 0, List.of(StubAuthorizationServer.ISSUER));
+        JwtDecoder decoder = noMinInterval.createDecoder(registration);
+        decoder.decode(authorizationServer.idToken(StubAuthorizationServer.ISSUER, CLIENT_ID));
+
+        // Act
+        authorizationServer.rotateKey();
+        decoder.decode(authorizationServer.idToken(StubAuthorizationServer.ISSUER, CLIENT_ID));
+        decoder.decode(authorizationServer.idToken(StubAuthorizationServer.ISSUER, CLIENT_ID));
+        noMinInterval.shutdown();
+
+        // Assert
+        assertEquals(2, authorizationServer.requestCount("/jwks"));
+    }
+
+    @Test
+    void decode_異常系_未知の鍵IDの取得し直しは最小間隔内に繰り返さない() throws IOException {
+        // Arrange
+        JwtDecoder decoder = factory.createDecoder(registration);
+        decoder.decode(authorizationServer.idToken(StubAuthorizationServer.ISSUER, CLIENT_ID));
+
+        // Act & Assert
+        try (StubAuthorizationServer unknownIssuer = new StubAuthorizationServer()) {
+            for (int i = 0; i < 3; i++) {
+                String forged = unknownIssuer.idToken(StubAuthorizationServer.ISSUER, CLIENT_ID);
+                assertThrows(JwtException.class, () -> decoder.decode(forged));
+            }
+        }
+        assertEquals(1, authorizationServer.requestCount("/jwks"));
+    }
+
+    @Test
+    void decode_認可サーバーの障害_保持している鍵で検証を続ける() {
+        // Arrange
+        JwtDecoder decoder = factory.createDecoder(registration);
+        String idToken = authorizationServer.idToken(StubAuthorizationServer.ISSUER, CLIENT_ID);
+        decoder.decode(idToken);
+
+        // Act
+        authorizationServer.close();
+        Jwt jwt = decoder.decode(idToken);
+
+        // Assert
+        assertEquals("google-1", jwt.getSubject());
+    }
+
+    @Test
+    void loadUser_正常系_IDトークンのクレームからユーザーを作成する() {
+        // Arrange
+        Jwt jwt = factory.createDecoder(registration)
+                .decode(authorizationServer.idToken(StubAuthorizationServer.ISSUER, CLIENT_ID));
+        OidcIdToken idToken = new OidcIdToken(jwt.getTokenValue(), jwt.getIssuedAt(), jwt.getExpiresAt(),
+                jwt.getClaims());
+        OAuth2AccessToken accessToken = new OAuth2AccessToken(OAuth2AccessToken.TokenType.BEARER, "access-token",
+                Instant.now(), Instant.now().plusSeconds(3600));
+
+        // Act
+        OidcUser user = new IdTokenOidcUserService().loadUser(new OidcUserRequest(registration, accessToken, idToken));
+
+        // Assert
+        assertEquals("google-1", user.getName());
+        assertEquals("player@example.com", user.<String>getAttribute("email"));
+        assertEquals("対局者", user.<String>getAttribute("name"));
+        assertEquals(0, authorizationServer.requestCount("/userinfo"));
+    }
+}
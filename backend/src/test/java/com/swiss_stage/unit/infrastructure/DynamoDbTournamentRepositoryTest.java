@@ -0,0 +1,476 @@
+package com.swiss_stage.unit.infrastructure;
+
+import com.swiss_stage.common.exception.OptimisticLockException;
+import com.swiss_stage.domain.model.Match;
+import com.swiss_stage.domain.model.MatchResult;
+import com.swiss_stage.domain.model.OpponentMatrix;
+import com.swiss_stage.domain.model.Participant;
+import com.swiss_stage.domain.model.ParticipantSummary;
+import com.swiss_stage.domain.model.RecordedEvent;
+import com.swiss_stage.domain.model.Round;
+import com.swiss_stage.domain.model.Tournament;
+import com.swiss_stage.domain.model.TournamentAggregate;
+import com.swiss_stage.domain.model.TournamentEvent;
+import com.swiss_stage.domain.model.TournamentStatus;
+import com.swiss_stage.domain.model.TournamentSummary;
+import com.swiss_stage.domain.model.TournamentSummaryPage;
+import com.swiss_stage.infrastructure.repository.DynamoDbParticipantRepository;
+import com.swiss_stage.infrastructure.repository.DynamoDbTournamentRepository;
+import com.swiss_stage.infrastructure.repository.TournamentAggregateCodec;
+import com.swiss_stage.infrastructure.repository.TournamentStorageMode;
+import com.swiss_stage.support.InMemoryDynamoDbClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * DynamoDbTournamentRepositoryのユニットテスト
+ * インメモリのDynamoDbClientでアクセスパターン（Query回数・ページング・射影）を検証する
+ */
+class DynamoDbTournamentRepositoryTest {
+
+    private static final String TABLE_NAME = "swiss_stage_table";
+
+    private InMemoryDynamoDbClient dynamoDbClient;
+    private DynamoDbTournamentRepository repository;
+    private DynamoDbParticipantRepository participantRepository;
+    private Tournament tournament;
+
+    @BeforeEach
+    void setUp() {
+        dynamoDbClient = new InMemoryDynamoDbClient();
+        repository = new DynamoDbTournamentRepository(dynamoDbClient, TABLE_NAME);
+        participantRepository = new DynamoDbParticipantRepository(dynamoDbClient, TABLE_NAME);
+        tournament = Tournament.create(UUID.randomUUID(), UUID.randomUUID(), "春季大会", 2, 3,
+                LocalDate.of(2026, 4, 29));
+    }
+
+    @Test
+    void loadAggregate_正常系_ページングしたQueryのみで集約全体を読み込む() {
+        // Arrange
+        List<Participant> participants = seed(40, 3);
+        dynamoDbClient.withMaxPageItems(10);
+        dynamoDbClient.resetCounts();
+
+        // Act
+        Optional<TournamentAggregate> result = repository.loadAggregate(tournament.getTournamentId());
+
+        // Assert: 1 + 40 + 3 + 60 = 104アイテム → 10件ずつ11ページ
+        assertTrue(result.isPresent());
+        TournamentAggregate aggregate = result.get();
+        assertEquals(tournament.getTitle(), aggregate.tournament().getTitle());
+        assertEquals(40, aggregate.participants().size());
+        assertEquals(3, aggregate.rounds().size());
+        assertEquals(60, aggregate.matches().size());
+        assertEquals(11, dynamoDbClient.requestCount("Query"));
+        assertEquals(0, dynamoDbClient.requestCount("GetItem"));
+
+        // 参加者はエントリー番号順、対局は回戦・グループ・対局番号順
+        assertEquals(participants.get(0).participantId(), aggregate.participants().get(0).participantId());
+        assertEquals(1, aggregate.participants().get(0).entryNumber());
+        assertEquals(40, aggregate.participants().get(39).entryNumber());
+        Match first = aggregate.matches().get(0);
+        Match last = aggregate.matches().get(59);
+        assertEquals(1, first.roundNumber());
+        assertEquals(1, first.groupNumber());
+        assertEquals(1, first.tableNumber());
+        assertEquals(3, last.roundNumber());
+        assertEquals(2, last.groupNumber());
+        assertEquals(10, last.tableNumber());
+    }
+
+    @Test
+    void loadAggregate_正常系_大会が存在しない場合は空を返す() {
+        // Act
+        Optional<TournamentAggregate> result = repository.loadAggregate(UUID.randomUUID());
+
+        // Assert
+        assertTrue(result.isEmpty());
+        assertEquals(1, dynamoDbClient.requestCount("Query"));
+    }
+
+    @Test
+    void findParticipantSummaries_正常系_射影で一覧に必要な属性のみ取得する() {
+        // Arrange
+        seed(5, 0);
+        dynamoDbClient.resetCounts();
+
+        // Act
+        List<ParticipantSummary> summaries = repository.findParticipantSummaries(tournament.getTournamentId());
+
+        // Assert
+        assertEquals(5, summaries.size());
+        assertEquals(1, summaries.get(0).entryNumber());
+        assertEquals("参加者1", summaries.get(0).name());
+        QueryRequest request = dynamoDbClient.queryRequests().get(0);
+        assertNotNull(request.projectionExpression());
+        assertFalse(request.projectionExpression().contains("affiliation"));
+        assertEquals("name", request.expressionAttributeNames().get("#name"));
+    }
+
+    @Test
+    void findMatchesByRound_正常系_指定した回戦の対局のみ取得する() {
+        // Arrange
+        seed(40, 3);
+
+        // Act
+        List<Match> matches = repository.findMatchesByRound(tournament.getTournamentId(), 2);
+
+        // Assert
+        assertEquals(20, matches.size());
+        assertTrue(matches.stream().allMatch(match -> match.roundNumber() == 2));
+    }
+
+    @Test
+    void forEachMatchInRound_正常系_ページごとに読み込みながら対局番号順に渡す() {
+        // Arrange
+        seed(40, 3);
+        dynamoDbClient.withMaxPageItems(6);
+        dynamoDbClient.resetCounts();
+
+        // Act
+        List<Match> matches = new ArrayList<>();
+        repository.forEachMatchInRound(tournament.getTournamentId(), 2, matches::add);
+
+        // Assert: 20対局 → 6件ずつ4ページ
+        assertEquals(20, matches.size());
+        assertTrue(matches.stream().allMatch(match -> match.roundNumber() == 2));
+        assertEquals(1, matches.get(0).groupNumber());
+        assertEquals(1, matches.get(0).tableNumber());
+        assertEquals(2, matches.get(19).groupNumber());
+        assertEquals(10, matches.get(19).tableNumber());
+        assertEquals(4, dynamoDbClient.requestCount("Query"));
+        assertNotEquals(Boolean.TRUE, dynamoDbClient.queryRequests().get(0).consistentRead());
+    }
+
+    @Test
+    void save_正常系_大会情報を保存して取得できる() {
+        // Arrange
+        tournament.startNextRound();
+
+        // Act
+        repository.save(tournament);
+        Optional<Tournament> found = repository.findById(tournament.getTournamentId());
+
+        // Assert
+        assertTrue(found.isPresent());
+        assertEquals(1, found.get().getCurrentRound());
+        assertEquals(tournament.getStatus(), found.get().getStatus());
+        assertEquals(tournament.getEventDate(), found.get().getEventDate());
+    }
+
+    @Test
+    void saveMatchResult_正常系_保存のたびにバージョンが増える() {
+        // Arrange
+        seed(4, 1);
+        UUID tournamentId = tournament.getTournamentId();
+        Match match = repository.findMatch(tournamentId, 1, 1, 1).orElseThrow();
+        Round round = repository.findRound(tournamentId, 1).orElseThrow();
+
+        // Act
+        Match saved = repository.saveMatchResult(match.withResult(MatchResult.DRAW), round, List.of(), resultEntered(1));
+
+        // Assert
+        assertEquals(match.version() + 1, saved.version());
+        Match reloaded = repository.findMatch(tournamentId, 1, 1, 1).orElseThrow();
+        assertEquals(MatchResult.DRAW, reloaded.result());
+        assertEquals(saved.version(), reloaded.version());
+        assertEquals(round.version() + 1, repository.findRound(tournamentId, 1).orElseThrow().version());
+    }
+
+    @Test
+    void saveMatchResult_異常系_古いバージョンでは何も書き込まない() {
+        // Arrange
+        seed(4, 1);
+        UUID tournamentId = tournament.getTournamentId();
+        Match match = repository.findMatch(tournamentId, 1, 1, 1).orElseThrow();
+        Round staleRound = repository.findRound(tournamentId, 1).orElseThrow();
+        repository.saveRound(staleRound);
+
+        // Act & Assert: 回戦が先に更新されているため、対局も含めてトランザクション全体が失敗する
+        assertThrows(OptimisticLockException.class,
+                () -> repository.saveMatchResult(match.withResult(MatchResult.DRAW), staleRound, List.of(), resultEntered(1)));
+        Match reloaded = repository.findMatch(tournamentId, 1, 1, 1).orElseThrow();
+        assertEquals(MatchResult.BLACK_WIN, reloaded.result());
+        assertEquals(match.version(), reloaded.version());
+    }
+
+    @Test
+    void loadAggregate_正常系_イベントログとスナップショットは読み込まない() {
+        // Arrange
+        seed(4, 1);
+        UUID tournamentId = tournament.getTournamentId();
+        Match match = repository.findMatch(tournamentId, 1, 1, 1).orElseThrow();
+        Round round = repository.findRound(tournamentId, 1).orElseThrow();
+        repository.saveMatchResult(match.withResult(MatchResult.DRAW), round, List.of(), resultEntered(1));
+        dynamoDbClient.withMaxPageItems(1);
+        dynamoDbClient.resetCounts();
+
+        // Act
+        repository.loadAggregate(tournamentId);
+
+        // Assert: 1件ずつのページで、METADATA + 参加者4 + 回戦1 + 対局2 = 8アイテム分のみ（EVENT#は範囲外）
+        assertEquals(8, dynamoDbClient.requestCount("Query"));
+    }
+
+    @Test
+    void saveMatchResult_異常系_記録済みのイベント連番では何も書き込まない() {
+        // Arrange
+        seed(4, 1);
+        UUID tournamentId = tournament.getTournamentId();
+        Match first = repository.findMatch(tournamentId, 1, 1, 1).orElseThrow();
+        repository.saveMatchResult(first.withResult(MatchResult.DRAW),
+                repository.findRound(tournamentId, 1).orElseThrow(), List.of(), resultEntered(1));
+        Match second = repository.findMatch(tournamentId, 1, 2, 1).orElseThrow();
+
+        // Act & Assert
+        assertThrows(OptimisticLockException.class, () -> repository.saveMatchResult(
+                second.withResult(MatchResult.DRAW), repository.findRound(tournamentId, 1).orElseThrow(),
+                List.of(), resultEntered(1)));
+        assertEquals(MatchResult.BLACK_WIN, repository.findMatch(tournamentId, 1, 2, 1).orElseThrow().result());
+    }
+
+    @Test
+    void saveMatchResult_正常系_対戦済み行列をバイナリ属性で保存し1回の読み込みで復元する() {
+        // Arrange
+        seed(8, 1);
+        UUID tournamentId = tournament.getTournamentId();
+        Match match = repository.findMatch(tournamentId, 1, 1, 1).orElseThrow();
+        Round round = repository.findRound(tournamentId, 1).orElseThrow();
+        OpponentMatrix matrix = OpponentMatrix.empty(1);
+        matrix.record(match);
+
+        // Act
+        repository.saveMatchResult(match.withResult(MatchResult.DRAW), round, List.of(matrix), resultEntered(1));
+        dynamoDbClient.resetCounts();
+        List<OpponentMatrix> found = repository.findOpponentMatrices(tournamentId);
+
+        // Assert
+        assertEquals(1, dynamoDbClient.requestCount("Query"));
+        assertEquals(1, found.size());
+        OpponentMatrix restored = found.get(0);
+        assertEquals(1, restored.getVersion());
+        assertEquals(matrix.getParticipantIds(), restored.getParticipantIds());
+        assertTrue(restored.hasPlayed(match.blackParticipantId(), match.whiteParticipantId()));
+        assertEquals(1, repository.findOpponentMatrix(tournamentId, 1).orElseThrow().getVersion());
+        assertTrue(repository.findOpponentMatrix(tournamentId, 2).isEmpty());
+    }
+
+    @Test
+    void saveMatchResult_異常系_古いバージョンの対戦済み行列では何も書き込まない() {
+        // Arrange
+        seed(8, 1);
+        UUID tournamentId = tournament.getTournamentId();
+        Match first = repository.findMatch(tournamentId, 1, 1, 1).orElseThrow();
+        OpponentMatrix matrix = OpponentMatrix.empty(1);
+        matrix.record(first);
+        repository.saveMatchResult(first.withResult(MatchResult.DRAW),
+                repository.findRound(tournamentId, 1).orElseThrow(), List.of(matrix), resultEntered(1));
+        Match second = repository.findMatch(tournamentId, 1, 1, 2).orElseThrow();
+
+        // Act & Assert: version=0（新規作成）の行列は既存アイテムを上書きできない
+        OpponentMatrix stale = OpponentMatrix.empty(1);
+        stale.record(second);
+        assertThrows(OptimisticLockException.class, () -> repository.saveMatchResult(
+                second.withResult(MatchResult.DRAW), repository.findRound(tournamentId, 1).orElseThrow(),
+                List.of(stale), resultEntered(2)));
+        assertTrue(repository.findOpponentMatrix(tournamentId, 1).orElseThrow()
+                .hasPlayed(first.blackParticipantId(), first.whiteParticipantId()));
+        assertEquals(MatchResult.BLACK_WIN, repository.findMatch(tournamentId, 1, 1, 2).orElseThrow().result());
+    }
+
+    @Test
+    void loadAggregate_正常系_集約バイナリモードでは2回目以降GetItem1回で読み込む() {
+        // Arrange
+        useBlobMode();
+        seed(40, 3);
+        dynamoDbClient.withMaxPageItems(10);
+        dynamoDbClient.resetCounts();
+
+        // Act
+        TournamentAggregate first = repository.loadAggregate(tournament.getTournamentId()).orElseThrow();
+        int firstQueries = dynamoDbClient.requestCount("Query");
+        dynamoDbClient.resetCounts();
+        TournamentAggregate second = repository.loadAggregate(tournament.getTournamentId()).orElseThrow();
+
+        // Assert: 1回目はアイテムから作って保存、2回目は集約バイナリのみ
+        assertEquals(11, firstQueries);
+        assertEquals(0, dynamoDbClient.requestCount("Query"));
+        assertEquals(1, dynamoDbClient.requestCount("GetItem"));
+        assertEquals(first.participants(), second.participants());
+        assertEquals(first.matches(), second.matches());
+        assertEquals(first.rounds().size(), second.rounds().size());
+    }
+
+    @Test
+    void loadAggregate_正常系_集約バイナリモードでは結果入力後に最新の集約を読み込む() {
+        // Arrange
+        useBlobMode();
+        seed(4, 1);
+        UUID tournamentId = tournament.getTournamentId();
+        repository.loadAggregate(tournamentId);
+        Match match = repository.findMatch(tournamentId, 1, 1, 1).orElseThrow();
+        repository.saveMatchResult(match.withResult(MatchResult.DRAW),
+                repository.findRound(tournamentId, 1).orElseThrow(), List.of(), resultEntered(1));
+        dynamoDbClient.resetCounts();
+
+        // Act
+        TournamentAggregate aggregate = repository.loadAggregate(tournamentId).orElseThrow();
+
+        // Assert: 結果入力のトランザクションで無効化されているため、アイテムから読み直す
+        assertEquals(1, dynamoDbClient.requestCount("Query"));
+        assertEquals(MatchResult.DRAW, aggregate.matches().get(0).result());
+        assertEquals(MatchResult.DRAW, repository.loadAggregate(tournamentId).orElseThrow().matches().get(0).result());
+    }
+
+    @Test
+    void loadAggregate_正常系_集約バイナリモードでも参加者の追加を反映する() {
+        // Arrange
+        useBlobMode();
+        seed(4, 0);
+        UUID tournamentId = tournament.getTournamentId();
+        repository.loadAggregate(tournamentId);
+
+        // Act
+        participantRepository.saveBatch(List.of(Participant.create(tournamentId, 5, "参加者5", null, null, 1)));
+        TournamentAggregate aggregate = repository.loadAggregate(tournamentId).orElseThrow();
+
+        // Assert
+        assertEquals(5, aggregate.participants().size());
+    }
+
+    private void useBlobMode() {
+        repository = new DynamoDbTournamentRepository(dynamoDbClient, TABLE_NAME,
+                TournamentStorageMode.ITEMS_WITH_BLOB, TournamentAggregateCodec.Compression.DEFLATE);
+        participantRepository = new DynamoDbParticipantRepository(dynamoDbClient, TABLE_NAME,
+                TournamentStorageMode.ITEMS_WITH_BLOB, TournamentAggregateCodec.Compression.DEFLATE);
+    }
+
+    private RecordedEvent resultEntered(long sequence) {
+        return new RecordedEvent(sequence,
+                new TournamentEvent.ResultEntered(1, 1, 1, MatchResult.DRAW, Instant.now()));
+    }
+
+    /**
+     * 大会情報・参加者・回戦・対局を投入する（各回戦で参加者数/2局）
+     */
+    @Test
+    void hasActiveTournaments_正常系_疎なインデックスを1件だけ読み込んで判定する() {
+        // Arrange: 同じ主催者の終了済みトーナメントと未終了トーナメント
+        UUID organizerId = tournament.getOrganizerId();
+        Tournament finished = Tournament.create(UUID.randomUUID(), organizerId, "秋季大会", 1, 2,
+                LocalDate.of(2025, 10, 12));
+        finished.finish();
+        repository.save(finished);
+        repository.save(tournament);
+        dynamoDbClient.resetCounts();
+
+        // Act & Assert
+        assertTrue(repository.hasActiveTournaments(organizerId));
+        assertEquals(1, dynamoDbClient.requestCount("Query"));
+        QueryRequest request = dynamoDbClient.queryRequests().get(0);
+        assertEquals("GSI2", request.indexName());
+        assertEquals(1, request.limit());
+
+        // 終了すると属性が消え、インデックスから外れる
+        tournament.finish();
+        repository.save(tournament);
+        assertFalse(repository.hasActiveTournaments(organizerId));
+        assertEquals(List.of(finished.getTournamentId(), tournament.getTournamentId()),
+                repository.findTournamentIdsByOrganizer(organizerId));
+    }
+
+    @Test
+    void deleteTournament_正常系_パーティションの全アイテムをチャンクに分けて削除する() {
+        // Arrange: 1 + 40 + 3 + 60 = 104アイテム
+        seed(40, 3);
+        Tournament other = Tournament.create(UUID.randomUUID(), tournament.getOrganizerId(), "別の大会", 1, 2,
+                LocalDate.of(2026, 5, 5));
+        repository.save(other);
+        dynamoDbClient.withMaxPageItems(30);
+        dynamoDbClient.resetCounts();
+        List<Long> progress = Collections.synchronizedList(new ArrayList<>());
+
+        // Act
+        long deleted = repository.deleteTournament(tournament.getTournamentId(), 3, progress::add);
+
+        // Assert: 大会情報以外の103件を25件ずつ5チャンク、大会情報は最後に1件で削除する
+        assertEquals(104, deleted);
+        assertEquals(104, progress.stream().mapToLong(Long::longValue).sum());
+        assertEquals(5, dynamoDbClient.requestCount("BatchWriteItem"));
+        assertEquals(1, dynamoDbClient.requestCount("DeleteItem"));
+        assertEquals(1, dynamoDbClient.itemCount());
+        assertTrue(repository.findById(tournament.getTournamentId()).isEmpty());
+        assertTrue(repository.findById(other.getTournamentId()).isPresent());
+    }
+
+    @Test
+    void findSummariesByOrganizer_正常系_射影とLimitで1ページ分のみを開催日の新しい順に読み込む() {
+        // Arrange: 同じ主催者のトーナメント5件（開催日が1日ずつ異なる）
+        UUID organizerId = tournament.getOrganizerId();
+        for (int day = 1; day <= 5; day++) {
+            repository.save(Tournament.create(UUID.randomUUID(), organizerId, "月例会" + day, 1, 2,
+                    LocalDate.of(2026, 6, day)));
+        }
+        repository.save(Tournament.create(UUID.randomUUID(), UUID.randomUUID(), "他の主催者", 1, 2,
+                LocalDate.of(2026, 6, 3)));
+        dynamoDbClient.resetCounts();
+
+        // Act
+        TournamentSummaryPage first = repository.findSummariesByOrganizer(organizerId, 2, null);
+        TournamentSummaryPage second = repository.findSummariesByOrganizer(organizerId, 2, first.continuationToken());
+        TournamentSummaryPage third = repository.findSummariesByOrganizer(organizerId, 2, second.continuationToken());
+
+        // Assert
+        assertEquals(List.of("月例会5", "月例会4"), first.items().stream().map(TournamentSummary::title).toList());
+        assertEquals(List.of("月例会3", "月例会2"), second.items().stream().map(TournamentSummary::title).toList());
+        assertEquals(List.of("月例会1"), third.items().stream().map(TournamentSummary::title).toList());
+        assertNull(third.continuationToken());
+        assertEquals(LocalDate.of(2026, 6, 5), first.items().get(0).eventDate());
+        assertEquals(TournamentStatus.PREPARING, first.items().get(0).status());
+        QueryRequest request = dynamoDbClient.queryRequests().get(0);
+        assertEquals("GSI1", request.indexName());
+        assertEquals(2, request.limit());
+        assertFalse(request.scanIndexForward());
+        assertNotNull(request.projectionExpression());
+        assertEquals(3, dynamoDbClient.requestCount("Query"));
+    }
+
+    private List<Participant> seed(int participantCount, int roundCount) {
+        UUID tournamentId = tournament.getTournamentId();
+        repository.save(tournament);
+
+        List<Participant> participants = new ArrayList<>();
+        for (int i = 1; i <= participantCount; i++) {
+            participants.add(Participant.create(tournamentId, i, "参加者" + i, "クラブ", "初段", (i - 1) % 2 + 1));
+        }
+        for (int from = 0; from < participants.size(); from += 25) {
+            participantRepository.saveBatch(participants.subList(from, Math.min(from + 25, participants.size())));
+        }
+
+        for (int round = 1; round <= roundCount; round++) {
+            List<Match> matches = new ArrayList<>();
+            for (int group = 1; group <= 2; group++) {
+                for (int table = 1; table <= participantCount / 4; table++) {
+                    matches.add(new Match(tournamentId, round, group, table,
+                            participants.get((table - 1) * 2).participantId(),
+                            participants.get((table - 1) * 2 + 1).participantId(),
+                            MatchResult.BLACK_WIN, 0));
+                }
+            }
+            repository.saveMatches(matches);
+            repository.saveRound(Round.paired(tournamentId, round, matches.size()).withCompletedMatchCount(matches.size()));
+        }
+        return participants;
+    }
+}
@@ -0,0 +1,75 @@
+package com.swiss_stage.unit.infrastructure;
+
+import com.swiss_stage.domain.model.User;
+import com.swiss_stage.domain.model.UserField;
+import com.swiss_stage.domain.model.UserProjection;
+import com.swiss_stage.infrastructure.dynamodb.GetItemHedger;
+import com.swiss_stage.infrastructure.repository.DynamoDbUserRepository;
+import com.swiss_stage.support.InMemoryDynamoDbClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * DynamoDbUserRepositoryの射影読み込みのユニットテスト
+ * インメモリのDynamoDbClientが受けたGetItemから、指定した属性のみを要求していることを検証する
+ */
+class DynamoDbUserRepositoryProjectionTest {
+
+    private static final String TABLE_NAME = "swiss_stage_table";
+
+    private InMemoryDynamoDbClient dynamoDbClient;
+    private DynamoDbUserRepository repository;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        dynamoDbClient = new InMemoryDynamoDbClient();
+        GetItemHedger hedger = new GetItemHedger(dynamoDbClient, false, 0.95, Duration.ZERO, 0, 0,
+                new SimpleMeterRegistry());
+        repository = new DynamoDbUserRepository(dynamoDbClient, hedger, TABLE_NAME);
+        user = User.create(UUID.randomUUID(), "google-1", "player@example.com", "対局者");
+        repository.save(user);
+    }
+
+    @Test
+    void findDisplayName_正常系_表示名のみを要求する() {
+        // Act
+        String displayName = repository.findDisplayName(user.getUserId()).orElseThrow();
+
+        // Assert
+        assertEquals("対局者", displayName);
+        GetItemRequest request = dynamoDbClient.getItemRequests().get(0);
+        assertEquals("PK, #DISPLAY_NAME", request.projectionExpression());
+        assertEquals("displayName", request.expressionAttributeNames().get("#DISPLAY_NAME"));
+    }
+
+    @Test
+    void findProjection_正常系_指定した属性のみを保持する() {
+        // Act
+        UserProjection projection = repository.findProjection(user.getUserId(),
+                EnumSet.of(UserField.DISPLAY_NAME, UserField.LAST_LOGIN_AT)).orElseThrow();
+
+        // Assert
+        assertEquals(user.getUserId(), projection.getUserId());
+        assertEquals(user.getLastLoginAt().toEpochMilli(), projection.getLastLoginAt().toEpochMilli());
+        assertThrows(IllegalStateException.class, projection::getEmail);
+    }
+
+    @Test
+    void existsById_キーのみを要求する() {
+        // Act & Assert
+        assertTrue(repository.existsById(user.getUserId()));
+        assertFalse(repository.existsById(UUID.randomUUID()));
+        GetItemRequest request = dynamoDbClient.getItemRequests().get(0);
+        assertEquals("PK", request.projectionExpression());
+        assertFalse(request.hasExpressionAttributeNames());
+    }
+}
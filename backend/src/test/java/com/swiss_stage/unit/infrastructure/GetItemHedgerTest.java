@@ -0,0 +1,125 @@
+package com.swiss_stage.unit.infrastructure;
+
+import com.swiss_stage.infrastructure.dynamodb.GetItemHedger;
+import com.swiss_stage.support.InMemoryDynamoDbClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * GetItemHedgerのユニットテスト
+ * インメモリのDynamoDbClientに「次の1回だけ遅い」遅延を注入して、ヘッジの有無と予算を検証する
+ */
+class GetItemHedgerTest {
+
+    private static final String TABLE_NAME = "swiss_stage_table";
+    private static final long FAST_MS = 1;
+    private static final long SLOW_MS = 400;
+    private static final GetItemRequest REQUEST = GetItemRequest.builder()
+            .tableName(TABLE_NAME)
+            .key(Map.of(
+                    "PK", AttributeValue.builder().s("USER#1").build(),
+                    "SK", AttributeValue.builder().s("METADATA").build()))
+            .build();
+
+    private InMemoryDynamoDbClient dynamoDbClient;
+    private SimpleMeterRegistry meterRegistry;
+    private final AtomicBoolean slowNext = new AtomicBoolean();
+
+    @BeforeEach
+    void setUp() {
+        dynamoDbClient = new InMemoryDynamoDbClient();
+        dynamoDbClient.putItem(PutItemRequest.builder()
+                .tableName(TABLE_NAME)
+                .item(Map.of(
+                        "PK", AttributeValue.builder().s("USER#1").build(),
+                        "SK", AttributeValue.builder().s("METADATA").build(),
+                        "displayName", AttributeValue.builder().s("対局者").build()))
+                .build());
+        dynamoDbClient.withLatency(() -> slowNext.getAndSet(false) ? SLOW_MS : FAST_MS);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void getItem_遅い応答_ヘッジした方の応答を返す() {
+        // Arrange
+        GetItemHedger hedger = hedger(true, 0.05);
+        warmUp(hedger);
+        dynamoDbClient.resetCounts();
+
+        // Act
+        slowNext.set(true);
+        long start = System.nanoTime();
+        GetItemResponse response = hedger.getItem(REQUEST);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        // Assert
+        assertEquals("対局者", response.item().get("displayName").s());
+        assertTrue(elapsedMs < SLOW_MS / 2, "elapsed=" + elapsedMs + "ms");
+        assertEquals(2, dynamoDbClient.requestCount("GetItem"));
+        assertEquals(1.0, meterRegistry.counter("dynamodb.hedge.calls", "result", "hedge_won").count());
+    }
+
+    @Test
+    void getItem_無効_ヘッジしない() {
+        // Arrange
+        GetItemHedger hedger = hedger(false, 0.05);
+        warmUp(hedger);
+        dynamoDbClient.resetCounts();
+
+        // Act
+        slowNext.set(true);
+        long start = System.nanoTime();
+        hedger.getItem(REQUEST);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        // Assert
+        assertTrue(elapsedMs >= SLOW_MS);
+        assertEquals(1, dynamoDbClient.requestCount("GetItem"));
+    }
+
+    @Test
+    void getItem_ヘッジの予算切れ_元のリクエストを待つ() {
+        // Arrange: 予算が貯まらない設定で、初期予算（10回）を使い切る
+        GetItemHedger hedger = hedger(true, 0.0);
+        warmUp(hedger);
+        for (int i = 0; i < 10; i++) {
+            slowNext.set(true);
+            hedger.getItem(REQUEST);
+        }
+
+        // Act
+        slowNext.set(true);
+        dynamoDbClient.resetCounts();
+        hedger.getItem(REQUEST);
+
+        // Assert
+        assertEquals(1, dynamoDbClient.requestCount("GetItem"));
+        assertEquals(10.0, meterRegistry.counter("dynamodb.hedge.calls", "result", "hedge_won").count());
+        assertEquals(1.0, meterRegistry.counter("dynamodb.hedge.calls", "result", "suppressed").count());
+    }
+
+    private GetItemHedger hedger(boolean enabled, double maxRatio) {
+        return new GetItemHedger(dynamoDbClient, enabled, 0.95, Duration.ofMillis(20), 50, maxRatio,
+                meterRegistry);
+    }
+
+    /**
+     * 速い応答の記録を貯める（遅い応答が数%混ざってもp95が速い側に留まる件数）
+     */
+    private static void warmUp(GetItemHedger hedger) {
+        for (int i = 0; i < 300; i++) {
+            hedger.getItem(REQUEST);
+        }
+    }
+}
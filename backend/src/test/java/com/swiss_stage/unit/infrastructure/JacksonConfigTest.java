@@ -0,0 +1,83 @@
+package com.swiss_stage.unit.infrastructure;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.swiss_stage.application.dto.StandingDto;
+import com.swiss_stage.application.dto.UserDto;
+import com.swiss_stage.common.dto.ErrorResponse;
+import com.swiss_stage.infrastructure.config.JacksonConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JacksonConfigのユニットテスト
+ * Blackbirdを追加したObjectMapperで、レコードのDTOが従来と同じJSONになることを検証する
+ */
+class JacksonConfigTest {
+
+    private ObjectMapper objectMapper;
+    private ObjectMapper plainMapper;
+
+    @BeforeEach
+    void setUp() {
+        // Spring Bootの既定（日時はISO-8601の文字列）に合わせる
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .registerModule(new JacksonConfig().blackbirdModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        plainMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    @Test
+    void writeValue_UserDto_従来と同じプロパティ名() throws Exception {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        UserDto user = new UserDto(userId, "対局者", Instant.parse("2026-01-02T03:04:05Z"), null);
+
+        // Act
+        JsonNode json = objectMapper.readTree(objectMapper.writerFor(UserDto.class).writeValueAsBytes(user));
+
+        // Assert
+        assertEquals(userId.toString(), json.get("userId").asText());
+        assertEquals("対局者", json.get("displayName").asText());
+        assertEquals("2026-01-02T03:04:05Z", json.get("createdAt").asText());
+        assertTrue(json.get("lastLoginAt").isNull());
+        assertEquals(4, json.size());
+    }
+
+    @Test
+    void writeValue_ErrorResponse_発生日時をタイムゾーンなしのローカル時刻で出力する() throws Exception {
+        // Act
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsBytes(
+                new ErrorResponse("NOT_FOUND", "Tournament not found", "/api/tournaments/1")));
+
+        // Assert
+        assertEquals("NOT_FOUND", json.get("error").asText());
+        assertEquals("Tournament not found", json.get("message").asText());
+        assertEquals("/api/tournaments/1", json.get("path").asText());
+        assertDoesNotThrow(() -> LocalDateTime.parse(json.get("timestamp").asText()));
+    }
+
+    @Test
+    void writeValue_StandingDto_Blackbirdなしと同じJSON() throws Exception {
+        // Arrange
+        StandingDto standing = new StandingDto(1, 3, UUID.randomUUID(), "参加者", 2.5, 2, 0, 1, 7.5);
+
+        // Act
+        byte[] actual = objectMapper.writerFor(StandingDto.class).writeValueAsBytes(standing);
+        byte[] expected = plainMapper.writeValueAsBytes(standing);
+
+        // Assert
+        assertArrayEquals(expected, actual);
+    }
+}
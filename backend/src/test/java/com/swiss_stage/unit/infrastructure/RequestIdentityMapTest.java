@@ -0,0 +1,132 @@
+package com.swiss_stage.unit.infrastructure;
+
+import com.swiss_stage.application.service.AccountDeletionService;
+import com.swiss_stage.application.service.UserService;
+import com.swiss_stage.common.util.RequestIdentityMap;
+import com.swiss_stage.domain.model.User;
+import com.swiss_stage.domain.repository.TournamentRepository;
+import com.swiss_stage.infrastructure.dynamodb.GetItemHedger;
+import com.swiss_stage.infrastructure.repository.DynamoDbUserRepository;
+import com.swiss_stage.support.InMemoryDynamoDbClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * RequestIdentityMapのユニットテスト
+ * インメモリのDynamoDbClientでリポジトリのGetItem回数を数え、リクエスト内の重複した読み込みが省かれることを検証する
+ */
+@DisabledInNativeImage
+class RequestIdentityMapTest {
+
+    private static final String TABLE_NAME = "swiss_stage_table";
+
+    private InMemoryDynamoDbClient dynamoDbClient;
+    private DynamoDbUserRepository repository;
+    private User user;
+    private RequestIdentityMap identityMap;
+
+    @BeforeEach
+    void setUp() {
+        dynamoDbClient = new InMemoryDynamoDbClient();
+        GetItemHedger hedger = new GetItemHedger(dynamoDbClient, false, 0.95, Duration.ZERO, 0, 0,
+                new SimpleMeterRegistry());
+        repository = new DynamoDbUserRepository(dynamoDbClient, hedger, TABLE_NAME);
+        user = User.create(UUID.randomUUID(), "google-1", "player@example.com", "対局者");
+        repository.save(user);
+        dynamoDbClient.resetCounts();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (identityMap != null) {
+            identityMap.close();
+        }
+    }
+
+    @Test
+    void findById_同じリクエスト内_2回目以降は読み込まない() {
+        identityMap = RequestIdentityMap.open();
+
+        User first = repository.findById(user.getUserId()).orElseThrow();
+        User second = repository.findById(user.getUserId()).orElseThrow();
+
+        assertSame(first, second);
+        assertEquals(1, dynamoDbClient.requestCount("GetItem"));
+        assertEquals(2, identityMap.reads());
+        assertEquals(1, identityMap.readsSaved());
+    }
+
+    @Test
+    void deleteAccount_参照と削除の要求_ユーザーの読み込みは1回() {
+        identityMap = RequestIdentityMap.open();
+        UserService userService = new UserService(repository, mock(TournamentRepository.class),
+                mock(AccountDeletionService.class));
+
+        userService.deleteAccount(user.getUserId().toString(), "player@example.com", "DELETE");
+        userService.findById(user.getUserId().toString());
+
+        assertEquals(1, dynamoDbClient.requestCount("GetItem"));
+    }
+
+    @Test
+    void findProjection_読み込み済みのUser_読み込まずに射影する() {
+        identityMap = RequestIdentityMap.open();
+        repository.findById(user.getUserId());
+
+        assertEquals("対局者", repository.findDisplayName(user.getUserId()).orElseThrow());
+
+        assertEquals(1, dynamoDbClient.requestCount("GetItem"));
+        assertEquals(1, identityMap.readsSaved());
+    }
+
+    @Test
+    void findById_削除後_記録を破棄して読み直す() {
+        identityMap = RequestIdentityMap.open();
+        repository.findById(user.getUserId());
+
+        repository.deleteById(user.getUserId());
+
+        assertTrue(repository.findById(user.getUserId()).isEmpty());
+        assertEquals(2, dynamoDbClient.requestCount("GetItem"));
+    }
+
+    @Test
+    void findById_存在しないユーザー_空の結果も記録する() {
+        identityMap = RequestIdentityMap.open();
+        UUID unknown = UUID.randomUUID();
+
+        assertTrue(repository.findById(unknown).isEmpty());
+        assertTrue(repository.findById(unknown).isEmpty());
+
+        assertEquals(1, dynamoDbClient.requestCount("GetItem"));
+    }
+
+    @Test
+    void findById_保存後_保存した内容を読み込まずに返す() {
+        identityMap = RequestIdentityMap.open();
+        User updated = User.restore(user.getUserId(), "google-1", "player@example.com", "改名した対局者",
+                user.getCreatedAt(), user.getLastLoginAt());
+
+        repository.save(updated);
+
+        assertSame(updated, repository.findById(user.getUserId()).orElseThrow());
+        assertEquals(0, dynamoDbClient.requestCount("GetItem"));
+    }
+
+    @Test
+    void findById_リクエスト外_毎回読み込む() {
+        repository.findById(user.getUserId());
+        repository.findById(user.getUserId());
+
+        assertEquals(2, dynamoDbClient.requestCount("GetItem"));
+    }
+}
@@ -0,0 +1,250 @@
+package com.swiss_stage.unit.infrastructure;
+
+import com.swiss_stage.common.exception.ServiceUnavailableException;
+import com.swiss_stage.infrastructure.dynamodb.AimdConcurrencyLimiter;
+import com.swiss_stage.infrastructure.dynamodb.CircuitBreaker;
+import com.swiss_stage.infrastructure.dynamodb.DynamoDbRetryPolicy;
+import com.swiss_stage.infrastructure.dynamodb.ResilientDynamoDbClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.CancellationReason;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.DescribeTimeToLiveRequest;
+import software.amazon.awssdk.services.dynamodb.model.DescribeTimeToLiveResponse;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughputExceededException;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * ResilientDynamoDbClientのユニットテスト
+ * SDKクライアントをモックし、リトライ・リトライ予算・サーキットブレーカー・同時実行数制限を検証する
+ */
+@DisabledInNativeImage
+class ResilientDynamoDbClientTest {
+
+    private static final GetItemRequest REQUEST = GetItemRequest.builder().tableName("swiss_stage_table").build();
+    private static final GetItemResponse RESPONSE = GetItemResponse.builder().build();
+
+    private DynamoDbClient delegate;
+    private SimpleMeterRegistry meterRegistry;
+    private final AtomicLong clock = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(DynamoDbClient.class);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void getItem_スロットリング_リトライして成功する() {
+        // Arrange
+        when(delegate.getItem(any(GetItemRequest.class)))
+                .thenThrow(throttled())
+                .thenThrow(throttled())
+                .thenReturn(RESPONSE);
+        ResilientDynamoDbClient client = client(retryPolicy(4, 50), breaker());
+
+        // Act
+        GetItemResponse response = client.getItem(REQUEST);
+
+        // Assert
+        assertSame(RESPONSE, response);
+        verify(delegate, times(3)).getItem(any(GetItemRequest.class));
+        assertEquals(2.0, meterRegistry.counter("dynamodb.client.retries",
+                "operation", "GetItem", "reason", "throttled").count());
+    }
+
+    @Test
+    void describeTimeToLive_個別に実装していない操作_共通経路でリトライして委譲する() {
+        // Arrange
+        DescribeTimeToLiveRequest request = DescribeTimeToLiveRequest.builder().tableName("swiss_stage_table").build();
+        DescribeTimeToLiveResponse expected = DescribeTimeToLiveResponse.builder().build();
+        when(delegate.describeTimeToLive(any(DescribeTimeToLiveRequest.class)))
+                .thenThrow(throttled())
+                .thenReturn(expected);
+        ResilientDynamoDbClient client = client(retryPolicy(4, 50), breaker());
+
+        // Act
+        DescribeTimeToLiveResponse response = client.describeTimeToLive(request);
+
+        // Assert
+        assertSame(expected, response);
+        assertEquals(1.0, meterRegistry.counter("dynamodb.client.retries",
+                "operation", "DescribeTimeToLive", "reason", "throttled").count());
+    }
+
+    @Test
+    void getItem_条件不一致_リトライせずSDKの例外を送出する() {
+        // Arrange
+        when(delegate.getItem(any(GetItemRequest.class)))
+                .thenThrow(ConditionalCheckFailedException.builder().message("condition").build());
+        ResilientDynamoDbClient client = client(retryPolicy(4, 50), breaker());
+
+        // Act & Assert
+        assertThrows(ConditionalCheckFailedException.class, () -> client.getItem(REQUEST));
+        verify(delegate, times(1)).getItem(any(GetItemRequest.class));
+    }
+
+    @Test
+    void classify_トランザクションの条件不一致_リトライしない() {
+        TransactionCanceledException conditional = TransactionCanceledException.builder()
+                .cancellationReasons(
+                        CancellationReason.builder().code("None").build(),
+                        CancellationReason.builder().code("ConditionalCheckFailed").build())
+                .build();
+        TransactionCanceledException throttledTransaction = TransactionCanceledException.builder()
+                .cancellationReasons(CancellationReason.builder().code("ThrottlingError").build())
+                .build();
+
+        assertEquals(DynamoDbRetryPolicy.FailureKind.NON_RETRYABLE, DynamoDbRetryPolicy.classify(conditional));
+        assertEquals(DynamoDbRetryPolicy.FailureKind.THROTTLED, DynamoDbRetryPolicy.classify(throttledTransaction));
+        assertEquals(DynamoDbRetryPolicy.FailureKind.UNAVAILABLE, DynamoDbRetryPolicy.classify(serverError()));
+    }
+
+    @Test
+    void getItem_障害が続く_最大試行回数で打ち切る() {
+        // Arrange
+        when(delegate.getItem(any(GetItemRequest.class))).thenThrow(serverError());
+        ResilientDynamoDbClient client = client(retryPolicy(3, 50), breaker());
+
+        // Act & Assert
+        assertThrows(DynamoDbException.class, () -> client.getItem(REQUEST));
+        verify(delegate, times(3)).getItem(any(GetItemRequest.class));
+    }
+
+    @Test
+    void getItem_リトライ予算切れ_リトライせずに失敗する() {
+        // Arrange
+        when(delegate.getItem(any(GetItemRequest.class))).thenThrow(serverError());
+        ResilientDynamoDbClient client = client(retryPolicy(4, 1), breaker());
+
+        // Act
+        assertThrows(DynamoDbException.class, () -> client.getItem(REQUEST));
+        assertThrows(DynamoDbException.class, () -> client.getItem(REQUEST));
+
+        // Assert: 予算1回分のリトライのみ
+        verify(delegate, times(3)).getItem(any(GetItemRequest.class));
+        assertEquals(2.0, meterRegistry.counter("dynamodb.client.rejected",
+                "operation", "GetItem", "reason", "retry_budget").count());
+    }
+
+    @Test
+    void getItem_障害率が閾値以上_遮断し経過後の試行成功で復帰する() {
+        // Arrange
+        CircuitBreaker breaker = breaker();
+        when(delegate.getItem(any(GetItemRequest.class))).thenThrow(serverError());
+        ResilientDynamoDbClient client = client(retryPolicy(1, 50), breaker);
+        for (int i = 0; i < 4; i++) {
+            assertThrows(DynamoDbException.class, () -> client.getItem(REQUEST));
+        }
+
+        // Act & Assert: 遮断中はSDKを呼ばずに503
+        ServiceUnavailableException e = assertThrows(ServiceUnavailableException.class, () -> client.getItem(REQUEST));
+        assertEquals(5, e.getRetryAfterSeconds());
+        verify(delegate, times(4)).getItem(any(GetItemRequest.class));
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+
+        // Act & Assert: 遮断時間の経過後、試行が成功すれば復帰
+        clock.addAndGet(Duration.ofSeconds(5).toNanos());
+        reset(delegate);
+        when(delegate.getItem(any(GetItemRequest.class))).thenReturn(RESPONSE);
+        assertSame(RESPONSE, client.getItem(REQUEST));
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    void getItem_同時実行数の上限_空きがなければ503() {
+        // Arrange: 上限1の実行枠を保持したまま次の呼び出しを行う
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(1, 1, 1, 0.9,
+                Duration.ofSeconds(1), Duration.ZERO);
+        ResilientDynamoDbClient client = new ResilientDynamoDbClient(delegate, retryPolicy(1, 50), limiter,
+                breaker(), meterRegistry);
+        when(delegate.getItem(any(GetItemRequest.class))).thenAnswer(invocation -> {
+            assertThrows(ServiceUnavailableException.class, () -> client.getItem(REQUEST));
+            return RESPONSE;
+        });
+
+        // Act
+        GetItemResponse response = client.getItem(REQUEST);
+
+        // Assert
+        assertSame(RESPONSE, response);
+        assertEquals(0, limiter.inFlight());
+        assertEquals(1.0, meterRegistry.counter("dynamodb.client.rejected",
+                "operation", "GetItem", "reason", "concurrency_limit").count());
+    }
+
+    @Test
+    void aimd_上限まで使う成功で加算増加し失敗で乗算減少する() {
+        long fast = Duration.ofMillis(10).toNanos();
+
+        // 上限の半分未満しか使っていない間は増えない
+        AimdConcurrencyLimiter idle = new AimdConcurrencyLimiter(4, 1, 8, 0.5, Duration.ofMillis(100), Duration.ZERO);
+        for (int i = 0; i < 50; i++) {
+            assertTrue(idle.acquire());
+            idle.onSuccess(fast);
+        }
+        assertEquals(4, idle.limit());
+
+        // 上限まで使い切る成功が続くと増える（上限が上限値を超えることはない）
+        AimdConcurrencyLimiter busy = new AimdConcurrencyLimiter(4, 1, 8, 0.5, Duration.ofMillis(100), Duration.ZERO);
+        for (int cycle = 0; cycle < 50; cycle++) {
+            int acquired = 0;
+            while (busy.acquire()) {
+                acquired++;
+            }
+            for (int i = 0; i < acquired; i++) {
+                busy.onSuccess(fast);
+            }
+        }
+        assertEquals(8, busy.limit());
+
+        // スロットリングで半減、閾値超過の応答でも半減、下限で止まる
+        assertTrue(busy.acquire());
+        busy.onDropped();
+        assertEquals(4, busy.limit());
+        assertTrue(busy.acquire());
+        busy.onSuccess(Duration.ofMillis(500).toNanos());
+        assertEquals(2, busy.limit());
+        assertTrue(busy.acquire());
+        busy.onDropped();
+        assertTrue(busy.acquire());
+        busy.onDropped();
+        assertEquals(1, busy.limit());
+        assertEquals(0, busy.inFlight());
+    }
+
+    private ResilientDynamoDbClient client(DynamoDbRetryPolicy retryPolicy, CircuitBreaker breaker) {
+        return new ResilientDynamoDbClient(delegate, retryPolicy,
+                new AimdConcurrencyLimiter(8, 1, 16, 0.9, Duration.ofSeconds(1), Duration.ZERO),
+                breaker, meterRegistry);
+    }
+
+    private static DynamoDbRetryPolicy retryPolicy(int maxAttempts, int budgetMaxTokens) {
+        return new DynamoDbRetryPolicy(maxAttempts, Duration.ZERO, Duration.ZERO, 0.1, budgetMaxTokens);
+    }
+
+    private CircuitBreaker breaker() {
+        return new CircuitBreaker(4, 4, 0.5, Duration.ofSeconds(5), clock::get);
+    }
+
+    private static ProvisionedThroughputExceededException throttled() {
+        return ProvisionedThroughputExceededException.builder().message("throttled").statusCode(400).build();
+    }
+
+    private static DynamoDbException serverError() {
+        return (DynamoDbException) DynamoDbException.builder().message("internal").statusCode(500).build();
+    }
+}
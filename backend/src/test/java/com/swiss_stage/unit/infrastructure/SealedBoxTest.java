@@ -0,0 +1,63 @@
+package com.swiss_stage.unit.infrastructure;
+
+import com.swiss_stage.common.util.CursorCipher;
+import com.swiss_stage.common.util.SealedBox;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SealedBoxのユニットテスト
+ * 暗号化した値が同じ鍵・同じ追加認証データでのみ復号でき、改ざんを検出することを検証する
+ */
+class SealedBoxTest {
+
+    private static final String SECRET = "sealed-box-test-secret-at-least-256-bits-long";
+    private static final byte[] AAD = "scope".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void open_暗号化時と同じ追加認証データ_平文を復元する() {
+        // Arrange
+        SealedBox sealedBox = new SealedBox("test", SECRET);
+        byte[] plaintext = {0, 1, 2, (byte) 0xff};
+
+        // Act
+        String sealed = sealedBox.sealToString(plaintext, AAD);
+
+        // Assert
+        assertArrayEquals(plaintext, new SealedBox("test", SECRET).openString(sealed, AAD).orElseThrow());
+        assertNotEquals(sealed, sealedBox.sealToString(plaintext, AAD));
+    }
+
+    @Test
+    void open_異常系_追加認証データ・用途が異なるか改ざんされた値は復号しない() {
+        // Arrange
+        SealedBox sealedBox = new SealedBox("test", SECRET);
+        byte[] sealed = sealedBox.seal("value".getBytes(StandardCharsets.UTF_8), AAD);
+        byte[] tampered = sealed.clone();
+        tampered[tampered.length - 1] ^= 1;
+
+        // Act & Assert
+        assertEquals(Optional.empty(), sealedBox.open(sealed, "other".getBytes(StandardCharsets.UTF_8)));
+        assertEquals(Optional.empty(), new SealedBox("other", SECRET).open(sealed, AAD));
+        assertEquals(Optional.empty(), sealedBox.open(tampered, AAD));
+        assertEquals(Optional.empty(), sealedBox.open(new byte[8], AAD));
+        assertEquals(Optional.empty(), sealedBox.openString("not base64!", AAD));
+    }
+
+    @Test
+    void decrypt_CursorCipher_範囲が異なるカーソルは復号しない() {
+        // Arrange
+        CursorCipher cipher = new CursorCipher(SECRET);
+
+        // Act
+        String cursor = cipher.encrypt("TOURNAMENT#2026-04-29#id", "user-1:tournaments");
+
+        // Assert
+        assertEquals(Optional.of("TOURNAMENT#2026-04-29#id"), cipher.decrypt(cursor, "user-1:tournaments"));
+        assertEquals(Optional.empty(), cipher.decrypt(cursor, "user-2:tournaments"));
+    }
+}
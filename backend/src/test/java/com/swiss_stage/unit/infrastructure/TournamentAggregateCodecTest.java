@@ -0,0 +1,117 @@
+package com.swiss_stage.unit.infrastructure;
+
+import com.swiss_stage.domain.model.Match;
+import com.swiss_stage.domain.model.MatchResult;
+import com.swiss_stage.domain.model.Participant;
+import com.swiss_stage.domain.model.Round;
+import com.swiss_stage.domain.model.Tournament;
+import com.swiss_stage.domain.model.TournamentAggregate;
+import com.swiss_stage.domain.model.TournamentStatus;
+import com.swiss_stage.infrastructure.repository.TournamentAggregateCodec;
+import com.swiss_stage.infrastructure.repository.TournamentAggregateCodec.Compression;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TournamentAggregateCodecのユニットテスト
+ */
+class TournamentAggregateCodecTest {
+
+    @ParameterizedTest
+    @EnumSource(Compression.class)
+    void decode_正常系_エンコードした集約を同じ内容に復元できる(Compression compression) {
+        // Arrange
+        TournamentAggregate aggregate = aggregate(30);
+
+        // Act
+        TournamentAggregate decoded = TournamentAggregateCodec.decode(
+                TournamentAggregateCodec.encode(aggregate, compression));
+
+        // Assert
+        Tournament expected = aggregate.tournament();
+        Tournament actual = decoded.tournament();
+        assertEquals(expected.getTournamentId(), actual.getTournamentId());
+        assertEquals(expected.getOrganizerId(), actual.getOrganizerId());
+        assertEquals(expected.getTitle(), actual.getTitle());
+        assertEquals(expected.getEventDate(), actual.getEventDate());
+        assertEquals(expected.getCreatedAt().toEpochMilli(), actual.getCreatedAt().toEpochMilli());
+        assertEquals(expected.getStatus(), actual.getStatus());
+        assertEquals(expected.getCurrentRound(), actual.getCurrentRound());
+        assertEquals(expected.getParticipantCount(), actual.getParticipantCount());
+        assertEquals(aggregate.participants(), decoded.participants());
+        assertEquals(aggregate.matches(), decoded.matches());
+        assertEquals(aggregate.rounds().size(), decoded.rounds().size());
+        assertEquals(aggregate.rounds().get(0).pairedAt().toEpochMilli(),
+                decoded.rounds().get(0).pairedAt().toEpochMilli());
+        assertEquals(aggregate.rounds().get(0).version(), decoded.rounds().get(0).version());
+    }
+
+    @Test
+    void encode_正常系_圧縮すると小さくなる() {
+        // Arrange
+        TournamentAggregate aggregate = aggregate(300);
+
+        // Act
+        byte[] raw = TournamentAggregateCodec.encode(aggregate, Compression.NONE);
+        byte[] deflated = TournamentAggregateCodec.encode(aggregate, Compression.DEFLATE);
+
+        // Assert
+        assertTrue(deflated.length < raw.length);
+        assertEquals(aggregate.matches(), TournamentAggregateCodec.decode(deflated).matches());
+    }
+
+    @Test
+    void decode_異常系_未知の形式バージョンは例外をスローする() {
+        // Arrange
+        byte[] data = TournamentAggregateCodec.encode(aggregate(4), Compression.NONE);
+        data[0] = (byte) (TournamentAggregateCodec.FORMAT_VERSION + 1);
+
+        // Act & Assert
+        assertThrows(TournamentAggregateCodec.UnsupportedFormatException.class,
+                () -> TournamentAggregateCodec.decode(data));
+    }
+
+    /**
+     * 1回戦の結果入力済み・2回戦の組合せ済み（不戦・未入力・所属なしを含む）の集約
+     */
+    private static TournamentAggregate aggregate(int participantCount) {
+        Tournament tournament = Tournament.restore(UUID.randomUUID(), UUID.randomUUID(), "秋季大会 \"A\"", 2, 3,
+                LocalDate.of(2026, 10, 12), Instant.now(), TournamentStatus.PREPARING, 0, participantCount);
+        UUID tournamentId = tournament.getTournamentId();
+        tournament.startNextRound();
+        tournament.startNextRound();
+
+        List<Participant> participants = new ArrayList<>();
+        for (int i = 1; i <= participantCount; i++) {
+            participants.add(Participant.create(tournamentId, i, "参加者" + i,
+                    i % 3 == 0 ? null : "囲碁クラブ" + (i % 7), i % 2 == 0 ? "初段" : null, (i - 1) % 2 + 1));
+        }
+        participants.set(1, participants.get(1).withdraw());
+
+        List<Match> matches = new ArrayList<>();
+        for (int round = 1; round <= 2; round++) {
+            for (int table = 1; table <= participantCount / 2; table++) {
+                Match match = Match.paired(tournamentId, round, 1, table,
+                        participants.get((table - 1) * 2).participantId(),
+                        participants.get((table - 1) * 2 + 1).participantId());
+                matches.add(round == 1 ? match.withResult(MatchResult.values()[table % 3]) : match);
+            }
+        }
+        // 参加者一覧にいない（削除済み）参加者の不戦
+        matches.add(Match.paired(tournamentId, 2, 2, 1, UUID.randomUUID(), null).withResult(MatchResult.BYE));
+
+        List<Round> rounds = List.of(
+                Round.paired(tournamentId, 1, participantCount / 2).withCompletedMatchCount(participantCount / 2),
+                Round.paired(tournamentId, 2, participantCount / 2 + 1));
+        return new TournamentAggregate(tournament, participants, rounds, matches);
+    }
+}
@@ -0,0 +1,143 @@
+package com.swiss_stage.unit.infrastructure;
+
+import com.swiss_stage.domain.model.Tournament;
+import com.swiss_stage.infrastructure.repository.DynamoDbTournamentRepository;
+import com.swiss_stage.infrastructure.repository.TournamentIndexBackfill;
+import com.swiss_stage.support.InMemoryDynamoDbClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemResponse;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TournamentIndexBackfillのユニットテスト
+ * GSIのキー属性を持たない大会情報アイテム（GSI導入前のデータ）をインメモリのDynamoDbClientに投入して検証する
+ */
+class TournamentIndexBackfillTest {
+
+    private static final String TABLE_NAME = "swiss_stage_table";
+
+    private InMemoryDynamoDbClient dynamoDbClient;
+    private DynamoDbTournamentRepository repository;
+    private TournamentIndexBackfill backfill;
+
+    @BeforeEach
+    void setUp() {
+        dynamoDbClient = new InMemoryDynamoDbClient();
+        repository = new DynamoDbTournamentRepository(dynamoDbClient, TABLE_NAME);
+        backfill = new TournamentIndexBackfill(dynamoDbClient, TABLE_NAME, true);
+    }
+
+    @Test
+    void backfill_キー属性のない大会情報_主催者の一覧と未終了の確認で見つかるようにする() {
+        // Arrange: 同じ主催者の未終了・終了済みのトーナメントをGSI導入前の形式で保存
+        UUID organizerId = UUID.randomUUID();
+        Tournament active = Tournament.create(UUID.randomUUID(), organizerId, "春季大会", 1, 2,
+                LocalDate.of(2026, 4, 29));
+        Tournament finished = Tournament.create(UUID.randomUUID(), organizerId, "秋季大会", 1, 2,
+                LocalDate.of(2025, 10, 12));
+        finished.finish();
+        saveWithoutIndexKeys(active);
+        saveWithoutIndexKeys(finished);
+        assertEquals(List.of(), repository.findTournamentIdsByOrganizer(organizerId));
+        assertFalse(repository.hasActiveTournaments(organizerId));
+
+        // Act
+        int updated = backfill.backfill();
+
+        // Assert
+        assertEquals(2, updated);
+        assertEquals(List.of(finished.getTournamentId(), active.getTournamentId()),
+                repository.findTournamentIdsByOrganizer(organizerId));
+        assertTrue(repository.hasActiveTournaments(organizerId));
+        assertFalse(metadata(finished).containsKey("GSI2PK"));
+        assertEquals(active.getTitle(), repository.findById(active.getTournamentId()).orElseThrow().getTitle());
+    }
+
+    @Test
+    void backfill_キー属性を持つ大会情報_書き込まずに2回目以降は何もしない() {
+        // Arrange: 現行の形式で保存済みのトーナメントと、ページをまたぐ旧形式のトーナメント
+        dynamoDbClient.withMaxPageItems(2);
+        UUID organizerId = UUID.randomUUID();
+        repository.save(Tournament.create(UUID.randomUUID(), organizerId, "現行の大会", 1, 2,
+                LocalDate.of(2026, 5, 3)));
+        for (int i = 1; i <= 3; i++) {
+            saveWithoutIndexKeys(Tournament.create(UUID.randomUUID(), organizerId, "旧大会" + i, 1, 2,
+                    LocalDate.of(2024, 1, i)));
+        }
+        dynamoDbClient.resetCounts();
+
+        // Act
+        int first = backfill.backfill();
+        int second = backfill.backfill();
+
+        // Assert
+        assertEquals(3, first);
+        assertEquals(0, second);
+        assertEquals(3, dynamoDbClient.requestCount("UpdateItem"));
+        assertEquals(4, repository.findTournamentIdsByOrganizer(organizerId).size());
+    }
+
+    @Test
+    void backfill_読み込み後に終了した大会情報_古い状態で上書きしない() {
+        // Arrange: 旧形式の未終了トーナメントを、補完の書き込み直前に終了させる
+        Tournament tournament = Tournament.create(UUID.randomUUID(), UUID.randomUUID(), "春季大会", 1, 2,
+                LocalDate.of(2026, 4, 29));
+        saveWithoutIndexKeys(tournament);
+        InMemoryDynamoDbClient racingClient = new InMemoryDynamoDbClient() {
+            @Override
+            public UpdateItemResponse updateItem(UpdateItemRequest request) {
+                return dynamoDbClient.updateItem(request);
+            }
+
+            @Override
+            public ScanResponse scan(ScanRequest request) {
+                ScanResponse response = dynamoDbClient.scan(request);
+                tournament.finish();
+                repository.save(tournament);
+                return response;
+            }
+        };
+
+        // Act
+        int updated = new TournamentIndexBackfill(racingClient, TABLE_NAME, true).backfill();
+
+        // Assert: 終了時の保存でGSI1のキーが書き込まれ、GSI2には戻らない
+        assertEquals(0, updated);
+        assertFalse(repository.hasActiveTournaments(tournament.getOrganizerId()));
+        assertEquals(List.of(tournament.getTournamentId()),
+                repository.findTournamentIdsByOrganizer(tournament.getOrganizerId()));
+    }
+
+    /**
+     * 現行の形式で保存し、大会情報アイテムからGSIのキー属性を取り除く（GSI導入前の形式）
+     */
+    private void saveWithoutIndexKeys(Tournament tournament) {
+        repository.save(tournament);
+        Map<String, AttributeValue> item = new HashMap<>(metadata(tournament));
+        item.keySet().removeIf(name -> name.startsWith("GSI"));
+        dynamoDbClient.putItem(PutItemRequest.builder().tableName(TABLE_NAME).item(item).build());
+    }
+
+    private Map<String, AttributeValue> metadata(Tournament tournament) {
+        return dynamoDbClient.getItem(GetItemRequest.builder()
+                .tableName(TABLE_NAME)
+                .key(Map.of(
+                        "PK", AttributeValue.builder().s("TOURNAMENT#" + tournament.getTournamentId()).build(),
+                        "SK", AttributeValue.builder().s("METADATA").build()))
+                .build()).item();
+    }
+}
@@ -0,0 +1,150 @@
+package com.swiss_stage.unit.infrastructure;
+
+import com.swiss_stage.infrastructure.warmup.WarmUpRunner;
+import com.swiss_stage.infrastructure.warmup.WarmUpRunner.Result;
+import com.swiss_stage.infrastructure.warmup.WarmUpRunner.Task;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * WarmUpRunnerのユニットテスト
+ * 合成の処理を渡して、実行時間・失敗した処理の除外・所要時間の集計を検証する
+ */
+class WarmUpRunnerTest {
+
+    @Test
+    void warmUp_実行時間ゼロ_各処理を1回実行する() {
+        // Arrange
+        AtomicInteger first = new AtomicInteger();
+        AtomicInteger second = new AtomicInteger();
+
+        // Act
+        List<Result> results = WarmUpRunner.warmUp(List.of(
+                new Task("first", first::incrementAndGet),
+                new Task("second", second::incrementAndGet)), Duration.ZERO);
+
+        // Assert
+        assertEquals(1, first.get());
+        assertEquals(1, second.get());
+        assertEquals(List.of("first", "second"), results.stream().map(Result::name).toList());
+        assertEquals(1, results.get(0).iterations());
+    }
+
+    @Test
+    void warmUp_実行時間内_繰り返し実行して期限で終える() {
+        // Arrange
+        AtomicInteger count = new AtomicInteger();
+
+        // Act
+        long start = System.nanoTime();
+        List<Result> results = WarmUpRunner.warmUp(List.of(new Task("count", count::incrementAndGet)),
+                Duration.ofMillis(100));
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        // Assert
+        assertTrue(count.get() > 1);
+        assertEquals(count.get(), results.get(0).iterations());
+        assertTrue(elapsedMs < 2_000, "elapsed=" + elapsedMs + "ms");
+    }
+
+    @Test
+    void warmUp_失敗する処理_以降は実行せずに他の処理を続ける() {
+        // Arrange
+        AtomicInteger failing = new AtomicInteger();
+        AtomicInteger healthy = new AtomicInteger();
+        Runnable failOnSecond = () -> {
+            if (failing.incrementAndGet() == 2) {
+                throw new IllegalStateException("DynamoDB unavailable");
+            }
+        };
+
+        // Act
+        List<Result> results = WarmUpRunner.warmUp(List.of(
+                new Task("failing", failOnSecond),
+                new Task("healthy", healthy::incrementAndGet)), Duration.ofMillis(50));
+
+        // Assert
+        assertEquals(2, failing.get());
+        assertEquals(1, results.get(0).iterations());
+        assertTrue(results.get(0).failure().contains("DynamoDB unavailable"));
+        assertNull(results.get(1).failure());
+        assertTrue(healthy.get() > 2);
+    }
+
+    @Test
+    void warmUp_すべて失敗_期限を待たずに終える() {
+        // Act
+        long start = System.nanoTime();
+        List<Result> results = WarmUpRunner.warmUp(List.of(new Task("failing", () -> {
+            throw new IllegalStateException("failed");
+        })), Duration.ofSeconds(30));
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        // Assert
+        assertEquals(0, results.get(0).iterations());
+        assertNotNull(results.get(0).failure());
+        assertTrue(elapsedMs < 1_000, "elapsed=" + elapsedMs + "ms");
+    }
+
+    @Test
+    void warmUp_実行回数の上限がある処理_上限で打ち切り他の処理は期限まで続ける() {
+        // Arrange
+        AtomicInteger io = new AtomicInteger();
+        AtomicInteger cpu = new AtomicInteger();
+
+        // Act
+        List<Result> results = WarmUpRunner.warmUp(List.of(
+                new Task("io", io::incrementAndGet, 5),
+                new Task("cpu", cpu::incrementAndGet)), Duration.ofMillis(100));
+
+        // Assert
+        assertEquals(5, io.get());
+        assertEquals(5, results.get(0).iterations());
+        assertTrue(cpu.get() > 5);
+    }
+
+    @Test
+    void warmUp_すべて上限に達した_期限を待たずに終える() {
+        // Act
+        long start = System.nanoTime();
+        List<Result> results = WarmUpRunner.warmUp(List.of(new Task("io", () -> {
+        }, 3)), Duration.ofSeconds(30));
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        // Assert
+        assertEquals(3, results.get(0).iterations());
+        assertTrue(elapsedMs < 1_000, "elapsed=" + elapsedMs + "ms");
+    }
+
+    @Test
+    void warmUp_初回が遅い処理_初回と繰り返し後の所要時間を分けて返す() {
+        // Arrange
+        AtomicInteger count = new AtomicInteger();
+        Runnable slowFirst = () -> {
+            if (count.incrementAndGet() == 1) {
+                sleep(50);
+            }
+        };
+
+        // Act
+        Result result = WarmUpRunner.warmUp(List.of(new Task("slowFirst", slowFirst)), Duration.ofMillis(100))
+                .get(0);
+
+        // Assert
+        assertTrue(result.firstNanos() >= 50_000_000L);
+        assertTrue(result.warmNanos() < result.firstNanos());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
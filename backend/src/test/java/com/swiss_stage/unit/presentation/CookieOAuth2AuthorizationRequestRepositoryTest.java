@@ -0,0 +1,150 @@
+package com.swiss_stage.unit.presentation;
+
+import com.swiss_stage.presentation.handler.CookieOAuth2AuthorizationRequestRepository;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.security.oauth2.core.endpoint.OAuth2ParameterNames;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CookieOAuth2AuthorizationRequestRepositoryのユニットテスト
+ * 同じ鍵の設定で作成した2つのインスタンスを別々のノードに見立て、認可リクエストの保存と読み込みを検証する
+ */
+class CookieOAuth2AuthorizationRequestRepositoryTest {
+
+    private static final String SECRET = "test-cookie-secret";
+    private static final String FRONTEND_URL = "https://swiss-stage.example.com";
+
+    private final CookieOAuth2AuthorizationRequestRepository nodeA =
+            new CookieOAuth2AuthorizationRequestRepository(SECRET, 300, FRONTEND_URL);
+    private final CookieOAuth2AuthorizationRequestRepository nodeB =
+            new CookieOAuth2AuthorizationRequestRepository(SECRET, 300, FRONTEND_URL);
+
+    @Test
+    void loadAuthorizationRequest_別のノードで保存_同じ認可リクエストを復元できる() {
+        // Arrange
+        OAuth2AuthorizationRequest authorizationRequest = authorizationRequest();
+        MockHttpServletRequest loginRequest = new MockHttpServletRequest();
+        MockHttpServletResponse loginResponse = new MockHttpServletResponse();
+        nodeA.saveAuthorizationRequest(authorizationRequest, loginRequest, loginResponse);
+
+        // Act
+        MockHttpServletRequest callback = callbackWith(loginResponse.getHeader("Set-Cookie"));
+        OAuth2AuthorizationRequest loaded = nodeB.loadAuthorizationRequest(callback);
+
+        // Assert
+        assertNotNull(loaded);
+        assertEquals(authorizationRequest.getState(), loaded.getState());
+        assertEquals(authorizationRequest.getRedirectUri(), loaded.getRedirectUri());
+        assertEquals(authorizationRequest.getScopes(), loaded.getScopes());
+        assertEquals("google", loaded.<String>getAttribute(OAuth2ParameterNames.REGISTRATION_ID));
+        assertNull(loginRequest.getSession(false));
+        assertNull(callback.getSession(false));
+    }
+
+    @Test
+    void saveAuthorizationRequest_正常系_暗号化したHttpOnlyのCookieに保存する() {
+        // Arrange
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        nodeA.saveAuthorizationRequest(authorizationRequest(), new MockHttpServletRequest(), response);
+
+        // Assert
+        String setCookie = response.getHeader("Set-Cookie");
+        assertTrue(setCookie.startsWith(CookieOAuth2AuthorizationRequestRepository.COOKIE_NAME + "="));
+        assertTrue(setCookie.contains("HttpOnly"));
+        assertTrue(setCookie.contains("Secure"));
+        assertTrue(setCookie.contains("Max-Age=300"));
+        assertFalse(setCookie.contains("state-1234"));
+        assertTrue(cookieValue(setCookie).length() < 4000);
+    }
+
+    @Test
+    void removeAuthorizationRequest_正常系_復元してCookieを削除する() {
+        // Arrange
+        MockHttpServletResponse loginResponse = new MockHttpServletResponse();
+        nodeA.saveAuthorizationRequest(authorizationRequest(), new MockHttpServletRequest(), loginResponse);
+        MockHttpServletResponse callbackResponse = new MockHttpServletResponse();
+
+        // Act
+        OAuth2AuthorizationRequest removed = nodeB.removeAuthorizationRequest(
+                callbackWith(loginResponse.getHeader("Set-Cookie")), callbackResponse);
+
+        // Assert
+        assertNotNull(removed);
+        List<String> setCookies = callbackResponse.getHeaders("Set-Cookie");
+        assertEquals(1, setCookies.size());
+        assertTrue(setCookies.get(0).contains("Max-Age=0"));
+    }
+
+    @Test
+    void loadAuthorizationRequest_異常系_改ざんしたCookie() {
+        // Arrange
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        nodeA.saveAuthorizationRequest(authorizationRequest(), new MockHttpServletRequest(), response);
+        String value = cookieValue(response.getHeader("Set-Cookie"));
+        char replaced = value.charAt(40) == 'A' ? 'B' : 'A';
+        String tampered = value.substring(0, 40) + replaced + value.substring(41);
+
+        // Act
+        MockHttpServletRequest callback = new MockHttpServletRequest();
+        callback.setCookies(new Cookie(CookieOAuth2AuthorizationRequestRepository.COOKIE_NAME, tampered));
+
+        // Assert
+        assertNull(nodeB.loadAuthorizationRequest(callback));
+    }
+
+    @Test
+    void loadAuthorizationRequest_異常系_異なる鍵で保存したCookie() {
+        // Arrange
+        CookieOAuth2AuthorizationRequestRepository otherKey =
+                new CookieOAuth2AuthorizationRequestRepository("another-secret", 300, FRONTEND_URL);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        otherKey.saveAuthorizationRequest(authorizationRequest(), new MockHttpServletRequest(), response);
+
+        // Act & Assert
+        assertNull(nodeB.loadAuthorizationRequest(callbackWith(response.getHeader("Set-Cookie"))));
+    }
+
+    @Test
+    void loadAuthorizationRequest_異常系_有効期限切れのCookie() {
+        // Arrange
+        CookieOAuth2AuthorizationRequestRepository expired =
+                new CookieOAuth2AuthorizationRequestRepository(SECRET, 0, FRONTEND_URL);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        expired.saveAuthorizationRequest(authorizationRequest(), new MockHttpServletRequest(), response);
+
+        // Act & Assert
+        assertNull(nodeB.loadAuthorizationRequest(callbackWith(response.getHeader("Set-Cookie"))));
+    }
+
+    private static OAuth2AuthorizationRequest authorizationRequest() {
+        return OAuth2AuthorizationRequest.authorizationCode()
+                .authorizationUri("https://accounts.google.com/o/oauth2/v2/auth")
+                .clientId("client-id")
+                .redirectUri("https://swiss-stage.example.com/login/oauth2/code/google")
+                .scopes(Set.of("email", "profile"))
+                .state("state-1234")
+                .attributes(Map.of(OAuth2ParameterNames.REGISTRATION_ID, "google"))
+                .build();
+    }
+
+    private static MockHttpServletRequest callbackWith(String setCookie) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(CookieOAuth2AuthorizationRequestRepository.COOKIE_NAME, cookieValue(setCookie)));
+        return request;
+    }
+
+    private static String cookieValue(String setCookie) {
+        return setCookie.substring(setCookie.indexOf('=') + 1, setCookie.indexOf(';'));
+    }
+}
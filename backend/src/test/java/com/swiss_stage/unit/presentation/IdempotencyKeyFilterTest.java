@@ -0,0 +1,112 @@
+package com.swiss_stage.unit.presentation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.swiss_stage.application.service.IdempotencyService;
+import com.swiss_stage.infrastructure.repository.DynamoDbIdempotencyRepository;
+import com.swiss_stage.presentation.filter.IdempotencyKeyFilter;
+import com.swiss_stage.support.InMemoryDynamoDbClient;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * IdempotencyKeyFilterのユニットテスト
+ */
+class IdempotencyKeyFilterTest {
+
+    private static final String PATH = "/api/tournaments/t-1/rounds/1/matches/1/result";
+
+    private IdempotencyKeyFilter filter;
+    private final AtomicInteger executions = new AtomicInteger();
+    private int handlerStatus;
+
+    private final FilterChain chain = (request, response) -> {
+        executions.incrementAndGet();
+        request.getInputStream().readAllBytes();
+        ((HttpServletResponse) response).setStatus(handlerStatus);
+        response.setContentType("application/json");
+        response.getWriter().write("{\"execution\":" + executions.get() + "}");
+    };
+
+    @BeforeEach
+    void setUp() {
+        IdempotencyService service = new IdempotencyService(
+                new DynamoDbIdempotencyRepository(new InMemoryDynamoDbClient(), "swiss_stage_table"), 86_400, 60, 100);
+        filter = new IdempotencyKeyFilter(service, new ObjectMapper().registerModule(new JavaTimeModule()));
+        handlerStatus = 200;
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("user-1", null, AuthorityUtils.NO_AUTHORITIES));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void doFilter_RetriedWithSameKey_ReplaysFirstResponse() throws Exception {
+        MockHttpServletResponse first = send("key-1", "{\"result\":\"BLACK_WIN\"}");
+        MockHttpServletResponse second = send("key-1", "{\"result\":\"BLACK_WIN\"}");
+
+        assertEquals(1, executions.get());
+        assertEquals(200, second.getStatus());
+        assertEquals(first.getContentAsString(), second.getContentAsString());
+        assertEquals("true", second.getHeader(IdempotencyKeyFilter.REPLAYED_HEADER));
+        assertNull(first.getHeader(IdempotencyKeyFilter.REPLAYED_HEADER));
+    }
+
+    @Test
+    void doFilter_SameKeyWithDifferentBody_Returns422() throws Exception {
+        send("key-1", "{\"result\":\"BLACK_WIN\"}");
+        MockHttpServletResponse second = send("key-1", "{\"result\":\"WHITE_WIN\"}");
+
+        assertEquals(1, executions.get());
+        assertEquals(422, second.getStatus());
+        assertTrue(second.getContentAsString().contains("IDEMPOTENCY_KEY_REUSED"));
+    }
+
+    @Test
+    void doFilter_ServerError_IsNotStored() throws Exception {
+        handlerStatus = 503;
+        send("key-1", "{}");
+        handlerStatus = 200;
+        MockHttpServletResponse retry = send("key-1", "{}");
+
+        assertEquals(2, executions.get());
+        assertEquals(200, retry.getStatus());
+    }
+
+    @Test
+    void doFilter_WithoutKey_AlwaysExecutes() throws Exception {
+        send(null, "{}");
+        send(null, "{}");
+
+        assertEquals(2, executions.get());
+    }
+
+    private MockHttpServletResponse send(String key, String body) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("PUT", PATH);
+        request.setServletPath(PATH);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        if (key != null) {
+            request.addHeader(IdempotencyKeyFilter.IDEMPOTENCY_KEY_HEADER, key);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
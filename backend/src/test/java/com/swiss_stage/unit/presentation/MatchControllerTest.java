@@ -0,0 +1,101 @@
+package com.swiss_stage.unit.presentation;
+
+import com.swiss_stage.application.dto.BulkResultRequest;
+import com.swiss_stage.application.dto.MatchResultRequest;
+import com.swiss_stage.application.service.AccountDeletionService;
+import com.swiss_stage.application.service.MatchResultService;
+import com.swiss_stage.application.service.TournamentAccessService;
+import com.swiss_stage.common.exception.ForbiddenException;
+import com.swiss_stage.common.exception.NotFoundException;
+import com.swiss_stage.domain.model.Tournament;
+import com.swiss_stage.infrastructure.repository.DynamoDbTournamentRepository;
+import com.swiss_stage.presentation.controller.MatchController;
+import com.swiss_stage.support.InMemoryDynamoDbClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * MatchControllerのユニットテスト
+ * インメモリのDynamoDbClientに保存したトーナメントで、結果入力の主催者の確認を検証する
+ */
+@DisabledInNativeImage
+class MatchControllerTest {
+
+    private static final String TABLE_NAME = "swiss_stage_table";
+
+    @Mock
+    private MatchResultService matchResultService;
+
+    @Mock
+    private AccountDeletionService accountDeletionService;
+
+    private MatchController controller;
+
+    private final UUID organizerId = UUID.randomUUID();
+    private final UUID tournamentId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        DynamoDbTournamentRepository repository =
+                new DynamoDbTournamentRepository(new InMemoryDynamoDbClient(), TABLE_NAME);
+        repository.save(Tournament.create(tournamentId, organizerId, "月例会", 1, 3, LocalDate.of(2026, 10, 1)));
+        controller = new MatchController(matchResultService, new TournamentAccessService(repository, accountDeletionService));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void recordResult_主催者以外_ForbiddenExceptionをスローして保存しない() {
+        // Arrange
+        authenticate(UUID.randomUUID());
+
+        // Act & Assert
+        assertThrows(ForbiddenException.class, () -> controller.recordResult(
+                tournamentId.toString(), 1, 1, 1, new MatchResultRequest("BLACK_WIN", 1L)));
+        verifyNoInteractions(matchResultService);
+    }
+
+    @Test
+    void recordResults_主催者以外_ForbiddenExceptionをスローして保存しない() {
+        // Arrange
+        authenticate(UUID.randomUUID());
+
+        // Act & Assert
+        assertThrows(ForbiddenException.class, () -> controller.recordResults(
+                tournamentId.toString(), 1, new BulkResultRequest(List.of())));
+        verifyNoInteractions(matchResultService);
+    }
+
+    @Test
+    void recordResults_存在しないトーナメント_NotFoundExceptionをスローする() {
+        // Arrange
+        authenticate(organizerId);
+
+        // Act & Assert
+        assertThrows(NotFoundException.class, () -> controller.recordResults(
+                UUID.randomUUID().toString(), 1, new BulkResultRequest(List.of())));
+        verifyNoInteractions(matchResultService);
+    }
+
+    private static void authenticate(UUID userId) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userId.toString(), null, List.of()));
+    }
+}
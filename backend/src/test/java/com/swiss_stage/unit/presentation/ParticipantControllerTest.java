@@ -0,0 +1,125 @@
+package com.swiss_stage.unit.presentation;
+
+import com.swiss_stage.application.dto.ParticipantImportResult;
+import com.swiss_stage.application.service.AccountDeletionService;
+import com.swiss_stage.application.service.ParticipantImportService;
+import com.swiss_stage.application.service.TournamentAccessService;
+import com.swiss_stage.common.exception.ConflictException;
+import com.swiss_stage.common.exception.ForbiddenException;
+import com.swiss_stage.common.exception.NotFoundException;
+import com.swiss_stage.domain.model.Tournament;
+import com.swiss_stage.infrastructure.repository.DynamoDbTournamentRepository;
+import com.swiss_stage.presentation.controller.ParticipantController;
+import com.swiss_stage.support.InMemoryDynamoDbClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * ParticipantControllerのユニットテスト
+ * インメモリのDynamoDbClientに保存したトーナメントで、主催者の確認を検証する
+ */
+@DisabledInNativeImage
+class ParticipantControllerTest {
+
+    private static final String TABLE_NAME = "swiss_stage_table";
+
+    @Mock
+    private ParticipantImportService participantImportService;
+
+    @Mock
+    private AccountDeletionService accountDeletionService;
+
+    private ParticipantController controller;
+
+    private final UUID organizerId = UUID.randomUUID();
+    private final UUID tournamentId = UUID.randomUUID();
+    private final MockMultipartFile file = new MockMultipartFile("file", "participants.csv", "text/csv",
+            "名前\n山田太郎\n".getBytes(StandardCharsets.UTF_8));
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        DynamoDbTournamentRepository repository =
+                new DynamoDbTournamentRepository(new InMemoryDynamoDbClient(), TABLE_NAME);
+        repository.save(Tournament.create(tournamentId, organizerId, "月例会", 1, 3, LocalDate.of(2026, 10, 1)));
+        controller = new ParticipantController(participantImportService, new TournamentAccessService(repository, accountDeletionService));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void importCsv_主催者_インポートできる() {
+        // Arrange
+        authenticate(organizerId);
+        when(participantImportService.importCsv(eq(tournamentId), any(), any()))
+                .thenReturn(new ParticipantImportResult(1, 0, List.of()));
+
+        // Act
+        ResponseEntity<ParticipantImportResult> response = controller.importCsv(tournamentId.toString(), file, null);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, response.getBody().importedCount());
+    }
+
+    @Test
+    void importCsv_主催者以外_ForbiddenExceptionをスローしてインポートしない() {
+        // Arrange
+        authenticate(UUID.randomUUID());
+
+        // Act & Assert
+        assertThrows(ForbiddenException.class,
+                () -> controller.importCsv(tournamentId.toString(), file, null));
+        verifyNoInteractions(participantImportService);
+    }
+
+    @Test
+    void importCsv_存在しないトーナメント_NotFoundExceptionをスローする() {
+        // Arrange
+        authenticate(organizerId);
+
+        // Act & Assert
+        assertThrows(NotFoundException.class,
+                () -> controller.importCsv(UUID.randomUUID().toString(), file, null));
+        verifyNoInteractions(participantImportService);
+    }
+
+    @Test
+    void importCsv_アカウント削除の進行中_ConflictExceptionをスローしてインポートしない() {
+        // Arrange
+        authenticate(organizerId);
+        when(accountDeletionService.isInProgress(organizerId)).thenReturn(true);
+
+        // Act & Assert
+        assertThrows(ConflictException.class,
+                () -> controller.importCsv(tournamentId.toString(), file, null));
+        verifyNoInteractions(participantImportService);
+    }
+
+    private static void authenticate(UUID userId) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userId.toString(), null, List.of()));
+    }
+}
@@ -0,0 +1,109 @@
+package com.swiss_stage.unit.presentation;
+
+import com.swiss_stage.application.dto.PublicSnapshot;
+import com.swiss_stage.application.dto.TournamentStateDto;
+import com.swiss_stage.application.service.PublicSnapshotService;
+import com.swiss_stage.application.service.TournamentStateService;
+import com.swiss_stage.presentation.controller.PublicTournamentController;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * PublicTournamentControllerのユニットテスト
+ * TDD: Red-Green-Refactor
+ */
+@DisabledInNativeImage
+class PublicTournamentControllerTest {
+
+    @Mock
+    private PublicSnapshotService publicSnapshotService;
+
+    @Mock
+    private TournamentStateService tournamentStateService;
+
+    private PublicTournamentController controller;
+
+    private final UUID tournamentId = UUID.randomUUID();
+    private final byte[] json = "{\"version\":3}".getBytes();
+    private final byte[] gzip = new byte[]{1, 2, 3};
+    private final byte[] brotli = new byte[]{4, 5};
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        controller = new PublicTournamentController(publicSnapshotService, tournamentStateService);
+        TournamentStateDto state = new TournamentStateDto(tournamentId, 3, 1, List.of(), List.of());
+        when(tournamentStateService.findState(tournamentId)).thenReturn(Optional.of(state));
+        when(publicSnapshotService.findSnapshot(state)).thenReturn(
+                Optional.of(new PublicSnapshot(tournamentId, 3, "v3-abc", json, gzip, brotli)));
+    }
+
+    @Test
+    void getSnapshot_正常系_brotli対応クライアントにはbrotliを返す() {
+        // Act
+        ResponseEntity<byte[]> response = controller.getSnapshot(tournamentId.toString(), "gzip, deflate, br", null);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("br", response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("\"v3-abc-br\"", response.getHeaders().getETag());
+        assertSame(brotli, response.getBody());
+    }
+
+    @Test
+    void getSnapshot_正常系_gzipのみ対応の場合はgzipを返す() {
+        // Act
+        ResponseEntity<byte[]> response = controller.getSnapshot(tournamentId.toString(), "gzip, br;q=0", null);
+
+        // Assert
+        assertEquals("gzip", response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertSame(gzip, response.getBody());
+    }
+
+    @Test
+    void getSnapshot_正常系_圧縮非対応の場合は非圧縮JSONを返す() {
+        // Act
+        ResponseEntity<byte[]> response = controller.getSnapshot(tournamentId.toString(), null, null);
+
+        // Assert
+        assertNull(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("\"v3-abc\"", response.getHeaders().getETag());
+        assertSame(json, response.getBody());
+    }
+
+    @Test
+    void getSnapshot_正常系_ETagが一致する場合は304を返す() {
+        // Act
+        ResponseEntity<byte[]> response = controller.getSnapshot(tournamentId.toString(), "br", "\"v3-abc-br\"");
+
+        // Assert
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+    }
+
+    @Test
+    void getSnapshot_異常系_存在しない大会の場合は404を返す() {
+        // Arrange
+        UUID unknown = UUID.randomUUID();
+        when(tournamentStateService.findState(unknown)).thenReturn(Optional.empty());
+
+        // Act
+        ResponseEntity<byte[]> response = controller.getSnapshot(unknown.toString(), "br", null);
+
+        // Assert
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+}
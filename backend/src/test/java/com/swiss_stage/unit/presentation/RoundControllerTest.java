@@ -0,0 +1,86 @@
+package com.swiss_stage.unit.presentation;
+
+import com.swiss_stage.application.service.AccountDeletionService;
+import com.swiss_stage.application.service.PairingService;
+import com.swiss_stage.application.service.TournamentAccessService;
+import com.swiss_stage.common.exception.ForbiddenException;
+import com.swiss_stage.common.exception.NotFoundException;
+import com.swiss_stage.domain.model.Tournament;
+import com.swiss_stage.infrastructure.repository.DynamoDbTournamentRepository;
+import com.swiss_stage.presentation.controller.RoundController;
+import com.swiss_stage.support.InMemoryDynamoDbClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * RoundControllerのユニットテスト
+ * インメモリのDynamoDbClientに保存したトーナメントで、組合せ作成の主催者の確認を検証する
+ */
+@DisabledInNativeImage
+class RoundControllerTest {
+
+    private static final String TABLE_NAME = "swiss_stage_table";
+
+    @Mock
+    private PairingService pairingService;
+
+    @Mock
+    private AccountDeletionService accountDeletionService;
+
+    private RoundController controller;
+
+    private final UUID organizerId = UUID.randomUUID();
+    private final UUID tournamentId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        DynamoDbTournamentRepository repository =
+                new DynamoDbTournamentRepository(new InMemoryDynamoDbClient(), TABLE_NAME);
+        repository.save(Tournament.create(tournamentId, organizerId, "月例会", 1, 3, LocalDate.of(2026, 10, 1)));
+        controller = new RoundController(pairingService, new TournamentAccessService(repository, accountDeletionService));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void pairNextRound_主催者以外_ForbiddenExceptionをスローして組合せを作成しない() {
+        // Arrange
+        authenticate(UUID.randomUUID());
+
+        // Act & Assert
+        assertThrows(ForbiddenException.class, () -> controller.pairNextRound(tournamentId.toString()));
+        verifyNoInteractions(pairingService);
+    }
+
+    @Test
+    void pairNextRound_存在しないトーナメント_NotFoundExceptionをスローする() {
+        // Arrange
+        authenticate(organizerId);
+
+        // Act & Assert
+        assertThrows(NotFoundException.class, () -> controller.pairNextRound(UUID.randomUUID().toString()));
+        verifyNoInteractions(pairingService);
+    }
+
+    private static void authenticate(UUID userId) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userId.toString(), null, List.of()));
+    }
+}
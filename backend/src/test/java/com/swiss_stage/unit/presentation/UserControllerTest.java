@@ -1,15 +1,19 @@
 package com.swiss_stage.unit.presentation;
 
+import com.swiss_stage.application.dto.AccountDeletionDto;
 import com.swiss_stage.application.dto.DeleteAccountRequest;
 import com.swiss_stage.application.dto.UserDto;
 import com.swiss_stage.application.service.UserService;
 import com.swiss_stage.common.exception.BusinessException;
 import com.swiss_stage.common.exception.UnauthorizedException;
+import com.swiss_stage.domain.model.AccountDeletion;
 import com.swiss_stage.presentation.controller.UserController;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -17,6 +21,7 @@ import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -27,6 +32,7 @@ import static org.mockito.Mockito.*;
  * UserControllerのユニットテスト
  * TDD: Red-Green-Refactor
  */
+@DisabledInNativeImage
 class UserControllerTest {
 
     @Mock
@@ -62,16 +68,103 @@ class UserControllerTest {
         when(userService.findById(userIdStr)).thenReturn(Optional.of(userDto));
 
         // Act
-        ResponseEntity<UserDto> response = userController.getUser(userIdStr);
+        ResponseEntity<UserDto> response = userController.getUser(userIdStr, null);
 
         // Assert
         assertNotNull(response);
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
-        assertEquals(userId, response.getBody().getUserId());
+        assertEquals(userId, response.getBody().userId());
         verify(userService, times(1)).findById(userIdStr);
     }
 
+    @Test
+    void getUser_正常系_ETagとprivateのCache-Controlを返す() {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        String userIdStr = userId.toString();
+        UserDto userDto = new UserDto(userId, "テストユーザー", Instant.now(), Instant.now());
+
+        when(authentication.getName()).thenReturn(userIdStr);
+        when(authentication.isAuthenticated()).thenReturn(true);
+        when(userService.findById(userIdStr)).thenReturn(Optional.of(userDto));
+
+        // Act
+        ResponseEntity<UserDto> response = userController.getUser(userIdStr, null);
+
+        // Assert
+        assertNotNull(response.getHeaders().getETag());
+        assertEquals("no-cache, private", response.getHeaders().getCacheControl());
+        assertEquals(List.of(HttpHeaders.COOKIE), response.getHeaders().getVary());
+    }
+
+    @Test
+    void getUser_正常系_ETagが一致する場合は304を返す() {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        String userIdStr = userId.toString();
+        UserDto userDto = new UserDto(userId, "テストユーザー", Instant.now(), Instant.now());
+
+        when(authentication.getName()).thenReturn(userIdStr);
+        when(authentication.isAuthenticated()).thenReturn(true);
+        when(userService.findById(userIdStr)).thenReturn(Optional.of(userDto));
+        String etag = userController.getUser(userIdStr, null).getHeaders().getETag();
+
+        // Act
+        ResponseEntity<UserDto> response = userController.getUser(userIdStr, "W/" + etag);
+
+        // Assert
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+        assertEquals(etag, response.getHeaders().getETag());
+    }
+
+    @Test
+    void getUser_正常系_再ログイン後はETagが変わり本文を返す() {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        String userIdStr = userId.toString();
+        Instant createdAt = Instant.parse("2026-01-01T00:00:00Z");
+        UserDto before = new UserDto(userId, "テストユーザー", createdAt, createdAt);
+        UserDto after = new UserDto(userId, "テストユーザー", createdAt, createdAt.plusSeconds(60));
+
+        when(authentication.getName()).thenReturn(userIdStr);
+        when(authentication.isAuthenticated()).thenReturn(true);
+        when(userService.findById(userIdStr)).thenReturn(Optional.of(before), Optional.of(after));
+        String etag = userController.getUser(userIdStr, null).getHeaders().getETag();
+
+        // Act
+        ResponseEntity<UserDto> response = userController.getUser(userIdStr, etag);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotEquals(etag, response.getHeaders().getETag());
+        assertEquals(after, response.getBody());
+    }
+
+    @Test
+    void getUser_正常系_表示名の変更でETagが変わり本文を返す() {
+        // Arrange: 最終ログイン日時は同じ
+        UUID userId = UUID.randomUUID();
+        String userIdStr = userId.toString();
+        Instant loggedInAt = Instant.parse("2026-01-01T00:00:00Z");
+        UserDto before = new UserDto(userId, "テストユーザー", loggedInAt, loggedInAt);
+        UserDto after = new UserDto(userId, "新しい表示名", loggedInAt, loggedInAt);
+
+        when(authentication.getName()).thenReturn(userIdStr);
+        when(authentication.isAuthenticated()).thenReturn(true);
+        when(userService.findById(userIdStr)).thenReturn(Optional.of(before), Optional.of(after));
+        String etag = userController.getUser(userIdStr, null).getHeaders().getETag();
+
+        // Act
+        ResponseEntity<UserDto> response = userController.getUser(userIdStr, etag);
+
+        // Assert: 最終ログイン日時（16進）と64ビットのダイジェスト（16桁）
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotEquals(etag, response.getHeaders().getETag());
+        assertTrue(response.getHeaders().getETag().matches("\"[0-9a-f]+-[0-9a-f]{16}\""));
+    }
+
     @Test
     void getUser_異常系_ユーザーが存在しない() {
         // Arrange
@@ -84,7 +177,7 @@ class UserControllerTest {
 
         // Act & Assert
         BusinessException exception = assertThrows(BusinessException.class, () -> {
-            userController.getUser(userIdStr);
+            userController.getUser(userIdStr, null);
         });
         
         assertEquals("User not found", exception.getMessage());
@@ -104,7 +197,7 @@ class UserControllerTest {
 
         // Act & Assert
         UnauthorizedException exception = assertThrows(UnauthorizedException.class, () -> {
-            userController.getUser(otherUserIdStr);
+            userController.getUser(otherUserIdStr, null);
         });
         
         assertEquals("Access denied: You can only access your own account", exception.getMessage());
@@ -120,19 +213,44 @@ class UserControllerTest {
         String confirmation = "DELETE";
         DeleteAccountRequest request = new DeleteAccountRequest(email, confirmation);
         
+        AccountDeletionDto started = AccountDeletionDto.from(AccountDeletion.start(userId, 2, Instant.now()));
+        
         when(authentication.getName()).thenReturn(userIdStr);
         when(authentication.isAuthenticated()).thenReturn(true);
-        doNothing().when(userService).deleteAccount(userIdStr, email, confirmation);
+        when(userService.deleteAccount(userIdStr, email, confirmation)).thenReturn(started);
 
         // Act
-        ResponseEntity<Void> response = userController.deleteAccount(userIdStr, request);
+        ResponseEntity<AccountDeletionDto> response = userController.deleteAccount(userIdStr, request);
 
         // Assert
         assertNotNull(response);
-        assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+        assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+        assertEquals(AccountDeletion.Status.RUNNING, response.getBody().status());
+        assertEquals(2, response.getBody().tournamentCount());
         verify(userService, times(1)).deleteAccount(userIdStr, email, confirmation);
     }
 
+    @Test
+    void getDeletionStatus_正常系_削除の進捗を取得できる() {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        String userIdStr = userId.toString();
+        Instant now = Instant.now();
+        AccountDeletionDto completed = AccountDeletionDto.from(
+                AccountDeletion.start(userId, 0, now).complete(1, now));
+
+        when(authentication.getName()).thenReturn(userIdStr);
+        when(authentication.isAuthenticated()).thenReturn(true);
+        when(userService.findDeletionStatus(userIdStr)).thenReturn(Optional.of(completed));
+
+        // Act
+        ResponseEntity<AccountDeletionDto> response = userController.getDeletionStatus(userIdStr);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(AccountDeletion.Status.COMPLETED, response.getBody().status());
+    }
+
     @Test
     void deleteAccount_異常系_メールアドレスが一致しない() {
         // Arrange